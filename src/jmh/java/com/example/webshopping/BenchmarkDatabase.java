@@ -0,0 +1,142 @@
+package com.example.webshopping;
+
+import com.example.webshopping.entity.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 H2 인메모리 DB (Spring 없이 Hibernate만 구성, 애플리케이션과 같은 배치 설정)
+ * - open: 엔티티 전체를 등록한 세션 팩토리 (orm.xml로 매핑 일부를 덮어쓸 수 있음)
+ * - repository: 세션 위에서 동작하는 Spring Data 저장소 (서비스 코드를 그대로 호출할 때 사용)
+ * - seedCatalog / seedCategories: 같은 인자면 항상 같은 데이터를 만드는 고정 데이터 구성
+ */
+public final class BenchmarkDatabase {
+
+    public static final int BATCH_SIZE = 50;
+    public static final int BATCH_FETCH_SIZE = 100;
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            Members.class, Seller.class, Category.class, Product.class, ProductDetail.class,
+            ProductImage.class, ProductOption.class, ProductRating.class, ProductPopularity.class,
+            Cart.class, CartItem.class, Order.class, OrderItem.class, Review.class);
+
+    /**
+     * 구성된 카탈로그 (구매자는 모든 주문의 주문자)
+     */
+    public record Catalog(Long buyerId, String buyerEmail, List<Long> productIds) {
+    }
+
+    private BenchmarkDatabase() {
+    }
+
+    public static SessionFactory open(String name) {
+        return open(name, null);
+    }
+
+    public static SessionFactory open(String name, String ormXml) {
+        Configuration configuration = new Configuration();
+        ENTITIES.forEach(configuration::addAnnotatedClass);
+        if (ormXml != null) {
+            configuration.addInputStream(new ByteArrayInputStream(ormXml.getBytes(StandardCharsets.UTF_8)));
+        }
+        configuration.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        configuration.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        configuration.setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa");
+        configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE));
+        configuration.setProperty(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, String.valueOf(BATCH_FETCH_SIZE));
+        configuration.setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        configuration.setProperty(AvailableSettings.ORDER_UPDATES, "true");
+        configuration.setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
+        // 통계는 벤치마크 종료 시 집계용으로만 사용 (세션마다 출력하지 않음)
+        configuration.setProperty(AvailableSettings.LOG_SESSION_METRICS, "false");
+        return configuration.buildSessionFactory();
+    }
+
+    public static <T> T repository(Session session, Class<T> repositoryType) {
+        return new JpaRepositoryFactory(session).getRepository(repositoryType);
+    }
+
+    /**
+     * 상품 productCount개(이미지 3장 - 대표 이미지는 마지막, 옵션 2개)와 구매자 주문 orderCount건(주문 상품 itemsPerOrder개)
+     */
+    public static Catalog seedCatalog(SessionFactory sessionFactory, int productCount, int orderCount, int itemsPerOrder) {
+        return sessionFactory.fromTransaction(session -> {
+            Members buyer = Members.builder().name("구매자").email("buyer@bench.com").password("1234").build();
+            session.persist(buyer);
+
+            Category category = Category.builder().name("러닝화").code("BENCH").depth(1).displayOrder(0).isActive(true).build();
+            session.persist(category);
+
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < productCount; i++) {
+                Product product = Product.builder()
+                        .productName("상품 " + i).price(10000 + i * 10).stockQuantity(1000)
+                        .discountRate(i % 4 == 0 ? 15 : 0).category(category)
+                        .build();
+                product.addImage(ProductImage.builder().imageUrl("/img/" + i + "-1.jpg").repImgYn("N").imageOrder(1).build());
+                product.addImage(ProductImage.builder().imageUrl("/img/" + i + "-2.jpg").repImgYn("N").imageOrder(2).build());
+                product.addImage(ProductImage.builder().imageUrl("/img/" + i + ".jpg").repImgYn("Y").imageOrder(3).build());
+                for (String size : new String[]{"250", "260"}) {
+                    product.addOption(ProductOption.builder()
+                            .optionType("사이즈").optionValue(size)
+                            .additionalPrice(0).stockQuantity(100).displayOrder(0).isActive(true)
+                            .build());
+                }
+                session.persist(product);
+                products.add(product);
+            }
+
+            for (int i = 0; i < orderCount; i++) {
+                Order order = Order.createOrder(buyer, "홍길동", "010-0000-0000", "서울시", null);
+                for (int j = 0; j < itemsPerOrder; j++) {
+                    Product product = products.get((i * itemsPerOrder + j) % productCount);
+                    order.addOrderItem(OrderItem.createOrderItem(product, product.getOptions().get(j % 2), 1 + j % 3));
+                }
+                order.calculateTotalPrice();
+                session.persist(order);
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                }
+            }
+
+            return new Catalog(buyer.getId(), buyer.getEmail(), products.stream().map(Product::getId).toList());
+        });
+    }
+
+    /**
+     * 3단계 카테고리 트리 (대분류 large개 x 중분류 medium개 x 소분류 small개, 10개 중 1개는 비활성)
+     */
+    public static void seedCategories(SessionFactory sessionFactory, int large, int medium, int small) {
+        sessionFactory.inTransaction(session -> {
+            int seq = 0;
+            for (int i = 0; i < large; i++) {
+                Category root = category("대분류" + i, null, 1, i, seq++);
+                session.persist(root);
+                for (int j = 0; j < medium; j++) {
+                    Category middle = category("중분류" + j, root, 2, medium - j, seq++);
+                    session.persist(middle);
+                    for (int k = 0; k < small; k++) {
+                        session.persist(category("소분류" + k, middle, 3, k, seq++));
+                    }
+                }
+            }
+        });
+    }
+
+    private static Category category(String name, Category parent, int depth, int displayOrder, int seq) {
+        return Category.builder()
+                .name(name).code("C" + seq).parent(parent).depth(depth)
+                .displayOrder(displayOrder).isActive(seq % 10 != 9)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.webshopping;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JMH 결과(JSON) 비교 출력
+ * - 벤치마크 + 파라미터 조합별로 기준/현재 점수와 변화율을 표로 출력
+ * - 변화율이 오차 범위(두 결과의 scoreError 합)보다 작으면 "~"로 표시
+ * - 점수 단위가 시간(AverageTime 등)이면 감소가 개선, 처리량(Throughput)이면 증가가 개선
+ */
+public final class JmhResultDiff {
+
+    private record Score(double score, double error, String unit, String mode) {
+    }
+
+    private JmhResultDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("사용법: JmhResultDiff <baseline.json> <current.json>");
+            System.exit(1);
+        }
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+
+        System.out.printf("%-70s %14s %14s %14s  %s%n", "벤치마크", "기준", "현재", "변화", "단위");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score after = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %14s  %s%n", entry.getKey(), "-", after.score(), "신규", after.unit());
+                continue;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %14s  %s%n",
+                    entry.getKey(), before.score(), after.score(), change(before, after), after.unit());
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("%-70s %14.3f %14s %14s%n", key, baseline.get(key).score(), "-", "삭제"));
+    }
+
+    private static String change(Score before, Score after) {
+        double delta = after.score() - before.score();
+        double noise = nonNaN(before.error()) + nonNaN(after.error());
+        if (before.score() == 0 || Math.abs(delta) <= noise) {
+            return "~";
+        }
+        double percent = delta / before.score() * 100;
+        boolean better = "thrpt".equals(after.mode()) ? delta > 0 : delta < 0;
+        return String.format("%+.1f%% %s", percent, better ? "개선" : "저하");
+    }
+
+    private static double nonNaN(double value) {
+        return Double.isNaN(value) ? 0 : value;
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(shortName(result.path("benchmark").asText()));
+            for (Map.Entry<String, JsonNode> param : result.path("params").properties()) {
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            JsonNode metric = result.path("primaryMetric");
+            scores.put(key.toString(), new Score(
+                    metric.path("score").asDouble(),
+                    metric.path("scoreError").asDouble(Double.NaN),
+                    metric.path("scoreUnit").asText(),
+                    result.path("mode").asText()));
+        }
+        return scores;
+    }
+
+    // com.example.webshopping.search.TextAnalyzerBenchmark.analyze → search.TextAnalyzerBenchmark.analyze
+    private static String shortName(String benchmark) {
+        String prefix = JmhResultDiff.class.getPackageName() + ".";
+        return benchmark.startsWith(prefix) ? benchmark.substring(prefix.length()) : benchmark;
+    }
+}
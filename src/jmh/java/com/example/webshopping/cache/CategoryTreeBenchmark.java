@@ -0,0 +1,71 @@
+package com.example.webshopping.cache;
+
+import com.example.webshopping.BenchmarkDatabase;
+import com.example.webshopping.dto.CategoryDTO;
+import com.example.webshopping.repository.CategoryRepository;
+import com.example.webshopping.service.CategoryServiceImpl;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카테고리 트리 구성 벤치마크 (H2 인메모리, 전체 조회 1회 + 메모리 내 트리 구성)
+ * - cacheRebuild: 메뉴 트리 캐시 스냅샷 재구성 (카테고리 변경 시마다 수행)
+ * - serviceHierarchy: 카테고리 관리 화면의 계층 조회 (요청마다 수행)
+ * - cachedHierarchy: 캐시 스냅샷 참조 (헤더 메뉴 렌더링 시 비용)
+ * - 3단계 트리 대분류 largeCount개 x 중분류 5개 x 소분류 5개
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryTreeBenchmark {
+
+    @Param({"4", "40"})
+    public int largeCount;
+
+    private SessionFactory sessionFactory;
+    private CategoryTreeCache warmCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkDatabase.open("category-tree-" + largeCount);
+        BenchmarkDatabase.seedCategories(sessionFactory, largeCount, 5, 5);
+
+        sessionFactory.inSession(session -> {
+            warmCache = new CategoryTreeCache(BenchmarkDatabase.repository(session, CategoryRepository.class));
+            warmCache.rebuild();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<CategoryDTO> cacheRebuild() {
+        return sessionFactory.fromSession(session -> {
+            CategoryTreeCache cache = new CategoryTreeCache(BenchmarkDatabase.repository(session, CategoryRepository.class));
+            cache.rebuild();
+            return cache.getHierarchy();
+        });
+    }
+
+    @Benchmark
+    public List<CategoryDTO> serviceHierarchy() {
+        // 조회 경로에서 이벤트 발행은 없으므로 발행기는 비워 둠
+        return sessionFactory.fromSession(session -> new CategoryServiceImpl(
+                BenchmarkDatabase.repository(session, CategoryRepository.class), null)
+                .getAllCategoriesWithHierarchy());
+    }
+
+    @Benchmark
+    public List<CategoryDTO> cachedHierarchy() {
+        return warmCache.getHierarchy();
+    }
+}
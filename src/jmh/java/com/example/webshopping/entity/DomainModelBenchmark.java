@@ -0,0 +1,106 @@
+package com.example.webshopping.entity;
+
+import com.example.webshopping.BenchmarkDatabase;
+import com.example.webshopping.dto.CartDTO;
+import com.example.webshopping.dto.CartItemDTO;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 계산 메서드 벤치마크 (목록/장바구니/주문 화면에서 건마다 호출되는 경로)
+ * - H2에서 읽어 온 엔티티 기준 (컬렉션이 Hibernate PersistentBag인 실제 상태, 조회 비용은 제외)
+ * - 상품 이미지는 3장 중 대표 이미지가 마지막이라 getRepImageUrl은 최악의 탐색 경로
+ * - 측정값은 작업 1회(productCount개 상품 / 주문 전체 / 장바구니 1개) 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainModelBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Param({"100", "1000"})
+    public int productCount;
+
+    private SessionFactory sessionFactory;
+    private List<Product> products;
+    private List<Order> orders;
+    private CartDTO cart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkDatabase.open("domain-model-" + productCount);
+        BenchmarkDatabase.seedCatalog(sessionFactory, productCount, productCount / 10, ITEMS_PER_ORDER);
+
+        sessionFactory.inSession(session -> {
+            products = session.createQuery(
+                    "SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.images ORDER BY p.id", Product.class)
+                    .getResultList();
+            products.forEach(product -> Hibernate.initialize(product.getOptions()));
+            orders = session.createQuery(
+                    "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems ORDER BY o.id", Order.class)
+                    .getResultList();
+        });
+
+        // 장바구니 화면과 같은 방식으로 상품마다 장바구니 상품 DTO 구성 (상품 20개)
+        cart = new CartDTO();
+        for (Product product : products.subList(0, Math.min(20, products.size()))) {
+            ProductOption option = product.getOptions().get(0);
+            cart.getItems().add(CartItemDTO.builder()
+                    .productId(product.getId())
+                    .productName(product.getProductName())
+                    .price(product.getPrice())
+                    .discountRate(product.getDiscountRate())
+                    .discountPrice(product.getDiscountPrice())
+                    .quantity(2)
+                    .imageUrl(product.getRepImageUrl())
+                    .productOptionId(option.getId())
+                    .additionalPrice(option.getAdditionalPrice())
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public long discountPrice() {
+        long sum = 0;
+        for (Product product : products) {
+            sum += product.getDiscountPrice();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void repImageUrl(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(product.getRepImageUrl());
+        }
+    }
+
+    @Benchmark
+    public long orderTotalPrice() {
+        long sum = 0;
+        for (Order order : orders) {
+            order.calculateTotalPrice();
+            sum += order.getTotalPrice();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer cartTotalPrice() {
+        return cart.calculateTotalPrice();
+    }
+}
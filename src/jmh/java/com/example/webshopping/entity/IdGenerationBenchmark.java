@@ -0,0 +1,132 @@
+package com.example.webshopping.entity;
+
+import com.example.webshopping.BenchmarkDatabase;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 생성 전략별 INSERT 처리량 벤치마크 (H2 인메모리, 애플리케이션과 같은 배치 설정)
+ * - IDENTITY: orm.xml로 ID 생성을 IDENTITY로 되돌린 변경 전 상태 (INSERT 배치 비활성)
+ * - SEQUENCE: 엔티티 매핑 그대로 (pooled 시퀀스, INSERT 배치)
+ * - createOrder: 주문 1건 + 주문 상품 10건 저장
+ * - importProducts: 상품 200건 + 옵션 2건씩 저장 (50건마다 flush/clear)
+ * - 인메모리 DB라 왕복 비용이 거의 없으므로 실제 DB에서는 차이가 더 큼 (종료 시 트랜잭션당 문장 수 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+    private static final int ORDER_ITEMS = 10;
+    private static final int IMPORT_PRODUCTS = 200;
+    private static final int BATCH_SIZE = BenchmarkDatabase.BATCH_SIZE;
+
+    // 변경 전 상태: 시퀀스로 바꾼 엔티티의 ID 생성만 IDENTITY로 덮어씀 (엔티티 → ID 컬럼)
+    private static final Map<Class<?>, String> SEQUENCE_ENTITIES = Map.of(
+            Product.class, "product_id",
+            ProductImage.class, "product_image_id",
+            ProductOption.class, "product_option_id",
+            CartItem.class, "cart_item_id",
+            Order.class, "order_id",
+            OrderItem.class, "order_item_id",
+            Review.class, "review_id");
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    public String idStrategy;
+
+    private SessionFactory sessionFactory;
+    private Long memberId;
+    private final List<Long> productIds = new ArrayList<>();
+    private int importSeq;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkDatabase.open(idStrategy, "IDENTITY".equals(idStrategy) ? identityMapping() : null);
+
+        sessionFactory.inTransaction(session -> {
+            Members member = Members.builder().name("구매자").email("buyer@test.com").password("1234").build();
+            session.persist(member);
+            memberId = member.getId();
+            for (int i = 0; i < ORDER_ITEMS; i++) {
+                Product product = Product.builder().productName("상품 " + i).price(10000 + i).stockQuantity(1000).build();
+                session.persist(product);
+                productIds.add(product.getId());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // 인메모리 DB에서는 처리량 차이가 작으므로 실제 DB 왕복 횟수에 해당하는 값도 함께 출력
+        Statistics statistics = sessionFactory.getStatistics();
+        long transactions = Math.max(1, statistics.getTransactionCount());
+        System.out.printf("%n[%s] 트랜잭션당 PreparedStatement: %.1f, 엔티티 INSERT: %.1f%n", idStrategy,
+                (double) statistics.getPrepareStatementCount() / transactions,
+                (double) statistics.getEntityInsertCount() / transactions);
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Long createOrder() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            Order order = Order.createOrder(session.getReference(Members.class, memberId),
+                    "홍길동", "010-0000-0000", "서울시", null);
+            for (Long productId : productIds) {
+                Product product = session.get(Product.class, productId);
+                order.addOrderItem(OrderItem.createOrderItem(product, null, 1));
+            }
+            order.calculateTotalPrice();
+            session.persist(order);
+            tx.commit();
+            return order.getId();
+        }
+    }
+
+    @Benchmark
+    public int importProducts() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            for (int i = 0; i < IMPORT_PRODUCTS; i++) {
+                int seq = importSeq++;
+                Product product = Product.builder().productName("가져온 상품 " + seq).price(10000).stockQuantity(10).build();
+                session.persist(product);
+                for (String size : new String[]{"250", "260"}) {
+                    session.persist(ProductOption.builder()
+                            .product(product).optionType("사이즈").optionValue(size)
+                            .additionalPrice(0).stockQuantity(5).displayOrder(0).isActive(true)
+                            .build());
+                }
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            tx.commit();
+            return IMPORT_PRODUCTS;
+        }
+    }
+
+    private static String identityMapping() {
+        StringBuilder xml = new StringBuilder()
+                .append("<entity-mappings xmlns=\"https://jakarta.ee/xml/ns/persistence/orm\" version=\"3.1\">");
+        SEQUENCE_ENTITIES.forEach((entity, idColumn) -> xml
+                .append("<entity class=\"").append(entity.getName()).append("\" metadata-complete=\"false\">")
+                .append("<attributes><id name=\"id\">")
+                .append("<column name=\"").append(idColumn).append("\"/>")
+                .append("<generated-value strategy=\"IDENTITY\"/>")
+                .append("</id></attributes></entity>"));
+        return xml.append("</entity-mappings>").toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.webshopping.search;
+
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 패싯 건수 계산 지연시간 벤치마크
+ * - 3단계 카테고리 트리(4 x 5 x 5)에 상품을 무작위 배치한 인메모리 색인 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductFacetIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    public int productCount;
+
+    private ProductFacetIndex index;
+    private List<Long> candidateIds;
+
+    @Setup
+    public void setUp() {
+        List<Category> leaves = new ArrayList<>();
+        long categoryId = 1;
+        for (int i = 0; i < 4; i++) {
+            Category large = Category.builder().id(categoryId++).name("대분류" + i).build();
+            for (int j = 0; j < 5; j++) {
+                Category medium = Category.builder().id(categoryId++).name("중분류" + j).parent(large).build();
+                for (int k = 0; k < 5; k++) {
+                    leaves.add(Category.builder().id(categoryId++).name("소분류" + k).parent(medium).build());
+                }
+            }
+        }
+
+        // 색인 갱신은 index()로 직접 수행하므로 저장소는 사용하지 않음
+        index = new ProductFacetIndex(null);
+        candidateIds = new ArrayList<>();
+        Random random = new Random(42);
+        for (long id = 1; id <= productCount; id++) {
+            index.index(Product.builder()
+                    .id(id)
+                    .price(1000 * (1 + random.nextInt(300)))
+                    .stockQuantity(random.nextInt(10) < 8 ? 10 : 0)
+                    .discountRate(random.nextInt(10) < 3 ? 10 : 0)
+                    .category(leaves.get(random.nextInt(leaves.size())))
+                    .build());
+            if (random.nextInt(20) == 0) {
+                candidateIds.add(id);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object allProducts() {
+        return index.facets(null, null, null, null, false, false);
+    }
+
+    @Benchmark
+    public Object categoryAndPrice() {
+        return index.facets(null, 2L, 50000, 100000, false, true);
+    }
+
+    @Benchmark
+    public Object searchCandidates() {
+        return index.facets(candidateIds, null, null, null, true, false);
+    }
+}
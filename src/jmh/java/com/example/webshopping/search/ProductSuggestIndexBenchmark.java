@@ -0,0 +1,54 @@
+package com.example.webshopping.search;
+
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 조회 지연시간 벤치마크 (SampleTime 모드로 p99 확인)
+ * - 음절 조합으로 만든 무작위 상품명 기준, 입력 중인 검색어 길이별 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSuggestIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "고어텍스", "등산화", "경량", "배낭", "방수", "자켓", "트레킹", "캠핑", "의자", "텐트",
+            "러닝화", "쿠셔닝", "윈드", "브레이커", "헬멧", "장갑", "스틱", "모자", "양말", "티셔츠"
+    };
+
+    @Param({"100000"})
+    public int productCount;
+
+    private ProductSuggestIndex index;
+    private final String[] queries = {"등", "등산", "등산화", "고어텍스 등", "트레킹 의자 캠"};
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Category category = Category.builder().id(1L).name("아웃도어").build();
+
+        // 색인 갱신은 index()로 직접 수행하므로 저장소는 사용하지 않음
+        index = new ProductSuggestIndex(null);
+        Random random = new Random(42);
+        for (long id = 1; id <= productCount; id++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + id;
+            index.index(Product.builder().id(id).productName(name).category(category).build(), random.nextInt(1000));
+        }
+    }
+
+    @Benchmark
+    public Object suggest() {
+        cursor = (cursor + 1) % queries.length;
+        return index.suggest(queries[cursor], 10);
+    }
+}
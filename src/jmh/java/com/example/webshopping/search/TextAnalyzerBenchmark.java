@@ -0,0 +1,65 @@
+package com.example.webshopping.search;
+
+import com.example.webshopping.search.analyzer.KoreanNGramAnalyzer;
+import com.example.webshopping.search.analyzer.SimpleAnalyzer;
+import com.example.webshopping.search.analyzer.TextAnalyzer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 분석기 토큰화 처리량 벤치마크
+ * - 상품명 / 설명 길이의 한글+영문 혼합 텍스트 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextAnalyzerBenchmark {
+
+    private static final String[] PRODUCT_NAMES = {
+            "고어텍스 방수 등산화 트레킹화",
+            "경량 방수자켓 남성용 윈드브레이커",
+            "초경량 캠핑 의자 접이식 릴렉스체어",
+            "Gore-Tex Hiking Boots Mid WP",
+            "4인용 원터치 텐트 그늘막 2024 NEW",
+            "러닝화 쿠셔닝 데일리 조깅화",
+            "자전거 헬멧 MTB 로드 겸용",
+            "낚시 조끼 다용도 포켓 베스트"
+    };
+
+    private static final String DESCRIPTION =
+            "가볍고 튼튼한 아웃도어 전용 제품입니다. 방수 및 투습 기능이 뛰어나 "
+            + "우천 시에도 쾌적하게 사용할 수 있으며, 등산, 캠핑, 트레킹 등 다양한 활동에 적합합니다. "
+            + "Lightweight, breathable and waterproof for all-season outdoor activities.";
+
+    @Param({"ngram", "simple"})
+    public String analyzerType;
+
+    private TextAnalyzer analyzer;
+
+    @Setup
+    public void setUp() {
+        analyzer = "simple".equals(analyzerType) ? new SimpleAnalyzer() : new KoreanNGramAnalyzer();
+    }
+
+    @Benchmark
+    public void analyzeProductNames(Blackhole blackhole) {
+        for (String name : PRODUCT_NAMES) {
+            blackhole.consume(analyzer.analyze(name));
+        }
+    }
+
+    @Benchmark
+    public void analyzeDescription(Blackhole blackhole) {
+        blackhole.consume(analyzer.analyze(DESCRIPTION));
+    }
+
+    @Benchmark
+    public void analyzeQuery(Blackhole blackhole) {
+        blackhole.consume(analyzer.analyzeQuery("방수자켓"));
+    }
+}
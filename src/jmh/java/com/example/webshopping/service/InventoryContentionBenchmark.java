@@ -0,0 +1,58 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.service.InventoryService.Sku;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 경합 벤치마크 - 16개 스레드가 같은 SKU 하나를 동시에 구매
+ * - cas: InventoryServiceImpl 예약 + 확정 (CAS 카운터, DB 반영은 write-behind라 측정 대상 아님)
+ * - locked: 잠금 안에서 재고를 읽고 검사한 뒤 쓰는 경우 (SKU 조회/예약 기록 없는 순수 메모리 하한선, 비교 기준)
+ * - 재고가 바닥나면 품절 경로만 측정되므로 매 반복마다 충분한 재고로 다시 채움
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class InventoryContentionBenchmark {
+
+    private static final int STOCK = Integer.MAX_VALUE / 2;
+
+    private final Sku sku = new Sku(1L, null);
+    private final Object lock = new Object();
+
+    private InventoryServiceImpl inventoryService;
+    private int lockedStock;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // 재고 적재/반영은 load()와 flush 생략으로 대신하므로 저장소는 사용하지 않음
+        inventoryService = new InventoryServiceImpl(null, null, null);
+        inventoryService.load(sku, STOCK);
+        lockedStock = STOCK;
+    }
+
+    @Benchmark
+    public boolean cas() {
+        if (!inventoryService.reserve(sku, 1)) {
+            return false;
+        }
+        inventoryService.commit(sku, 1);
+        return true;
+    }
+
+    @Benchmark
+    public boolean locked() {
+        synchronized (lock) {
+            if (lockedStock < 1) {
+                return false;
+            }
+            lockedStock -= 1;
+            return true;
+        }
+    }
+}
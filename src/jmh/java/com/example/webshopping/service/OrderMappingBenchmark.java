@@ -0,0 +1,96 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.BenchmarkDatabase;
+import com.example.webshopping.BenchmarkDatabase.Catalog;
+import com.example.webshopping.cache.MemberCache;
+import com.example.webshopping.dto.OrderResponseDTO;
+import com.example.webshopping.entity.Order;
+import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.repository.OrderItemRepository;
+import com.example.webshopping.repository.OrderRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 내역 DTO 변환 벤치마크 (H2 인메모리)
+ * - entityGraph: 주문 엔티티 조회 후 convertToDTO (주문 상품/상품/옵션/이미지는 배치 조회로 지연 로딩)
+ * - projection: getMyOrders (주문/주문 상품 DTO를 생성자 표현식으로 바로 조회)
+ * - convertOnly: 이미 로딩된 엔티티 그래프의 convertToDTO 변환 비용만 측정
+ * - 매 호출마다 새 세션을 열어 1차 캐시 효과 없이 요청 1건과 같은 조건으로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Param({"10", "100"})
+    public int orderCount;
+
+    private SessionFactory sessionFactory;
+    private Catalog catalog;
+    private List<Order> loadedOrders;
+    private OrderServiceImpl detachedService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkDatabase.open("order-mapping-" + orderCount);
+        catalog = BenchmarkDatabase.seedCatalog(sessionFactory, 50, orderCount, ITEMS_PER_ORDER);
+
+        // 세션을 닫기 전에 변환까지 한 번 수행해 엔티티 그래프를 모두 초기화
+        sessionFactory.inSession(session -> {
+            OrderServiceImpl service = orderService(session);
+            loadedOrders = repository(session, OrderRepository.class).findByMember_IdOrderByOrderDateDesc(catalog.buyerId());
+            loadedOrders.forEach(service::convertToDTO);
+        });
+        detachedService = new OrderServiceImpl(null, null, null, null, null, null, null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<OrderResponseDTO> entityGraph() {
+        return sessionFactory.fromSession(session -> {
+            OrderServiceImpl service = orderService(session);
+            return repository(session, OrderRepository.class).findByMember_IdOrderByOrderDateDesc(catalog.buyerId())
+                    .stream()
+                    .map(service::convertToDTO)
+                    .toList();
+        });
+    }
+
+    @Benchmark
+    public List<OrderResponseDTO> projection() {
+        return sessionFactory.fromSession(session -> orderService(session).getMyOrders(catalog.buyerEmail()));
+    }
+
+    @Benchmark
+    public List<OrderResponseDTO> convertOnly() {
+        return loadedOrders.stream().map(detachedService::convertToDTO).toList();
+    }
+
+    // 조회 경로에서 쓰지 않는 의존성(결제/재고/이벤트)은 비워 둠
+    // 회원 캐시는 세션마다 새로 만들어 매번 이메일 조회 (캐시 적중 전 첫 요청과 같은 조건)
+    private OrderServiceImpl orderService(Session session) {
+        return new OrderServiceImpl(
+                repository(session, OrderRepository.class),
+                new MemberCache(repository(session, MembersRepository.class)),
+                null, null, null, null, null,
+                repository(session, OrderItemRepository.class));
+    }
+
+    private static <T> T repository(Session session, Class<T> repositoryType) {
+        return BenchmarkDatabase.repository(session, repositoryType);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.webshopping.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 요청 종류별 응답 시간 기록 (가상 사용자 스레드마다 하나씩 두고 종료 후 합침, 잠금 없음)
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByName = new TreeMap<>();
+
+    public void record(String name, long nanos, boolean success) {
+        samplesByName.computeIfAbsent(name, key -> new Samples()).add(nanos, success);
+    }
+
+    public void merge(LatencyRecorder other) {
+        other.samplesByName.forEach((name, samples) ->
+                samplesByName.computeIfAbsent(name, key -> new Samples()).addAll(samples));
+    }
+
+    public Map<String, Samples> samples() {
+        return samplesByName;
+    }
+
+    /**
+     * 전체 요청 표본
+     */
+    public Samples total() {
+        Samples total = new Samples();
+        samplesByName.values().forEach(total::addAll);
+        return total;
+    }
+
+    /**
+     * 응답 시간 표본 (나노초, 실패 요청 포함)
+     */
+    public static class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(long value, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.nanos[i], true);
+            }
+            errors += other.errors;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public int errors() {
+            return errors;
+        }
+
+        /**
+         * 백분위 응답 시간 (밀리초, nearest-rank)
+         */
+        public double[] percentilesMillis(double... percentiles) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            double[] result = new double[percentiles.length];
+            for (int i = 0; i < percentiles.length; i++) {
+                int rank = (int) Math.ceil(percentiles[i] / 100.0 * count);
+                result[i] = count == 0 ? 0 : sorted[Math.max(0, Math.min(count, rank) - 1)] / 1_000_000.0;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.webshopping.loadtest;
+
+import com.example.webshopping.loadtest.LoadTestDataset.ProductRef;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+/**
+ * HTTP 부하 드라이버 (닫힌 루프: 가상 사용자마다 스레드 1개, 응답을 받으면 다음 요청)
+ * - Java 17 기준이라 가상 스레드 대신 사용자 수만큼의 고정 스레드 풀 사용
+ * - 사용자마다 HttpClient + 쿠키 저장소를 따로 두어 세션 유지 (시작 시 폼 로그인)
+ * - 20명 중 1명은 관리자, 1명은 판매자, 나머지는 구매자 (아래 요청 혼합 비율을 따름)
+ * - warmup 동안의 요청은 기록하지 않고, 이후 duration 동안의 요청만 집계
+ */
+public class LoadDriver {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final LoadTestDataset dataset;
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LoadDriver(URI baseUri, LoadTestDataset dataset, LoadTestOptions options) {
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+        this.options = options;
+    }
+
+    public LoadReport run() throws InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.users());
+        try {
+            List<Future<LatencyRecorder>> futures = new ArrayList<>();
+            for (int i = 0; i < options.users(); i++) {
+                futures.add(executor.submit(new VirtualUser(i, measureFrom, deadline)));
+            }
+            LatencyRecorder total = new LatencyRecorder();
+            for (Future<LatencyRecorder> future : futures) {
+                total.merge(future.get());
+            }
+            return new LoadReport(total, options.durationSeconds(), options.users());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private enum UserType {
+        ADMIN, SELLER, BUYER
+    }
+
+    private class VirtualUser implements Callable<LatencyRecorder> {
+
+        private final UserType type;
+        private final String email;
+        private final Random random;
+        private final long measureFrom;
+        private final long deadline;
+        private final LatencyRecorder recorder = new LatencyRecorder();
+        private final HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(TIMEOUT)
+                .build();
+
+        private boolean cartHasItems = true;
+
+        VirtualUser(int index, long measureFrom, long deadline) {
+            this.type = index % 20 == 0 ? UserType.ADMIN : index % 20 == 1 ? UserType.SELLER : UserType.BUYER;
+            this.email = switch (type) {
+                case ADMIN -> dataset.adminEmail();
+                case SELLER -> dataset.sellerEmails().get(index % dataset.sellerEmails().size());
+                case BUYER -> dataset.buyerEmails().get(index % dataset.buyerEmails().size());
+            };
+            this.random = new Random(options.seed() + index);
+            this.measureFrom = measureFrom;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public LatencyRecorder call() throws InterruptedException {
+            if (!login()) {
+                return recorder;
+            }
+            while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                switch (type) {
+                    case ADMIN -> adminStep();
+                    case SELLER -> sellerStep();
+                    case BUYER -> buyerStep();
+                }
+                if (options.thinkMillis() > 0) {
+                    Thread.sleep(options.thinkMillis());
+                }
+            }
+            return recorder;
+        }
+
+        private boolean login() {
+            HttpResponse<byte[]> response = send("POST /members/login",
+                    post("/members/login", "application/x-www-form-urlencoded",
+                            form(Map.of("email", email, "password", dataset.password()))),
+                    r -> r.statusCode() == 302 && !location(r).contains("error"));
+            return response != null && response.statusCode() == 302 && !location(response).contains("error");
+        }
+
+        /**
+         * 구매자: 메인 25 / 카테고리 목록 25 / 상세 30 / 장바구니 담기 12 / 주문 6 / 결제 주문 2
+         */
+        private void buyerStep() {
+            int dice = random.nextInt(100);
+            if (dice < 25) {
+                get("GET /", "/");
+            } else if (dice < 50) {
+                Long categoryId = pick(dataset.leafCategoryIds());
+                get("GET /product/list", "/product/list?categoryId=" + categoryId + "&page=" + random.nextInt(3));
+            } else if (dice < 80) {
+                get("GET /product/detail/{id}", "/product/detail/" + pick(dataset.products()).productId());
+            } else if (dice < 92) {
+                addToCart();
+            } else if (dice < 98) {
+                createOrder();
+            } else {
+                createPaymentOrder();
+            }
+        }
+
+        /**
+         * 판매자: 대시보드 40 / 주문 관리 35 / 상품 관리 25
+         */
+        private void sellerStep() {
+            int dice = random.nextInt(100);
+            if (dice < 40) {
+                get("GET /admin", "/admin");
+            } else if (dice < 75) {
+                get("GET /admin/orders", "/admin/orders");
+            } else {
+                get("GET /admin/product/list", "/admin/product/list");
+            }
+        }
+
+        /**
+         * 관리자: 대시보드 + 통계 API 3종 (대시보드 화면이 여는 순서대로 각 25)
+         */
+        private void adminStep() {
+            int dice = random.nextInt(4);
+            switch (dice) {
+                case 0 -> get("GET /admin", "/admin");
+                case 1 -> get("GET /admin/api/stats/summary", "/admin/api/stats/summary");
+                case 2 -> get("GET /admin/api/stats/sales-trend", "/admin/api/stats/sales-trend");
+                default -> get("GET /admin/api/stats/order-status", "/admin/api/stats/order-status");
+            }
+        }
+
+        private void addToCart() {
+            ProductRef product = pick(dataset.products());
+            String body = json(Map.of(
+                    "productId", product.productId(),
+                    "productOptionId", pick(product.optionIds()),
+                    "quantity", 1));
+            HttpResponse<byte[]> response = send("POST /cart/add", post("/cart/add", "application/json", body),
+                    r -> r.statusCode() == 200);
+            if (response != null && response.statusCode() == 200) {
+                cartHasItems = true;
+            }
+        }
+
+        private void createOrder() {
+            if (!cartHasItems) {
+                addToCart();
+            }
+            send("POST /order/create",
+                    post("/order/create", "application/x-www-form-urlencoded", form(Map.of(
+                            "recipientName", "부하테스트",
+                            "recipientPhone", "010-0000-0000",
+                            "deliveryAddress", "서울시 강남구"))),
+                    r -> r.statusCode() == 302 && location(r).contains("/order/success/"));
+            cartHasItems = false;
+        }
+
+        private void createPaymentOrder() {
+            if (!cartHasItems) {
+                addToCart();
+            }
+            HttpResponse<byte[]> created = send("POST /order/create-for-payment",
+                    post("/order/create-for-payment", "application/json", json(Map.of(
+                            "recipientName", "부하테스트",
+                            "recipientPhone", "010-0000-0000",
+                            "deliveryAddress", "서울시 강남구"))),
+                    r -> r.statusCode() == 200);
+            cartHasItems = false;
+            if (created == null || created.statusCode() != 200) {
+                return;
+            }
+
+            JsonNode order = readJson(created.body());
+            String orderId = order.path("orderId").asText();
+            send("POST /order/confirm-payment",
+                    post("/order/confirm-payment", "application/json", json(Map.of(
+                            "paymentKey", "stub-" + orderId,
+                            "orderId", orderId,
+                            "amount", order.path("amount").asInt()))),
+                    r -> r.statusCode() == 200);
+        }
+
+        private void get(String name, String path) {
+            send(name, HttpRequest.newBuilder(baseUri.resolve(path)).timeout(TIMEOUT).GET().build(),
+                    r -> r.statusCode() == 200);
+        }
+
+        private HttpRequest post(String path, String contentType, String body) {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", contentType)
+                    .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                    .build();
+        }
+
+        /**
+         * 요청 1건 전송 + 응답 시간 기록 (측정 구간 안에서 시작한 요청만), 연결 실패는 null
+         */
+        private HttpResponse<byte[]> send(String name, HttpRequest request, Predicate<HttpResponse<byte[]>> success) {
+            long started = System.nanoTime();
+            HttpResponse<byte[]> response = null;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                // 연결 실패/타임아웃도 실패 요청으로 기록
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            long elapsed = System.nanoTime() - started;
+            if (started >= measureFrom && started < deadline) {
+                recorder.record(name, elapsed, response != null && success.test(response));
+            }
+            return response;
+        }
+
+        private <T> T pick(List<T> values) {
+            return values.get(random.nextInt(values.size()));
+        }
+    }
+
+    private static String location(HttpResponse<?> response) {
+        return response.headers().firstValue("Location").orElse("");
+    }
+
+    private static String form(Map<String, String> fields) {
+        StringBuilder body = new StringBuilder();
+        fields.forEach((key, value) -> {
+            if (!body.isEmpty()) {
+                body.append('&');
+            }
+            body.append(key).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        });
+        return body.toString();
+    }
+
+    private String json(Map<String, ?> fields) {
+        try {
+            return objectMapper.writeValueAsString(fields);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode readJson(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+}
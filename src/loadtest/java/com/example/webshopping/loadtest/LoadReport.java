@@ -0,0 +1,40 @@
+package com.example.webshopping.loadtest;
+
+import com.example.webshopping.loadtest.LatencyRecorder.Samples;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (요청 종류별 + 전체 처리량, 오류 수, 응답 시간 백분위)
+ */
+public class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 100};
+
+    private final LatencyRecorder recorder;
+    private final int durationSeconds;
+    private final int users;
+
+    public LoadReport(LatencyRecorder recorder, int durationSeconds, int users) {
+        this.recorder = recorder;
+        this.durationSeconds = durationSeconds;
+        this.users = users;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n부하 테스트 결과 - 동시 사용자 %d명, 측정 %d초%n", users, durationSeconds);
+        out.printf("%-36s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "요청", "건수", "오류", "req/s", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+        recorder.samples().forEach((name, samples) -> printRow(out, name, samples));
+        printRow(out, "전체", recorder.total());
+    }
+
+    private void printRow(PrintStream out, String name, Samples samples) {
+        double[] millis = samples.percentilesMillis(PERCENTILES);
+        out.printf("%-36s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, samples.count(), samples.errors(), (double) samples.count() / durationSeconds,
+                millis[0], millis[1], millis[2], millis[3], millis[4]);
+    }
+}
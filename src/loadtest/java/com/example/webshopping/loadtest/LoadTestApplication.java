@@ -0,0 +1,73 @@
+package com.example.webshopping.loadtest;
+
+import com.example.webshopping.WebShoppingApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 부하 테스트 실행 진입점 (./gradlew loadTest -PloadArgs="...")
+ * 1. 토스 결제 API 스텁 서버 시작
+ * 2. 애플리케이션을 임의 포트 + H2 인메모리 DB로 기동 (--spring.datasource.url 등으로 다른 DB 지정 가능)
+ * 3. 기동 직후(ApplicationStartedEvent) 고정 데이터 생성
+ *    - 검색 색인/카테고리 캐시/메인 스냅샷 등은 ApplicationReadyEvent에 만들어지므로 생성한 데이터가 반영됨
+ * 4. 요청 혼합 재생 후 처리량/응답 시간 백분위 출력
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (TossStubServer toss = TossStubServer.start(options.tossLatencyMillis())) {
+            AtomicReference<LoadTestDataset> dataset = new AtomicReference<>();
+
+            SpringApplication application = new SpringApplication(WebShoppingApplication.class);
+            application.setDefaultProperties(defaultProperties(toss));
+            application.addListeners((ApplicationListener<ApplicationStartedEvent>) event -> {
+                long started = System.currentTimeMillis();
+                dataset.set(new LoadTestDataGenerator(event.getApplicationContext()).generate(options));
+                System.out.printf("데이터 생성 완료 - 상품 %d, 구매자 %d, 주문 %d, 리뷰 %d (%d ms)%n",
+                        options.products(), options.members(), options.orders(), options.reviews(),
+                        System.currentTimeMillis() - started);
+            });
+
+            try (ConfigurableApplicationContext context = application.run(options.applicationArgs())) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                System.out.printf("부하 시작 - 사용자 %d명, 워밍업 %d초, 측정 %d초%n",
+                        options.users(), options.warmupSeconds(), options.durationSeconds());
+
+                LoadReport report = new LoadDriver(URI.create("http://localhost:" + port), dataset.get(), options).run();
+                report.print(System.out);
+                System.out.printf("토스 스텁 호출 - 승인 %d, 취소 %d%n", toss.confirmCount(), toss.cancelCount());
+            }
+        }
+    }
+
+    private static Map<String, Object> defaultProperties(TossStubServer toss) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        // 운영 DB(MariaDB) 전용 네이티브 쿼리(DATE() 등)가 동작하도록 MariaDB 호환 모드
+        // (INTERVAL 문법을 쓰는 관리자 매출 통계 2종은 H2에서 실패해 오류로 집계되므로 정확히 보려면 MariaDB 지정)
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.devtools.restart.enabled", false);
+        properties.put("file.upload-dir", "build/loadtest-upload");
+        properties.put("toss.payments.secret-key", "test_sk_loadtest");
+        properties.put("toss.payments.client-key", "test_ck_loadtest");
+        properties.put("toss.payments.api-url", toss.apiUrl());
+        // 요청마다 남기는 INFO 로그가 콘솔 출력 비용으로 측정값을 왜곡하지 않도록 기본은 WARN
+        properties.put("logging.level.com.example.webshopping", "WARN");
+        return properties;
+    }
+}
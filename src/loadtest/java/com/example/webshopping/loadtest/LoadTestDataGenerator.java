@@ -0,0 +1,185 @@
+package com.example.webshopping.loadtest;
+
+import com.example.webshopping.constant.Role;
+import com.example.webshopping.entity.*;
+import com.example.webshopping.repository.*;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트 고정 데이터 생성 (기존 저장소를 통해 저장)
+ * - 같은 옵션(규모 + seed)이면 항상 같은 데이터 (ID 순서, 가격, 옵션, 주문 구성 동일)
+ * - 카테고리: 대분류 categories개 x 중분류 5개 x 소분류 5개 (상품은 소분류에 배치)
+ * - 회원: 관리자 1, 판매자 10, 나머지 구매자 (비밀번호는 모두 PASSWORD, 해시는 한 번만 계산)
+ * - 상품: 이미지 2장(대표 1), 사이즈 옵션 3개, 재고는 부하 중 소진되지 않도록 넉넉히
+ * - 구매자마다 장바구니 상품 1개, 주문/리뷰는 무작위 구매자/상품 조합 (리뷰는 상품당 회원 1건)
+ * - 대량 저장 시 영속성 컨텍스트가 커지지 않도록 CHUNK건마다 트랜잭션을 나눔
+ */
+public class LoadTestDataGenerator {
+
+    public static final String PASSWORD = "loadtest1234";
+
+    private static final int CHUNK = 500;
+    private static final int SELLERS = 10;
+    private static final int STOCK = 1_000_000;
+    private static final String[] SIZES = {"S", "M", "L"};
+
+    private final CategoryRepository categoryRepository;
+    private final MembersRepository membersRepository;
+    private final ProductRepository productRepository;
+    private final CartRepository cartRepository;
+    private final OrderRepository orderRepository;
+    private final ReviewRepository reviewRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    public LoadTestDataGenerator(ApplicationContext context) {
+        this.categoryRepository = context.getBean(CategoryRepository.class);
+        this.membersRepository = context.getBean(MembersRepository.class);
+        this.productRepository = context.getBean(ProductRepository.class);
+        this.cartRepository = context.getBean(CartRepository.class);
+        this.orderRepository = context.getBean(OrderRepository.class);
+        this.reviewRepository = context.getBean(ReviewRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    public LoadTestDataset generate(LoadTestOptions options) {
+        Random random = new Random(options.seed());
+
+        List<Category> leaves = transactionTemplate.execute(status -> saveCategories(options.categories()));
+
+        String password = passwordEncoder.encode(PASSWORD);
+        List<Members> members = new ArrayList<>();
+        members.add(member("admin@loadtest.com", "관리자", Role.ROLE_ADMIN, password));
+        for (int i = 0; i < SELLERS; i++) {
+            members.add(member("seller" + i + "@loadtest.com", "판매자" + i, Role.ROLE_SELLER, password));
+        }
+        for (int i = 0; i < options.members(); i++) {
+            members.add(member("buyer" + i + "@loadtest.com", "구매자" + i, Role.ROLE_USER, password));
+        }
+        members = saveInChunks(members, membersRepository::saveAll);
+        List<Members> sellers = members.subList(1, 1 + SELLERS);
+        List<Members> buyers = members.subList(1 + SELLERS, members.size());
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < options.products(); i++) {
+            products.add(product(i, leaves.get(random.nextInt(leaves.size())), sellers.get(i % SELLERS), random));
+        }
+        products = saveInChunks(products, productRepository::saveAll);
+
+        List<Cart> carts = new ArrayList<>();
+        for (Members buyer : buyers) {
+            Product product = products.get(random.nextInt(products.size()));
+            Cart cart = Cart.createCart(buyer);
+            cart.addCartItem(CartItem.createCartItem(cart, product, product.getOptions().get(0), 1));
+            carts.add(cart);
+        }
+        saveInChunks(carts, cartRepository::saveAll);
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < options.orders(); i++) {
+            Members buyer = buyers.get(random.nextInt(buyers.size()));
+            Order order = Order.createOrder(buyer, buyer.getName(), "010-0000-" + String.format("%04d", i % 10000),
+                    "서울시 강남구 " + (i % 100) + "길", null);
+            int itemCount = 1 + random.nextInt(3);
+            for (int j = 0; j < itemCount; j++) {
+                Product product = products.get(random.nextInt(products.size()));
+                ProductOption option = product.getOptions().get(random.nextInt(SIZES.length));
+                order.addOrderItem(OrderItem.createOrderItem(product, option, 1 + random.nextInt(2)));
+            }
+            order.calculateTotalPrice();
+            orders.add(order);
+        }
+        saveInChunks(orders, orderRepository::saveAll);
+
+        // 리뷰 r번째 = (상품 r % P, 구매자 r / P): 같은 상품에 같은 회원이 두 번 작성하지 않음
+        List<Review> reviews = new ArrayList<>();
+        for (int r = 0; r < Math.min(options.reviews(), products.size() * buyers.size()); r++) {
+            reviews.add(Review.builder()
+                    .product(products.get(r % products.size()))
+                    .member(buyers.get(r / products.size()))
+                    .rating(1 + random.nextInt(5))
+                    .content("부하 테스트 리뷰 " + r)
+                    .build());
+        }
+        saveInChunks(reviews, reviewRepository::saveAll);
+
+        return new LoadTestDataset(
+                leaves.stream().map(Category::getId).toList(),
+                products.stream()
+                        .map(product -> new LoadTestDataset.ProductRef(product.getId(),
+                                product.getOptions().stream().map(ProductOption::getId).toList()))
+                        .toList(),
+                buyers.stream().map(Members::getEmail).toList(),
+                sellers.stream().map(Members::getEmail).toList(),
+                members.get(0).getEmail(),
+                PASSWORD);
+    }
+
+    private List<Category> saveCategories(int largeCount) {
+        List<Category> leaves = new ArrayList<>();
+        int seq = 0;
+        for (int i = 0; i < largeCount; i++) {
+            Category large = categoryRepository.save(category("대분류" + i, null, 1, i, seq++));
+            for (int j = 0; j < 5; j++) {
+                Category medium = categoryRepository.save(category("중분류" + i + "-" + j, large, 2, j, seq++));
+                for (int k = 0; k < 5; k++) {
+                    leaves.add(categoryRepository.save(category("소분류" + i + "-" + j + "-" + k, medium, 3, k, seq++)));
+                }
+            }
+        }
+        return leaves;
+    }
+
+    private <T> List<T> saveInChunks(List<T> entities, ChunkSaver<T> saver) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += CHUNK) {
+            List<T> chunk = entities.subList(from, Math.min(from + CHUNK, entities.size()));
+            saved.addAll(transactionTemplate.execute(status -> saver.saveAll(chunk)));
+        }
+        return saved;
+    }
+
+    private Category category(String name, Category parent, int depth, int displayOrder, int seq) {
+        return Category.builder()
+                .name(name).code("LT" + seq).parent(parent).depth(depth)
+                .displayOrder(displayOrder).isActive(true)
+                .build();
+    }
+
+    private Members member(String email, String name, Role role, String password) {
+        return Members.builder().email(email).name(name).password(password).role(role).build();
+    }
+
+    private Product product(int index, Category category, Members seller, Random random) {
+        Product product = Product.builder()
+                .productName("부하 테스트 상품 " + index)
+                .price(1000 * (10 + random.nextInt(290)))
+                .stockQuantity(STOCK)
+                .discountRate(random.nextInt(4) == 0 ? 10 * (1 + random.nextInt(3)) : 0)
+                .category(category)
+                .members(seller)
+                .build();
+        product.addImage(ProductImage.builder().imageUrl("/img/loadtest/" + index + ".jpg").repImgYn("Y").imageOrder(0).build());
+        product.addImage(ProductImage.builder().imageUrl("/img/loadtest/" + index + "-1.jpg").repImgYn("N").imageOrder(1).build());
+        for (int i = 0; i < SIZES.length; i++) {
+            product.addOption(ProductOption.builder()
+                    .optionType("사이즈").optionValue(SIZES[i])
+                    .additionalPrice(i * 1000).stockQuantity(STOCK).displayOrder(i).isActive(true)
+                    .build());
+        }
+        return product;
+    }
+
+    @FunctionalInterface
+    private interface ChunkSaver<T> {
+        List<T> saveAll(List<T> chunk);
+    }
+}
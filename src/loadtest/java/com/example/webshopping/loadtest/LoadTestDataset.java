@@ -0,0 +1,21 @@
+package com.example.webshopping.loadtest;
+
+import java.util.List;
+
+/**
+ * 생성된 부하 테스트 데이터의 식별자 (부하 드라이버가 요청 대상을 고를 때 사용)
+ */
+public record LoadTestDataset(
+        List<Long> leafCategoryIds,
+        List<ProductRef> products,
+        List<String> buyerEmails,
+        List<String> sellerEmails,
+        String adminEmail,
+        String password) {
+
+    /**
+     * 상품 ID + 옵션 ID 목록 (장바구니 담기에 사용)
+     */
+    public record ProductRef(Long productId, List<Long> optionIds) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.webshopping.loadtest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 실행 옵션 (--이름=값)
+ * - 데이터 규모: categories(대분류 수, 대분류마다 중분류 5 x 소분류 5), products, members, orders, reviews, seed
+ * - 부하: users(동시 사용자), duration/warmup(초), think-ms(요청 간 대기), toss-latency-ms(스텁 결제 승인 지연)
+ * - 그 외 옵션(--spring.datasource.url=... 등)은 애플리케이션 설정으로 그대로 전달
+ */
+public record LoadTestOptions(
+        int categories,
+        int products,
+        int members,
+        int orders,
+        int reviews,
+        long seed,
+        int users,
+        int durationSeconds,
+        int warmupSeconds,
+        int thinkMillis,
+        int tossLatencyMillis,
+        String[] applicationArgs) {
+
+    private static final Set<String> KEYS = Set.of(
+            "categories", "products", "members", "orders", "reviews", "seed",
+            "users", "duration", "warmup", "think-ms", "toss-latency-ms");
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            String key = arg.startsWith("--") && eq > 2 ? arg.substring(2, eq) : null;
+            if (key != null && KEYS.contains(key)) {
+                values.put(key, arg.substring(eq + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                intValue(values, "categories", 4),
+                intValue(values, "products", 1000),
+                intValue(values, "members", 200),
+                intValue(values, "orders", 2000),
+                intValue(values, "reviews", 3000),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                intValue(values, "users", 20),
+                intValue(values, "duration", 30),
+                intValue(values, "warmup", 10),
+                intValue(values, "think-ms", 0),
+                intValue(values, "toss-latency-ms", 50),
+                applicationArgs.toArray(String[]::new));
+        options.validate();
+        return options;
+    }
+
+    private void validate() {
+        if (categories < 1 || products < 1 || members < 1) {
+            throw new IllegalArgumentException("categories, products, members는 1 이상이어야 합니다.");
+        }
+        if (users < 1 || durationSeconds < 1 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("users, duration은 1 이상, warmup은 0 이상이어야 합니다.");
+        }
+        if ((long) products * members < reviews) {
+            throw new IllegalArgumentException("리뷰는 상품 x 회원 수를 넘을 수 없습니다 (상품당 회원 1건).");
+        }
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.webshopping.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토스페이먼츠 결제 API 스텁 서버 (오프라인 부하 테스트용, 임의 포트)
+ * - POST /v1/payments/confirm: 요청한 금액 그대로 카드 결제 승인(DONE) 응답
+ * - POST /v1/payments/{paymentKey}/cancel: 취소(CANCELED) 응답
+ * - 실제 외부 호출 지연을 흉내 내도록 응답 전에 latencyMillis만큼 대기
+ */
+public class TossStubServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int latencyMillis;
+    private final AtomicLong confirmCount = new AtomicLong();
+    private final AtomicLong cancelCount = new AtomicLong();
+
+    private TossStubServer(int latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/v1/payments/", this::handle);
+    }
+
+    public static TossStubServer start(int latencyMillis) throws IOException {
+        TossStubServer stub = new TossStubServer(latencyMillis);
+        stub.server.start();
+        return stub;
+    }
+
+    /**
+     * 애플리케이션의 toss.payments.api-url 값
+     */
+    public String apiUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/v1/payments";
+    }
+
+    public long confirmCount() {
+        return confirmCount.get();
+    }
+
+    public long cancelCount() {
+        return cancelCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            JsonNode request = readBody(exchange.getRequestBody());
+            sleep();
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            if (path.endsWith("/confirm")) {
+                confirmCount.incrementAndGet();
+                response.put("paymentKey", request.path("paymentKey").asText());
+                response.put("orderId", request.path("orderId").asText());
+                response.put("status", "DONE");
+                response.put("totalAmount", request.path("amount").asInt());
+                response.put("method", "CARD");
+            } else if (path.endsWith("/cancel")) {
+                cancelCount.incrementAndGet();
+                String paymentKey = path.substring("/v1/payments/".length(), path.length() - "/cancel".length());
+                response.put("paymentKey", paymentKey);
+                response.put("status", "CANCELED");
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            response.put("approvedAt", LocalDateTime.now().withNano(0).toString());
+
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private JsonNode readBody(InputStream in) throws IOException {
+        byte[] bytes = in.readAllBytes();
+        return bytes.length == 0
+                ? objectMapper.createObjectNode()
+                : objectMapper.readTree(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.webshopping.cache;
+
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.event.CategoryChangedEvent;
+import com.example.webshopping.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 카테고리 하위 트리 ID 캐시
+ * - 카테고리 ID → 자기 자신 + 모든 하위 카테고리 ID (깊이 제한 없음)
+ * - 상품 목록 쿼리를 category_id IN (...) 한 번으로 처리하기 위해 사용
+ * - 비활성 카테고리의 하위 트리는 제외 (조회 대상 카테고리 자신은 항상 포함)
+ * - 카테고리 변경 이벤트(커밋 후)마다 전체 재구성 후 교체 (조회는 잠금 없이 스냅샷 사용)
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class CategorySubtreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Map<Long, long[]> subtrees;
+
+    /**
+     * 카테고리와 모든 하위 카테고리 ID (알 수 없는 카테고리면 자기 자신만)
+     */
+    public List<Long> getSubtreeIds(Long categoryId) {
+        long[] ids = snapshot().get(categoryId);
+        if (ids == null) {
+            return List.of(categoryId);
+        }
+        List<Long> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.info("카테고리 변경 - 하위 트리 캐시 재구성 (카테고리 ID: {})", event.getCategoryId());
+        rebuild();
+    }
+
+    /**
+     * 전체 카테고리로 하위 트리 재구성
+     */
+    public synchronized void rebuild() {
+        List<Category> categories = categoryRepository.findAll();
+
+        Map<Long, List<Category>> childrenByParent = new HashMap<>();
+        for (Category category : categories) {
+            if (category.getParent() != null) {
+                childrenByParent.computeIfAbsent(category.getParent().getId(), id -> new ArrayList<>()).add(category);
+            }
+        }
+
+        Map<Long, long[]> result = new HashMap<>();
+        for (Category category : categories) {
+            List<Long> ids = new ArrayList<>();
+            collect(category.getId(), childrenByParent, ids, new HashSet<>());
+            result.put(category.getId(), ids.stream().mapToLong(Long::longValue).toArray());
+        }
+
+        subtrees = Collections.unmodifiableMap(result);
+        log.info("카테고리 하위 트리 캐시 구성 완료 - 카테고리 수: {}", result.size());
+    }
+
+    private Map<Long, long[]> snapshot() {
+        Map<Long, long[]> current = subtrees;
+        if (current == null) {
+            rebuild();
+            current = subtrees;
+        }
+        return current;
+    }
+
+    /**
+     * 깊이 우선으로 하위 카테고리 수집 (비활성 카테고리는 하위까지 제외, 순환 참조 방지)
+     */
+    private void collect(Long categoryId, Map<Long, List<Category>> childrenByParent, List<Long> ids, Set<Long> visited) {
+        if (!visited.add(categoryId)) {
+            return;
+        }
+        ids.add(categoryId);
+        for (Category child : childrenByParent.getOrDefault(categoryId, List.of())) {
+            if (Boolean.FALSE.equals(child.getIsActive())) {
+                continue;
+            }
+            collect(child.getId(), childrenByParent, ids, visited);
+        }
+    }
+}
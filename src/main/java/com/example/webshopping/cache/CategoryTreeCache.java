@@ -0,0 +1,144 @@
+package com.example.webshopping.cache;
+
+import com.example.webshopping.dto.CategoryDTO;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.event.CategoryChangedEvent;
+import com.example.webshopping.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 카테고리 메뉴 트리 캐시
+ * - 활성 카테고리 전체 계층(대분류 → 중분류 → 소분류)을 불변 스냅샷으로 보관
+ * - 카테고리 변경 이벤트(커밋 후)마다 전체 조회 1회로 새 스냅샷을 만들어 통째로 교체 (copy-on-write)
+ * - 조회는 잠금/DB 조회 없이 현재 스냅샷 참조만 반환
+ * - 반환하는 DTO는 모든 요청이 공유하므로 수정하면 안 됨 (하위 목록은 수정 불가 리스트)
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private static final Comparator<Category> DISPLAY_ORDER = Comparator
+            .comparing(Category::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Category::getId);
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 계층형 카테고리 (활성 대분류 + 활성 하위 카테고리)
+     */
+    public List<CategoryDTO> getHierarchy() {
+        return current().hierarchy();
+    }
+
+    /**
+     * 활성 대분류 (하위 목록 없음, 헤더 메뉴용)
+     */
+    public List<CategoryDTO> getLargeCategories() {
+        return current().largeCategories();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.info("카테고리 변경 - 메뉴 트리 캐시 재구성 (카테고리 ID: {})", event.getCategoryId());
+        rebuild();
+    }
+
+    /**
+     * 전체 카테고리로 새 스냅샷 구성 후 교체
+     */
+    public synchronized void rebuild() {
+        List<Category> categories = categoryRepository.findAll();
+
+        Map<Long, Category> byId = new HashMap<>();
+        Map<Long, List<Category>> childrenByParent = new HashMap<>();
+        List<Category> roots = new ArrayList<>();
+        for (Category category : categories) {
+            byId.put(category.getId(), category);
+            if (category.getParent() == null) {
+                roots.add(category);
+            } else {
+                childrenByParent.computeIfAbsent(category.getParent().getId(), id -> new ArrayList<>()).add(category);
+            }
+        }
+
+        List<CategoryDTO> hierarchy = new ArrayList<>();
+        List<CategoryDTO> largeCategories = new ArrayList<>();
+        for (Category root : active(roots)) {
+            hierarchy.add(toHierarchyDTO(root, byId, childrenByParent, new HashSet<>()));
+            largeCategories.add(toDTO(root, byId, List.of()));
+        }
+
+        snapshot = new Snapshot(List.copyOf(hierarchy), List.copyOf(largeCategories));
+        log.info("카테고리 메뉴 트리 캐시 구성 완료 - 전체 카테고리 수: {}, 대분류 수: {}",
+                categories.size(), largeCategories.size());
+    }
+
+    // ========== Helper Methods ==========
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private CategoryDTO toHierarchyDTO(Category category, Map<Long, Category> byId,
+                                       Map<Long, List<Category>> childrenByParent, Set<Long> visited) {
+        visited.add(category.getId());
+        List<CategoryDTO> children = new ArrayList<>();
+        for (Category child : active(childrenByParent.getOrDefault(category.getId(), List.of()))) {
+            if (!visited.contains(child.getId())) {
+                children.add(toHierarchyDTO(child, byId, childrenByParent, visited));
+            }
+        }
+        return toDTO(category, byId, List.copyOf(children));
+    }
+
+    /**
+     * CategoryServiceImpl.convertToDTO와 같은 필드 구성
+     * - 부모는 지연 로딩 프록시일 수 있으므로 이름은 조회한 카테고리 맵에서 찾음
+     */
+    private CategoryDTO toDTO(Category category, Map<Long, Category> byId, List<CategoryDTO> children) {
+        Category parent = category.getParent() != null ? byId.get(category.getParent().getId()) : null;
+        return CategoryDTO.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .imageUrl(category.getImageUrl())
+                .parentId(category.getParent() != null ? category.getParent().getId() : null)
+                .parentName(parent != null ? parent.getName() : null)
+                .depth(category.getDepth())
+                .code(category.getCode())
+                .displayOrder(category.getDisplayOrder())
+                .isActive(category.getIsActive())
+                .children(children)
+                .build();
+    }
+
+    private static List<Category> active(List<Category> categories) {
+        return categories.stream()
+                .filter(category -> Boolean.TRUE.equals(category.getIsActive()))
+                .sorted(DISPLAY_ORDER)
+                .toList();
+    }
+
+    private record Snapshot(List<CategoryDTO> hierarchy, List<CategoryDTO> largeCategories) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.webshopping.cache;
+
+import com.example.webshopping.entity.Members;
+import com.example.webshopping.event.MemberChangedEvent;
+import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.security.MemberPrincipal;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이메일 → 회원 요약(ID/이름) 캐시
+ * - 로그인 사용자 기준 서비스/컨트롤러의 findByEmail 조회를 대체 (장바구니 개수 등 자주 호출되는 요청)
+ * - 최대 크기 제한, 넘치면 가장 오래 사용하지 않은 회원부터 제거 (LRU)
+ * - 회원 정보/권한 변경 이벤트(커밋 후)마다 해당 회원만 제거, 다음 조회 때 다시 적재
+ * - 트랜잭션 안에서 조회한 값은 커밋된 뒤에만 적재 (롤백되면 버림)
+ * - 조회 중에 제거가 일어났으면 적재하지 않음 (제거 전 값이 다시 남지 않도록 제거 횟수를 같은 잠금 안에서 비교)
+ * - 권한은 캐시하지 않음: 권한 확인은 세션 인증 정보(MemberPrincipal)로만 함
+ * - 엔티티 대신 요약만 보관: 연관관계가 필요하면 getReference로 프록시(조회 없음)를 사용
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class MemberCache {
+
+    private final MembersRepository membersRepository;
+
+    @Value("${member.cache-size:10000}")
+    private int maxSize;
+
+    private Map<String, CachedMember> members;
+
+    // 제거 횟수 (조회 시작 시점 값과 다르면 조회 결과를 적재하지 않음)
+    private long evictions;
+
+    /**
+     * 캐시된 회원 정보
+     */
+    public record CachedMember(Long id, String email, String name) {
+
+        static CachedMember of(Members member) {
+            return new CachedMember(member.getId(), member.getEmail(), member.getName());
+        }
+    }
+
+    /**
+     * 이메일로 회원 요약 조회 (없는 회원이면 null, 캐시하지 않음)
+     */
+    public CachedMember find(String email) {
+        if (email == null) {
+            return null;
+        }
+        CachedMember cached = get(email);
+        if (cached != null) {
+            return cached;
+        }
+        long version = evictionCount();
+        Members member = membersRepository.findByEmail(email);
+        if (member == null) {
+            return null;
+        }
+        CachedMember loaded = CachedMember.of(member);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 안에서 조회했으면 커밋 후에 적재 (롤백된 회원/변경 전 값이 남지 않도록)
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    storeIfNotEvicted(loaded, version);
+                }
+            });
+        } else {
+            storeIfNotEvicted(loaded, version);
+        }
+        return loaded;
+    }
+
+    /**
+     * 로그인 회원 ID (세션의 MemberPrincipal에 있으면 조회 없이 사용)
+     */
+    public Long findId(UserDetails userDetails) {
+        if (userDetails instanceof MemberPrincipal principal) {
+            return principal.getMemberId();
+        }
+        CachedMember cached = find(userDetails.getUsername());
+        return cached != null ? cached.id() : null;
+    }
+
+    /**
+     * 이메일로 회원 엔티티 참조 (프록시)
+     * - ID/연관관계 용도로만 쓰면 추가 조회 없음, 다른 필드 접근 시 ID로 한 번 조회
+     * - 없는 회원이면 EntityNotFoundException
+     */
+    public Members getReference(String email) {
+        CachedMember cached = find(email);
+        if (cached == null) {
+            throw new EntityNotFoundException("회원을 찾을 수 없습니다.");
+        }
+        return membersRepository.getReferenceById(cached.id());
+    }
+
+    public synchronized void evict(String email) {
+        evictions++;
+        cache().remove(email);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        log.info("회원 변경 - 회원 캐시 제거 (회원: {})", event.getEmail());
+        evict(event.getEmail());
+    }
+
+    private synchronized void storeIfNotEvicted(CachedMember cached, long version) {
+        if (evictions == version) {
+            cache().put(cached.email(), cached);
+        }
+    }
+
+    private synchronized long evictionCount() {
+        return evictions;
+    }
+
+    private synchronized CachedMember get(String email) {
+        return cache().get(email);
+    }
+
+    private Map<String, CachedMember> cache() {
+        if (members == null) {
+            int capacity = maxSize;
+            members = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedMember> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+        return members;
+    }
+}
@@ -1,10 +1,8 @@
 package com.example.webshopping.config;
 
+import com.example.webshopping.cache.CategoryTreeCache;
 import com.example.webshopping.dto.CategoryDTO;
 import com.example.webshopping.dto.ProductDTO;
-import com.example.webshopping.entity.Category;
-import com.example.webshopping.repository.CategoryRepository;
-import com.example.webshopping.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -16,20 +14,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GlobalControllerAdvice {
 
-    private final CategoryRepository categoryRepository;
-    private final CategoryService categoryService;
+    private final CategoryTreeCache categoryTreeCache;
 
     /**
      * 모든 페이지에서 카테고리 목록을 사용할 수 있도록 설정
+     * - 매 요청마다 실행되므로 DB 대신 메뉴 트리 캐시 스냅샷 사용
      */
     @ModelAttribute
     public void addGlobalAttributes(Model model) {
         // 계층형 카테고리 (대분류 + 하위 카테고리 포함)
-        List<CategoryDTO> hierarchyCategories = categoryService.getAllCategoriesWithHierarchy();
+        List<CategoryDTO> hierarchyCategories = categoryTreeCache.getHierarchy();
         model.addAttribute("globalCategories", hierarchyCategories);
 
         // 대분류만 (헤더 메뉴용)
-        List<CategoryDTO> largeCategories = categoryService.getLargeCategories();
+        List<CategoryDTO> largeCategories = categoryTreeCache.getLargeCategories();
         model.addAttribute("globalLargeCategories", largeCategories);
     }
 
@@ -0,0 +1,67 @@
+package com.example.webshopping.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ID 시퀀스 보정
+ * - IDENTITY에서 시퀀스(pooled, allocationSize 50)로 바꾼 테이블은 기존 행 ID보다 시퀀스 값이 작을 수 있음
+ * - 시작 시(스키마 생성 후, 첫 INSERT 전) 시퀀스 다음 값이 "최대 ID + 할당 크기"보다 작으면 그 뒤로 재시작
+ * - 시퀀스를 한 번 읽으므로 재시작할 때마다 ID가 최대 할당 크기만큼 건너뛸 수 있음
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTarget> TARGETS = List.of(
+            new SequenceTarget("product_seq", "product", "product_id"),
+            new SequenceTarget("product_option_seq", "product_option", "product_option_id"),
+            new SequenceTarget("product_image_seq", "product_image", "product_image_id"),
+            new SequenceTarget("orders_seq", "orders", "order_id"),
+            new SequenceTarget("order_item_seq", "order_item", "order_item_id"),
+            new SequenceTarget("cart_item_seq", "cart_item", "cart_item_id"),
+            new SequenceTarget("review_seq", "review", "review_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        for (SequenceTarget target : TARGETS) {
+            try {
+                align(target);
+            } catch (DataAccessException e) {
+                log.warn("ID 시퀀스 보정 실패 - {}: {}", target.sequence(), e.getMessage());
+            }
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private void align(SequenceTarget target) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + target.idColumn() + "), 0) FROM " + target.table(), Long.class);
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + target.sequence(), Long.class);
+        if (maxId == null || next == null || next - ALLOCATION_SIZE >= maxId) {
+            return;
+        }
+
+        long restartWith = maxId + ALLOCATION_SIZE + 1;
+        jdbcTemplate.execute("ALTER SEQUENCE " + target.sequence() + " RESTART WITH " + restartWith);
+        log.info("ID 시퀀스 보정 - {}: 최대 ID {}, {}부터 재시작", target.sequence(), maxId, restartWith);
+    }
+
+    private record SequenceTarget(String sequence, String table, String idColumn) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.webshopping.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화 (메인 페이지 캐시 갱신 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
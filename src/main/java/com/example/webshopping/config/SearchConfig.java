@@ -0,0 +1,24 @@
+package com.example.webshopping.config;
+
+import com.example.webshopping.search.analyzer.KoreanNGramAnalyzer;
+import com.example.webshopping.search.analyzer.SimpleAnalyzer;
+import com.example.webshopping.search.analyzer.TextAnalyzer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상품 검색 설정
+ * - search.analyzer: ngram(기본, 한글 n-gram) / simple(공백 분리)
+ */
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    TextAnalyzer textAnalyzer(@Value("${search.analyzer:ngram}") String analyzer) {
+        if ("simple".equalsIgnoreCase(analyzer)) {
+            return new SimpleAnalyzer();
+        }
+        return new KoreanNGramAnalyzer();
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.webshopping.config;
 
 import jakarta.servlet.annotation.WebListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,6 +16,10 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -30,13 +39,17 @@ public class SecurityConfig {
 
 
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                            @Value("${metrics.allowed-ips:127.0.0.1,::1}") List<String> metricsAllowedIps) throws Exception {
         http.authorizeHttpRequests(
                         authorize -> authorize
                                 // ========== 공개 경로 (누구나 접근 가능) ==========
                                 .requestMatchers("/", "/members/login", "/members/register", "/members/new", "/members/demo-login").permitAll()
                                 .requestMatchers("/css/**", "/js/**", "/images/**", "/img/**").permitAll()
-                                .requestMatchers("/products", "/products/**", "/product/detail/**").permitAll()
+                                .requestMatchers("/products", "/products/**", "/product/detail/**", "/product/api/suggest").permitAll()
+                                // 헬스 체크만 공개, Prometheus 수집은 허용 IP 또는 관리자만
+                                .requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/prometheus").access(adminOrAllowedIp(metricsAllowedIps))
                                 
                                 // ========== SELLER, ADMIN 공통 경로 (상품 관리) ==========
                                 .requestMatchers("/admin/product/**").hasAnyRole("SELLER", "ADMIN")
@@ -50,7 +63,7 @@ public class SecurityConfig {
                                 .requestMatchers("/category/**").hasRole("ADMIN")  // 카테고리 관리
                                 
                                 // ========== 상품 등록/수정/삭제 ==========
-                                .requestMatchers("/product/register", "/product/new").hasAnyRole("SELLER", "ADMIN")
+                                .requestMatchers("/product/register", "/product/new", "/product/import").hasAnyRole("SELLER", "ADMIN")
                                 .requestMatchers("/product/edit/**", "/product/update/**").hasAnyRole("SELLER", "ADMIN")
                                 .requestMatchers("/product/delete/**").hasAnyRole("SELLER", "ADMIN")
                                 
@@ -92,4 +105,18 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 관리자이거나 허용 IP(metrics.allowed-ips, CIDR 가능)에서 온 요청만 허용
+     * - 프록시 뒤에서는 server.forward-headers-strategy를 설정해야 실제 클라이언트 IP로 비교됨
+     */
+    private static AuthorizationManager<RequestAuthorizationContext> adminOrAllowedIp(List<String> allowedIps) {
+        List<IpAddressMatcher> matchers = allowedIps.stream()
+                .map(String::trim)
+                .filter(ip -> !ip.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        AuthorizationManager<RequestAuthorizationContext> allowedIp = (authentication, context) ->
+                new AuthorizationDecision(matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+        return AuthorizationManagers.anyOf(AuthorityAuthorizationManager.hasRole("ADMIN"), allowedIp);
+    }
 }
@@ -0,0 +1,63 @@
+package com.example.webshopping.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 업로드 크기 제한 필터
+ * - 컨테이너 multipart 한도(spring.servlet.multipart.*)는 상품 대량 등록 파일에 맞춰 크게 잡혀 있음
+ * - 대량 등록 외의 multipart 요청은 upload.max-request-size(기본 10MB)를 넘으면 본문을 읽기 전에 413으로 거절
+ * - 크기를 알 수 없는(Content-Length 없는) multipart 요청도 대량 등록 외에는 411로 거절
+ * - CSRF 검사 등에서 multipart 본문을 읽기 전에 막도록 보안 필터보다 먼저 실행
+ */
+@Component
+@Log4j2
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UploadSizeFilter extends OncePerRequestFilter {
+
+    // 큰 파일을 받는 경로 (컨테이너 한도까지 허용)
+    private static final Set<String> LARGE_UPLOAD_PATHS = Set.of("/product/import");
+
+    @Value("${upload.max-request-size:10MB}")
+    private DataSize maxRequestSize;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType == null || !contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return LARGE_UPLOAD_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            log.warn("업로드 거부 (크기 없음) - {} {}", request.getMethod(), request.getRequestURI());
+            response.sendError(HttpServletResponse.SC_LENGTH_REQUIRED);
+            return;
+        }
+        if (contentLength > maxRequestSize.toBytes()) {
+            log.warn("업로드 거부 (크기 초과) - {} {}, {}바이트", request.getMethod(), request.getRequestURI(), contentLength);
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
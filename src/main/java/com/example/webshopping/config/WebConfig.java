@@ -1,7 +1,9 @@
 package com.example.webshopping.config;
 
+import com.example.webshopping.trace.RequestTraceInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -15,4 +17,10 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/images/product/**").addResourceLocations("file:" + uploadDir + "/");
     }
 
+    // 요청 추적: 처리한 컨트롤러 메서드와 화면 렌더링 시간 기록 (RequestTraceFilter가 로그로 출력)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTraceInterceptor());
+    }
+
 }
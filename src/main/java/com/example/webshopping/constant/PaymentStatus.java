@@ -8,7 +8,8 @@ public enum PaymentStatus {
     IN_PROGRESS("결제 진행중"),    // 결제창 호출됨
     DONE("결제 완료"),            // 결제 성공
     CANCELED("결제 취소"),         // 사용자가 취소
-    FAILED("결제 실패");           // 결제 실패
+    FAILED("결제 실패"),           // 결제 실패
+    EXPIRED("결제 시간 만료");     // 결제 대기 시간 초과 (재고 홀드 해제)
 
     private final String description;
 
@@ -1,23 +1,27 @@
 package com.example.webshopping.controller;
 
+import com.example.webshopping.cache.MemberCache;
 import com.example.webshopping.constant.OrderStatus;
 import com.example.webshopping.constant.Role;
 import com.example.webshopping.dto.OrderResponseDTO;
 import com.example.webshopping.dto.SellerDTO;
-import com.example.webshopping.entity.Members;
-import com.example.webshopping.entity.Order;
 import com.example.webshopping.entity.Product;
 import com.example.webshopping.repository.MembersRepository;
 import com.example.webshopping.repository.OrderRepository;
+import com.example.webshopping.security.MemberPrincipal;
+import com.example.webshopping.service.OrderExportService;
 import com.example.webshopping.service.OrderService;
 import com.example.webshopping.service.ProductService;
 import com.example.webshopping.service.SellerService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
@@ -25,6 +29,9 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -40,9 +47,11 @@ public class AdminController {
     
     private final ProductService productService;
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
     private final OrderRepository orderRepository;
     private final SellerService sellerService;
     private final MembersRepository membersRepository;
+    private final MemberCache memberCache;
     
     /**
      * 관리자 메인 페이지
@@ -54,13 +63,10 @@ public class AdminController {
             return "redirect:/members/login";
         }
         
-        String email = userDetails.getUsername();
-        Members member = membersRepository.findByEmail(email);
-        
-        log.info("관리자 페이지 접속 - Role: {}", member.getRole());
+        log.info("관리자 페이지 접속 - Role: {}", userDetails.getAuthorities());
         
         // SELLER인 경우 판매자 전용 페이지로
-        if (member.getRole() == Role.ROLE_SELLER) {
+        if (MemberPrincipal.hasRole(userDetails, Role.ROLE_SELLER)) {
             return "admin/seller-admin";
         }
         
@@ -82,13 +88,10 @@ public class AdminController {
         log.info("======== 상품 목록 페이지 접속 ========");
         log.info("로그인 이메일: {}", email);
         
-        // 회원 정보 조회
-        Members member = membersRepository.findByEmail(email);
-        
         List<Product> products;
         
         // ADMIN: 모든 상품 조회
-        if (member.getRole() == Role.ROLE_ADMIN) {
+        if (MemberPrincipal.hasRole(userDetails, Role.ROLE_ADMIN)) {
             products = productService.getAllProducts();
             log.info("관리자 - 전체 상품 조회: {}건", products.size());
             model.addAttribute("isAdmin", true);
@@ -191,32 +194,15 @@ public class AdminController {
         
         // Pageable 생성
         Pageable pageable = PageRequest.of(page, 20);
+        Long sellerId = memberCache.findId(userDetails);
         
-        // 정렬 기준에 따라 주문 검색
-        Page<Order> orderPage;
-        switch (sortBy) {
-            case "amount_desc":
-                orderPage = orderRepository.searchOrdersByAmountDesc(
-                    email, keyword, status, startDateTime, endDateTime, pageable);
-                break;
-            case "amount_asc":
-                orderPage = orderRepository.searchOrdersByAmountAsc(
-                    email, keyword, status, startDateTime, endDateTime, pageable);
-                break;
-            case "latest":
-            default:
-                orderPage = orderRepository.searchOrdersLatest(
-                    email, keyword, status, startDateTime, endDateTime, pageable);
-                break;
-        }
-        
-        // 주문 → DTO 변환
-        List<OrderResponseDTO> orders = orderPage.getContent().stream()
-                .map(orderService::convertToDTO)
-                .collect(Collectors.toList());
+        // 정렬 기준에 따라 주문 검색 (주문 ID 페이지 → 주문/주문 상품 DTO)
+        Page<OrderResponseDTO> orderPage = orderService.searchSellerOrders(
+                sellerId, keyword, status, startDateTime, endDateTime, sortBy, pageable);
+        List<OrderResponseDTO> orders = orderPage.getContent();
         
         // 상태별 카운트 조회
-        List<Object[]> statusCounts = orderRepository.countOrdersByStatus(email, startDateTime, endDateTime);
+        List<Object[]> statusCounts = orderRepository.countOrdersByStatus(sellerId, startDateTime, endDateTime);
         Map<String, Long> countMap = new HashMap<>();
         long totalCount = 0;
         
@@ -245,6 +231,36 @@ public class AdminController {
         return "admin/order-management";
     }
     
+    /**
+     * 주문 CSV 내보내기 (주문 관리 페이지의 상태/기간 조건)
+     * - 응답 스트림에 바로 쓰므로 기간이 길어도 주문을 메모리에 모아 두지 않음
+     */
+    @GetMapping("/orders/export")
+    public void exportOrders(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            HttpServletResponse response) throws IOException {
+
+        if (userDetails == null) {
+            response.sendRedirect("/members/login");
+            return;
+        }
+
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("orders_" + LocalDate.now() + ".csv").build().toString());
+
+        Writer writer = response.getWriter();
+        writer.write('\uFEFF');  // 엑셀에서 UTF-8로 인식하도록 BOM
+        orderExportService.exportMyProductOrders(userDetails.getUsername(), status,
+                startDate != null ? startDate.atStartOfDay() : null,
+                endDate != null ? endDate.atTime(23, 59, 59) : null,
+                writer);
+    }
+    
     /**
      * 주문 상태 변경
      */
@@ -1,10 +1,8 @@
 package com.example.webshopping.controller;
 
-import com.example.webshopping.entity.Product;
-import com.example.webshopping.repository.CategoryRepository;
+import com.example.webshopping.dto.HomePageDTO;
 import com.example.webshopping.repository.OrderRepository;
-import com.example.webshopping.repository.ProductRepository;
-import com.example.webshopping.repository.ReviewRepository;
+import com.example.webshopping.service.HomePageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Controller;
@@ -13,7 +11,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Controller
@@ -21,9 +18,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class MainController {
 
-    private final CategoryRepository categoryRepository;
-    private final ProductRepository productRepository;
-    private final ReviewRepository reviewRepository;
+    private final HomePageService homePageService;
     private final OrderRepository orderRepository;
 
 
@@ -32,50 +27,22 @@ public class MainController {
         
         log.info("======== 메인 페이지 접속 ========");
         
+        // 미리 구성된 섹션 스냅샷 사용 (DB 조회 없음)
+        HomePageDTO homePage = homePageService.getHomePage();
+        
         // 카테고리 목록
-        model.addAttribute("categories", categoryRepository.findAll());
+        model.addAttribute("categories", homePage.getCategories());
         
         // 오늘의 딜 (할인 상품, 최대 8개)
-        List<Product> todayDeals = productRepository.findTodayDeals();
-        model.addAttribute("todayDeals", todayDeals.size() > 8 ? todayDeals.subList(0, 8) : todayDeals);
-        log.info("오늘의 딜: {}개", todayDeals.size());
-        
-        // 인기 상품 (최신순, 최대 12개 - 캐러셀용)
-        List<Product> popularProducts = productRepository.findPopularProducts();
-        List<Product> popularProductsLimited = popularProducts.size() > 12 ? popularProducts.subList(0, 12) : popularProducts;
-        model.addAttribute("popularProducts", popularProductsLimited);
-        log.info("인기 상품: {}개", popularProducts.size());
-        
-        // 인기 상품 별점 데이터 추가
-        Map<Long, Double> productRatings = new HashMap<>();
-        Map<Long, Long> productReviewCounts = new HashMap<>();
-        for (Product product : popularProductsLimited) {
-            Double avgRating = reviewRepository.getAverageRatingByProductId(product.getId());
-            Long reviewCount = reviewRepository.countByProduct_Id(product.getId());
-            productRatings.put(product.getId(), avgRating != null ? Math.round(avgRating * 10) / 10.0 : 0.0);
-            productReviewCounts.put(product.getId(), reviewCount);
-        }
-        model.addAttribute("productRatings", productRatings);
-        model.addAttribute("productReviewCounts", productReviewCounts);
+        model.addAttribute("todayDeals", homePage.getTodayDeals());
         
-        // 신상품 (최신순, 최대 12개 - 캐러셀용)
-        List<Product> newProducts = productRepository.findNewProducts();
-        List<Product> newProductsLimited = newProducts.size() > 12 ? newProducts.subList(0, 12) : newProducts;
-        model.addAttribute("newProducts", newProductsLimited);
-        log.info("신상품: {}개", newProducts.size());
+        // 인기 상품 (최대 12개 - 캐러셀용, 별점/리뷰 수 포함)
+        model.addAttribute("popularProducts", homePage.getPopularProducts());
         
-        // 신상품 별점 데이터 추가
-        Map<Long, Double> newProductRatings = new HashMap<>();
-        Map<Long, Long> newProductReviewCounts = new HashMap<>();
-        for (Product product : newProductsLimited) {
-            Double avgRating = reviewRepository.getAverageRatingByProductId(product.getId());
-            Long reviewCount = reviewRepository.countByProduct_Id(product.getId());
-            newProductRatings.put(product.getId(), avgRating != null ? Math.round(avgRating * 10) / 10.0 : 0.0);
-            newProductReviewCounts.put(product.getId(), reviewCount);
-        }
-        model.addAttribute("newProductRatings", newProductRatings);
-        model.addAttribute("newProductReviewCounts", newProductReviewCounts);
+        // 신상품 (최신순, 최대 12개 - 캐러셀용, 별점/리뷰 수 포함)
+        model.addAttribute("newProducts", homePage.getNewProducts());
         
+        log.info("스냅샷 구성 시각: {}", homePage.getRefreshedAt());
         log.info("====================================");
 
         return "main";
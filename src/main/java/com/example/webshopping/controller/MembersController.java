@@ -5,6 +5,7 @@ import com.example.webshopping.constant.Role;
 import com.example.webshopping.dto.MembersDTO;
 import com.example.webshopping.dto.OrderResponseDTO;
 import com.example.webshopping.entity.Members;
+import com.example.webshopping.event.MemberChangedEvent;
 import com.example.webshopping.repository.MembersRepository;
 import com.example.webshopping.service.MembersService;
 import com.example.webshopping.service.OrderService;
@@ -12,6 +13,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -43,6 +45,7 @@ public class MembersController {
     private final MembersRepository membersRepository;
     private final PasswordEncoder passwordEncoder;
     private final OrderService orderService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping("/register")
     public String register() {
@@ -202,6 +205,7 @@ public class MembersController {
             member.setAddress(address);
             
             membersRepository.save(member);
+            eventPublisher.publishEvent(new MemberChangedEvent(email));
 
             log.info("회원 정보 수정 완료: {}", email);
             redirectAttributes.addFlashAttribute("message", "회원 정보가 수정되었습니다.");
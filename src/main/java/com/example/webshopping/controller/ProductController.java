@@ -1,25 +1,37 @@
 package com.example.webshopping.controller;
 
+import com.example.webshopping.cache.CategorySubtreeCache;
+import com.example.webshopping.cache.MemberCache;
 import com.example.webshopping.constant.ProductType;
 import com.example.webshopping.constant.Role;
 import com.example.webshopping.dto.CategoryDTO;
 import com.example.webshopping.dto.ProductDTO;
+import com.example.webshopping.dto.ProductImportResultDTO;
 import com.example.webshopping.dto.ProductOptionDTO;
+import com.example.webshopping.dto.ProductSliceDTO;
+import com.example.webshopping.dto.SuggestionDTO;
 import com.example.webshopping.entity.Category;
-import com.example.webshopping.entity.Members;
 import com.example.webshopping.entity.Product;
+import com.example.webshopping.importer.ProductImportFormat;
 import com.example.webshopping.repository.CategoryRepository;
-import com.example.webshopping.repository.MembersRepository;
 import com.example.webshopping.repository.ProductRepository;
+import com.example.webshopping.search.ProductFacetIndex;
+import com.example.webshopping.search.ProductSearchIndex;
+import com.example.webshopping.search.ProductSuggestIndex;
+import com.example.webshopping.security.MemberPrincipal;
 import com.example.webshopping.service.FileService;
+import com.example.webshopping.service.PopularityService;
+import com.example.webshopping.service.ProductImportService;
 import com.example.webshopping.service.ProductService;
 import com.example.webshopping.service.ReviewService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -29,6 +41,9 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -45,7 +60,13 @@ public class ProductController {
     private final FileService fileService;
     private final ProductRepository productRepository;
     private final ReviewService reviewService;
-    private final MembersRepository membersRepository;
+    private final MemberCache memberCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final CategorySubtreeCache categorySubtreeCache;
+    private final PopularityService popularityService;
+    private final ProductImportService productImportService;
 
     @GetMapping("/register")
     public String register(Model model) {
@@ -78,6 +99,16 @@ public class ProductController {
         return ResponseEntity.ok(categoryDTOs);
     }
     
+    /**
+     * 검색어 자동완성 API (헤더 검색창)
+     * - DB 조회 없이 인메모리 자동완성 인덱스에서 응답
+     */
+    @GetMapping("/api/suggest")
+    @ResponseBody
+    public ResponseEntity<List<SuggestionDTO>> suggest(@RequestParam(required = false, defaultValue = "") String q) {
+        return ResponseEntity.ok(productSuggestIndex.suggest(q, 10));
+    }
+
     /**
      * 상품 타입별 기본 사이즈 조회 API
      */
@@ -157,6 +188,32 @@ public class ProductController {
         return "redirect:/product/register";
     }
 
+    /**
+     * 상품 대량 등록 (CSV / JSONL 파일 업로드)
+     * - 형식은 확장자로 판별, 잘못된 행은 건너뛰고 결과에 줄 번호와 사유를 담아 반환
+     */
+    @PostMapping("/import")
+    @ResponseBody
+    public ResponseEntity<ProductImportResultDTO> importProducts(@RequestParam MultipartFile file,
+                                                                 @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try (InputStream in = file.getInputStream()) {
+            ProductImportFormat format = ProductImportFormat.fromFilename(file.getOriginalFilename());
+            return ResponseEntity.ok(productImportService.importProducts(in, format, userDetails.getUsername()));
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 대량 등록 거부 - 파일: {}, 사유: {}", file.getOriginalFilename(), e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @GetMapping("/list")
     public String list(@RequestParam Long categoryId,
                        @RequestParam(required = false, defaultValue = "latest") String sortBy,
@@ -170,21 +227,24 @@ public class ProductController {
         Pageable pageable = PageRequest.of(page, 20);
         
         Page<Product> productPage;
+
+        // 선택한 카테고리 + 모든 하위 카테고리 ID
+        List<Long> categoryIds = categorySubtreeCache.getSubtreeIds(categoryId);
         
         // 정렬 기준에 따라 쿼리 실행
         switch (sortBy) {
             case "price_asc":
-                productPage = productRepository.findByCategoryOrderByPriceAsc(categoryId, minPrice, maxPrice, pageable);
+                productPage = productRepository.findByCategoryOrderByPriceAsc(categoryIds, minPrice, maxPrice, pageable);
                 break;
             case "price_desc":
-                productPage = productRepository.findByCategoryOrderByPriceDesc(categoryId, minPrice, maxPrice, pageable);
+                productPage = productRepository.findByCategoryOrderByPriceDesc(categoryIds, minPrice, maxPrice, pageable);
                 break;
             case "popular":
-                productPage = productRepository.findByCategoryOrderByPopular(categoryId, minPrice, maxPrice, pageable);
+                productPage = productRepository.findByCategoryOrderByPopular(categoryIds, minPrice, maxPrice, pageable);
                 break;
             case "latest":
             default:
-                productPage = productRepository.findByCategoryWithPriceFilter(categoryId, minPrice, maxPrice, pageable);
+                productPage = productRepository.findByCategoryWithPriceFilter(categoryIds, minPrice, maxPrice, pageable);
                 break;
         }
 
@@ -195,6 +255,8 @@ public class ProductController {
         model.addAttribute("categoryName", category.getName());
         model.addAttribute("products", productPage.getContent());  // 실제 상품 리스트
         model.addAttribute("productPage", productPage);  // 페이징 정보
+        model.addAttribute("facets",
+                productFacetIndex.facets(null, categoryId, minPrice, maxPrice, false, false));  // 패싯 건수
         model.addAttribute("sortBy", sortBy);
         model.addAttribute("minPrice", minPrice);
         model.addAttribute("maxPrice", maxPrice);
@@ -208,6 +270,7 @@ public class ProductController {
                         Model model) {
         log.info("id : {}",id);
         Product product = productRepository.findById(id).orElseThrow(EntityNotFoundException::new);
+        popularityService.recordView(id);  // 인기 점수용 조회수
 
         model.addAttribute("product", product);
         
@@ -236,9 +299,8 @@ public class ProductController {
         // 리뷰 작성 가능 여부 및 현재 사용자 ID
         if (userDetails != null) {
             String email = userDetails.getUsername();
-            Members currentMember = membersRepository.findByEmail(email);
             model.addAttribute("canWriteReview", reviewService.canWriteReview(id, email));
-            model.addAttribute("currentMemberId", currentMember != null ? currentMember.getId() : null);
+            model.addAttribute("currentMemberId", memberCache.findId(userDetails));
         } else {
             model.addAttribute("canWriteReview", false);
             model.addAttribute("currentMemberId", null);
@@ -255,70 +317,13 @@ public class ProductController {
                        @AuthenticationPrincipal UserDetails userDetails,
                        Model model,
                        RedirectAttributes redirectAttributes) {
-//        Product product =
-//            productRepository.findById(id).orElseThrow(EntityNotFoundException::new);
-//
-//        Members currentMember = membersRepository.findByEmail(userDetails.getUsername());
-//
-//        if (currentMember.getRole() != Role.ROLE_ADMIN && !product.getMembers().getId().equals(currentMember.getId())) {
-//
-//            redirectAttributes.addFlashAttribute("error", "수정 권한이 없습니다.");
-//            return "redirect:/product/detail/" + id;
-//        }
-//
-//        // ✅ Product를 ProductDTO로 변환
-//        ProductDTO productDTO = ProductDTO.builder()
-//                .id(product.getId())
-//                .productName(product.getProductName())
-//                .price(product.getPrice())
-//                .stockQuantity(product.getStockQuantity())
-//                .description(product.getDescription())
-//                .discountRate(product.getDiscountRate())
-//                .categoryId(product.getCategory().getId())
-//                .productType(product.getProductType())
-//                .build();
-//
-//        // ✅ 이미지 URL 리스트 생성
-//        if (product.getImages() != null && !product.getImages().isEmpty()) {
-//            product.getImages().stream()
-//                    .filter(img -> "Y".equals(img.getRepImgYn()))
-//                    .findFirst()
-//                    .ifPresent(img -> productDTO.setRepImageUrl(img.getImageUrl()));
-//
-//            List<String> detailUrls = product.getImages().stream()
-//                    .filter(img -> "N".equals(img.getRepImgYn()))
-//                    .map(img -> img.getImageUrl())
-//                    .collect(Collectors.toList());
-//            productDTO.setDetailImageUrls(detailUrls);
-//        }
-//
-//        // ✅ 옵션 리스트 변환
-//        if (product.getOptions() != null && !product.getOptions().isEmpty()) {
-//            List<com.example.webshopping.dto.ProductOptionDTO> optionDTOs = product.getOptions().stream()
-//                    .map(option -> com.example.webshopping.dto.ProductOptionDTO.builder()
-//                            .id(option.getId())
-//                            .optionType(option.getOptionType())
-//                            .optionValue(option.getOptionValue())
-//                            .stockQuantity(option.getStockQuantity())
-//                            .additionalPrice(option.getAdditionalPrice())
-//                            .displayOrder(option.getDisplayOrder())
-//                            .build())
-//                    .collect(Collectors.toList());
-//            productDTO.setOptions(optionDTOs);
-//        }
-//
-//        model.addAttribute("product", productDTO);
-//        model.addAttribute("categories", categoryRepository.findByParentIsNullAndIsActiveTrueOrderByDisplayOrderAsc());
-//        model.addAttribute("productTypes", ProductType.values());
-//
-//        return "product/form";
         Product product =
                 productRepository.findById(id).orElseThrow(EntityNotFoundException::new);
 
-        Members currentMember = membersRepository.findByEmail(userDetails.getUsername());
+        Long currentMemberId = memberCache.findId(userDetails);
 
-        if (currentMember.getRole() != Role.ROLE_ADMIN &&
-                !product.getMembers().getId().equals(currentMember.getId())) {
+        if (!MemberPrincipal.hasRole(userDetails, Role.ROLE_ADMIN) &&
+                !product.getMembers().getId().equals(currentMemberId)) {
 
             redirectAttributes.addFlashAttribute("error", "수정 권한이 없습니다.");
             return "redirect:/product/detail/" + id;
@@ -389,9 +394,9 @@ public class ProductController {
 
         Product product = productRepository.findById(id).orElseThrow(EntityNotFoundException::new);
 
-        Members currentMember = membersRepository.findByEmail(userDetails.getUsername());
+        Long currentMemberId = memberCache.findId(userDetails);
 
-        if (currentMember.getRole() != Role.ROLE_ADMIN && !product.getMembers().getId().equals(currentMember.getId())) {
+        if (!MemberPrincipal.hasRole(userDetails, Role.ROLE_ADMIN) && !product.getMembers().getId().equals(currentMemberId)) {
             redirectAttributes.addFlashAttribute("error", "수정 권한이 없습니다.");
             return "redirect:/product/detail/" + id;
         }
@@ -421,10 +426,10 @@ public class ProductController {
         Product product =
             productRepository.findById(id).orElseThrow(EntityNotFoundException::new);
 
-        Members currentMember = membersRepository.findByEmail(userDetails.getUsername());
+        Long currentMemberId = memberCache.findId(userDetails);
         Long categoryId = product.getCategory().getId();
 
-        if (currentMember.getRole() != Role.ROLE_ADMIN && !product.getMembers().getId().equals(currentMember.getId())) {
+        if (!MemberPrincipal.hasRole(userDetails, Role.ROLE_ADMIN) && !product.getMembers().getId().equals(currentMemberId)) {
             redirectAttributes.addFlashAttribute("error", "삭제 권한이 없습니다.");
             return "redirect:/product/detail/" + id;
         }
@@ -480,22 +485,10 @@ public class ProductController {
             }
         }
         
-        // 정렬 기준에 따라 쿼리 실행
-        switch (sortBy) {
-            case "price_asc":
-                productPage = productRepository.searchOrderByPriceAsc(keyword, categoryId, minPrice, maxPrice, pageable);
-                break;
-            case "price_desc":
-                productPage = productRepository.searchOrderByPriceDesc(keyword, categoryId, minPrice, maxPrice, pageable);
-                break;
-            case "popular":
-                productPage = productRepository.searchOrderByPopular(keyword, categoryId, minPrice, maxPrice, pageable);
-                break;
-            case "latest":
-            default:
-                productPage = productRepository.searchWithPriceFilter(keyword, categoryId, minPrice, maxPrice, pageable);
-                break;
-        }
+        // 검색 색인에서 정렬된 상품 ID 조회 후 현재 페이지 분량만 DB에서 로딩
+        Long categoryFilter = (categoryId != null && categoryId > 0) ? categoryId : null;
+        Page<Long> idPage = productSearchIndex.search(keyword.trim(), categoryFilter, minPrice, maxPrice, sortBy, pageable);
+        productPage = new PageImpl<>(productService.getProductsInOrder(idPage.getContent()), pageable, idPage.getTotalElements());
         
         log.info("검색 결과: {}개 (전체: {}개)", productPage.getContent().size(), productPage.getTotalElements());
         
@@ -506,6 +499,8 @@ public class ProductController {
         model.addAttribute("categoryName", categoryName);
         model.addAttribute("products", productPage.getContent());  // 실제 상품 리스트
         model.addAttribute("productPage", productPage);  // 페이징 정보
+        model.addAttribute("facets", productFacetIndex.facets(
+                productSearchIndex.matchingIds(keyword.trim()), categoryFilter, minPrice, maxPrice, false, false));
         model.addAttribute("sortBy", sortBy);
         model.addAttribute("minPrice", minPrice);
         model.addAttribute("maxPrice", maxPrice);
@@ -513,6 +508,56 @@ public class ProductController {
         return "product/list";
     }
 
+    /**
+     * 카테고리별 상품 목록 API (키셋 페이지네이션, 무한 스크롤)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param withTotal true면 대략적인 전체 건수 포함
+     */
+    @GetMapping("/api/list")
+    @ResponseBody
+    public ResponseEntity<ProductSliceDTO> listSlice(@RequestParam Long categoryId,
+                                                     @RequestParam(required = false, defaultValue = "latest") String sortBy,
+                                                     @RequestParam(required = false) Integer minPrice,
+                                                     @RequestParam(required = false) Integer maxPrice,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false, defaultValue = "20") int size,
+                                                     @RequestParam(required = false, defaultValue = "false") boolean withTotal) {
+        try {
+            return ResponseEntity.ok(productService.getCategorySlice(
+                    categoryId, minPrice, maxPrice, sortBy, cursor, clampSliceSize(size), withTotal));
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 목록 커서 오류 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
+    /**
+     * 상품 검색 API (키셋 페이지네이션, 무한 스크롤)
+     */
+    @GetMapping("/api/search")
+    @ResponseBody
+    public ResponseEntity<ProductSliceDTO> searchSlice(@RequestParam String keyword,
+                                                       @RequestParam(required = false) Long categoryId,
+                                                       @RequestParam(required = false, defaultValue = "latest") String sortBy,
+                                                       @RequestParam(required = false) Integer minPrice,
+                                                       @RequestParam(required = false) Integer maxPrice,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false, defaultValue = "20") int size,
+                                                       @RequestParam(required = false, defaultValue = "false") boolean withTotal) {
+        Long categoryFilter = (categoryId != null && categoryId > 0) ? categoryId : null;
+        try {
+            return ResponseEntity.ok(productService.searchSlice(
+                    keyword.trim(), categoryFilter, minPrice, maxPrice, sortBy, cursor, clampSliceSize(size), withTotal));
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 검색 커서 오류 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
+    /**
+     * 한 번에 조회할 상품 수 (1 ~ 100)
+     */
+    private int clampSliceSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
 }
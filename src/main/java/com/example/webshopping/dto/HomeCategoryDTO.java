@@ -0,0 +1,17 @@
+package com.example.webshopping.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 메인 페이지 카테고리 바로가기 (불변)
+ */
+@Getter
+@ToString
+@Builder
+public class HomeCategoryDTO {
+    private final Long id;
+    private final String name;
+    private final String imageUrl;
+}
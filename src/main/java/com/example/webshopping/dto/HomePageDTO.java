@@ -0,0 +1,23 @@
+package com.example.webshopping.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메인 페이지 섹션 스냅샷 (불변)
+ * - HomePageServiceImpl이 미리 구성해 두고 요청마다 그대로 사용
+ */
+@Getter
+@ToString
+@Builder
+public class HomePageDTO {
+    private final List<HomeCategoryDTO> categories;
+    private final List<HomeProductDTO> todayDeals;        // 오늘의 딜 (최대 8개)
+    private final List<HomeProductDTO> popularProducts;   // 인기 상품 (최대 12개)
+    private final List<HomeProductDTO> newProducts;       // 신상품 (최대 12개)
+    private final LocalDateTime refreshedAt;              // 구성 시각
+}
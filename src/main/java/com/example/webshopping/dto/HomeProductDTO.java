@@ -0,0 +1,23 @@
+package com.example.webshopping.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 메인 페이지 상품 카드 (불변)
+ * - 모든 요청이 같은 인스턴스를 공유하므로 setter 없음
+ */
+@Getter
+@ToString
+@Builder
+public class HomeProductDTO {
+    private final Long id;
+    private final String productName;
+    private final String repImageUrl;
+    private final Integer price;
+    private final Integer discountPrice;
+    private final Integer discountRate;
+    private final double averageRating;   // 소수점 첫째자리 반올림 (리뷰 없으면 0.0)
+    private final long reviewCount;
+}
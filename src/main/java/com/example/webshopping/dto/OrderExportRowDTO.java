@@ -0,0 +1,35 @@
+package com.example.webshopping.dto;
+
+import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.constant.PaymentMethod;
+import com.example.webshopping.constant.PaymentStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 CSV 내보내기 한 행 (주문 상품 1건)
+ * - 엔티티 대신 JPQL 생성자 표현식으로 바로 조회 (영속성 컨텍스트에 쌓이지 않음)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@Builder
+public class OrderExportRowDTO {
+    private Long orderId;
+    private LocalDateTime orderDate;
+    private OrderStatus orderStatus;
+    private PaymentStatus paymentStatus;
+    private PaymentMethod paymentMethod;
+    private String memberName;       // 주문자
+    private String recipientName;
+    private String recipientPhone;
+    private String deliveryAddress;
+    private String deliveryMessage;
+    private Long productId;
+    private String productName;
+    private String optionType;
+    private String optionValue;
+    private Integer quantity;
+    private Integer orderPrice;
+}
@@ -13,6 +13,7 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class OrderItemDTO {
 
+    private Long orderId;
     private Long orderItemId;
     private Long productId;
     private String productName;
@@ -24,6 +25,7 @@ public class OrderItemDTO {
     private Long productOptionId;
     private String optionType;
     private String optionValue;
+    private Integer additionalPrice;
 
     //상품별 총액 계산
     public Integer getTotalPrice() {
@@ -41,4 +41,28 @@ public class OrderResponseDTO {
 
     @Builder.Default
     private List<OrderItemDTO> items = new ArrayList<>();
+
+    // 주문 목록 프로젝션 조회용 (JPQL 생성자 표현식, 상태 설명은 enum에서 채우고 상품은 따로 조회해 추가)
+    public OrderResponseDTO(Long orderId, LocalDateTime orderDate, OrderStatus orderStatus, Integer totalPrice,
+                            String recipientName, String recipientPhone, String deliveryAddress, String deliveryMessage,
+                            PaymentMethod paymentMethod, PaymentStatus paymentStatus, Integer paymentAmount,
+                            LocalDateTime paymentApprovedAt, String orderIdForPayment) {
+        this.orderId = orderId;
+        this.orderDate = orderDate;
+        this.orderStatus = orderStatus;
+        this.orderStatusDescription = orderStatus != null ? orderStatus.getDescription() : null;
+        this.totalPrice = totalPrice;
+        this.recipientName = recipientName;
+        this.recipientPhone = recipientPhone;
+        this.deliveryAddress = deliveryAddress;
+        this.deliveryMessage = deliveryMessage;
+        this.paymentMethod = paymentMethod;
+        this.paymentMethodDescription = paymentMethod != null ? paymentMethod.getDescription() : null;
+        this.paymentStatus = paymentStatus;
+        this.paymentStatusDescription = paymentStatus != null ? paymentStatus.getDescription() : null;
+        this.paymentAmount = paymentAmount;
+        this.paymentApprovedAt = paymentApprovedAt;
+        this.orderIdForPayment = orderIdForPayment;
+        this.items = new ArrayList<>();
+    }
 }
@@ -0,0 +1,47 @@
+package com.example.webshopping.dto;
+
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 키셋(seek) 페이지네이션 커서
+ * - 마지막으로 받은 상품의 정렬 키 (재고 여부, 정렬 값, 상품 ID)
+ * - 정렬 값: latest → 등록일시, price_asc/price_desc → 가격, popular → 인기 점수(Product.popularityScore)
+ *   - 카테고리 목록 popular: findKeysByCategoryPopularAfter가 읽은 컬럼 값, 점수가 아직 없는(NULL) 상품은 빈 값
+ *   - 검색 popular: 검색 색인이 보관한 인기 점수 (점수가 없는 상품은 0.0)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 전달 (내부 형식은 노출하지 않음)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ProductCursor {
+    private String sortBy;
+    private boolean inStock;
+    private String value;
+    private Long id;
+
+    public String encode() {
+        String raw = sortBy + "|" + (inStock ? 1 : 0) + "|" + (value != null ? value : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new ProductCursor(parts[0], "1".equals(parts[1]),
+                    parts[2].isEmpty() ? null : parts[2], Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            // Base64 / 숫자 형식 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
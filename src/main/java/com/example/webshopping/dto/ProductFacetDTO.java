@@ -0,0 +1,41 @@
+package com.example.webshopping.dto;
+
+import lombok.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 목록/검색 패싯 건수
+ * - 각 패싯 건수는 자기 자신을 제외한 나머지 필터를 모두 적용한 결과
+ *   (예: 가격대 건수는 카테고리/할인/재고 필터만 적용)
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductFacetDTO {
+    private int totalCount;           // 전체 필터 적용 건수
+    private int discountedCount;      // 할인 상품 건수 (discountRate > 0)
+    private int inStockCount;         // 재고 있는 상품 건수 (stockQuantity > 0)
+
+    @Builder.Default
+    private Map<Long, Integer> categoryCounts = new HashMap<>();  // 카테고리 ID → 건수 (하위 카테고리 포함)
+
+    @Builder.Default
+    private List<Integer> priceBucketCounts = List.of();          // 가격대별 건수 (ProductFacetIndex.PRICE_BUCKETS 순서)
+
+    public int categoryCount(Long categoryId) {
+        return categoryCounts.getOrDefault(categoryId, 0);
+    }
+
+    public int priceBucketCount(int bucket) {
+        return bucket < priceBucketCounts.size() ? priceBucketCounts.get(bucket) : 0;
+    }
+
+    public static ProductFacetDTO empty() {
+        return ProductFacetDTO.builder().build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.webshopping.dto;
+
+import lombok.*;
+
+/**
+ * 상품 대량 등록 실패 행
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportErrorDTO {
+    private long lineNumber;   // 원본 파일 줄 번호 (1부터, CSV 헤더 포함)
+    private String message;
+}
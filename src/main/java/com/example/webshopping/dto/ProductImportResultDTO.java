@@ -0,0 +1,25 @@
+package com.example.webshopping.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 대량 등록 결과
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportResultDTO {
+    private long totalRows;
+    private long importedCount;
+    private long failedCount;
+    private long elapsedMs;
+
+    // 실패 행 (최대 1000건까지만 보관, failedCount는 전체 건수)
+    @Builder.Default
+    private List<ProductImportErrorDTO> errors = new ArrayList<>();
+}
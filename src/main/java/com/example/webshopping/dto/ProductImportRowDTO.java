@@ -0,0 +1,32 @@
+package com.example.webshopping.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 대량 등록 한 행 (CSV 한 줄 / JSONL 한 줄)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportRowDTO {
+    private String categoryCode;    // Category.code (예: "SPORTS_RUN_SHOES")
+    private String productName;
+    private Integer price;
+    private Integer stockQuantity;
+    private Integer discountRate;
+    private String productType;     // ProductType 이름 (CLOTHES, SHOES ...)
+    private String description;
+
+    // 첫 번째가 대표 이미지
+    @Builder.Default
+    private List<String> imageUrls = new ArrayList<>();
+
+    @Builder.Default
+    private List<ProductOptionDTO> options = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.example.webshopping.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커서 기반 상품 목록 응답 (무한 스크롤)
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSliceDTO {
+
+    @Builder.Default
+    private List<ProductDTO> items = new ArrayList<>();
+
+    private String nextCursor;       // 다음 요청에 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+    private Long approximateTotal;   // 요청 시에만 포함 (인메모리 색인 기준 건수, 최신 변경은 늦게 반영될 수 있음)
+}
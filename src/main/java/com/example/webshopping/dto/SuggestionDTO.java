@@ -0,0 +1,17 @@
+package com.example.webshopping.dto;
+
+import lombok.*;
+
+/**
+ * 검색어 자동완성 항목
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionDTO {
+    private String type;   // CATEGORY / PRODUCT
+    private Long id;       // 카테고리 ID 또는 상품 ID
+    private String text;   // 표시 문구 (카테고리명 / 상품명)
+}
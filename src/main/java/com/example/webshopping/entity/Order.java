@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 상태별 주문 목록 (판매자 주문 관리 상태 필터, 최신순)
+        @Index(name = "idx_orders_status_date", columnList = "order_status, order_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +24,8 @@ import java.util.List;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     @Column(name = "order_id")
     private Long id;
 
@@ -125,11 +129,7 @@ public class Order {
         }
         
         this.orderStatus = OrderStatus.CANCELLED;
-
-        // 재고 복구
-        for (OrderItem orderItem : orderItems) {
-            orderItem.cancel();
-        }
+        // 재고 복구는 InventoryService에서 처리
     }
     
     // 결제 완료 처리
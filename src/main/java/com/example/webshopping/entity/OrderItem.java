@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "order_item")
+@Table(name = "order_item", indexes = {
+        // 판매자 주문 조회 (판매자 → 주문 EXISTS 확인)
+        @Index(name = "idx_order_item_seller_order", columnList = "seller_id, order_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -13,7 +16,8 @@ import lombok.*;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
     @Column(name = "order_item_id")
     private Long id;
 
@@ -31,6 +35,10 @@ public class OrderItem {
     @JoinColumn(name = "product_option_id")
     private ProductOption productOption;
 
+    // 판매자 회원 ID (주문 시점 상품 등록자, 판매자 주문 조회에서 상품/회원 조인 대신 사용)
+    @Column(name = "seller_id")
+    private Long sellerId;
+
     @Column(nullable = false)
     private Integer quantity;
 
@@ -47,26 +55,12 @@ public class OrderItem {
         OrderItem orderItem = OrderItem.builder()
                 .product(product)
                 .productOption(productOption)
+                .sellerId(product.getMembers() != null ? product.getMembers().getId() : null)
                 .quantity(quantity)
                 .orderPrice(product.getDiscountPrice() + (productOption != null ? productOption.getAdditionalPrice() : 0))
                 .build();
 
-        // 재고 차감 - 옵션이 있으면 옵션 재고, 없으면 상품 재고
-        if (productOption != null) {
-            productOption.setStockQuantity(productOption.getStockQuantity() - quantity);
-        } else {
-            product.setStockQuantity(product.getStockQuantity() - quantity);
-        }
-
+        // 재고 차감은 InventoryService에서 처리
         return orderItem;
     }
-
-    //주문 취소 시 재고 복구
-    public void cancel(){
-        if (this.productOption != null) {
-            this.productOption.setStockQuantity(this.productOption.getStockQuantity() + this.quantity);
-        } else {
-            this.product.setStockQuantity(this.product.getStockQuantity() + this.quantity);
-        }
-    }
 }
@@ -13,6 +13,13 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Entity
+@Table(indexes = {
+        // 카테고리 목록 조회 (category_id IN (...) + 최신순 / 가격순)
+        @Index(name = "idx_product_category_created", columnList = "category_id, created_date"),
+        @Index(name = "idx_product_category_price", columnList = "category_id, price"),
+        @Index(name = "idx_product_category_popularity", columnList = "category_id, popularity_score"),
+        @Index(name = "idx_product_popularity", columnList = "popularity_score")
+})
 @Getter
 @Setter
 @ToString(exclude = {"images", "options"})
@@ -21,7 +28,8 @@ import java.util.stream.Collectors;
 @Builder
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     @Column(name = "product_id", nullable = false)
     private Long id;
 
@@ -52,9 +60,17 @@ public class Product {
     @Column(name = "created_date")
     private LocalDateTime createdDate;  // 등록일
 
+    // 인기 점수 (리뷰/별점/최근 주문량/조회수, 시간 감쇠) - 인기순 정렬 키
+    // PopularityService의 별도 UPDATE로만 갱신 (상품 수정 시 덮어쓰지 않도록 updatable = false)
+    @Column(name = "popularity_score", updatable = false)
+    private Double popularityScore;
+
     @PrePersist
     protected void onCreate() {
         this.createdDate = LocalDateTime.now();
+        if (this.popularityScore == null) {
+            this.popularityScore = 0.0;
+        }
     }
 
 
@@ -81,7 +97,9 @@ public class Product {
     @Builder.Default
     private List<ProductOption> options = new ArrayList<>();
     
-    @OneToOne(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    // 주인이 아닌 1:1은 지연 로딩이 되지 않으므로 EAGER로 두어 ID 조회/배치 조회 시 조인으로 함께 가져옴
+    // (JPQL 목록 조회는 상품마다 따로 조회하므로 LEFT JOIN FETCH p.productDetail 필요)
+    @OneToOne(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     private ProductDetail productDetail;
     
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Builder
 public class ProductImage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_image_seq")
+    @SequenceGenerator(name = "product_image_seq", sequenceName = "product_image_seq", allocationSize = 50)
     @Column(name = "product_image_id")
     private Long id;
 
@@ -12,7 +12,8 @@ import lombok.*;
 @Builder
 public class ProductOption {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_option_seq")
+    @SequenceGenerator(name = "product_option_seq", sequenceName = "product_option_seq", allocationSize = 50)
     @Column(name = "product_option_id", nullable = false)
     private Long id;
 
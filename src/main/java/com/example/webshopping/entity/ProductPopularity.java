@@ -0,0 +1,57 @@
+package com.example.webshopping.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 인기 점수 입력값 (시간 감쇠 적용된 최근 주문량 / 조회수)
+ * - 최종 점수는 Product.popularityScore에 저장 (인기순 정렬 키)
+ * - 주문/조회는 이벤트로 누적, 일괄 작업이 감쇠 후 재계산
+ */
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "product_popularity")
+public class ProductPopularity {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private double orderScore = 0;  // 감쇠 적용 주문 수량
+
+    @Builder.Default
+    @Column(nullable = false)
+    private double viewScore = 0;   // 감쇠 적용 조회수
+
+    private LocalDateTime decayedAt;  // 마지막 감쇠 기준 시각
+
+    public ProductPopularity(Long productId) {
+        this.productId = productId;
+        this.decayedAt = LocalDateTime.now();
+    }
+
+    public void addOrders(double quantity) {
+        this.orderScore += quantity;
+    }
+
+    public void addViews(double views) {
+        this.viewScore += views;
+    }
+
+    /**
+     * 일괄 재계산 결과 반영
+     */
+    public void reset(double orderScore, double viewScore, LocalDateTime decayedAt) {
+        this.orderScore = orderScore;
+        this.viewScore = viewScore;
+        this.decayedAt = decayedAt;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.webshopping.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 별점 집계 (리뷰 테이블 비정규화)
+ * - 리뷰 작성/수정/삭제 시 같은 트랜잭션에서 증분 갱신 (ProductRatingService)
+ * - 상품 테이블과 분리: 상품 수정(전체 컬럼 UPDATE)이 집계 값을 덮어쓰지 않도록
+ */
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "product_rating")
+public class ProductRating {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long ratingSum = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long reviewCount = 0;
+
+    // 별점별 리뷰 수 (1-5점)
+    @Builder.Default
+    @Column(nullable = false)
+    private long star1Count = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long star2Count = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long star3Count = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long star4Count = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long star5Count = 0;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedDate;
+
+    public ProductRating(Long productId) {
+        this.productId = productId;
+    }
+
+    /**
+     * 리뷰 추가 반영
+     */
+    public void addRating(int rating) {
+        adjust(rating, 1);
+    }
+
+    /**
+     * 같은 별점 리뷰 여러 건 반영 (집계 재구성용)
+     */
+    public void addRatings(int rating, long count) {
+        adjust(rating, count);
+    }
+
+    /**
+     * 리뷰 삭제 반영
+     */
+    public void removeRating(int rating) {
+        adjust(rating, -1);
+    }
+
+    /**
+     * 리뷰 별점 수정 반영
+     */
+    public void changeRating(int oldRating, int newRating) {
+        adjust(oldRating, -1);
+        adjust(newRating, 1);
+    }
+
+    /**
+     * 평균 별점 (소수점 첫째자리 반올림, 리뷰 없으면 0.0)
+     */
+    public double getAverageRating() {
+        if (reviewCount == 0) {
+            return 0.0;
+        }
+        return Math.round((double) ratingSum / reviewCount * 10) / 10.0;
+    }
+
+    /**
+     * 별점별 리뷰 수
+     * @param star 1-5
+     */
+    public long getStarCount(int star) {
+        return switch (star) {
+            case 1 -> star1Count;
+            case 2 -> star2Count;
+            case 3 -> star3Count;
+            case 4 -> star4Count;
+            case 5 -> star5Count;
+            default -> throw new IllegalArgumentException("별점은 1-5 사이여야 합니다: " + star);
+        };
+    }
+
+    private void adjust(int rating, long delta) {
+        switch (rating) {
+            case 1 -> star1Count += delta;
+            case 2 -> star2Count += delta;
+            case 3 -> star3Count += delta;
+            case 4 -> star4Count += delta;
+            case 5 -> star5Count += delta;
+            default -> throw new IllegalArgumentException("별점은 1-5 사이여야 합니다: " + rating);
+        }
+        ratingSum += (long) rating * delta;
+        reviewCount += delta;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.webshopping.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 카테고리 등록/수정/삭제/활성화 변경 이벤트
+ * - CategoryServiceImpl에서 발행, 트랜잭션 커밋 후 카테고리 캐시 갱신에 사용
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+}
@@ -0,0 +1,17 @@
+package com.example.webshopping.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 회원 정보(이름/연락처/주소) 또는 권한 변경 이벤트
+ * - 회원 정보 수정, 판매자 승인에서 발행, 트랜잭션 커밋 후 회원 캐시 무효화에 사용
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MemberChangedEvent {
+
+    private final String email;
+}
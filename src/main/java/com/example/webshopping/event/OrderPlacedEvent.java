@@ -0,0 +1,20 @@
+package com.example.webshopping.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * 주문 확정 이벤트 (일반 주문 생성 / 결제 승인)
+ * - OrderServiceImpl에서 발행, 트랜잭션 커밋 후 인기 점수 등 판매량 집계에 사용
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class OrderPlacedEvent {
+
+    private final Long orderId;
+    private final Map<Long, Integer> quantities;  // 상품 ID → 주문 수량
+}
@@ -0,0 +1,21 @@
+package com.example.webshopping.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * 상품 인기 점수 변경 이벤트
+ * - PopularityServiceImpl에서 점수를 저장할 때 발행, 커밋 후 검색 색인의 인기순 정렬 키 갱신에 사용
+ * - 상품 전체를 다시 색인하지 않도록 변경된 점수만 담음
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PopularityChangedEvent {
+
+    // 상품 ID → 새 인기 점수
+    private final Map<Long, Double> scores;
+}
@@ -0,0 +1,33 @@
+package com.example.webshopping.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품 등록/수정/삭제 이벤트
+ * - ProductServiceImpl에서 발행, 트랜잭션 커밋 후 검색 색인 등 인메모리 구조 갱신에 사용
+ * - 주문/취소 재고 반영으로 품절/재입고가 되면 InventoryServiceImpl에서 stockChanged로 발행
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final Long productId;
+    private final boolean deleted;
+    // 재고 카운터에서 반영한 재고 변경 (카운터는 이미 최신이므로 다시 적재하지 않음)
+    private final boolean stockOnly;
+
+    public static ProductChangedEvent saved(Long productId) {
+        return new ProductChangedEvent(productId, false, false);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, true, false);
+    }
+
+    public static ProductChangedEvent stockChanged(Long productId) {
+        return new ProductChangedEvent(productId, false, true);
+    }
+}
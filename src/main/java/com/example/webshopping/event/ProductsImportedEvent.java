@@ -0,0 +1,17 @@
+package com.example.webshopping.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품 대량 등록 완료 이벤트
+ * - 상품마다 ProductChangedEvent를 발행하지 않고, 등록이 끝난 뒤 한 번만 발행해 색인을 통째로 다시 구성
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ProductsImportedEvent {
+
+    private final long importedCount;
+}
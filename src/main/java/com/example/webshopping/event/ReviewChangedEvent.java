@@ -0,0 +1,17 @@
+package com.example.webshopping.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 리뷰 작성/수정/삭제 이벤트
+ * - ReviewServiceImpl에서 발행, 트랜잭션 커밋 후 별점 등 캐시 갱신에 사용
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ReviewChangedEvent {
+
+    private final Long productId;
+}
@@ -0,0 +1,182 @@
+package com.example.webshopping.importer;
+
+import com.example.webshopping.dto.ProductImportRowDTO;
+import com.example.webshopping.dto.ProductOptionDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * CSV 상품 리더 (RFC 4180)
+ * - 첫 줄은 헤더, 컬럼 순서는 자유 (이름으로 매칭, 대소문자 무시)
+ * - 필수 컬럼: categoryCode, productName, price
+ * - 선택 컬럼: stockQuantity, discountRate, productType, description, imageUrls, options
+ * - 큰따옴표로 감싼 값 안의 쉼표/줄바꿈 허용, "" 는 큰따옴표 하나
+ * - imageUrls: "|" 로 구분 (첫 번째가 대표 이미지)
+ * - options: "|" 로 구분, 각 옵션은 "타입:값[:재고[:추가금액]]" (예: 사이즈:250:10|사이즈:260:5:1000)
+ */
+public class CsvProductImportReader implements ProductImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("categorycode", "productname", "price");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    private long lineNumber;   // 지금까지 읽은 줄 수
+
+    public CsvProductImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            // UTF-8 BOM 제거
+            String name = i == 0 && header.get(i).startsWith("\uFEFF") ? header.get(i).substring(1) : header.get(i);
+            columns.put(name.trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + missing);
+        }
+    }
+
+    @Override
+    public Row next() throws IOException {
+        while (true) {
+            long startLine = lineNumber + 1;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (fields.size() > columns.size()) {
+                return Row.error(startLine, "컬럼 수가 헤더보다 많습니다. (헤더: " + columns.size() + ", 행: " + fields.size() + ")");
+            }
+            try {
+                return Row.of(startLine, toRow(fields));
+            } catch (IllegalArgumentException e) {
+                return Row.error(startLine, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ========== Helper Methods ==========
+
+    private ProductImportRowDTO toRow(List<String> fields) {
+        return ProductImportRowDTO.builder()
+                .categoryCode(text(fields, "categorycode"))
+                .productName(text(fields, "productname"))
+                .price(number(fields, "price"))
+                .stockQuantity(number(fields, "stockquantity"))
+                .discountRate(number(fields, "discountrate"))
+                .productType(text(fields, "producttype"))
+                .description(text(fields, "description"))
+                .imageUrls(split(text(fields, "imageurls")))
+                .options(split(text(fields, "options")).stream().map(CsvProductImportReader::toOption).toList())
+                .build();
+    }
+
+    private String text(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer number(List<String> fields, String column) {
+        String value = text(fields, column);
+        return value != null ? parseInt(value, column) : null;
+    }
+
+    private static List<String> split(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split("\\|")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    private static ProductOptionDTO toOption(String value) {
+        String[] parts = value.split(":", 4);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("옵션 형식이 잘못되었습니다. (타입:값[:재고[:추가금액]]): " + value);
+        }
+        return ProductOptionDTO.builder()
+                .optionType(parts[0].trim())
+                .optionValue(parts[1].trim())
+                .stockQuantity(parts.length > 2 ? parseInt(parts[2].trim(), "option stock") : 0)
+                .additionalPrice(parts.length > 3 ? parseInt(parts[3].trim(), "option additionalPrice") : 0)
+                .build();
+    }
+
+    private static int parseInt(String value, String column) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    /**
+     * CSV 레코드 하나 읽기 (파일 끝이면 null)
+     * - 따옴표 안의 줄바꿈은 값에 포함하고 다음 줄로 이어서 읽음
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                if (empty) {
+                    return null;
+                }
+                lineNumber++;
+                fields.add(field.toString());
+                return fields;
+            }
+            empty = false;
+
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                lineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.webshopping.importer;
+
+import com.example.webshopping.dto.ProductImportRowDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * JSON Lines 상품 리더
+ * - 한 줄에 상품 JSON 객체 하나 (필드명은 ProductImportRowDTO와 동일, 모르는 필드는 무시)
+ * - 예: {"categoryCode":"SPORTS_RUN_SHOES","productName":"러닝화","price":89000,
+ *        "imageUrls":["/img/a.jpg"],"options":[{"optionType":"사이즈","optionValue":"250","stockQuantity":10}]}
+ */
+public class JsonLinesProductImportReader implements ProductImportReader {
+
+    private static final ObjectReader ROW_READER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .readerFor(ProductImportRowDTO.class);
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    public JsonLinesProductImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ProductImportRowDTO row = ROW_READER.readValue(line);
+                return row != null ? Row.of(lineNumber, row) : Row.error(lineNumber, "JSON 객체가 아닙니다.");
+            } catch (JsonProcessingException e) {
+                return Row.error(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.webshopping.importer;
+
+import java.util.Locale;
+
+/**
+ * 상품 대량 등록 파일 형식
+ */
+public enum ProductImportFormat {
+    CSV,
+    JSONL;
+
+    /**
+     * 파일 확장자로 형식 판별 (.csv / .jsonl, .ndjson)
+     */
+    public static ProductImportFormat fromFilename(String filename) {
+        String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSONL;
+        }
+        throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. (csv, jsonl만 가능): " + filename);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.webshopping.importer;
+
+import com.example.webshopping.dto.ProductImportRowDTO;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품 대량 등록 파일 리더
+ * - 파일 전체를 읽어 두지 않고 next()를 호출할 때마다 한 행씩 파싱 (파일 크기와 무관하게 메모리 일정)
+ * - 형식이 잘못된 행은 예외 대신 오류 메시지를 담은 Row로 반환 (나머지 행은 계속 처리)
+ */
+public interface ProductImportReader extends Closeable {
+
+    /**
+     * 다음 행 (파일 끝이면 null, 빈 줄은 건너뜀)
+     */
+    Row next() throws IOException;
+
+    /**
+     * 파싱된 행
+     * - lineNumber: 행이 시작하는 원본 줄 번호 (1부터)
+     * - data: 파싱 결과 (오류 행이면 null)
+     * - error: 파싱 오류 메시지 (정상 행이면 null)
+     */
+    record Row(long lineNumber, ProductImportRowDTO data, String error) {
+
+        static Row of(long lineNumber, ProductImportRowDTO data) {
+            return new Row(lineNumber, data, null);
+        }
+
+        static Row error(long lineNumber, String error) {
+            return new Row(lineNumber, null, error);
+        }
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+
+    /**
+     * 형식에 맞는 리더 생성 (UTF-8)
+     */
+    static ProductImportReader open(InputStream in, ProductImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new CsvProductImportReader(reader);
+            case JSONL -> new JsonLinesProductImportReader(reader);
+        };
+    }
+}
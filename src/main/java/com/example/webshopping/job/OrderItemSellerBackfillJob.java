@@ -0,0 +1,44 @@
+package com.example.webshopping.job;
+
+import com.example.webshopping.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 상품 판매자 ID 보정 작업
+ * - 시작 시: seller_id 컬럼 추가 이전에 생성된 주문 상품에 상품 등록자 ID를 채움
+ * - order.seller-backfill-batch-size(기본 1000)건씩 나눠 갱신해 한 트랜잭션이 커지지 않도록 함
+ * - 실패해도 애플리케이션 기동에는 영향을 주지 않고 다음 기동 시 이어서 처리
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class OrderItemSellerBackfillJob {
+
+    private final OrderService orderService;
+
+    @Value("${order.seller-backfill-batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long total = 0;
+        try {
+            int filled;
+            do {
+                filled = orderService.backfillSellerIds(batchSize);
+                total += filled;
+            } while (filled >= batchSize);
+        } catch (RuntimeException e) {
+            log.warn("주문 상품 판매자 ID 보정 실패 - 보정된 건수: {}", total, e);
+            return;
+        }
+        if (total > 0) {
+            log.info("주문 상품 판매자 ID 보정 완료 - {}건", total);
+        }
+    }
+}
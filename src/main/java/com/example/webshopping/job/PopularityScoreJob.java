@@ -0,0 +1,60 @@
+package com.example.webshopping.job;
+
+import com.example.webshopping.event.OrderPlacedEvent;
+import com.example.webshopping.event.ReviewChangedEvent;
+import com.example.webshopping.service.PopularityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인기 점수 갱신 작업
+ * - 리뷰 변경 / 주문 확정 이벤트(커밋 후): 해당 상품만 즉시 재계산
+ * - 주기적(popularity.batch-interval-ms, 기본 10분): 전체 재계산 (감쇠, 주문량 재집계, 조회수 반영)
+ * - 이벤트 처리 실패는 원래 요청에 영향을 주지 않도록 로그만 남기고 다음 일괄 재계산에서 보정
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class PopularityScoreJob {
+
+    private final PopularityService popularityService;
+
+    // 별점 집계 초기 구성 이후, 메인 페이지 스냅샷 구성 이전에 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void initialize() {
+        popularityService.recalculateAll();
+    }
+
+    @Scheduled(fixedDelayString = "${popularity.batch-interval-ms:600000}",
+               initialDelayString = "${popularity.batch-interval-ms:600000}")
+    public void recalculate() {
+        popularityService.recalculateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        try {
+            popularityService.refreshScore(event.getProductId());
+        } catch (RuntimeException e) {
+            log.warn("인기 점수 갱신 실패 - 상품 ID: {}", event.getProductId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        try {
+            popularityService.addOrderVolume(event.getQuantities());
+        } catch (RuntimeException e) {
+            log.warn("인기 점수 갱신 실패 - 주문 ID: {}", event.getOrderId(), e);
+        }
+    }
+}
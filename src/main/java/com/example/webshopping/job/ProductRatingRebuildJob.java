@@ -0,0 +1,44 @@
+package com.example.webshopping.job;
+
+import com.example.webshopping.repository.ProductRatingRepository;
+import com.example.webshopping.repository.ReviewRepository;
+import com.example.webshopping.service.ProductRatingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 별점 집계 재구성 작업
+ * - 시작 시: 집계 테이블이 비어 있고 리뷰가 있으면 기존 데이터로 초기 구성
+ * - 매일 새벽(rating.rebuild-cron): 증분 갱신 누락/수동 데이터 수정 보정
+ *   (재구성 중 작성된 리뷰는 다음 재구성까지 어긋날 수 있으므로 트래픽이 적은 시간에 실행)
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ProductRatingRebuildJob {
+
+    private final ProductRatingService productRatingService;
+    private final ProductRatingRepository productRatingRepository;
+    private final ReviewRepository reviewRepository;
+
+    // 메인 페이지 스냅샷 등 별점을 읽는 캐시보다 먼저 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void initialize() {
+        if (productRatingRepository.count() == 0 && reviewRepository.count() > 0) {
+            log.info("별점 집계 초기 구성 시작");
+            productRatingService.rebuildAll();
+        }
+    }
+
+    @Scheduled(cron = "${rating.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        productRatingService.rebuildAll();
+    }
+}
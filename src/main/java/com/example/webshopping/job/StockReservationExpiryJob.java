@@ -0,0 +1,36 @@
+package com.example.webshopping.job;
+
+import com.example.webshopping.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 대기 재고 홀드 만료 작업
+ * - 시작 시: 결제 대기 주문의 홀드 복원 (유효 시간이 지난 주문은 만료 처리)
+ * - 주기적(reservation.expiry-check-ms, 기본 1초): 기한이 지난 홀드 해제 및 주문 결제 만료 처리
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class StockReservationExpiryJob {
+
+    private final StockReservationService stockReservationService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        stockReservationService.restorePending();
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.expiry-check-ms:1000}")
+    public void expire() {
+        try {
+            stockReservationService.expireDue();
+        } catch (RuntimeException e) {
+            log.warn("결제 대기 홀드 만료 처리 실패", e);
+        }
+    }
+}
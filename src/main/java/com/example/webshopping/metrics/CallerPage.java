@@ -0,0 +1,29 @@
+package com.example.webshopping.metrics;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 메트릭 page 태그 값 (현재 요청이 매핑된 URL 패턴, 예: /product/detail/{id})
+ * - 실제 경로 대신 패턴을 써서 태그 값 종류가 화면 수만큼으로 제한됨
+ * - 요청 밖(스케줄러, 기동 시 작업): none
+ * - 요청 안이지만 컨트롤러 매핑 전(로그인 처리 등 보안 필터): unmapped
+ */
+public final class CallerPage {
+
+    public static final String NONE = "none";
+    public static final String UNMAPPED = "unmapped";
+
+    private CallerPage() {
+    }
+
+    public static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NONE;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : UNMAPPED;
+    }
+}
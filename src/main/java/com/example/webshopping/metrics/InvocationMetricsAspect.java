@@ -0,0 +1,87 @@
+package com.example.webshopping.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 서비스 계층 호출 시간 계측 (Prometheus: /actuator/prometheus)
+ * - webshop.service.invocations: *ServiceImpl 공개 메서드 (class, method, outcome, exception, page)
+ * - webshop.toss.requests: 토스페이먼츠 API 호출 = PaymentServiceImpl 공개 메서드 (operation, outcome, exception, page)
+ * - webshop.file.operations: FileService 파일 저장/삭제 (method, outcome, exception, page)
+ * - webshop.file.bytes: FileService로 저장한 업로드 파일 크기 합계 (method, page)
+ * - 저장소 메서드는 Spring Boot 기본 계측 + PageRepositoryTagsProvider 태그로 기록
+ * - 프록시를 거치지 않는 같은 객체 안의 호출은 측정되지 않음 (바깥 호출 시간에 포함)
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class InvocationMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.example.webshopping.service.*ServiceImpl.*(..))"
+            + " && !within(com.example.webshopping.service.PaymentServiceImpl)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "webshop.service.invocations",
+                Tags.of("class", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                        "method", joinPoint.getSignature().getName()));
+    }
+
+    @Around("execution(public * com.example.webshopping.service.PaymentServiceImpl.*(..))")
+    public Object timeToss(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "webshop.toss.requests", Tags.of("operation", joinPoint.getSignature().getName()));
+    }
+
+    @Around("execution(public * com.example.webshopping.service.FileService.*(..))")
+    public Object timeFile(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        Object result = time(joinPoint, "webshop.file.operations", Tags.of("method", method));
+
+        long bytes = 0;
+        for (Object arg : joinPoint.getArgs()) {
+            if (arg instanceof MultipartFile file) {
+                bytes += file.getSize();
+            }
+        }
+        if (bytes > 0) {
+            Counter.builder("webshop.file.bytes")
+                    .baseUnit("bytes")
+                    .tags("method", method, "page", CallerPage.current())
+                    .register(meterRegistry)
+                    .increment(bytes);
+        }
+        return result;
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String name, Tags tags) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tags(tags)
+                    .tags("outcome", outcome(error), "exception", exception(error), "page", CallerPage.current())
+                    .register(meterRegistry));
+        }
+    }
+
+    static String outcome(Throwable error) {
+        return error == null ? "SUCCESS" : "ERROR";
+    }
+
+    static String exception(Throwable error) {
+        return error == null ? "none" : error.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.webshopping.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소 메서드 호출 타이머 태그 (Spring Boot 기본 저장소 계측에 호출 화면 추가)
+ * - Spring Data 저장소 프록시가 메서드 호출마다 시간을 재고, 이 태그로 기록함 (webshop.repository.invocations)
+ * - repository, method, outcome(SUCCESS/ERROR), exception, page
+ */
+@Component
+public class PageRepositoryTagsProvider implements RepositoryTagsProvider {
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        RepositoryMethodInvocationResult result = invocation.getResult();
+        Throwable error = result != null ? result.getError() : null;
+        return Tags.of(
+                Tag.of("repository", invocation.getRepositoryInterface().getSimpleName()),
+                Tag.of("method", invocation.getMethod().getName()),
+                Tag.of("outcome", InvocationMetricsAspect.outcome(error)),
+                Tag.of("exception", InvocationMetricsAspect.exception(error)),
+                Tag.of("page", CallerPage.current()));
+    }
+}
@@ -17,6 +17,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     
     // depth별 카테고리 조회
     List<Category> findByDepthAndIsActiveTrueOrderByDisplayOrderAsc(Integer depth);
+
+    // 활성 카테고리 전체 (관리 화면 계층 구성용, 한 번에 조회)
+    List<Category> findByIsActiveTrueOrderByDisplayOrderAsc();
     
     // 코드로 카테고리 조회
     Category findByCode(String code);
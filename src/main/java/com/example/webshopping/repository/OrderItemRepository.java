@@ -1,9 +1,103 @@
 package com.example.webshopping.repository;
 
 
+import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.constant.PaymentStatus;
+import com.example.webshopping.dto.OrderExportRowDTO;
+import com.example.webshopping.dto.OrderItemDTO;
 import com.example.webshopping.entity.OrderItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
+    /**
+     * 최근 주문 수량 [상품 ID, 수량, 주문일] (인기 점수 계산용)
+     * - 취소 주문 제외, 토스 결제 주문(orderId 있음)은 결제 완료된 것만
+     */
+    @Query("SELECT oi.product.id, oi.quantity, o.orderDate FROM OrderItem oi " +
+           "JOIN oi.order o " +
+           "WHERE o.orderDate >= :since " +
+           "AND o.orderStatus <> :cancelled " +
+           "AND (o.orderId IS NULL OR o.paymentStatus = :paid)")
+    List<Object[]> findRecentOrderVolumes(
+        @Param("since") LocalDateTime since,
+        @Param("cancelled") OrderStatus cancelled,
+        @Param("paid") PaymentStatus paid
+    );
+
+    /**
+     * 주문 ID 목록의 주문 상품 DTO (주문 내역/주문 관리 목록용, 주문별 주문 상품 순)
+     * - 상품/옵션 컬럼과 대표 이미지 URL을 한 번에 조회 (엔티티를 읽지 않으므로 지연 로딩 없음)
+     * - 대표 이미지가 여러 장이면 먼저 등록된 것 하나만 사용
+     */
+    @Query("SELECT new com.example.webshopping.dto.OrderItemDTO(" +
+           "oi.order.id, oi.id, p.id, p.productName, img.imageUrl, oi.quantity, oi.orderPrice, " +
+           "po.id, po.optionType, po.optionValue, po.additionalPrice) " +
+           "FROM OrderItem oi " +
+           "JOIN oi.product p " +
+           "LEFT JOIN oi.productOption po " +
+           "LEFT JOIN ProductImage img ON img.id = " +
+           "(SELECT MIN(ri.id) FROM ProductImage ri WHERE ri.product = p AND ri.repImgYn = 'Y') " +
+           "WHERE oi.order.id IN :orderIds " +
+           "ORDER BY oi.order.id, oi.id")
+    List<OrderItemDTO> findItemDTOsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 판매자 상품의 주문 상품 스트림 (CSV 내보내기용, 최신 주문순)
+     * - 주문/주문자/상품/옵션을 한 번에 조인해 DTO로 바로 읽으므로 행마다 추가 조회 없음
+     * - DB 커서에서 fetch size만큼씩 읽음 (스트림은 트랜잭션 안에서 사용하고 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.webshopping.dto.OrderExportRowDTO(" +
+           "o.id, o.orderDate, o.orderStatus, o.paymentStatus, o.paymentMethod, m.name, " +
+           "o.recipientName, o.recipientPhone, o.deliveryAddress, o.deliveryMessage, " +
+           "p.id, p.productName, po.optionType, po.optionValue, oi.quantity, oi.orderPrice) " +
+           "FROM OrderItem oi " +
+           "JOIN oi.order o " +
+           "LEFT JOIN o.member m " +
+           "JOIN oi.product p " +
+           "LEFT JOIN oi.productOption po " +
+           "WHERE oi.sellerId = :sellerId " +
+           "AND (:status IS NULL OR o.orderStatus = :status) " +
+           "AND (:startDate IS NULL OR o.orderDate >= :startDate) " +
+           "AND (:endDate IS NULL OR o.orderDate <= :endDate) " +
+           "ORDER BY o.orderDate DESC, o.id DESC, oi.id ASC")
+    Stream<OrderExportRowDTO> streamSellerOrderRows(
+        @Param("sellerId") Long sellerId,
+        @Param("status") OrderStatus status,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    // ========== 판매자 ID 채우기 (seller_id 추가 전 주문 상품) ==========
+
+    /**
+     * 판매자 ID가 비어 있는 주문 상품 ID (상품 등록자가 있는 것만)
+     */
+    @Query("SELECT oi.id FROM OrderItem oi " +
+           "WHERE oi.sellerId IS NULL " +
+           "AND oi.product.members IS NOT NULL " +
+           "ORDER BY oi.id")
+    List<Long> findIdsWithoutSeller(Pageable pageable);
+
+    /**
+     * 주문 상품에 상품 등록자 ID를 판매자 ID로 저장
+     */
+    @Modifying
+    @Query("UPDATE OrderItem oi " +
+           "SET oi.sellerId = (SELECT p.members.id FROM Product p WHERE p = oi.product) " +
+           "WHERE oi.id IN :ids")
+    int fillSellerIds(@Param("ids") Collection<Long> ids);
 }
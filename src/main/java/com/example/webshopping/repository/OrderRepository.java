@@ -1,14 +1,18 @@
 package com.example.webshopping.repository;
 
 import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.dto.OrderResponseDTO;
+import com.example.webshopping.constant.PaymentStatus;
 import com.example.webshopping.entity.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,41 +34,52 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByOrderId(String orderId);
 
 
-    // ========== 여기 추가! ==========
+    // ========== 주문 목록 프로젝션 (상품은 OrderItemRepository.findItemDTOsByOrderIdIn) ==========
 
     /**
-     * 특정 회원이 등록한 상품에 대한 주문 목록 조회 (최신순)
-     * OrderItem의 Product의 Members가 해당 회원인 주문들을 조회
-     * @param email 상품 등록자 이메일
-     * @return 주문 엔티티 리스트
+     * 회원 주문 목록 (최신순, 주문 컬럼만 DTO로 조회)
      */
-    @Query("SELECT DISTINCT o FROM Order o " +
-            "JOIN o.orderItems oi " +
-            "JOIN oi.product p " +
-            "WHERE p.members.email = :email " +
-            "ORDER BY o.orderDate DESC")
-    List<Order> findOrdersByProductOwnerEmail(@Param("email") String email);
+    @Query("SELECT new com.example.webshopping.dto.OrderResponseDTO(" +
+           "o.id, o.orderDate, o.orderStatus, o.totalPrice, " +
+           "o.recipientName, o.recipientPhone, o.deliveryAddress, o.deliveryMessage, " +
+           "o.paymentMethod, o.paymentStatus, o.paymentAmount, o.paymentApprovedAt, o.orderId) " +
+           "FROM Order o " +
+           "WHERE o.member.id = :memberId " +
+           "ORDER BY o.orderDate DESC")
+    List<OrderResponseDTO> findOrderDTOsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * ID 목록으로 주문 조회 (주문 컬럼만 DTO로 조회, 정렬은 호출 측에서 ID 순서대로 맞춤)
+     */
+    @Query("SELECT new com.example.webshopping.dto.OrderResponseDTO(" +
+           "o.id, o.orderDate, o.orderStatus, o.totalPrice, " +
+           "o.recipientName, o.recipientPhone, o.deliveryAddress, o.deliveryMessage, " +
+           "o.paymentMethod, o.paymentStatus, o.paymentAmount, o.paymentApprovedAt, o.orderId) " +
+           "FROM Order o " +
+           "WHERE o.id IN :ids")
+    List<OrderResponseDTO> findOrderDTOsByIdIn(@Param("ids") Collection<Long> ids);
     
     
     // ========== 관리자 주문 검색/필터 ==========
+    // 판매자 조건은 주문 상품에 저장된 seller_id로 확인 (상품/회원 조인 없이 인덱스 조회)
+    // 주문 ID만 페이징하고 주문 내용은 findOrderDTOsByIdIn / 주문 상품은 findItemDTOsByOrderIdIn으로 한 번에 가져옴
     
     /**
      * 관리자 주문 검색 (통합 검색 + 상태 + 날짜 필터) - 최신순
      */
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "JOIN o.orderItems oi " +
-           "JOIN oi.product p " +
-           "WHERE p.members.email = :email " +
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE EXISTS (SELECT 1 FROM OrderItem oi WHERE oi.order = o AND oi.sellerId = :sellerId) " +
            "AND (:keyword IS NULL OR " +
            "     CAST(o.id AS string) LIKE %:keyword% OR " +
            "     o.member.name LIKE %:keyword% OR " +
-           "     p.productName LIKE %:keyword%) " +
+           "     EXISTS (SELECT 1 FROM OrderItem ki WHERE ki.order = o AND ki.sellerId = :sellerId " +
+           "             AND ki.product.productName LIKE %:keyword%)) " +
            "AND (:status IS NULL OR o.orderStatus = :status) " +
            "AND (:startDate IS NULL OR o.orderDate >= :startDate) " +
            "AND (:endDate IS NULL OR o.orderDate <= :endDate) " +
            "ORDER BY o.orderDate DESC")
-    Page<Order> searchOrdersLatest(
-        @Param("email") String email,
+    Page<Long> searchOrderIdsLatest(
+        @Param("sellerId") Long sellerId,
         @Param("keyword") String keyword,
         @Param("status") OrderStatus status,
         @Param("startDate") LocalDateTime startDate,
@@ -75,20 +90,19 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     /**
      * 관리자 주문 검색 - 금액 높은순
      */
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "JOIN o.orderItems oi " +
-           "JOIN oi.product p " +
-           "WHERE p.members.email = :email " +
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE EXISTS (SELECT 1 FROM OrderItem oi WHERE oi.order = o AND oi.sellerId = :sellerId) " +
            "AND (:keyword IS NULL OR " +
            "     CAST(o.id AS string) LIKE %:keyword% OR " +
            "     o.member.name LIKE %:keyword% OR " +
-           "     p.productName LIKE %:keyword%) " +
+           "     EXISTS (SELECT 1 FROM OrderItem ki WHERE ki.order = o AND ki.sellerId = :sellerId " +
+           "             AND ki.product.productName LIKE %:keyword%)) " +
            "AND (:status IS NULL OR o.orderStatus = :status) " +
            "AND (:startDate IS NULL OR o.orderDate >= :startDate) " +
            "AND (:endDate IS NULL OR o.orderDate <= :endDate) " +
            "ORDER BY o.totalPrice DESC")
-    Page<Order> searchOrdersByAmountDesc(
-        @Param("email") String email,
+    Page<Long> searchOrderIdsByAmountDesc(
+        @Param("sellerId") Long sellerId,
         @Param("keyword") String keyword,
         @Param("status") OrderStatus status,
         @Param("startDate") LocalDateTime startDate,
@@ -99,20 +113,19 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     /**
      * 관리자 주문 검색 - 금액 낮은순
      */
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "JOIN o.orderItems oi " +
-           "JOIN oi.product p " +
-           "WHERE p.members.email = :email " +
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE EXISTS (SELECT 1 FROM OrderItem oi WHERE oi.order = o AND oi.sellerId = :sellerId) " +
            "AND (:keyword IS NULL OR " +
            "     CAST(o.id AS string) LIKE %:keyword% OR " +
            "     o.member.name LIKE %:keyword% OR " +
-           "     p.productName LIKE %:keyword%) " +
+           "     EXISTS (SELECT 1 FROM OrderItem ki WHERE ki.order = o AND ki.sellerId = :sellerId " +
+           "             AND ki.product.productName LIKE %:keyword%)) " +
            "AND (:status IS NULL OR o.orderStatus = :status) " +
            "AND (:startDate IS NULL OR o.orderDate >= :startDate) " +
            "AND (:endDate IS NULL OR o.orderDate <= :endDate) " +
            "ORDER BY o.totalPrice ASC")
-    Page<Order> searchOrdersByAmountAsc(
-        @Param("email") String email,
+    Page<Long> searchOrderIdsByAmountAsc(
+        @Param("sellerId") Long sellerId,
         @Param("keyword") String keyword,
         @Param("status") OrderStatus status,
         @Param("startDate") LocalDateTime startDate,
@@ -121,17 +134,15 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     );
     
     /**
-     * 상태별 주문 개수 조회 (통계용)
+     * 상태별 주문 개수 조회 (통계용, 주문 단위)
      */
     @Query("SELECT o.orderStatus, COUNT(o) FROM Order o " +
-           "JOIN o.orderItems oi " +
-           "JOIN oi.product p " +
-           "WHERE p.members.email = :email " +
+           "WHERE EXISTS (SELECT 1 FROM OrderItem oi WHERE oi.order = o AND oi.sellerId = :sellerId) " +
            "AND (:startDate IS NULL OR o.orderDate >= :startDate) " +
            "AND (:endDate IS NULL OR o.orderDate <= :endDate) " +
            "GROUP BY o.orderStatus")
     List<Object[]> countOrdersByStatus(
-        @Param("email") String email,
+        @Param("sellerId") Long sellerId,
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
@@ -210,4 +221,51 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "AND o.updatedDate > :lastCheckedTime")
     Long countUpdatedOrdersByMember(@Param("memberId") Long memberId, 
                                       @Param("lastCheckedTime") LocalDateTime lastCheckedTime);
+
+    // ========== 결제 대기 재고 홀드 ==========
+
+    /**
+     * 특정 시점 이후 생성된 결제 대기 주문 (주문 상품 포함, 재시작 시 홀드 복원용)
+     */
+    @Query("SELECT DISTINCT o FROM Order o " +
+           "LEFT JOIN FETCH o.orderItems oi " +
+           "WHERE o.orderId IS NOT NULL " +
+           "AND o.orderStatus = :pending " +
+           "AND o.paymentStatus IN :unpaid " +
+           "AND o.orderDate >= :since")
+    List<Order> findPendingPaymentOrdersSince(@Param("pending") OrderStatus pending,
+                                              @Param("unpaid") Collection<PaymentStatus> unpaid,
+                                              @Param("since") LocalDateTime since);
+
+    /**
+     * 결제 만료 처리 (결제 대기 상태인 주문만)
+     * - 벌크 UPDATE라 @UpdateTimestamp가 적용되지 않으므로 수정 시간을 직접 지정
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :cancelled, o.paymentStatus = :expired, o.updatedDate = :now " +
+           "WHERE o.id IN :ids " +
+           "AND o.orderStatus = :pending " +
+           "AND o.paymentStatus IN :unpaid")
+    int expirePendingPayments(@Param("ids") Collection<Long> ids,
+                              @Param("pending") OrderStatus pending,
+                              @Param("unpaid") Collection<PaymentStatus> unpaid,
+                              @Param("cancelled") OrderStatus cancelled,
+                              @Param("expired") PaymentStatus expired,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 시점 이전에 생성된 결제 대기 주문 일괄 결제 만료 처리 (재시작 시 1회)
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :cancelled, o.paymentStatus = :expired, o.updatedDate = :now " +
+           "WHERE o.orderId IS NOT NULL " +
+           "AND o.orderStatus = :pending " +
+           "AND o.paymentStatus IN :unpaid " +
+           "AND o.orderDate < :before")
+    int expirePendingPaymentsBefore(@Param("before") LocalDateTime before,
+                                    @Param("pending") OrderStatus pending,
+                                    @Param("unpaid") Collection<PaymentStatus> unpaid,
+                                    @Param("cancelled") OrderStatus cancelled,
+                                    @Param("expired") PaymentStatus expired,
+                                    @Param("now") LocalDateTime now);
 }
@@ -2,12 +2,15 @@ package com.example.webshopping.repository;
 
 import com.example.webshopping.entity.ProductOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductOptionRepository extends JpaRepository<ProductOption, Long> {
+public interface ProductOptionRepository extends JpaRepository<ProductOption, Long>, ProductOptionStockRepository {
     
     // 특정 상품의 모든 옵션 조회
     List<ProductOption> findByProduct_IdOrderByDisplayOrderAsc(Long productId);
@@ -17,4 +20,8 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
     
     // 특정 상품의 특정 타입 옵션 조회
     List<ProductOption> findByProduct_IdAndOptionType(Long productId, String optionType);
+
+    // 옵션 재고만 조회 (재고 카운터 적재용)
+    @Query("SELECT o.stockQuantity FROM ProductOption o WHERE o.id = :id")
+    Optional<Integer> findStockQuantityById(@Param("id") Long id);
 }
@@ -0,0 +1,16 @@
+package com.example.webshopping.repository;
+
+import java.util.List;
+
+/**
+ * 상품 옵션 재고 일괄 증감 (ProductOptionRepository 확장)
+ */
+public interface ProductOptionStockRepository {
+
+    /**
+     * 옵션 재고 조건부 일괄 차감 (대상 행 잠금 조회 + 한 번의 JDBC 배치, 엔티티를 거치지 않음)
+     * @param deltas 옵션별 차감량 (음수면 복구)
+     * @return 행별 성공 여부 (입력 순서와 같음, 재고 부족이면 false)
+     */
+    boolean[] decreaseStocks(List<StockDelta> deltas);
+}
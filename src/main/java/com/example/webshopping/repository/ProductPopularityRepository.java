@@ -0,0 +1,33 @@
+package com.example.webshopping.repository;
+
+import com.example.webshopping.entity.ProductPopularity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProductPopularityRepository extends JpaRepository<ProductPopularity, Long> {
+
+    /**
+     * 증분 갱신용 조회 (행 잠금 - 동시 주문 시 누적 유실 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProductPopularity p WHERE p.productId = :productId")
+    Optional<ProductPopularity> findByIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * 입력값 행이 없으면 빈 행 생성, 있으면 변경 없음 (MariaDB 전용)
+     * - 같은 상품 첫 주문 동시 반영 시 중복 키 오류 대신 한쪽만 생성, 이후 잠금 조회로 차례대로 누적
+     */
+    @Modifying
+    @Query(value = "INSERT INTO product_popularity (product_id, order_score, view_score, decayed_at) " +
+           "VALUES (:productId, 0, 0, NOW()) " +
+           "ON DUPLICATE KEY UPDATE product_id = product_id", nativeQuery = true)
+    int insertIfAbsent(@Param("productId") Long productId);
+}
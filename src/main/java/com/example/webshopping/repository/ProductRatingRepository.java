@@ -0,0 +1,41 @@
+package com.example.webshopping.repository;
+
+import com.example.webshopping.entity.ProductRating;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProductRatingRepository extends JpaRepository<ProductRating, Long> {
+
+    /**
+     * 증분 갱신용 조회 (행 잠금 - 같은 상품 리뷰 동시 작성 시 집계 유실 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ProductRating r WHERE r.productId = :productId")
+    Optional<ProductRating> findByIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * 집계 행이 없으면 빈 행 생성, 있으면 변경 없음 (MariaDB 전용)
+     * - 같은 상품 첫 리뷰 동시 작성 시 중복 키 오류 대신 한쪽만 생성, 이후 잠금 조회로 차례대로 반영
+     */
+    @Modifying
+    @Query(value = "INSERT INTO product_rating (product_id, rating_sum, review_count, " +
+           "star1_count, star2_count, star3_count, star4_count, star5_count, updated_date) " +
+           "VALUES (:productId, 0, 0, 0, 0, 0, 0, 0, NOW()) " +
+           "ON DUPLICATE KEY UPDATE product_id = product_id", nativeQuery = true)
+    int insertIfAbsent(@Param("productId") Long productId);
+
+    /**
+     * 집계가 있는 상품 ID 전체 (재구성 작업의 삭제 대상 계산용)
+     */
+    @Query("SELECT r.productId FROM ProductRating r")
+    List<Long> findAllProductIds();
+}
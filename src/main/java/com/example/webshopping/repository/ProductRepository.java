@@ -4,14 +4,18 @@ import com.example.webshopping.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductStockRepository, ProductScoreRepository {
 
     /**
      * 카테고리별 상품 조회 (품절 상품 맨 뒤 + 최신순)
@@ -28,20 +32,23 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByCategory_Id(@Param("categoryId") Long categoryId);
     
     /**
-     * 카테고리별 상품 조회 (모든 하위 카테고리 포함 - 재귀)
-     * - 대분류 선택 시: 대분류 + 모든 중분류 + 모든 소분류 상품 조회
-     * - 중분류 선택 시: 중분류 + 모든 소분류 상품 조회
-     * - 소분류 선택 시: 해당 소분류 상품만 조회
+     * 카테고리별 상품 조회 (모든 하위 카테고리 포함)
+     * - categoryIds: 선택한 카테고리 + 모든 하위 카테고리 ID (CategorySubtreeCache.getSubtreeIds)
+     * - 카테고리 조인 없이 category_id IN (...) 한 번으로 조회 (깊이 제한 없음)
+     * - 상품 상세는 주인이 아닌 1:1이라 지연 로딩되지 않으므로 함께 조회 (아래 정렬별 쿼리도 동일)
      */
-    @Query("SELECT p FROM Product p " +
-           "WHERE p.category.id = :categoryId " +
-           "OR p.category.parent.id = :categoryId " +
-           "OR p.category.parent.parent.id = :categoryId " +
-           "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
-           "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.createdDate DESC")
+    @Query(value = "SELECT p FROM Product p " +
+                   "LEFT JOIN FETCH p.productDetail " +
+                   "WHERE p.category.id IN :categoryIds " +
+                   "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                   "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
+                   "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.createdDate DESC",
+           countQuery = "SELECT COUNT(p) FROM Product p " +
+                        "WHERE p.category.id IN :categoryIds " +
+                        "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                        "AND (:maxPrice IS NULL OR p.price <= :maxPrice)")
     Page<Product> findByCategoryWithPriceFilter(
-        @Param("categoryId") Long categoryId,
+        @Param("categoryIds") Collection<Long> categoryIds,
         @Param("minPrice") Integer minPrice,
         @Param("maxPrice") Integer maxPrice,
         Pageable pageable
@@ -50,15 +57,18 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     /**
      * 카테고리 + 가격 낮은순 (모든 하위 카테고리 포함)
      */
-    @Query("SELECT p FROM Product p " +
-           "WHERE p.category.id = :categoryId " +
-           "OR p.category.parent.id = :categoryId " +
-           "OR p.category.parent.parent.id = :categoryId " +
-           "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
-           "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.price ASC")
+    @Query(value = "SELECT p FROM Product p " +
+                   "LEFT JOIN FETCH p.productDetail " +
+                   "WHERE p.category.id IN :categoryIds " +
+                   "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                   "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
+                   "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.price ASC",
+           countQuery = "SELECT COUNT(p) FROM Product p " +
+                        "WHERE p.category.id IN :categoryIds " +
+                        "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                        "AND (:maxPrice IS NULL OR p.price <= :maxPrice)")
     Page<Product> findByCategoryOrderByPriceAsc(
-        @Param("categoryId") Long categoryId,
+        @Param("categoryIds") Collection<Long> categoryIds,
         @Param("minPrice") Integer minPrice,
         @Param("maxPrice") Integer maxPrice,
         Pageable pageable
@@ -67,15 +77,18 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     /**
      * 카테고리 + 가격 높은순 (모든 하위 카테고리 포함)
      */
-    @Query("SELECT p FROM Product p " +
-           "WHERE p.category.id = :categoryId " +
-           "OR p.category.parent.id = :categoryId " +
-           "OR p.category.parent.parent.id = :categoryId " +
-           "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
-           "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.price DESC")
+    @Query(value = "SELECT p FROM Product p " +
+                   "LEFT JOIN FETCH p.productDetail " +
+                   "WHERE p.category.id IN :categoryIds " +
+                   "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                   "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
+                   "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.price DESC",
+           countQuery = "SELECT COUNT(p) FROM Product p " +
+                        "WHERE p.category.id IN :categoryIds " +
+                        "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                        "AND (:maxPrice IS NULL OR p.price <= :maxPrice)")
     Page<Product> findByCategoryOrderByPriceDesc(
-        @Param("categoryId") Long categoryId,
+        @Param("categoryIds") Collection<Long> categoryIds,
         @Param("minPrice") Integer minPrice,
         @Param("maxPrice") Integer maxPrice,
         Pageable pageable
@@ -83,153 +96,214 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     
     /**
      * 카테고리 + 인기순 (모든 하위 카테고리 포함)
+     * 미리 계산한 인기 점수 컬럼으로 정렬 (리뷰 조인 / GROUP BY 없음)
      */
-    @Query("SELECT p FROM Product p " +
-           "LEFT JOIN p.reviews r " +
-           "WHERE p.category.id = :categoryId " +
-           "OR p.category.parent.id = :categoryId " +
-           "OR p.category.parent.parent.id = :categoryId " +
-           "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
-           "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
-           "GROUP BY p " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, COUNT(r) DESC, p.createdDate DESC")
+    @Query(value = "SELECT p FROM Product p " +
+                   "LEFT JOIN FETCH p.productDetail " +
+                   "WHERE p.category.id IN :categoryIds " +
+                   "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                   "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
+                   "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.popularityScore DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Product p " +
+                        "WHERE p.category.id IN :categoryIds " +
+                        "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                        "AND (:maxPrice IS NULL OR p.price <= :maxPrice)")
     Page<Product> findByCategoryOrderByPopular(
-        @Param("categoryId") Long categoryId,
+        @Param("categoryIds") Collection<Long> categoryIds,
         @Param("minPrice") Integer minPrice,
         @Param("maxPrice") Integer maxPrice,
         Pageable pageable
     );
 
-    List<Product> findByMembers_IdOrderByCreatedDateDesc(Long memberId);
+    /**
+     * 판매자/관리자 상품 관리 목록 (최신순, 페이징 없음)
+     * - 목록 화면에서 쓰는 대표 이미지/카테고리와 지연 로딩되지 않는 상품 상세를 함께 조회
+     */
+    @Query("SELECT DISTINCT p FROM Product p " +
+           "LEFT JOIN FETCH p.productDetail " +
+           "LEFT JOIN FETCH p.images " +
+           "LEFT JOIN FETCH p.category " +
+           "WHERE p.members.id = :memberId " +
+           "ORDER BY p.createdDate DESC")
+    List<Product> findByMembers_IdOrderByCreatedDateDesc(@Param("memberId") Long memberId);
     
+    @Query("SELECT DISTINCT p FROM Product p " +
+           "LEFT JOIN FETCH p.productDetail " +
+           "LEFT JOIN FETCH p.images " +
+           "LEFT JOIN FETCH p.category " +
+           "ORDER BY p.createdDate DESC")
     List<Product> findAllByOrderByCreatedDateDesc();
     
     /**
-     * 오늘의 딜: 할인 중인 상품 (할인율 높은 순, 재고 있는 것만)
+     * 오늘의 딜: 할인 중인 상품 ID (할인율 높은 순, 재고 있는 것만)
+     * 메인 페이지 섹션 캐시용 - 개수는 PageRequest.of(0, limit)로 제한
      */
-    @Query("SELECT p FROM Product p WHERE p.discountRate > 0 AND p.stockQuantity > 0 " +
+    @Query("SELECT p.id FROM Product p WHERE p.discountRate > 0 AND p.stockQuantity > 0 " +
            "ORDER BY p.discountRate DESC, p.createdDate DESC")
-    List<Product> findTodayDeals();
+    List<Long> findTodayDealIds(Pageable limit);
     
     /**
-     * 인기 상품: 최신 등록순 (재고 있는 것만)
-     * 추후 리뷰/별점 시스템 추가되면 별점순으로 변경 예정
+     * 인기 상품 ID: 인기 점수 높은 순 (재고 있는 것만)
      */
-    @Query("SELECT p FROM Product p WHERE p.stockQuantity > 0 " +
-           "ORDER BY p.createdDate DESC")
-    List<Product> findPopularProducts();
+    @Query("SELECT p.id FROM Product p WHERE p.stockQuantity > 0 " +
+           "ORDER BY p.popularityScore DESC, p.id DESC")
+    List<Long> findPopularProductIds(Pageable limit);
     
     /**
-     * 신상품: 최신 등록순 (재고 있는 것만)
+     * 신상품 ID: 최신 등록순 (재고 있는 것만)
      */
-    @Query("SELECT p FROM Product p WHERE p.stockQuantity > 0 " +
+    @Query("SELECT p.id FROM Product p WHERE p.stockQuantity > 0 " +
            "ORDER BY p.createdDate DESC")
-    List<Product> findNewProducts();
+    List<Long> findNewProductIds(Pageable limit);
     
+    // ========== 검색 색인 ==========
+
     /**
-     * 상품명으로 검색 (LIKE 검색, 재고 있는 상품 우선)
-     * Fetch Join으로 N+1 문제 해결
-     * @param keyword 검색 키워드
-     * @return 검색 결과 상품 리스트
+     * 검색 색인용 전체 상품 조회
+     * 카테고리 경로(소분류 → 중분류 → 대분류)까지 Fetch Join
      */
-    @Query("SELECT DISTINCT p FROM Product p " +
-           "LEFT JOIN FETCH p.images " +
-           "LEFT JOIN FETCH p.category " +
-           "WHERE p.productName LIKE %:keyword% " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.createdDate DESC")
-    List<Product> searchByKeyword(@Param("keyword") String keyword);
-    
+    @Query("SELECT p FROM Product p " +
+           "LEFT JOIN FETCH p.category c " +
+           "LEFT JOIN FETCH c.parent cp " +
+           "LEFT JOIN FETCH cp.parent")
+    List<Product> findAllForSearchIndex();
+
     /**
-     * 상품명 + 카테고리로 검색
-     * Fetch Join으로 N+1 문제 해결
-     * @param keyword 검색 키워드
-     * @param categoryId 카테고리 ID (null 가능)
-     * @return 검색 결과 상품 리스트
+     * 검색 색인용 단건 조회 (상품 등록/수정 시 증분 색인)
+     */
+    @Query("SELECT p FROM Product p " +
+           "LEFT JOIN FETCH p.category c " +
+           "LEFT JOIN FETCH c.parent cp " +
+           "LEFT JOIN FETCH cp.parent " +
+           "WHERE p.id = :id")
+    Optional<Product> findForSearchIndex(@Param("id") Long id);
+
+    /**
+     * ID 목록으로 상품 조회 (검색 결과 한 페이지 분량만 로딩)
+     * Fetch Join으로 N+1 문제 해결, 정렬은 호출 측에서 색인 순서대로 맞춤
      */
     @Query("SELECT DISTINCT p FROM Product p " +
            "LEFT JOIN FETCH p.images " +
            "LEFT JOIN FETCH p.category " +
-           "WHERE p.productName LIKE %:keyword% " +
-           "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.createdDate DESC")
-    List<Product> searchByKeywordAndCategory(
-        @Param("keyword") String keyword, 
-        @Param("categoryId") Long categoryId
-    );
-    
+           "WHERE p.id IN :ids")
+    List<Product> findAllWithImagesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ========== 키셋(seek) 페이지네이션 ==========
+    // 재고 있는 상품 / 품절 상품 구간을 나눠 조회 (inStock), 각 구간 안에서 (정렬 값, id) 기준으로 커서 다음 행부터 조회
+    // OFFSET / COUNT 쿼리가 없으므로 깊은 페이지도 첫 페이지와 비용이 같음
+    // 조회 개수는 PageRequest.of(0, limit)로 전달 (COUNT 쿼리 없이 LIMIT만 적용)
+    // 결과는 [상품 ID, 정렬 값] - 다음 커서를 상품을 다시 읽지 않고 조회 시점의 정렬 값으로 만듦
+
     /**
-     * 상품명 검색 + 가격 필터링 - 페이징
-     * @param keyword 검색 키워드
-     * @param categoryId 카테고리 ID (null 가능)
-     * @param minPrice 최소 가격 (null 가능)
-     * @param maxPrice 최대 가격 (null 가능)
-     * @return 검색 결과 상품 리스트
+     * 카테고리(하위 포함) 최신순 키셋 조회: (createdDate DESC, id DESC)
      */
-    @Query("SELECT p FROM Product p " +
-           "WHERE p.productName LIKE %:keyword% " +
-           "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
+    @Query("SELECT p.id, p.createdDate FROM Product p " +
+           "WHERE p.category.id IN :categoryIds " +
            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
            "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.createdDate DESC")
-    Page<Product> searchWithPriceFilter(
-        @Param("keyword") String keyword,
-        @Param("categoryId") Long categoryId,
+           "AND ((:inStock = true AND p.stockQuantity > 0) OR (:inStock = false AND p.stockQuantity <= 0)) " +
+           "AND (p.createdDate < :createdDate OR (p.createdDate = :createdDate AND p.id < :id)) " +
+           "ORDER BY p.createdDate DESC, p.id DESC")
+    List<Object[]> findKeysByCategoryLatestAfter(
+        @Param("categoryIds") Collection<Long> categoryIds,
         @Param("minPrice") Integer minPrice,
         @Param("maxPrice") Integer maxPrice,
-        Pageable pageable
+        @Param("inStock") boolean inStock,
+        @Param("createdDate") LocalDateTime createdDate,
+        @Param("id") Long id,
+        Pageable limit
     );
-    
+
     /**
-     * 상품명 검색 + 가격 낮은순 - 페이징
+     * 카테고리(하위 포함) 가격 낮은순 키셋 조회: (price ASC, id DESC)
      */
-    @Query("SELECT p FROM Product p " +
-           "WHERE p.productName LIKE %:keyword% " +
-           "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
+    @Query("SELECT p.id, p.price FROM Product p " +
+           "WHERE p.category.id IN :categoryIds " +
            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
            "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.price ASC")
-    Page<Product> searchOrderByPriceAsc(
-        @Param("keyword") String keyword,
-        @Param("categoryId") Long categoryId,
+           "AND ((:inStock = true AND p.stockQuantity > 0) OR (:inStock = false AND p.stockQuantity <= 0)) " +
+           "AND (p.price > :price OR (p.price = :price AND p.id < :id)) " +
+           "ORDER BY p.price ASC, p.id DESC")
+    List<Object[]> findKeysByCategoryPriceAscAfter(
+        @Param("categoryIds") Collection<Long> categoryIds,
         @Param("minPrice") Integer minPrice,
         @Param("maxPrice") Integer maxPrice,
-        Pageable pageable
+        @Param("inStock") boolean inStock,
+        @Param("price") Integer price,
+        @Param("id") Long id,
+        Pageable limit
     );
-    
+
     /**
-     * 상품명 검색 + 가격 높은순 - 페이징
+     * 카테고리(하위 포함) 가격 높은순 키셋 조회: (price DESC, id DESC)
      */
-    @Query("SELECT p FROM Product p " +
-           "WHERE p.productName LIKE %:keyword% " +
-           "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
+    @Query("SELECT p.id, p.price FROM Product p " +
+           "WHERE p.category.id IN :categoryIds " +
            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
            "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, p.price DESC")
-    Page<Product> searchOrderByPriceDesc(
-        @Param("keyword") String keyword,
-        @Param("categoryId") Long categoryId,
+           "AND ((:inStock = true AND p.stockQuantity > 0) OR (:inStock = false AND p.stockQuantity <= 0)) " +
+           "AND (p.price < :price OR (p.price = :price AND p.id < :id)) " +
+           "ORDER BY p.price DESC, p.id DESC")
+    List<Object[]> findKeysByCategoryPriceDescAfter(
+        @Param("categoryIds") Collection<Long> categoryIds,
         @Param("minPrice") Integer minPrice,
         @Param("maxPrice") Integer maxPrice,
-        Pageable pageable
+        @Param("inStock") boolean inStock,
+        @Param("price") Integer price,
+        @Param("id") Long id,
+        Pageable limit
     );
-    
+
     /**
-     * 상품명 검색 + 인기순 (리뷰 많은순) - 페이징
+     * 카테고리(하위 포함) 인기순 키셋 조회: (popularityScore DESC, id DESC)
+     * - 점수가 아직 없는(NULL) 상품은 모든 점수 뒤 (DESC 정렬에서 NULL이 마지막인 MariaDB/H2 기본 순서와 같음)
+     * - score가 null이면 NULL 구간 안의 커서로 보고 id만 비교 (COALESCE 없이 인기 점수 인덱스 사용)
      */
-    @Query("SELECT p FROM Product p " +
-           "LEFT JOIN p.reviews r " +
-           "WHERE p.productName LIKE %:keyword% " +
-           "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
+    @Query("SELECT p.id, p.popularityScore FROM Product p " +
+           "WHERE p.category.id IN :categoryIds " +
            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
            "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
-           "GROUP BY p " +
-           "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 0 ELSE 1 END, COUNT(r) DESC, p.createdDate DESC")
-    Page<Product> searchOrderByPopular(
-        @Param("keyword") String keyword,
-        @Param("categoryId") Long categoryId,
+           "AND ((:inStock = true AND p.stockQuantity > 0) OR (:inStock = false AND p.stockQuantity <= 0)) " +
+           "AND (p.popularityScore < :score OR (p.popularityScore = :score AND p.id < :id) " +
+           "     OR (p.popularityScore IS NULL AND (:score IS NOT NULL OR p.id < :id))) " +
+           "ORDER BY p.popularityScore DESC, p.id DESC")
+    List<Object[]> findKeysByCategoryPopularAfter(
+        @Param("categoryIds") Collection<Long> categoryIds,
         @Param("minPrice") Integer minPrice,
         @Param("maxPrice") Integer maxPrice,
-        Pageable pageable
+        @Param("inStock") boolean inStock,
+        @Param("score") Double score,
+        @Param("id") Long id,
+        Pageable limit
     );
 
+    // ========== 인기 점수 ==========
+
+    /**
+     * 전체 상품의 현재 인기 점수 [상품 ID, 인기 점수] (일괄 재계산 시 변경분만 UPDATE 하기 위해 사용)
+     */
+    @Query("SELECT p.id, p.popularityScore FROM Product p")
+    List<Object[]> findAllPopularityScores();
+
+    /**
+     * 인기 점수 갱신 (popularityScore는 updatable = false라 엔티티 변경 감지로는 반영되지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.popularityScore = :score WHERE p.id = :id")
+    int updatePopularityScore(@Param("id") Long id, @Param("score") double score);
+
+    // ========== 재고 ==========
+
+    /**
+     * 상품 재고만 조회 (재고 카운터 적재용)
+     */
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockQuantityById(@Param("id") Long id);
+
+    /**
+     * 상품별 재고 조회 (재고 반영 후 품절/재입고 확인용) - [상품 ID, 재고]
+     */
+    @Query("SELECT p.id, p.stockQuantity FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findStockQuantitiesByIdIn(@Param("ids") Collection<Long> ids);
+
 }
@@ -0,0 +1,15 @@
+package com.example.webshopping.repository;
+
+import java.util.Map;
+
+/**
+ * 상품 인기 점수 일괄 갱신 (ProductRepository 확장)
+ */
+public interface ProductScoreRepository {
+
+    /**
+     * 인기 점수 일괄 UPDATE (한 번의 JDBC 배치, 엔티티를 거치지 않음)
+     * @param scores 상품 ID → 인기 점수
+     */
+    void updatePopularityScores(Map<Long, Double> scores);
+}
@@ -0,0 +1,26 @@
+package com.example.webshopping.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+public class ProductScoreRepositoryImpl implements ProductScoreRepository {
+
+    private static final String SQL = "UPDATE product SET popularity_score = ? WHERE product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductScoreRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void updatePopularityScores(Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(SQL, scores.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList());
+    }
+}
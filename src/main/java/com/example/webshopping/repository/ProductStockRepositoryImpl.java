@@ -0,0 +1,21 @@
+package com.example.webshopping.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    private final StockBatchUpdater updater;
+
+    public ProductStockRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.updater = new StockBatchUpdater(jdbcTemplate, new TransactionTemplate(transactionManager), "product", "product_id");
+    }
+
+    @Override
+    public boolean[] decreaseStocks(List<StockDelta> deltas) {
+        return updater.apply(deltas);
+    }
+}
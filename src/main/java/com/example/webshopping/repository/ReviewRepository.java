@@ -33,6 +33,18 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     Long countByProduct_Id(Long productId);
 
+    /**
+     * 상품별 리뷰 개수 [상품 ID, 리뷰 수]
+     */
+    @Query("SELECT r.product.id, COUNT(r) FROM Review r GROUP BY r.product.id")
+    List<Object[]> countGroupByProduct();
+
+    /**
+     * 상품별 / 별점별 리뷰 개수 [상품 ID, 별점, 리뷰 수] (별점 집계 재구성용)
+     */
+    @Query("SELECT r.product.id, r.rating, COUNT(r) FROM Review r GROUP BY r.product.id, r.rating")
+    List<Object[]> countGroupByProductAndRating();
+
     /**
      * 회원이 해당 상품에 리뷰를 작성했는지 확인
      */
@@ -0,0 +1,79 @@
+package com.example.webshopping.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조건부 재고 증감 배치 실행 (상품/옵션 재고 저장소 공통)
+ * - "stock_quantity >= 차감량" 조건으로 DB 재고가 음수가 되지 않도록 보장
+ * - 한 번의 JDBC 배치로 실행 (MariaDB Connector/J는 useBulkStmts일 때 한 번의 왕복)
+ * - 대상 행을 먼저 잠그고(SELECT ... FOR UPDATE) 재고를 읽은 뒤 같은 트랜잭션에서 배치 실행
+ *   (스케줄러처럼 트랜잭션 없이 호출되면 새 트랜잭션, 호출한 쪽 트랜잭션이 있으면 참여)
+ *   드라이버가 행별 건수 대신 SUCCESS_NO_INFO를 돌려주면(MariaDB 벌크 모드) 잠근 재고로 반영 여부를 판단
+ *   (성공으로 간주하면 조건에 걸려 반영되지 않은 차감량이 대기열에서 빠져 초과 판매됨)
+ */
+class StockBatchUpdater {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String table;
+    private final String idColumn;
+    private final String sql;
+
+    StockBatchUpdater(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, String table, String idColumn) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.table = table;
+        this.idColumn = idColumn;
+        this.sql = "UPDATE " + table + " SET stock_quantity = stock_quantity - ? "
+                + "WHERE " + idColumn + " = ? AND stock_quantity >= ?";
+    }
+
+    /**
+     * @return 행별 성공 여부 (입력 순서와 같음, 재고 부족/없는 ID면 false)
+     */
+    boolean[] apply(List<StockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return new boolean[0];
+        }
+        return transactionTemplate.execute(status -> applyLocked(deltas));
+    }
+
+    private boolean[] applyLocked(List<StockDelta> deltas) {
+        Map<Long, Integer> stocks = lockStocks(deltas);
+        int[] results = jdbcTemplate.batchUpdate(sql, deltas.stream()
+                .map(delta -> new Object[]{delta.quantity(), delta.id(), delta.quantity()})
+                .toList());
+
+        boolean[] applied = new boolean[deltas.size()];
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == Statement.SUCCESS_NO_INFO) {
+                // 잠근 행이라 배치 전 재고로 조건 충족 여부가 결정됨
+                Integer stock = stocks.get(deltas.get(i).id());
+                applied[i] = stock != null && stock >= deltas.get(i).quantity();
+            } else {
+                applied[i] = results[i] > 0;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 대상 행 잠금 + 현재 재고 조회 (ID → 재고, 없는 ID는 빠짐)
+     */
+    private Map<Long, Integer> lockStocks(List<StockDelta> deltas) {
+        String placeholders = String.join(",", Collections.nCopies(deltas.size(), "?"));
+        Map<Long, Integer> stocks = new HashMap<>();
+        jdbcTemplate.query("SELECT " + idColumn + ", stock_quantity FROM " + table
+                        + " WHERE " + idColumn + " IN (" + placeholders + ") FOR UPDATE",
+                rs -> { stocks.put(rs.getLong(1), rs.getInt(2)); },
+                deltas.stream().map(StockDelta::id).toArray());
+        return stocks;
+    }
+}
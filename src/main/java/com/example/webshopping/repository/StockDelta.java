@@ -0,0 +1,9 @@
+package com.example.webshopping.repository;
+
+/**
+ * 재고 증감량 (양수면 차감, 음수면 복구)
+ * @param id 상품 ID 또는 상품 옵션 ID
+ * @param quantity 차감 수량
+ */
+public record StockDelta(Long id, int quantity) {
+}
@@ -0,0 +1,355 @@
+package com.example.webshopping.search;
+
+import com.example.webshopping.dto.ProductFacetDTO;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.event.ProductsImportedEvent;
+import com.example.webshopping.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.Hibernate;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 패싯 인덱스 (RoaringBitmap 기반)
+ * - 카테고리(상위 카테고리 포함) / 가격 / 가격대 / 할인 여부 / 재고 여부별로 상품 ID 비트맵 유지
+ * - 필터 조합은 비트맵 교집합으로 계산하므로 패싯마다 COUNT 쿼리를 실행하지 않음
+ * - 애플리케이션 시작 시 전체 구성, 이후 상품 등록/수정/삭제 이벤트(커밋 후)로 증분 갱신
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ProductFacetIndex {
+
+    // 가격대 구간 (상품 목록 가격 필터와 동일하게 양 끝 포함)
+    public static final int[][] PRICE_BUCKETS = {
+            {0, 50000},
+            {50000, 100000},
+            {100000, 150000},
+            {150000, 200000},
+            {200000, Integer.MAX_VALUE}
+    };
+
+    // RoaringBitmap 컨테이너(2^16 구간)가 배열로 저장되는 최대 건수
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+
+    private final ProductRepository productRepository;
+
+    // 카테고리 ID → 상품 비트맵 (하위 카테고리 상품 포함)
+    private final Map<Long, RoaringBitmap> categories = new HashMap<>();
+
+    // 가격 → 상품 비트맵 (임의 가격 범위 필터용)
+    private final NavigableMap<Integer, RoaringBitmap> prices = new TreeMap<>();
+
+    private final RoaringBitmap[] priceBuckets = newBitmaps(PRICE_BUCKETS.length);
+    private final RoaringBitmap discounted = new RoaringBitmap();
+    private final RoaringBitmap inStock = new RoaringBitmap();
+    private final RoaringBitmap all = new RoaringBitmap();
+
+    // 상품 ID → 색인 문서 (재색인/삭제 시 기존 비트 제거용)
+    private final Map<Long, FacetDocument> documents = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 애플리케이션 시작 시 전체 상품 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Product> products = productRepository.findAllForSearchIndex();
+
+        lock.writeLock().lock();
+        try {
+            categories.clear();
+            prices.clear();
+            for (RoaringBitmap bucket : priceBuckets) {
+                bucket.clear();
+            }
+            discounted.clear();
+            inStock.clear();
+            all.clear();
+            documents.clear();
+            products.forEach(this::indexInternal);
+            categories.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("상품 패싯 색인 완료 - 상품 수: {}, 카테고리 수: {}, 소요: {}ms",
+                products.size(), categories.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 상품 변경 이벤트 처리 (트랜잭션 커밋 후 증분 색인)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getProductId());
+            return;
+        }
+        productRepository.findForSearchIndex(event.getProductId())
+                .ifPresentOrElse(this::index, () -> remove(event.getProductId()));
+    }
+
+    /**
+     * 상품 대량 등록 후 전체 재색인 (상품마다 증분 색인하는 것보다 빠름)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 상품 색인 (이미 색인된 상품이면 교체)
+     */
+    public void index(Product product) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(product.getId());
+            indexInternal(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인에서 상품 제거
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 패싯 건수 계산
+     * @param candidateIds 대상 상품 ID (null이면 전체 상품, 검색 시 키워드 일치 상품)
+     * @param categoryId 카테고리 ID (null 가능, 하위 카테고리 상품 포함)
+     * @param discountedOnly 할인 상품만
+     * @param inStockOnly 재고 있는 상품만
+     */
+    public ProductFacetDTO facets(Collection<Long> candidateIds, Long categoryId, Integer minPrice, Integer maxPrice,
+                                  boolean discountedOnly, boolean inStockOnly) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = candidateIds != null ? RoaringBitmap.and(toBitmap(candidateIds), all) : all;
+
+            RoaringBitmap categoryFilter = categoryId != null
+                    ? categories.getOrDefault(categoryId, new RoaringBitmap()) : null;
+            RoaringBitmap priceFilter = (minPrice != null || maxPrice != null) ? priceRange(minPrice, maxPrice) : null;
+            RoaringBitmap discountFilter = discountedOnly ? discounted : null;
+            RoaringBitmap stockFilter = inStockOnly ? inStock : null;
+
+            // 카테고리별 건수: 카테고리 필터를 제외한 나머지 필터 적용
+            Map<Long, Integer> categoryCounts =
+                    categoryCounts(intersect(base, priceFilter, discountFilter, stockFilter));
+
+            // 가격대별 건수: 가격 필터를 제외한 나머지 필터 적용
+            RoaringBitmap withoutPrice = intersect(base, categoryFilter, discountFilter, stockFilter);
+            List<Integer> priceBucketCounts = new ArrayList<>(priceBuckets.length);
+            for (RoaringBitmap bucket : priceBuckets) {
+                priceBucketCounts.add(RoaringBitmap.andCardinality(withoutPrice, bucket));
+            }
+
+            RoaringBitmap filtered = intersect(withoutPrice, priceFilter);
+
+            return ProductFacetDTO.builder()
+                    .totalCount(filtered.getCardinality())
+                    .discountedCount(RoaringBitmap.andCardinality(
+                            intersect(base, categoryFilter, priceFilter, stockFilter), discounted))
+                    .inStockCount(RoaringBitmap.andCardinality(
+                            intersect(base, categoryFilter, priceFilter, discountFilter), inStock))
+                    .categoryCounts(categoryCounts)
+                    .priceBucketCounts(priceBucketCounts)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * 카테고리별 건수
+     * - 대상 상품이 희소하면(배열 컨테이너) 상품별 카테고리 경로를 순회해 집계
+     *   (배열 컨테이너끼리의 교집합을 카테고리 수만큼 반복하면 오히려 느림)
+     * - 밀집되어 있으면 카테고리 비트맵마다 교집합 건수 계산
+     */
+    private Map<Long, Integer> categoryCounts(RoaringBitmap target) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (isSparse(target)) {
+            target.forEach((int bit) -> {
+                FacetDocument doc = documents.get((long) bit);
+                for (long categoryId : doc.categoryPath()) {
+                    counts.merge(categoryId, 1, Integer::sum);
+                }
+            });
+            return counts;
+        }
+        categories.forEach((id, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(target, bitmap);
+            if (count > 0) {
+                counts.put(id, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * null이 아닌 필터만 순서대로 교집합 (입력 비트맵은 변경하지 않음)
+     */
+    private RoaringBitmap intersect(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = RoaringBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    private RoaringBitmap priceRange(Integer minPrice, Integer maxPrice) {
+        int from = minPrice != null ? minPrice : Integer.MIN_VALUE;
+        int to = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+        if (from > to) {
+            return new RoaringBitmap();
+        }
+        // 가격대 구간과 같은 범위면 미리 계산된 비트맵 사용
+        for (int i = 0; i < PRICE_BUCKETS.length; i++) {
+            if (PRICE_BUCKETS[i][0] == from && PRICE_BUCKETS[i][1] == to) {
+                return priceBuckets[i];
+            }
+        }
+        return FastAggregation.or(prices.subMap(from, true, to, true).values().iterator());
+    }
+
+    private void indexInternal(Product product) {
+        int bit = toBit(product.getId());
+        int price = product.getPrice() != null ? product.getPrice() : 0;
+        boolean isDiscounted = product.getDiscountRate() != null && product.getDiscountRate() > 0;
+        boolean isInStock = product.getStockQuantity() != null && product.getStockQuantity() > 0;
+
+        List<Long> categoryPath = new ArrayList<>();
+        Category category = product.getCategory();
+        while (category != null && Hibernate.isInitialized(category)) {
+            categoryPath.add(category.getId());
+            category = category.getParent();
+        }
+
+        for (Long categoryId : categoryPath) {
+            categories.computeIfAbsent(categoryId, id -> new RoaringBitmap()).add(bit);
+        }
+        prices.computeIfAbsent(price, p -> new RoaringBitmap()).add(bit);
+        for (int i = 0; i < PRICE_BUCKETS.length; i++) {
+            if (inBucket(price, i)) {
+                priceBuckets[i].add(bit);
+            }
+        }
+        if (isDiscounted) {
+            discounted.add(bit);
+        }
+        if (isInStock) {
+            inStock.add(bit);
+        }
+        all.add(bit);
+
+        documents.put(product.getId(), new FacetDocument(
+                categoryPath.stream().mapToLong(Long::longValue).toArray(), price));
+    }
+
+    private void removeInternal(Long productId) {
+        FacetDocument doc = documents.remove(productId);
+        if (doc == null) {
+            return;
+        }
+        int bit = toBit(productId);
+
+        for (long categoryId : doc.categoryPath()) {
+            removeBit(categories, categoryId, bit);
+        }
+        removeBit(prices, doc.price(), bit);
+        for (RoaringBitmap bucket : priceBuckets) {
+            bucket.remove(bit);
+        }
+        discounted.remove(bit);
+        inStock.remove(bit);
+        all.remove(bit);
+    }
+
+    private static <K> void removeBit(Map<K, RoaringBitmap> bitmaps, K key, int bit) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(bit);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static boolean isSparse(RoaringBitmap bitmap) {
+        if (bitmap.isEmpty()) {
+            return true;
+        }
+        long chunks = (Integer.toUnsignedLong(bitmap.last()) >>> 16) - (Integer.toUnsignedLong(bitmap.first()) >>> 16) + 1;
+        return bitmap.getLongCardinality() <= chunks * ARRAY_CONTAINER_MAX;
+    }
+
+    private static boolean inBucket(int price, int bucket) {
+        return price >= PRICE_BUCKETS[bucket][0] && price <= PRICE_BUCKETS[bucket][1];
+    }
+
+    private static RoaringBitmap toBitmap(Collection<Long> ids) {
+        int[] bits = new int[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            bits[i++] = toBit(id);
+        }
+        Arrays.sort(bits);
+        return RoaringBitmap.bitmapOf(bits);
+    }
+
+    /**
+     * 상품 ID → 비트 위치 (RoaringBitmap은 32비트 정수 기반)
+     */
+    private static int toBit(Long productId) {
+        return Math.toIntExact(productId);
+    }
+
+    private static RoaringBitmap[] newBitmaps(int size) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[size];
+        for (int i = 0; i < size; i++) {
+            bitmaps[i] = new RoaringBitmap();
+        }
+        return bitmaps;
+    }
+
+    /**
+     * 색인 문서 (비트 제거에 필요한 값만 보관)
+     */
+    private record FacetDocument(long[] categoryPath, int price) {
+    }
+}
@@ -0,0 +1,397 @@
+package com.example.webshopping.search;
+
+import com.example.webshopping.dto.ProductCursor;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.event.PopularityChangedEvent;
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.event.ProductsImportedEvent;
+import com.example.webshopping.repository.ProductRepository;
+import com.example.webshopping.search.analyzer.TextAnalyzer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색용 인메모리 역색인
+ * - 상품명 / 설명 / 카테고리 경로를 TextAnalyzer로 분석한 토큰 단위로 색인
+ * - 애플리케이션 시작 시 전체 색인, 이후 상품 등록/수정/삭제 이벤트(커밋 후)로 증분 갱신
+ * - 인기순 정렬 키(popularityScore)는 색인 시 상품 컬럼 값, 이후 인기 점수 변경 이벤트(커밋 후)로 갱신
+ * - 검색은 색인에서 정렬된 상품 ID만 구하고, DB에서는 한 페이지 분량만 조회
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    // 필드별 가중치 (상품명 > 카테고리 > 설명)
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final ProductRepository productRepository;
+    private final TextAnalyzer analyzer;
+
+    // 토큰 → (상품 ID → 점수), 접두어 검색을 위해 정렬된 맵 사용
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+
+    // 상품 ID → 색인 문서 (필터/정렬 및 재색인 시 기존 토큰 제거용)
+    private final Map<Long, IndexedProduct> documents = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 애플리케이션 시작 시 전체 상품 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Product> products = productRepository.findAllForSearchIndex();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            products.forEach(this::indexInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("상품 검색 색인 완료 - 상품 수: {}, 토큰 수: {}, 소요: {}ms",
+                products.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 상품 변경 이벤트 처리 (트랜잭션 커밋 후 증분 색인)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getProductId());
+            return;
+        }
+        productRepository.findForSearchIndex(event.getProductId())
+                .ifPresentOrElse(this::index, () -> remove(event.getProductId()));
+    }
+
+    /**
+     * 인기 점수 변경 이벤트 처리 (토큰은 그대로 두고 정렬 키만 교체)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopularityChanged(PopularityChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getScores().forEach((productId, score) ->
+                    documents.computeIfPresent(productId, (id, doc) -> doc.withPopularityScore(score)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 대량 등록 후 전체 재색인 (상품마다 증분 색인하는 것보다 빠름)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 상품 색인 (이미 색인된 상품이면 교체)
+     */
+    public void index(Product product) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(product.getId());
+            indexInternal(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인에서 상품 제거
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색
+     * - 모든 검색 토큰을 포함하는 상품만 조회 (AND), 토큰은 접두어 일치
+     * - 정렬: 재고 있는 상품 먼저 + 정렬 기준(latest, price_asc, price_desc, popular) + 상품 ID 역순
+     * - popular는 인기 점수(popularityScore) 높은 순
+     * @param categoryId 카테고리 ID (null 가능, 하위 카테고리 상품 포함)
+     * @return 현재 페이지의 상품 ID 목록 (정렬 순서 유지) + 전체 건수
+     */
+    public Page<Long> search(String keyword, Long categoryId, Integer minPrice, Integer maxPrice,
+                             String sortBy, Pageable pageable) {
+        List<Hit> hits = findHits(keyword, categoryId, minPrice, maxPrice);
+        hits.sort(comparator(sortBy));
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> pageIds = hits.subList(from, to).stream()
+                .map(hit -> hit.doc().id())
+                .toList();
+
+        return new PageImpl<>(pageIds, pageable, hits.size());
+    }
+
+    /**
+     * 키워드 검색 (키셋 페이지네이션)
+     * - 커서 다음 순서의 상품만 골라 정렬하므로 깊은 페이지도 첫 페이지와 비용이 같음
+     * @param after 마지막으로 받은 상품의 커서 (첫 페이지면 null)
+     * @return 상품별 커서 목록 (커서의 id가 상품 ID) + 다음 페이지 여부 + 전체 건수
+     */
+    public SearchSlice searchAfter(String keyword, Long categoryId, Integer minPrice, Integer maxPrice,
+                                   String sortBy, ProductCursor after, int size) {
+        List<Hit> hits = findHits(keyword, categoryId, minPrice, maxPrice);
+        int total = hits.size();
+
+        Comparator<Hit> comparator = comparator(sortBy);
+        if (after != null) {
+            Hit probe = probe(after, sortBy);
+            hits.removeIf(hit -> comparator.compare(hit, probe) <= 0);
+        }
+        hits.sort(comparator);
+
+        List<ProductCursor> cursors = hits.subList(0, Math.min(size, hits.size())).stream()
+                .map(hit -> cursorOf(hit, sortBy))
+                .toList();
+        return new SearchSlice(cursors, hits.size() > size, total);
+    }
+
+    /**
+     * 키워드에 일치하는 전체 상품 ID (필터/정렬 없음, 패싯 계산용)
+     */
+    public Set<Long> matchingIds(String keyword) {
+        List<String> tokens = analyzer.analyzeQuery(keyword);
+        if (tokens.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(match(tokens).keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * 토큰별 상품 점수 합산 후 모든 토큰에 일치한 상품만 남김
+     */
+    private Map<Long, Float> match(List<String> tokens) {
+        Map<Long, Float> result = null;
+
+        for (String token : tokens) {
+            Map<Long, Float> matched = new HashMap<>();
+            for (Map<Long, Float> posting : postings.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                posting.forEach((productId, score) -> matched.merge(productId, score, Float::sum));
+            }
+
+            if (result == null) {
+                result = matched;
+            } else {
+                result.keySet().retainAll(matched.keySet());
+                result.replaceAll((productId, score) -> score + matched.get(productId));
+            }
+
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result != null ? result : Collections.emptyMap();
+    }
+
+    /**
+     * 키워드 일치 + 필터 통과 상품 (관련도 점수 포함, 정렬 전)
+     */
+    private List<Hit> findHits(String keyword, Long categoryId, Integer minPrice, Integer maxPrice) {
+        List<String> tokens = analyzer.analyzeQuery(keyword);
+        List<Hit> hits = new ArrayList<>();
+        if (tokens.isEmpty()) {
+            return hits;
+        }
+
+        lock.readLock().lock();
+        try {
+            match(tokens).forEach((productId, score) -> {
+                IndexedProduct doc = documents.get(productId);
+                if (doc != null && doc.matches(categoryId, minPrice, maxPrice)) {
+                    hits.add(new Hit(doc, score));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return hits;
+    }
+
+    /**
+     * 정렬 키: 재고 있는 상품 먼저 → 정렬 기준 → 상품 ID 역순 (커서 비교에도 그대로 사용)
+     */
+    private Comparator<Hit> comparator(String sortBy) {
+        Comparator<Hit> stockFirst = Comparator.comparing(hit -> !hit.doc().inStock());
+
+        Comparator<Hit> order = switch (sortBy != null ? sortBy : "latest") {
+            case "price_asc" -> Comparator.comparingInt(hit -> hit.doc().price());
+            case "price_desc" -> Comparator.comparing((Hit hit) -> hit.doc().price(), Comparator.reverseOrder());
+            case "popular" -> Comparator.comparingDouble((Hit hit) -> hit.doc().popularityScore()).reversed();
+            default -> Comparator.comparing((Hit hit) -> hit.doc().createdDate(),
+                    Comparator.nullsLast(Comparator.reverseOrder()));
+        };
+
+        return stockFirst.thenComparing(order)
+                .thenComparing((Hit hit) -> hit.doc().id(), Comparator.reverseOrder());
+    }
+
+    private ProductCursor cursorOf(Hit hit, String sortBy) {
+        IndexedProduct doc = hit.doc();
+        String value = switch (sortBy != null ? sortBy : "latest") {
+            case "price_asc", "price_desc" -> String.valueOf(doc.price());
+            case "popular" -> String.valueOf(doc.popularityScore());
+            default -> doc.createdDate() != null ? doc.createdDate().toString() : null;
+        };
+        return new ProductCursor(sortBy, doc.inStock(), value, doc.id());
+    }
+
+    /**
+     * 커서를 정렬 비교용 Hit로 변환
+     */
+    private Hit probe(ProductCursor cursor, String sortBy) {
+        int price = 0;
+        double popularityScore = 0;
+        LocalDateTime createdDate = null;
+        try {
+            switch (sortBy != null ? sortBy : "latest") {
+                case "price_asc", "price_desc" -> price = Integer.parseInt(cursor.getValue());
+                case "popular" -> popularityScore = Double.parseDouble(cursor.getValue());
+                default -> createdDate = cursor.getValue() != null ? LocalDateTime.parse(cursor.getValue()) : null;
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+        return new Hit(new IndexedProduct(cursor.getId(), price, cursor.isInStock(), createdDate,
+                popularityScore, new long[0], new String[0]), 0f);
+    }
+
+    private void indexInternal(Product product) {
+        Map<String, Float> termScores = new HashMap<>();
+        addTerms(termScores, product.getProductName(), NAME_WEIGHT);
+        addTerms(termScores, product.getDescription(), DESCRIPTION_WEIGHT);
+
+        List<Long> categoryPath = new ArrayList<>();
+        Category category = product.getCategory();
+        while (category != null && Hibernate.isInitialized(category)) {
+            categoryPath.add(category.getId());
+            addTerms(termScores, category.getName(), CATEGORY_WEIGHT);
+            category = category.getParent();
+        }
+
+        IndexedProduct doc = new IndexedProduct(
+                product.getId(),
+                product.getPrice() != null ? product.getPrice() : 0,
+                product.getStockQuantity() != null && product.getStockQuantity() > 0,
+                product.getCreatedDate(),
+                product.getPopularityScore() != null ? product.getPopularityScore() : 0,
+                categoryPath.stream().mapToLong(Long::longValue).toArray(),
+                termScores.keySet().toArray(new String[0])
+        );
+        documents.put(doc.id(), doc);
+
+        termScores.forEach((term, score) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(doc.id(), score));
+    }
+
+    private void removeInternal(Long productId) {
+        IndexedProduct doc = documents.remove(productId);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.terms()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void addTerms(Map<String, Float> termScores, String text, float weight) {
+        for (String term : analyzer.analyze(text)) {
+            termScores.merge(term, weight, Float::sum);
+        }
+    }
+
+    /**
+     * 키셋 검색 결과
+     * @param hits 상품별 커서 (정렬 순서)
+     * @param total 필터 적용 전체 건수
+     */
+    public record SearchSlice(List<ProductCursor> hits, boolean hasNext, int total) {
+    }
+
+    private record Hit(IndexedProduct doc, float score) {
+    }
+
+    /**
+     * 색인 문서 (검색 필터/정렬에 필요한 값만 보관)
+     */
+    private record IndexedProduct(Long id, int price, boolean inStock, LocalDateTime createdDate,
+                                  double popularityScore, long[] categoryPath, String[] terms) {
+
+        IndexedProduct withPopularityScore(double score) {
+            return new IndexedProduct(id, price, inStock, createdDate, score, categoryPath, terms);
+        }
+
+        boolean matches(Long categoryId, Integer minPrice, Integer maxPrice) {
+            if (minPrice != null && price < minPrice) {
+                return false;
+            }
+            if (maxPrice != null && price > maxPrice) {
+                return false;
+            }
+            if (categoryId == null) {
+                return true;
+            }
+            for (long id : categoryPath) {
+                if (id == categoryId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
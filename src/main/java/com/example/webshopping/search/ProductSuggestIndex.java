@@ -0,0 +1,278 @@
+package com.example.webshopping.search;
+
+import com.example.webshopping.dto.SuggestionDTO;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.event.ProductsImportedEvent;
+import com.example.webshopping.repository.ProductRepository;
+import com.example.webshopping.search.SuggestTrie.Suggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 자동완성 인덱스
+ * - 상품명 / 카테고리명을 접두어 트라이(SuggestTrie)로 보관, 각 노드에 상위 k개 완성 후보 캐시
+ * - 상품명은 단어 시작 위치마다 키로 등록 (예: "고어텍스 등산화" → "고어텍스 등산화", "등산화")
+ * - 인기 점수: 상품은 Product.popularityScore, 카테고리는 하위 카테고리 포함 상품 수
+ * - 애플리케이션 시작 시 전체 구성, 이후 상품 등록/수정/삭제 이벤트(커밋 후)로 증분 갱신
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ProductSuggestIndex {
+
+    private static final int TOP_K = 10;
+    private static final int MAX_CATEGORY_SUGGESTIONS = 3;
+    private static final int MAX_WORD_KEYS = 5;
+
+    private final ProductRepository productRepository;
+
+    private final SuggestTrie productTrie = new SuggestTrie(TOP_K);
+    private final SuggestTrie categoryTrie = new SuggestTrie(MAX_CATEGORY_SUGGESTIONS);
+
+    // 상품 ID → 색인 항목 (재색인/삭제 시 기존 키 제거용)
+    private final Map<Long, ProductEntry> products = new HashMap<>();
+
+    // 카테고리 ID → 이름 / 상품 수
+    private final Map<Long, String> categoryNames = new HashMap<>();
+    private final Map<Long, Integer> categoryCounts = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 애플리케이션 시작 시 전체 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Product> all = productRepository.findAllForSearchIndex();
+
+        lock.writeLock().lock();
+        try {
+            productTrie.clear();
+            categoryTrie.clear();
+            products.clear();
+            categoryNames.clear();
+            categoryCounts.clear();
+
+            for (Product product : all) {
+                ProductEntry entry = entryOf(product, scoreOf(product));
+                products.put(entry.id(), entry);
+                for (String key : keys(entry.name())) {
+                    productTrie.addWithoutRefresh(key, entry.suggestion());
+                }
+                for (long categoryId : entry.categoryPath()) {
+                    categoryCounts.merge(categoryId, 1, Integer::sum);
+                }
+            }
+            categoryCounts.forEach((categoryId, count) -> {
+                String name = categoryNames.get(categoryId);
+                categoryTrie.addWithoutRefresh(normalize(name), new Suggestion(categoryId, name, count));
+            });
+
+            productTrie.refreshAll();
+            categoryTrie.refreshAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("자동완성 색인 완료 - 상품 수: {}, 카테고리 수: {}, 소요: {}ms",
+                all.size(), categoryCounts.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 상품 변경 이벤트 처리 (트랜잭션 커밋 후 증분 갱신)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getProductId());
+            return;
+        }
+        productRepository.findForSearchIndex(event.getProductId())
+                .ifPresentOrElse(
+                        product -> index(product, scoreOf(product)),
+                        () -> remove(event.getProductId()));
+    }
+
+    /**
+     * 상품 대량 등록 후 전체 재색인 (상품마다 증분 색인하는 것보다 빠름)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 상품 색인 (이미 색인된 상품이면 교체)
+     */
+    public void index(Product product, long score) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(product.getId());
+
+            ProductEntry entry = entryOf(product, score);
+            products.put(entry.id(), entry);
+            for (String key : keys(entry.name())) {
+                productTrie.add(key, entry.suggestion());
+            }
+            adjustCategoryCounts(entry.categoryPath(), 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인에서 상품 제거
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 자동완성 조회
+     * @param query 입력 중인 검색어 (대소문자/연속 공백 무시)
+     * @param limit 상품 항목 최대 개수 (카테고리 항목은 최대 3개 별도)
+     * @return 카테고리 항목 → 상품 항목 순
+     */
+    public List<SuggestionDTO> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<SuggestionDTO> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Suggestion suggestion : categoryTrie.search(prefix, MAX_CATEGORY_SUGGESTIONS)) {
+                result.add(toDTO("CATEGORY", suggestion));
+            }
+            for (Suggestion suggestion : productTrie.search(prefix, Math.min(limit, TOP_K))) {
+                result.add(toDTO("PRODUCT", suggestion));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // ========== Helper Methods ==========
+
+    private void removeInternal(Long productId) {
+        ProductEntry entry = products.remove(productId);
+        if (entry == null) {
+            return;
+        }
+        for (String key : keys(entry.name())) {
+            productTrie.remove(key, productId);
+        }
+        adjustCategoryCounts(entry.categoryPath(), -1);
+    }
+
+    /**
+     * 카테고리 상품 수 변경 후 카테고리 항목 재등록 (상품이 없으면 제거)
+     */
+    private void adjustCategoryCounts(long[] categoryPath, int delta) {
+        for (long categoryId : categoryPath) {
+            String key = normalize(categoryNames.get(categoryId));
+            categoryTrie.remove(key, categoryId);
+
+            int count = categoryCounts.merge(categoryId, delta, Integer::sum);
+            if (count > 0) {
+                categoryTrie.add(key, new Suggestion(categoryId, categoryNames.get(categoryId), count));
+            } else {
+                categoryCounts.remove(categoryId);
+            }
+        }
+    }
+
+    /**
+     * 트라이 점수 (인기 점수 소수점 셋째자리까지 정수화)
+     */
+    private static long scoreOf(Product product) {
+        Double popularityScore = product.getPopularityScore();
+        return popularityScore != null ? Math.round(popularityScore * 1000) : 0L;
+    }
+
+    private ProductEntry entryOf(Product product, long score) {
+        List<Long> categoryPath = new ArrayList<>();
+        Category category = product.getCategory();
+        while (category != null && Hibernate.isInitialized(category)) {
+            categoryPath.add(category.getId());
+            rememberCategoryName(category.getId(), category.getName());
+            category = category.getParent();
+        }
+
+        String name = product.getProductName() != null ? product.getProductName() : "";
+        return new ProductEntry(product.getId(), name, score,
+                categoryPath.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * 카테고리 이름이 바뀌었으면 기존 이름의 카테고리 항목을 교체
+     */
+    private void rememberCategoryName(Long categoryId, String name) {
+        String previous = categoryNames.put(categoryId, name);
+        if (previous == null || previous.equals(name)) {
+            return;
+        }
+        categoryTrie.remove(normalize(previous), categoryId);
+        Integer count = categoryCounts.get(categoryId);
+        if (count != null && count > 0) {
+            categoryTrie.add(normalize(name), new Suggestion(categoryId, name, count));
+        }
+    }
+
+    /**
+     * 상품명 자동완성 키: 전체 이름 + 단어 시작 위치부터의 나머지 (최대 MAX_WORD_KEYS개)
+     */
+    private static List<String> keys(String name) {
+        String normalized = normalize(name);
+        List<String> keys = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0 && keys.size() < MAX_WORD_KEYS; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static SuggestionDTO toDTO(String type, Suggestion suggestion) {
+        return SuggestionDTO.builder()
+                .type(type)
+                .id(suggestion.id())
+                .text(suggestion.text())
+                .build();
+    }
+
+    private record ProductEntry(Long id, String name, long score, long[] categoryPath) {
+
+        Suggestion suggestion() {
+            return new Suggestion(id, name, score);
+        }
+    }
+}
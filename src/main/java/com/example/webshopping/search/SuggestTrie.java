@@ -0,0 +1,234 @@
+package com.example.webshopping.search;
+
+import java.util.*;
+
+/**
+ * 자동완성용 접두어 트라이
+ * - 자식 노드는 정렬된 char 배열 + 노드 배열로 보관 (HashMap 대비 메모리 절약)
+ * - 각 노드는 하위 전체에서 점수 상위 k개 완성 후보를 캐시하므로 조회는 접두어 길이만큼만 탐색
+ * - 추가/삭제 시 해당 키 경로의 노드만 상위 k개를 다시 계산
+ * - 노드 깊이는 MAX_DEPTH로 제한하고, 더 긴 키는 마지막 노드에 원래 키와 함께 보관
+ * - 동기화하지 않으므로 호출하는 쪽에서 잠금 필요
+ */
+class SuggestTrie {
+
+    static final int MAX_DEPTH = 10;
+
+    // 점수 높은 순 → 짧은 문구 → 문구 → ID
+    private static final Comparator<Suggestion> ORDER = Comparator
+            .comparingLong(Suggestion::score).reversed()
+            .thenComparingInt((Suggestion s) -> s.text().length())
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::id);
+
+    private final int topK;
+    private Node root = new Node();
+
+    SuggestTrie(int topK) {
+        this.topK = topK;
+    }
+
+    void add(String key, Suggestion suggestion) {
+        refresh(insert(key, suggestion), Math.min(key.length(), MAX_DEPTH));
+    }
+
+    /**
+     * 상위 k개 캐시를 갱신하지 않고 추가 (전체 구성 시 사용, 마지막에 refreshAll 호출)
+     */
+    void addWithoutRefresh(String key, Suggestion suggestion) {
+        insert(key, suggestion);
+    }
+
+    /**
+     * 전체 노드의 상위 k개 캐시 재계산 (하위 노드부터)
+     */
+    void refreshAll() {
+        for (Node child : root.children) {
+            refreshSubtree(child);
+        }
+    }
+
+    private Node[] insert(String key, Suggestion suggestion) {
+        int depth = Math.min(key.length(), MAX_DEPTH);
+        Node[] path = new Node[depth + 1];
+        path[0] = root;
+        for (int i = 0; i < depth; i++) {
+            path[i + 1] = path[i].childOrCreate(key.charAt(i));
+        }
+
+        Node node = path[depth];
+        if (node.terminals == null) {
+            node.terminals = new ArrayList<>(1);
+        }
+        node.terminals.add(new Terminal(key, suggestion));
+        return path;
+    }
+
+    void remove(String key, Long id) {
+        int depth = Math.min(key.length(), MAX_DEPTH);
+        Node[] path = new Node[depth + 1];
+        path[0] = root;
+        for (int i = 0; i < depth; i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node node = path[depth];
+        if (node.terminals == null
+                || !node.terminals.removeIf(t -> t.key().equals(key) && t.suggestion().id().equals(id))) {
+            return;
+        }
+        if (node.terminals.isEmpty()) {
+            node.terminals = null;
+        }
+
+        // 비어 있는 노드 정리
+        for (int i = depth; i >= 1 && path[i].isEmpty(); i--) {
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+        refresh(path, depth);
+    }
+
+    /**
+     * 접두어로 시작하는 완성 후보 (점수 순, 최대 limit개)
+     */
+    List<Suggestion> search(String prefix, int limit) {
+        if (prefix.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int depth = Math.min(prefix.length(), MAX_DEPTH);
+        Node node = root;
+        for (int i = 0; i < depth && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+
+        if (prefix.length() <= MAX_DEPTH) {
+            return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+        }
+
+        // 최대 깊이보다 긴 접두어는 마지막 노드의 원래 키로 필터링
+        if (node.terminals == null) {
+            return Collections.emptyList();
+        }
+        return distinctTop(node.terminals.stream()
+                .filter(t -> t.key().startsWith(prefix))
+                .map(Terminal::suggestion)
+                .toList(), limit);
+    }
+
+    void clear() {
+        root = new Node();
+    }
+
+    private void refreshSubtree(Node node) {
+        for (Node child : node.children) {
+            refreshSubtree(child);
+        }
+        node.refreshTop(topK);
+    }
+
+    private void refresh(Node[] path, int depth) {
+        // 루트는 빈 접두어용이므로 캐시하지 않음
+        for (int i = depth; i >= 1; i--) {
+            path[i].refreshTop(topK);
+        }
+    }
+
+    /**
+     * 같은 항목이 여러 키로 등록될 수 있으므로 ID 기준 중복 제거 후 상위 limit개
+     */
+    private static List<Suggestion> distinctTop(Collection<Suggestion> candidates, int limit) {
+        Map<Long, Suggestion> distinct = new HashMap<>();
+        for (Suggestion candidate : candidates) {
+            distinct.putIfAbsent(candidate.id(), candidate);
+        }
+        List<Suggestion> sorted = new ArrayList<>(distinct.values());
+        sorted.sort(ORDER);
+        return sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        List<Terminal> terminals;
+        Suggestion[] top = NO_SUGGESTIONS;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node node = new Node();
+
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = node;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            keys = newKeys;
+            children = newChildren;
+            return node;
+        }
+
+        void removeChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return terminals == null && children.length == 0;
+        }
+
+        void refreshTop(int k) {
+            List<Suggestion> candidates = new ArrayList<>();
+            if (terminals != null) {
+                for (Terminal terminal : terminals) {
+                    candidates.add(terminal.suggestion());
+                }
+            }
+            for (Node child : children) {
+                Collections.addAll(candidates, child.top);
+            }
+            top = distinctTop(candidates, k).toArray(NO_SUGGESTIONS);
+        }
+    }
+
+    /**
+     * 자동완성 항목 (id는 트라이 안에서 유일해야 함)
+     */
+    record Suggestion(Long id, String text, long score) {
+    }
+
+    private record Terminal(String key, Suggestion suggestion) {
+    }
+}
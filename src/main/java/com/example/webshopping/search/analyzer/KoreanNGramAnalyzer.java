@@ -0,0 +1,107 @@
+package com.example.webshopping.search.analyzer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한글 n-gram 분석기
+ * - 한글 음절 구간: 색인 시 2-gram + 3-gram, 검색 시 2-gram (복합어 중간 검색 지원)
+ *   예) "등산화" → 색인 [등산, 산화, 등산화] / 검색 "산화" → [산화]
+ * - 영문/숫자 구간: 소문자 변환 후 단어 단위 토큰
+ * - 불용어는 구간(단어) 단위로 제거
+ */
+public class KoreanNGramAnalyzer implements TextAnalyzer {
+
+    public static final Set<String> DEFAULT_STOP_WORDS = Set.of(
+            "a", "an", "the", "and", "or", "of", "for", "with", "in", "on", "to",
+            "및", "등", "또는", "용", "의"
+    );
+
+    private static final int NONE = 0;
+    private static final int HANGUL = 1;
+    private static final int ALNUM = 2;
+
+    private final Set<String> stopWords;
+
+    public KoreanNGramAnalyzer() {
+        this(DEFAULT_STOP_WORDS);
+    }
+
+    public KoreanNGramAnalyzer(Set<String> stopWords) {
+        this.stopWords = stopWords;
+    }
+
+    @Override
+    public List<String> analyze(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        split(text, tokens, false);
+        return tokens;
+    }
+
+    @Override
+    public List<String> analyzeQuery(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        split(text, tokens, true);
+        // 검색 토큰은 AND 조건이므로 중복 제거
+        return new ArrayList<>(new LinkedHashSet<>(tokens));
+    }
+
+    /**
+     * 문자 종류(한글 음절 / 영문·숫자 / 구분자)가 바뀌는 지점에서 구간을 나눔
+     */
+    private void split(String text, List<String> tokens, boolean query) {
+        StringBuilder run = new StringBuilder();
+        int runType = NONE;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int type = typeOf(c);
+
+            if (type != runType && run.length() > 0) {
+                emit(run.toString(), runType, tokens, query);
+                run.setLength(0);
+            }
+            runType = type;
+            if (type != NONE) {
+                run.append(type == ALNUM ? Character.toLowerCase(c) : c);
+            }
+        }
+        if (run.length() > 0) {
+            emit(run.toString(), runType, tokens, query);
+        }
+    }
+
+    private void emit(String run, int type, List<String> tokens, boolean query) {
+        if (stopWords.contains(run)) {
+            return;
+        }
+        if (type != HANGUL || run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+        if (!query) {
+            for (int i = 0; i + 3 <= run.length(); i++) {
+                tokens.add(run.substring(i, i + 3));
+            }
+        }
+    }
+
+    private static int typeOf(char c) {
+        if (c >= '가' && c <= '힣') {
+            return HANGUL;
+        }
+        return Character.isLetterOrDigit(c) ? ALNUM : NONE;
+    }
+}
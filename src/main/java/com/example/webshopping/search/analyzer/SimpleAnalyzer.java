@@ -0,0 +1,28 @@
+package com.example.webshopping.search.analyzer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 공백/특수문자 기준 단순 분석기
+ * - 소문자 변환 후 문자/숫자가 아닌 글자로 분리
+ * - 한글 복합어의 중간 부분("산화" → "등산화")은 찾지 못함
+ */
+public class SimpleAnalyzer implements TextAnalyzer {
+
+    @Override
+    public List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.webshopping.search.analyzer;
+
+import java.util.List;
+
+/**
+ * 검색용 텍스트 분석기
+ * - 색인할 텍스트와 검색어를 토큰 목록으로 변환
+ * - 구현체는 SearchConfig에서 search.analyzer 설정값으로 선택
+ */
+public interface TextAnalyzer {
+
+    /**
+     * 색인용 토큰 분석
+     */
+    List<String> analyze(String text);
+
+    /**
+     * 검색어용 토큰 분석 (기본: 색인과 동일)
+     * 검색 토큰은 모두 일치해야 하고(AND), 색인 토큰에 접두어로 일치하면 매칭
+     */
+    default List<String> analyzeQuery(String text) {
+        return analyze(text);
+    }
+}
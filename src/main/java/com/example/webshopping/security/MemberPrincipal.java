@@ -0,0 +1,38 @@
+package com.example.webshopping.security;
+
+import com.example.webshopping.constant.Role;
+import com.example.webshopping.entity.Members;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+/**
+ * 로그인 회원 인증 정보
+ * - 로그인 시 한 번 조회한 회원 ID/권한을 담아 세션(SecurityContext)에 저장
+ * - 컨트롤러는 @AuthenticationPrincipal UserDetails 그대로 받을 수 있음 (User 상속)
+ * - 권한 변경(판매자 승인 등)은 다시 로그인해야 반영됨 (기존 세션 인증과 동일)
+ * - 권한 확인은 hasRole로 세션 인증 정보의 권한만 사용 (SecurityConfig의 URL 권한 검사와 같은 기준)
+ */
+@Getter
+public class MemberPrincipal extends User {
+
+    private final Long memberId;
+    private final Role role;
+
+    public MemberPrincipal(Members member) {
+        super(member.getEmail(), member.getPassword(), List.of(new SimpleGrantedAuthority(member.getRole().name())));
+        this.memberId = member.getId();
+        this.role = member.getRole();
+    }
+
+    /**
+     * 로그인 사용자가 해당 권한을 가졌는지 (세션 인증 정보 기준)
+     */
+    public static boolean hasRole(UserDetails userDetails, Role role) {
+        return userDetails != null && userDetails.getAuthorities().stream()
+                .anyMatch(authority -> role.name().equals(authority.getAuthority()));
+    }
+}
@@ -1,11 +1,11 @@
 package com.example.webshopping.service;
 
+import com.example.webshopping.cache.MemberCache;
 import com.example.webshopping.dto.CartDTO;
 import com.example.webshopping.dto.CartItemDTO;
 import com.example.webshopping.entity.*;
 import com.example.webshopping.repository.CartItemRepository;
 import com.example.webshopping.repository.CartRepository;
-import com.example.webshopping.repository.MembersRepository;
 import com.example.webshopping.repository.ProductRepository;
 import com.example.webshopping.repository.ProductOptionRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -26,7 +26,7 @@ public class CartServiceImpl  implements CartService {
 
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
-    private final MembersRepository membersRepository;
+    private final MemberCache memberCache;
     private final CartItemRepository cartItemRepository;
     private final ProductOptionRepository productOptionRepository;
 
@@ -35,7 +35,7 @@ public class CartServiceImpl  implements CartService {
     public void addCart(String email, Long productId, Long productOptionId, Integer quantity) {
         //1. 사용자 확인
         Members members =
-            membersRepository.findByEmail(email);
+            memberCache.getReference(email);
 
         //2. 상품 확인
         Product product =
@@ -101,7 +101,7 @@ public class CartServiceImpl  implements CartService {
 
     public Cart getCart(String email) {
         Members members =
-            membersRepository.findByEmail(email);
+            memberCache.getReference(email);
         return cartRepository.findByMembers_Id(members.getId()).orElseThrow(() -> new EntityNotFoundException("장바구니가 비어있습니다."));
     }
 
@@ -109,7 +109,7 @@ public class CartServiceImpl  implements CartService {
     public int getCartItemCount(String email) {
         try {
             Members members =
-                    membersRepository.findByEmail(email);
+                    memberCache.getReference(email);
 
             Optional<Cart> cart =
                     cartRepository.findByMembers_Id(members.getId());
@@ -130,7 +130,7 @@ public class CartServiceImpl  implements CartService {
     @Override
     public CartDTO getCartDTO(String email) {
         Members members =
-            membersRepository.findByEmail(email);
+            memberCache.getReference(email);
 
         Optional<Cart> cartOptional =
                 cartRepository.findByMembers_Id(members.getId());
@@ -2,14 +2,19 @@ package com.example.webshopping.service;
 
 import com.example.webshopping.dto.CategoryDTO;
 import com.example.webshopping.entity.Category;
+import com.example.webshopping.event.CategoryChangedEvent;
 import com.example.webshopping.repository.CategoryRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,16 +24,25 @@ import java.util.stream.Collectors;
 public class CategoryServiceImpl implements CategoryService {
     
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @Transactional(readOnly = true)
     public List<CategoryDTO> getAllCategoriesWithHierarchy() {
-        // 대분류만 조회
-        List<Category> largeCategories = categoryRepository.findByParentIsNullAndIsActiveTrueOrderByDisplayOrderAsc();
+        // 활성 카테고리를 한 번에 조회해 부모별로 묶음 (카테고리마다 하위 카테고리를 조회하지 않음)
+        List<Category> largeCategories = new ArrayList<>();
+        Map<Long, List<Category>> childrenByParent = new HashMap<>();
+        for (Category category : categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc()) {
+            if (category.getParent() == null) {
+                largeCategories.add(category);
+            } else {
+                childrenByParent.computeIfAbsent(category.getParent().getId(), id -> new ArrayList<>()).add(category);
+            }
+        }
         
         // 재귀적으로 하위 카테고리 포함해서 DTO 변환
         return largeCategories.stream()
-                .map(this::convertToHierarchyDTO)
+                .map(category -> convertToHierarchyDTO(category, childrenByParent))
                 .collect(Collectors.toList());
     }
     
@@ -81,6 +95,7 @@ public class CategoryServiceImpl implements CategoryService {
         
         Category saved = categoryRepository.save(category);
         log.info("카테고리 생성 완료 - ID: {}, 이름: {}, Depth: {}", saved.getId(), saved.getName(), saved.getDepth());
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
         
         return convertToDTO(saved);
     }
@@ -112,6 +127,7 @@ public class CategoryServiceImpl implements CategoryService {
         
         Category updated = categoryRepository.save(category);
         log.info("카테고리 수정 완료 - ID: {}, 이름: {}", updated.getId(), updated.getName());
+        eventPublisher.publishEvent(new CategoryChangedEvent(updated.getId()));
         
         return convertToDTO(updated);
     }
@@ -129,6 +145,7 @@ public class CategoryServiceImpl implements CategoryService {
         
         categoryRepository.delete(category);
         log.info("카테고리 삭제 완료 - ID: {}, 이름: {}", id, category.getName());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
     
     @Override
@@ -140,6 +157,7 @@ public class CategoryServiceImpl implements CategoryService {
         categoryRepository.save(category);
         
         log.info("카테고리 상태 변경 완료 - ID: {}, 활성화: {}", id, category.getIsActive());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
     
     // ========== Helper Methods ==========
@@ -164,14 +182,14 @@ public class CategoryServiceImpl implements CategoryService {
     /**
      * Category 엔티티를 CategoryDTO로 변환 (계층 구조 포함)
      */
-    private CategoryDTO convertToHierarchyDTO(Category category) {
+    private CategoryDTO convertToHierarchyDTO(Category category, Map<Long, List<Category>> childrenByParent) {
         CategoryDTO dto = convertToDTO(category);
         
-        // 하위 카테고리 재귀 조회
-        List<Category> children = categoryRepository.findByParent_IdAndIsActiveTrueOrderByDisplayOrderAsc(category.getId());
+        // 하위 카테고리 재귀 변환
+        List<Category> children = childrenByParent.getOrDefault(category.getId(), List.of());
         if (!children.isEmpty()) {
             dto.setChildren(children.stream()
-                    .map(this::convertToHierarchyDTO)
+                    .map(child -> convertToHierarchyDTO(child, childrenByParent))
                     .collect(Collectors.toList()));
         }
         
@@ -2,19 +2,14 @@ package com.example.webshopping.service;
 
 import com.example.webshopping.entity.Members;
 import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.security.MemberPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 @Log4j2
@@ -35,17 +30,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         }
         log.info("회원 조회 성공" + members.getEmail());
 
-
-        //권한 설정
-        List<GrantedAuthority>authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority((members.getRole().name())));
-
-
-
-        return User.builder()
-                .username(members.getEmail())
-                .password(members.getPassword())
-                .authorities(authorities)
-                .build();
+        // 회원 ID/권한은 세션의 인증 정보에 보관 (이후 요청에서 이메일 조회 생략)
+        return new MemberPrincipal(members);
     }
 }
@@ -0,0 +1,16 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.dto.HomePageDTO;
+
+public interface HomePageService {
+
+    /**
+     * 메인 페이지 섹션 스냅샷 조회 (DB 조회 없음)
+     */
+    HomePageDTO getHomePage();
+
+    /**
+     * 스냅샷 즉시 재구성
+     */
+    void refresh();
+}
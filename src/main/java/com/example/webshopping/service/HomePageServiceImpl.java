@@ -0,0 +1,172 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.dto.HomeCategoryDTO;
+import com.example.webshopping.dto.HomePageDTO;
+import com.example.webshopping.dto.HomeProductDTO;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.entity.ProductRating;
+import com.example.webshopping.event.CategoryChangedEvent;
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.event.ProductsImportedEvent;
+import com.example.webshopping.event.ReviewChangedEvent;
+import com.example.webshopping.repository.CategoryRepository;
+import com.example.webshopping.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메인 페이지 섹션 캐시
+ * - 카테고리 / 오늘의 딜 / 인기 상품 / 신상품을 불변 스냅샷(HomePageDTO)으로 미리 구성
+ * - 별점/리뷰 수는 비정규화된 별점 집계(ProductRating)에서 읽음
+ * - 요청은 현재 스냅샷만 읽으므로 DB 조회 없음
+ * - 상품/리뷰/카테고리 변경 이벤트(커밋 후)는 갱신 필요 표시만 하고, 스케줄러가 모아서 한 번에 재구성
+ * - 주문/취소로 품절·재입고되면 ProductChangedEvent.stockChanged로 같은 갱신 필요 표시 (섹션은 재고 있는 상품만 노출)
+ * - 이벤트가 없는 변경(인기 점수 재계산 등)은 주기적 전체 갱신(home.refresh-interval-ms)으로 반영
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class HomePageServiceImpl implements HomePageService {
+
+    private static final int TODAY_DEALS_SIZE = 8;
+    private static final int CAROUSEL_SIZE = 12;
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final ProductRatingService productRatingService;
+
+    @Value("${home.refresh-interval-ms:60000}")
+    private long refreshIntervalMs;
+
+    private volatile HomePageDTO snapshot;
+    private volatile boolean stale;
+
+    @Override
+    public HomePageDTO getHomePage() {
+        HomePageDTO current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @Override
+    public synchronized void refresh() {
+        long start = System.currentTimeMillis();
+        stale = false;
+
+        List<Long> todayDealIds = productRepository.findTodayDealIds(PageRequest.of(0, TODAY_DEALS_SIZE));
+        List<Long> popularIds = productRepository.findPopularProductIds(PageRequest.of(0, CAROUSEL_SIZE));
+        List<Long> newIds = productRepository.findNewProductIds(PageRequest.of(0, CAROUSEL_SIZE));
+
+        // 세 섹션 상품을 한 번에 조회 (이미지 Fetch Join) + 별점 집계 테이블 한 번
+        Set<Long> allIds = new HashSet<>();
+        allIds.addAll(todayDealIds);
+        allIds.addAll(popularIds);
+        allIds.addAll(newIds);
+
+        Map<Long, Product> products = allIds.isEmpty() ? Map.of()
+                : productRepository.findAllWithImagesByIdIn(allIds).stream()
+                        .collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> a));
+        Map<Long, ProductRating> ratings = productRatingService.getRatings(allIds);
+
+        List<HomeCategoryDTO> categories = categoryRepository.findAll().stream()
+                .map(category -> HomeCategoryDTO.builder()
+                        .id(category.getId())
+                        .name(category.getName())
+                        .imageUrl(category.getImageUrl())
+                        .build())
+                .toList();
+
+        snapshot = HomePageDTO.builder()
+                .categories(categories)
+                .todayDeals(toSection(todayDealIds, products, ratings))
+                .popularProducts(toSection(popularIds, products, ratings))
+                .newProducts(toSection(newIds, products, ratings))
+                .refreshedAt(LocalDateTime.now())
+                .build();
+
+        log.info("메인 페이지 스냅샷 구성 완료 - 오늘의 딜: {}개, 인기 상품: {}개, 신상품: {}개, 소요: {}ms",
+                todayDealIds.size(), popularIds.size(), newIds.size(), System.currentTimeMillis() - start);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * 갱신 필요 표시 또는 갱신 주기 경과 시 재구성
+     */
+    @Scheduled(fixedDelayString = "${home.refresh-check-ms:2000}")
+    public void refreshIfStale() {
+        HomePageDTO current = snapshot;
+        if (current == null) {
+            return;
+        }
+        boolean expired = current.getRefreshedAt().plusNanos(refreshIntervalMs * 1_000_000).isBefore(LocalDateTime.now());
+        if (stale || expired) {
+            refresh();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        stale = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        stale = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        stale = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        stale = true;
+    }
+
+    // ========== Helper Methods ==========
+
+    private List<HomeProductDTO> toSection(List<Long> ids, Map<Long, Product> products, Map<Long, ProductRating> ratings) {
+        List<HomeProductDTO> section = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = products.get(id);
+            if (product != null) {
+                section.add(toDTO(product, ratings.get(id)));
+            }
+        }
+        return List.copyOf(section);
+    }
+
+    private HomeProductDTO toDTO(Product product, ProductRating rating) {
+        return HomeProductDTO.builder()
+                .id(product.getId())
+                .productName(product.getProductName())
+                .repImageUrl(product.getRepImageUrl())
+                .price(product.getPrice())
+                .discountPrice(product.getDiscountPrice())
+                .discountRate(product.getDiscountRate())
+                .averageRating(rating != null ? rating.getAverageRating() : 0.0)
+                .reviewCount(rating != null ? rating.getReviewCount() : 0L)
+                .build();
+    }
+}
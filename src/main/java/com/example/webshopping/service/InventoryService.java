@@ -0,0 +1,89 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.entity.Order;
+import com.example.webshopping.entity.OrderItem;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.entity.ProductOption;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 재고 서비스
+ * - SKU(상품 또는 상품 옵션)별 가용 재고를 메모리 카운터로 관리 (CAS 기반 예약/확정/해제)
+ * - 확정된 차감량은 모아서 조건부 UPDATE 배치로 DB에 반영 (write-behind)
+ */
+public interface InventoryService {
+
+    /**
+     * 재고 예약 (가용 재고가 부족하면 false, 예약하지 않음)
+     */
+    boolean reserve(Sku sku, int quantity);
+
+    /**
+     * 예약 확정 (DB 차감 대기열에 추가)
+     */
+    void commit(Sku sku, int quantity);
+
+    /**
+     * 예약 해제 (가용 재고로 되돌림)
+     */
+    void release(Sku sku, int quantity);
+
+    /**
+     * 재고 복구 (주문 취소 등, DB 증가 대기열에 추가)
+     */
+    void restock(Sku sku, int quantity);
+
+    /**
+     * 현재 가용 재고 (예약 중 수량 제외)
+     */
+    int getAvailable(Sku sku);
+
+    /**
+     * 현재 트랜잭션 커밋 후 예약 확정, 롤백 시 예약 해제 (트랜잭션이 없으면 즉시 확정)
+     */
+    void commitAfterTransaction(Map<Sku, Integer> quantities);
+
+    /**
+     * 현재 트랜잭션 커밋 후 재고 복구 (트랜잭션이 없으면 즉시 복구)
+     */
+    void restockAfterTransaction(Map<Sku, Integer> quantities);
+
+    /**
+     * 대기 중인 차감량을 DB에 반영
+     * @return 반영된 SKU 수
+     */
+    int flush();
+
+    /**
+     * 상품(옵션 포함) 카운터 폐기 - 다음 조회 시 DB에서 다시 적재
+     */
+    void invalidate(Long productId);
+
+    /**
+     * 주문 상품을 SKU별 수량으로 합산 (같은 SKU가 여러 줄이면 합계)
+     */
+    static Map<Sku, Integer> quantitiesOf(Order order) {
+        Map<Sku, Integer> quantities = new HashMap<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            quantities.merge(Sku.of(orderItem.getProduct(), orderItem.getProductOption()),
+                    orderItem.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * 재고 단위 - 옵션이 있으면 옵션 재고, 없으면 상품 재고
+     */
+    record Sku(Long productId, Long optionId) {
+
+        public static Sku of(Product product, ProductOption productOption) {
+            return new Sku(product.getId(), productOption != null ? productOption.getId() : null);
+        }
+
+        public boolean isOption() {
+            return optionId != null;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.repository.ProductOptionRepository;
+import com.example.webshopping.repository.ProductRepository;
+import com.example.webshopping.repository.StockDelta;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 재고 서비스 구현
+ * - available: SKU별 가용 재고 (DB 재고 - 미반영 차감량 - 예약 중 수량), 예약은 CAS 루프로 처리
+ * - reserved: 예약 중 수량 (카운터를 폐기해도 유지, 재적재 시 차감)
+ * - pending: 확정됐지만 아직 DB에 반영하지 않은 차감량 (음수면 복구량)
+ * - reserved/pending은 적재·반영 시에만 합산하므로 경합이 적은 LongAdder 사용
+ * - 주기적으로 pending을 "stock_quantity >= 차감량" 조건부 UPDATE 배치로 반영 (ProductRepository/ProductOptionRepository.decreaseStocks)
+ * - DB 재고 부족으로 반영하지 못한 차감량은 버리지 않고 pending에 남겨 재시도
+ * - 카운터 적재와 DB 반영은 같은 잠금으로 직렬화 (반영 도중 적재하면 차감량이 빠지므로)
+ * - 동시 실행 중 카운터가 재적재되는 경우에는 가용 재고를 적게 잡는 쪽으로 처리
+ * - 반영 후 상품 재고가 0을 지나가면(품절/재입고) ProductChangedEvent.stockChanged 발행 (검색/패싯 색인의 재고 여부 갱신)
+ *   트랜잭션 동기화 중(커밋 후 리스너 등)에 반영했으면 리스너가 호출되지 않을 수 있으므로 모아 두었다가
+ *   트랜잭션 밖의 다음 반영(스케줄러 스레드)에서 발행
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class InventoryServiceImpl implements InventoryService {
+
+    private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Sku, AtomicInteger> available = new ConcurrentHashMap<>();
+    private final Map<Sku, LongAdder> reserved = new ConcurrentHashMap<>();
+    private final Map<Sku, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // DB 재고 부족으로 차감을 반영하지 못해 재시도 중인 SKU (flushLock 안에서만 사용)
+    private final Set<Sku> backordered = new HashSet<>();
+
+    private final Object flushLock = new Object();
+
+    // 품절/재입고되어 변경 이벤트를 발행할 상품 ID (트랜잭션 밖에서 발행)
+    private final Queue<Long> stockChanged = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public boolean reserve(Sku sku, int quantity) {
+        validateQuantity(quantity);
+        AtomicInteger counter = counter(sku);
+        int current;
+        do {
+            current = counter.get();
+            if (current < quantity) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current - quantity));
+
+        countOf(reserved, sku).add(quantity);
+        return true;
+    }
+
+    @Override
+    public void commit(Sku sku, int quantity) {
+        validateQuantity(quantity);
+        // 차감량을 먼저 올려야 동시 적재 시 재고를 많게 잡지 않음
+        countOf(pending, sku).add(quantity);
+        countOf(reserved, sku).add(-quantity);
+    }
+
+    @Override
+    public void release(Sku sku, int quantity) {
+        validateQuantity(quantity);
+        AtomicInteger counter = available.get(sku);
+        if (counter != null) {
+            counter.addAndGet(quantity);
+        }
+        countOf(reserved, sku).add(-quantity);
+    }
+
+    @Override
+    public void restock(Sku sku, int quantity) {
+        validateQuantity(quantity);
+        AtomicInteger counter = available.get(sku);
+        if (counter != null) {
+            counter.addAndGet(quantity);
+        }
+        countOf(pending, sku).add(-quantity);
+    }
+
+    @Override
+    public int getAvailable(Sku sku) {
+        return counter(sku).get();
+    }
+
+    @Override
+    public void commitAfterTransaction(Map<Sku, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            quantities.forEach(this::commit);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    quantities.forEach(InventoryServiceImpl.this::commit);
+                } else {
+                    quantities.forEach(InventoryServiceImpl.this::release);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void restockAfterTransaction(Map<Sku, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            quantities.forEach(this::restock);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    quantities.forEach(InventoryServiceImpl.this::restock);
+                }
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${inventory.flush-interval-ms:200}")
+    public int flush() {
+        int flushed = flushPending();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishStockChanged();
+        }
+        return flushed;
+    }
+
+    /**
+     * 대기 중인 증감량 반영, 재고가 0을 지나간 상품은 이벤트 대기열에 추가
+     */
+    private int flushPending() {
+        synchronized (flushLock) {
+            List<Sku> productSkus = new ArrayList<>();
+            List<StockDelta> productDeltas = new ArrayList<>();
+            List<Sku> optionSkus = new ArrayList<>();
+            List<StockDelta> optionDeltas = new ArrayList<>();
+
+            pending.forEach((sku, delta) -> {
+                // 합계만큼 빼서 비움 (reset과 달리 합산 중 들어온 증감분을 잃지 않음)
+                int quantity = (int) delta.sum();
+                if (quantity == 0) {
+                    return;
+                }
+                delta.add(-quantity);
+                if (sku.isOption()) {
+                    optionSkus.add(sku);
+                    optionDeltas.add(new StockDelta(sku.optionId(), quantity));
+                } else {
+                    productSkus.add(sku);
+                    productDeltas.add(new StockDelta(sku.productId(), quantity));
+                }
+            });
+
+            if (productSkus.isEmpty() && optionSkus.isEmpty()) {
+                return 0;
+            }
+
+            boolean[] applied = applyBatch(productRepository::decreaseStocks, productSkus, productDeltas);
+            applyBatch(productOptionRepository::decreaseStocks, optionSkus, optionDeltas);
+            stockChanged.addAll(findStockCrossedZero(productDeltas, applied));
+
+            log.debug("재고 반영 - 상품: {}건, 옵션: {}건", productSkus.size(), optionSkus.size());
+            return productSkus.size() + optionSkus.size();
+        }
+    }
+
+    /**
+     * 품절/재입고 이벤트 발행 (잠금 밖에서, 색인이 상품을 다시 조회하는 동안 카운터 적재를 막지 않도록)
+     */
+    private void publishStockChanged() {
+        Long productId;
+        while ((productId = stockChanged.poll()) != null) {
+            eventPublisher.publishEvent(ProductChangedEvent.stockChanged(productId));
+        }
+    }
+
+    @Override
+    public void invalidate(Long productId) {
+        flush();
+        synchronized (flushLock) {
+            // 잠금 전 반영 이후 들어온 증감량은 그대로 pending에 남아 재적재 시 차감되므로 카운터만 폐기
+            available.keySet().removeIf(sku -> sku.productId().equals(productId));
+        }
+    }
+
+    /**
+     * 판매자가 재고를 직접 수정하면 메모리 카운터를 다시 적재 (재고 반영으로 발행한 이벤트는 제외)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isStockOnly()) {
+            return;
+        }
+        invalidate(event.getProductId());
+    }
+
+    /**
+     * 종료 시 남은 차감량 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 초기 재고 지정 (DB 없이 사용하는 테스트/벤치마크용)
+     */
+    void load(Sku sku, int stock) {
+        available.put(sku, new AtomicInteger(stock));
+    }
+
+    // ========== Helper Methods ==========
+
+    private AtomicInteger counter(Sku sku) {
+        AtomicInteger counter = available.get(sku);
+        if (counter != null) {
+            return counter;
+        }
+        synchronized (flushLock) {
+            return available.computeIfAbsent(sku, key -> new AtomicInteger(
+                    loadStock(key) - valueOf(pending, key) - valueOf(reserved, key)));
+        }
+    }
+
+    private int loadStock(Sku sku) {
+        return findStock(sku).orElse(0);
+    }
+
+    private Optional<Integer> findStock(Sku sku) {
+        return sku.isOption()
+                ? productOptionRepository.findStockQuantityById(sku.optionId())
+                : productRepository.findStockQuantityById(sku.productId());
+    }
+
+    /**
+     * 조건부 차감 배치 실행
+     * - 반영되지 않은 행은 DB 재고가 부족한 것이므로 차감량을 대기열에 되돌려 재입고 후 반영될 때까지 재시도하고,
+     *   카운터를 폐기해 "DB 재고 - 미반영 차감량"으로 다시 맞춤 (초과 판매분만큼 판매 중단)
+     * - 상품/옵션이 삭제되어 반영할 행이 없으면 차감량을 버림
+     * - 배치 자체가 실패하면 차감량을 대기열에 되돌려 다음 주기에 재시도
+     * @return 행별 반영 여부 (배치가 실패하면 모두 false)
+     */
+    private boolean[] applyBatch(Function<List<StockDelta>, boolean[]> decreaseStocks,
+                                 List<Sku> skus, List<StockDelta> deltas) {
+        if (skus.isEmpty()) {
+            return new boolean[0];
+        }
+        boolean[] applied;
+        try {
+            applied = decreaseStocks.apply(deltas);
+        } catch (DataAccessException e) {
+            log.error("재고 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            for (int i = 0; i < skus.size(); i++) {
+                countOf(pending, skus.get(i)).add(deltas.get(i).quantity());
+            }
+            return new boolean[skus.size()];
+        }
+
+        for (int i = 0; i < applied.length; i++) {
+            Sku sku = skus.get(i);
+            int quantity = deltas.get(i).quantity();
+            if (applied[i]) {
+                if (backordered.remove(sku)) {
+                    log.info("보류된 재고 차감 반영 완료 - SKU: {}", sku);
+                }
+                continue;
+            }
+
+            available.remove(sku);
+            Optional<Integer> stock = findStock(sku);
+            if (stock.isEmpty()) {
+                backordered.remove(sku);
+                log.warn("재고 반영 불가 (상품/옵션 삭제) - 차감량 폐기, SKU: {}, 수량: {}", sku, quantity);
+                continue;
+            }
+            countOf(pending, sku).add(quantity);
+            if (backordered.add(sku)) {
+                log.warn("재고 반영 보류 (DB 재고 부족) - 재입고 시까지 재시도, SKU: {}, 수량: {}, DB 재고: {}",
+                        sku, quantity, stock.get());
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 반영된 상품 중 재고가 0을 지나간(품절 또는 재입고) 상품 ID
+     * - 반영 후 재고를 한 번에 조회해 "반영 전 재고 = 반영 후 재고 + 차감량"과 재고 여부 비교
+     */
+    private List<Long> findStockCrossedZero(List<StockDelta> deltas, boolean[] applied) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (int i = 0; i < applied.length; i++) {
+            if (applied[i]) {
+                quantities.put(deltas.get(i).id(), deltas.get(i).quantity());
+            }
+        }
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> crossed = new ArrayList<>();
+        for (Object[] row : productRepository.findStockQuantitiesByIdIn(quantities.keySet())) {
+            Long productId = (Long) row[0];
+            int after = row[1] != null ? (Integer) row[1] : 0;
+            int before = after + quantities.get(productId);
+            if ((before > 0) != (after > 0)) {
+                crossed.add(productId);
+            }
+        }
+        return crossed;
+    }
+
+    private static LongAdder countOf(Map<Sku, LongAdder> counts, Sku sku) {
+        LongAdder count = counts.get(sku);
+        return count != null ? count : counts.computeIfAbsent(sku, key -> new LongAdder());
+    }
+
+    private static int valueOf(Map<Sku, LongAdder> counts, Sku sku) {
+        LongAdder count = counts.get(sku);
+        return count != null ? (int) count.sum() : 0;
+    }
+
+    private static void validateQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.constant.OrderStatus;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+
+public interface OrderExportService {
+
+    /**
+     * 내 상품 주문 CSV 내보내기 (주문 상품 1건당 1행, 최신 주문순)
+     * - 조회 결과를 모아 두지 않고 한 행씩 writer로 바로 씀 (기간과 무관하게 메모리 일정)
+     * @param status 주문 상태 (null이면 전체)
+     * @param startDate 주문일 시작 (null이면 제한 없음)
+     * @param endDate 주문일 끝 (null이면 제한 없음)
+     * @return 내보낸 행 수 (헤더 제외)
+     */
+    long exportMyProductOrders(String email, OrderStatus status, LocalDateTime startDate, LocalDateTime endDate,
+                               Writer writer) throws IOException;
+}
@@ -0,0 +1,114 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.dto.OrderExportRowDTO;
+import com.example.webshopping.entity.Members;
+import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.repository.OrderItemRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 주문 CSV 내보내기 서비스 구현
+ * - 주문 상품을 DTO로 DB 커서에서 스트림으로 읽어 한 행씩 바로 출력 (엔티티를 만들지 않아 영속성 컨텍스트도 비어 있음)
+ * - FLUSH_INTERVAL행마다 출력 버퍼를 내보내 응답이 바로 전송되도록 함
+ * - 엑셀에서 수식으로 실행되지 않도록 =, +, -, @, 탭, CR로 시작하는 값은 앞에 '를 붙임
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class OrderExportServiceImpl implements OrderExportService {
+
+    static final int FLUSH_INTERVAL = 500;
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String HEADER = "주문번호,주문일시,주문상태,결제상태,결제수단,주문자,받는 사람,연락처,배송지,배송 메시지,"
+            + "상품번호,상품명,옵션,수량,주문가격,합계\r\n";
+
+    private final OrderItemRepository orderItemRepository;
+    private final MembersRepository membersRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportMyProductOrders(String email, OrderStatus status, LocalDateTime startDate, LocalDateTime endDate,
+                                      Writer writer) throws IOException {
+        Members seller = membersRepository.findByEmail(email);
+        if (seller == null) {
+            throw new EntityNotFoundException("회원을 찾을 수 없습니다.");
+        }
+
+        long start = System.currentTimeMillis();
+        long rows = 0;
+
+        writer.write(HEADER);
+        try (Stream<OrderExportRowDTO> stream = orderItemRepository.streamSellerOrderRows(seller.getId(), status, startDate, endDate)) {
+            Iterator<OrderExportRowDTO> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writeRow(writer, iterator.next());
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("주문 CSV 내보내기 완료 - 판매자: {}, 행 수: {}, 소요: {}ms", email, rows, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    // ========== Helper Methods ==========
+
+    private static void writeRow(Writer writer, OrderExportRowDTO item) throws IOException {
+        StringBuilder row = new StringBuilder(256);
+        append(row, item.getOrderId());
+        append(row, item.getOrderDate() != null ? item.getOrderDate().format(DATE_TIME) : null);
+        append(row, item.getOrderStatus() != null ? item.getOrderStatus().getDescription() : null);
+        append(row, item.getPaymentStatus() != null ? item.getPaymentStatus().getDescription() : null);
+        append(row, item.getPaymentMethod() != null ? item.getPaymentMethod().getDescription() : null);
+        append(row, item.getMemberName());
+        append(row, item.getRecipientName());
+        append(row, item.getRecipientPhone());
+        append(row, item.getDeliveryAddress());
+        append(row, item.getDeliveryMessage());
+        append(row, item.getProductId());
+        append(row, item.getProductName());
+        append(row, item.getOptionType() != null ? item.getOptionType() + ": " + item.getOptionValue() : null);
+        append(row, item.getQuantity());
+        append(row, item.getOrderPrice());
+        append(row, item.getOrderPrice() * item.getQuantity());
+        row.setCharAt(row.length() - 1, '\r');
+        row.append('\n');
+        writer.write(row.toString());
+    }
+
+    /**
+     * CSV 값 추가 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 뒤에 쉼표)
+     * - =, +, -, @, 탭, CR로 시작하는 문자열은 앞에 '를 붙여 스프레드시트 수식 실행 방지
+     */
+    private static void append(StringBuilder row, Object value) {
+        if (value == null) {
+            row.append(',');
+            return;
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            row.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else {
+            row.append(text);
+        }
+        row.append(',');
+    }
+}
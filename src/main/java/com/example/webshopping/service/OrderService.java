@@ -4,6 +4,8 @@ import com.example.webshopping.constant.OrderStatus;
 import com.example.webshopping.dto.OrderRequestDTO;
 import com.example.webshopping.dto.OrderResponseDTO;
 import com.example.webshopping.dto.PaymentRequestDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -27,18 +29,20 @@ public interface OrderService {
     //주문 취소
     void cancelOrder(Long orderId);
 
-    List<OrderResponseDTO> getMyProductOrders(String email);
-
     void updateOrderStatus(Long orderId, OrderStatus newStatus);
 
-    List<OrderResponseDTO> getMyActiveOrders(String email);
-
-    List<OrderResponseDTO> getMyCompletedOrders(String email);
+    //판매자 주문 관리 검색 (검색어/상태/기간 필터, 정렬: latest / amount_desc / amount_asc)
+    Page<OrderResponseDTO> searchSellerOrders(Long sellerId, String keyword, OrderStatus status,
+                                              java.time.LocalDateTime startDate, java.time.LocalDateTime endDate,
+                                              String sortBy, Pageable pageable);
     
     // Order 엔티티를 DTO로 변환
     OrderResponseDTO convertToDTO(com.example.webshopping.entity.Order order);
-    
+
     // 특정 시간 이후 상태 변경된 주문 건수 조회
     Long countUpdatedOrders(Long memberId, java.time.LocalDateTime lastCheckedTime);
 
+    // 판매자 ID가 없는 주문 상품에 상품 등록자 ID 채우기 (한 번에 batchSize건, 채운 건수 반환)
+    int backfillSellerIds(int batchSize);
+
 }
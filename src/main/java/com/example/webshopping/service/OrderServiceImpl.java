@@ -1,22 +1,34 @@
 package com.example.webshopping.service;
 
+import com.example.webshopping.cache.MemberCache;
 import com.example.webshopping.constant.OrderStatus;
 import com.example.webshopping.constant.PaymentMethod;
+import com.example.webshopping.constant.PaymentStatus;
 import com.example.webshopping.dto.OrderItemDTO;
 import com.example.webshopping.dto.OrderRequestDTO;
 import com.example.webshopping.dto.OrderResponseDTO;
 import com.example.webshopping.dto.PaymentRequestDTO;
 import com.example.webshopping.dto.PaymentResponseDTO;
 import com.example.webshopping.entity.*;
+import com.example.webshopping.event.OrderPlacedEvent;
 import com.example.webshopping.repository.*;
+import com.example.webshopping.service.InventoryService.Sku;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,11 +38,13 @@ import java.util.stream.Collectors;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
-    private final MembersRepository membersRepository;
+    private final MemberCache memberCache;
     private final CartRepository cartRepository;
-    private final ProductRepository productRepository;
     private final PaymentService paymentService;
-    private final ProductOptionRepository productOptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InventoryService inventoryService;
+    private final StockReservationService stockReservationService;
+    private final OrderItemRepository orderItemRepository;
 
 
     @Override
@@ -40,11 +54,7 @@ public class OrderServiceImpl implements OrderService {
 
         // 1. 회원조회
         Members members =
-            membersRepository.findByEmail(email);
-
-        if (members == null) {
-            throw new EntityNotFoundException("회원을 찾을 수 없습니다.");
-        }
+            memberCache.getReference(email);
 
         // 2. 장바구니 조회
         Cart cart =
@@ -65,27 +75,14 @@ public class OrderServiceImpl implements OrderService {
 
         // 4. 장바구니 상품들을 주문 상품으로 변환
         for (CartItem cartItem : cart.getCartItems()) {
-            Product product = cartItem.getProduct();
-            ProductOption productOption = cartItem.getProductOption();
-
-            // 재고 확인 - 옵션이 있으면 옵션 재고, 없으면 상품 재고
-            int availableStock = productOption != null ? 
-                    productOption.getStockQuantity() : product.getStockQuantity();
-            
-            if (availableStock < cartItem.getQuantity()) {
-                String optionInfo = productOption != null ? 
-                        " (" + productOption.getOptionType() + ": " + productOption.getOptionValue() + ")" : "";
-                throw new IllegalStateException(
-                        product.getProductName() + optionInfo + "의 재고가 부족합니다. (현재 재고: "
-                                + availableStock + "개)"
-                );
-            }
-
-            // OrderItem 생성 (재고 차감 포함)
-            OrderItem orderItem = OrderItem.createOrderItem(product, productOption, cartItem.getQuantity());
+            OrderItem orderItem = OrderItem.createOrderItem(
+                    cartItem.getProduct(), cartItem.getProductOption(), cartItem.getQuantity());
             order.addOrderItem(orderItem);
-
         }
+
+        // 재고 예약 (커밋 시 차감 확정, 롤백 시 해제)
+        inventoryService.commitAfterTransaction(reserveStock(order));
+
         // 5. 총 금액 계산
         order.calculateTotalPrice();
 
@@ -96,6 +93,9 @@ public class OrderServiceImpl implements OrderService {
         cart.getCartItems().clear();
         cartRepository.save(cart);
 
+        // 판매량 집계 (커밋 후 반영)
+        publishOrderPlaced(order);
+
         log.info("✅ 일반 주문 생성 완료 - 주문번호: {}, 회원: {}", order.getId(), email);
 
         return order.getId();
@@ -107,10 +107,7 @@ public class OrderServiceImpl implements OrderService {
         log.info("✅ 결제용 주문 생성 시작 - 회원: {}", email);
         
         // 1. 회원조회
-        Members members = membersRepository.findByEmail(email);
-        if (members == null) {
-            throw new EntityNotFoundException("회원을 찾을 수 없습니다.");
-        }
+        Members members = memberCache.getReference(email);
         
         // 2. 장바구니 조회
         Cart cart = cartRepository.findByMembers_Id(members.getId())
@@ -134,31 +131,10 @@ public class OrderServiceImpl implements OrderService {
         order.setOrderId(orderId);
         
         // 4. 장바구니 상품들을 주문 상품으로 변환
+        // (판매자 ID/가격은 일반 주문과 같은 팩토리로 설정, 재고는 결제 대기 동안 홀드 후 결제 완료 시 차감)
         for (CartItem cartItem : cart.getCartItems()) {
-            Product product = cartItem.getProduct();
-            ProductOption productOption = cartItem.getProductOption();
-            
-            // 재고 확인 - 옵션이 있으면 옵션 재고, 없으면 상품 재고
-            int availableStock = productOption != null ? 
-                    productOption.getStockQuantity() : product.getStockQuantity();
-            
-            if (availableStock < cartItem.getQuantity()) {
-                String optionInfo = productOption != null ? 
-                        " (" + productOption.getOptionType() + ": " + productOption.getOptionValue() + ")" : "";
-                throw new IllegalStateException(
-                        product.getProductName() + optionInfo + "의 재고가 부족합니다. (현재 재고: "
-                                + availableStock + "개)"
-                );
-            }
-            
-            // OrderItem 생성 (재고는 결제 완료 후 차감)
-            int itemPrice = product.getDiscountPrice() + (productOption != null ? productOption.getAdditionalPrice() : 0);
-            OrderItem orderItem = OrderItem.builder()
-                    .product(product)
-                    .productOption(productOption)
-                    .orderPrice(itemPrice)
-                    .quantity(cartItem.getQuantity())
-                    .build();
+            OrderItem orderItem = OrderItem.createOrderItem(
+                    cartItem.getProduct(), cartItem.getProductOption(), cartItem.getQuantity());
             order.addOrderItem(orderItem);
         }
         
@@ -168,6 +144,9 @@ public class OrderServiceImpl implements OrderService {
         // 6. 주문 저장 (결제 전 상태)
         orderRepository.save(order);
         
+        // 7. 재고 예약 후 결제 대기 홀드 (reservation.ttl-seconds 안에 결제하지 않으면 해제)
+        stockReservationService.holdAfterTransaction(orderId, order.getId(), reserveStock(order));
+        
         log.info("✅ 결제용 주문 생성 완료 - DB ID: {}, 토스 OrderId: {}, 금액: {}", 
                  order.getId(), orderId, order.getTotalPrice());
         
@@ -179,18 +158,30 @@ public class OrderServiceImpl implements OrderService {
         
         log.info("✅ 결제 승인 처리 시작 - orderId: {}", paymentRequestDTO.getOrderId());
         
-        // 1. 토스페이먼츠 결제 승인 API 호출
-        PaymentResponseDTO paymentResponse = paymentService.confirmPayment(paymentRequestDTO);
-        
-        // 2. 주문 조회 (토스 orderId로 조회)
+        // 1. 주문 조회 (토스 orderId로 조회)
         Order order = orderRepository.findByOrderId(paymentRequestDTO.getOrderId())
                 .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
         
-        // 3. 결제 금액 검증
+        if (order.getOrderStatus() == OrderStatus.CANCELLED) {
+            throw new IllegalStateException("결제 시간이 만료되었거나 취소된 주문입니다.");
+        }
+        
+        // 2. 결제 금액 검증
         if (!order.getTotalPrice().equals(paymentRequestDTO.getAmount())) {
             throw new IllegalStateException("결제 금액이 일치하지 않습니다.");
         }
         
+        // 3. 홀드한 재고 확정 후 토스페이먼츠 결제 승인 API 호출
+        //    홀드가 없으면(만료 처리 중/취소됨) 결제하지 않음 - 홀드 확정과 만료는 CAS로 둘 중 하나만 성공하므로
+        //    위의 상태 확인 이후에 만료되어도 여기서 걸러짐 (재시작으로 사라진 홀드는 기동 시 복원)
+        //    승인 실패로 롤백되면 홀드 상태로 되돌림
+        //    승인 후 주문 반영이 롤백되면 승인된 결제를 취소 (재고는 홀드로 돌아가 만료 시 해제)
+        if (!stockReservationService.confirm(order.getOrderId())) {
+            throw new IllegalStateException("결제 시간이 만료되었거나 취소된 주문입니다.");
+        }
+        PaymentResponseDTO paymentResponse = paymentService.confirmPayment(paymentRequestDTO);
+        cancelPaymentOnRollback(paymentResponse.getPaymentKey());
+        
         // 4. 주문에 결제 정보 저장
         PaymentMethod paymentMethod = PaymentMethod.valueOf(paymentResponse.getMethod().toUpperCase());
         order.completePayment(
@@ -199,29 +190,17 @@ public class OrderServiceImpl implements OrderService {
                 paymentResponse.getTotalAmount()
         );
         
-        // 5. 재고 차감
-        for (OrderItem orderItem : order.getOrderItems()) {
-            if (orderItem.getProductOption() != null) {
-                // 옵션 재고 차감
-                ProductOption option = orderItem.getProductOption();
-                option.setStockQuantity(option.getStockQuantity() - orderItem.getQuantity());
-                productOptionRepository.save(option);
-            } else {
-                // 상품 재고 차감
-                Product product = orderItem.getProduct();
-                product.setStockQuantity(product.getStockQuantity() - orderItem.getQuantity());
-                productRepository.save(product);
-            }
-        }
-        
-        // 6. 장바구니 비우기
+        // 5. 장바구니 비우기
         Cart cart = cartRepository.findByMembers_Id(order.getMember().getId())
                 .orElseThrow(() -> new EntityNotFoundException("장바구니를 찾을 수 없습니다."));
         cart.getCartItems().clear();
         cartRepository.save(cart);
         
-        // 7. 주문 저장
+        // 6. 주문 저장
         orderRepository.save(order);
+
+        // 판매량 집계 (커밋 후 반영)
+        publishOrderPlaced(order);
         
         log.info("✅ 결제 승인 처리 완료 - 주문번호: {}, 결제키: {}", 
                  order.getId(), paymentResponse.getPaymentKey());
@@ -230,26 +209,21 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public OrderResponseDTO getOrder(Long orderId) {
-        Order order =
-            orderRepository.findById(orderId).orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
-
-        return convertToDTO(order);
+        List<OrderResponseDTO> orders = toDTOs(List.of(orderId));
+        if (orders.isEmpty()) {
+            throw new EntityNotFoundException("주문을 찾을 수 없습니다.");
+        }
+        return orders.get(0);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<OrderResponseDTO> getMyOrders(String email) {
         Members members =
-                membersRepository.findByEmail(email);
-        if (members == null) {
-            throw new EntityNotFoundException("회원을 찾을 수 없습니다.");
-
-        }
-        List<Order> orders = orderRepository.findByMember_IdOrderByOrderDateDesc(members.getId());
+                memberCache.getReference(email);
+        List<OrderResponseDTO> orders = orderRepository.findOrderDTOsByMemberId(members.getId());
 
-        return orders.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return withItems(orders);
     }
 
     @Override
@@ -257,9 +231,19 @@ public class OrderServiceImpl implements OrderService {
         Order order =
             orderRepository.findById(orderId).orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
 
+        // 재고가 차감된 주문은 복구 (일반 주문 또는 결제 완료된 결제 주문), 결제 전 주문은 홀드 해제
+        boolean active = order.getOrderStatus() != OrderStatus.CANCELLED;
+        boolean stockDeducted = order.getOrderId() == null || order.getPaymentStatus() == PaymentStatus.DONE;
+
         order.cancel();
         orderRepository.save(order);
 
+        if (active && stockDeducted) {
+            inventoryService.restockAfterTransaction(InventoryService.quantitiesOf(order));
+        } else if (active) {
+            stockReservationService.release(order.getOrderId());
+        }
+
         log.info("주문 취소 완료 - 주문번호: {}", orderId);
 
     }
@@ -270,6 +254,7 @@ public class OrderServiceImpl implements OrderService {
                 .map(item -> {
                     ProductOption option = item.getProductOption();
                     return OrderItemDTO.builder()
+                            .orderId(order.getId())
                             .orderItemId(item.getId())
                             .productId(item.getProduct().getId())
                             .productName(item.getProduct().getProductName())
@@ -280,6 +265,7 @@ public class OrderServiceImpl implements OrderService {
                             .productOptionId(option != null ? option.getId() : null)
                             .optionType(option != null ? option.getOptionType() : null)
                             .optionValue(option != null ? option.getOptionValue() : null)
+                            .additionalPrice(option != null ? option.getAdditionalPrice() : null)
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -306,14 +292,23 @@ public class OrderServiceImpl implements OrderService {
                 .build();
     }
 
+    /**
+     * 판매자 주문 관리 검색 (주문 ID 페이지 + 개수 + 주문 + 주문 상품, 페이지 크기와 무관하게 4회)
+     */
     @Override
     @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getMyProductOrders(String email) {
-        List<Order> orders = orderRepository.findOrdersByProductOwnerEmail(email);
-
-        return orders.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public Page<OrderResponseDTO> searchSellerOrders(Long sellerId, String keyword, OrderStatus status,
+                                                     LocalDateTime startDate, LocalDateTime endDate,
+                                                     String sortBy, Pageable pageable) {
+        Page<Long> idPage = switch (sortBy) {
+            case "amount_desc" -> orderRepository.searchOrderIdsByAmountDesc(
+                    sellerId, keyword, status, startDate, endDate, pageable);
+            case "amount_asc" -> orderRepository.searchOrderIdsByAmountAsc(
+                    sellerId, keyword, status, startDate, endDate, pageable);
+            default -> orderRepository.searchOrderIdsLatest(
+                    sellerId, keyword, status, startDate, endDate, pageable);
+        };
+        return new PageImpl<>(toDTOs(idPage.getContent()), pageable, idPage.getTotalElements());
     }
     //주문 상태 변경
     @Override
@@ -337,57 +332,17 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * 내 상품의 진행 중인 주문 조회 (CONFIRMED, PREPARING, SHIPPED)
+     * 판매자 ID가 없는 주문 상품에 상품 등록자 ID 채우기 (한 번에 batchSize건)
      */
     @Override
-    @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getMyActiveOrders(String email) {
-        log.info("======== getMyActiveOrders 호출 ========");
-        log.info("검색 이메일: {}", email);
-        
-        List<Order> orders = orderRepository.findOrdersByProductOwnerEmail(email);
-        log.info("Repository에서 조회된 주문 수: {}", orders.size());
-        
-        if (!orders.isEmpty()) {
-            log.info("조회된 주문 목록:");
-            orders.forEach(order -> 
-                log.info("  - 주문번호: {}, 상태: {}", order.getId(), order.getOrderStatus())
-            );
+    public int backfillSellerIds(int batchSize) {
+        List<Long> ids = orderItemRepository.findIdsWithoutSeller(PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
         }
-        
-        List<OrderResponseDTO> result = orders.stream()
-                .filter(order ->
-                        order.getOrderStatus() == OrderStatus.PENDING ||      // ← PENDING 추가!
-                        order.getOrderStatus() == OrderStatus.CONFIRMED ||
-                        order.getOrderStatus() == OrderStatus.PREPARING ||
-                        order.getOrderStatus() == OrderStatus.SHIPPED
-                )
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        
-        log.info("필터링 후 진행중 주문 수: {}", result.size());
-        log.info("======================================");
-        
-        return result;
+        return orderItemRepository.fillSellerIds(ids);
     }
 
-    /**
-     * 내 상품의 완료된 주문 조회 (DELIVERED, CANCELLED)
-     */
-    @Override
-    @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getMyCompletedOrders(String email) {
-        List<Order> orders = orderRepository.findOrdersByProductOwnerEmail(email);
-
-        return orders.stream()
-                .filter(order ->
-                        order.getOrderStatus() == OrderStatus.DELIVERED ||
-                                order.getOrderStatus() == OrderStatus.CANCELLED
-                )
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-    }
-    
     /**
      * 특정 시간 이후 상태 변경된 주문 건수 조회 (일반 사용자용)
      */
@@ -396,4 +351,105 @@ public class OrderServiceImpl implements OrderService {
     public Long countUpdatedOrders(Long memberId, java.time.LocalDateTime lastCheckedTime) {
         return orderRepository.countUpdatedOrdersByMember(memberId, lastCheckedTime);
     }
+
+    /**
+     * 주문 ID 목록 → DTO 목록 (ID 순서 유지, 없는 ID는 제외)
+     * - 주문 컬럼 1회 + 주문 상품/옵션/대표 이미지 1회, 주문 수와 무관하게 2회 조회
+     */
+    private List<OrderResponseDTO> toDTOs(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, OrderResponseDTO> orders = orderRepository.findOrderDTOsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(OrderResponseDTO::getOrderId, Function.identity()));
+
+        return withItems(orderIds.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 주문 DTO 목록에 주문 상품 DTO 채우기 (목록 전체를 한 번에 조회)
+     */
+    private List<OrderResponseDTO> withItems(List<OrderResponseDTO> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        Map<Long, OrderResponseDTO> byId = orders.stream()
+                .collect(Collectors.toMap(OrderResponseDTO::getOrderId, Function.identity()));
+        for (OrderItemDTO item : orderItemRepository.findItemDTOsByOrderIdIn(byId.keySet())) {
+            byId.get(item.getOrderId()).getItems().add(item);
+        }
+        return orders;
+    }
+
+    /**
+     * 주문 상품 재고 예약 (하나라도 부족하면 앞서 예약한 수량을 해제하고 예외)
+     * @return SKU별 예약 수량
+     */
+    private Map<Sku, Integer> reserveStock(Order order) {
+        List<OrderItem> reservedItems = new ArrayList<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            Sku sku = Sku.of(orderItem.getProduct(), orderItem.getProductOption());
+            if (!inventoryService.reserve(sku, orderItem.getQuantity())) {
+                for (OrderItem reservedItem : reservedItems) {
+                    inventoryService.release(
+                            Sku.of(reservedItem.getProduct(), reservedItem.getProductOption()),
+                            reservedItem.getQuantity());
+                }
+                throw new IllegalStateException(outOfStockMessage(
+                        orderItem.getProduct(), orderItem.getProductOption(), inventoryService.getAvailable(sku)));
+            }
+            reservedItems.add(orderItem);
+        }
+        return InventoryService.quantitiesOf(order);
+    }
+
+    private String outOfStockMessage(Product product, ProductOption productOption, int availableStock) {
+        String optionInfo = productOption != null ?
+                " (" + productOption.getOptionType() + ": " + productOption.getOptionValue() + ")" : "";
+        return product.getProductName() + optionInfo + "의 재고가 부족합니다. (현재 재고: "
+                + availableStock + "개)";
+    }
+
+    /**
+     * 결제 승인 후 트랜잭션이 롤백되면 승인된 결제를 취소 (보상 처리)
+     * - 취소도 실패하거나 커밋 여부를 알 수 없으면 결제와 주문이 어긋나므로 수동 확인용 오류 로그
+     */
+    private void cancelPaymentOnRollback(String paymentKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                if (status == STATUS_UNKNOWN) {
+                    log.error("결제 승인 후 주문 커밋 여부 확인 불가 - 수동 확인 필요, paymentKey: {}", paymentKey);
+                    return;
+                }
+                try {
+                    paymentService.cancelPayment(paymentKey, "주문 처리 실패로 인한 자동 취소");
+                    log.warn("결제 승인 후 주문 처리 실패 - 결제 취소 완료, paymentKey: {}", paymentKey);
+                } catch (RuntimeException e) {
+                    log.error("결제 승인 후 주문 처리 실패, 결제 취소도 실패 - 수동 확인 필요, paymentKey: {}", paymentKey, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 주문 확정 이벤트 발행 (상품별 주문 수량)
+     */
+    private void publishOrderPlaced(Order order) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            quantities.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
+        }
+        eventPublisher.publishEvent(new OrderPlacedEvent(order.getId(), quantities));
+    }
+
 }
@@ -25,8 +25,9 @@ public class PaymentServiceImpl implements PaymentService {
     @Value("${toss.payments.secret-key}")
     private String secretKey;
 
-    private static final String TOSS_CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
-    private static final String TOSS_CANCEL_URL = "https://api.tosspayments.com/v1/payments/";
+    // 토스페이먼츠 결제 API 주소 (부하 테스트 등 오프라인 환경에서는 로컬 스텁 서버로 교체)
+    @Value("${toss.payments.api-url:https://api.tosspayments.com/v1/payments}")
+    private String apiUrl;
 
     private final RestTemplate restTemplate = new RestTemplate();
 
@@ -49,7 +50,7 @@ public class PaymentServiceImpl implements PaymentService {
 
             // 토스페이먼츠 API 호출
             ResponseEntity<PaymentResponseDTO> response = restTemplate.exchange(
-                    TOSS_CONFIRM_URL,
+                    apiUrl + "/confirm",
                     HttpMethod.POST,
                     entity,
                     PaymentResponseDTO.class
@@ -82,7 +83,7 @@ public class PaymentServiceImpl implements PaymentService {
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
             // 토스페이먼츠 API 호출
-            String cancelUrl = TOSS_CANCEL_URL + paymentKey + "/cancel";
+            String cancelUrl = apiUrl + "/" + paymentKey + "/cancel";
             ResponseEntity<PaymentResponseDTO> response = restTemplate.exchange(
                     cancelUrl,
                     HttpMethod.POST,
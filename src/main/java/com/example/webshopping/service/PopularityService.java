@@ -0,0 +1,28 @@
+package com.example.webshopping.service;
+
+import java.util.Map;
+
+public interface PopularityService {
+
+    /**
+     * 상품 조회 기록 (메모리에 누적, 일괄 재계산 시 반영)
+     */
+    void recordView(Long productId);
+
+    /**
+     * 리뷰/별점 변경 후 해당 상품 인기 점수 재계산
+     */
+    void refreshScore(Long productId);
+
+    /**
+     * 주문 수량 누적 후 인기 점수 재계산
+     * @param quantities 상품 ID → 주문 수량
+     */
+    void addOrderVolume(Map<Long, Integer> quantities);
+
+    /**
+     * 전체 상품 인기 점수 재계산 (감쇠 적용, 최근 주문 재집계, 조회수 반영)
+     * @return 점수가 바뀐 상품 수
+     */
+    int recalculateAll();
+}
@@ -0,0 +1,251 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.constant.PaymentStatus;
+import com.example.webshopping.entity.ProductPopularity;
+import com.example.webshopping.entity.ProductRating;
+import com.example.webshopping.event.PopularityChangedEvent;
+import com.example.webshopping.repository.OrderItemRepository;
+import com.example.webshopping.repository.ProductPopularityRepository;
+import com.example.webshopping.repository.ProductRatingRepository;
+import com.example.webshopping.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 인기 점수 계산
+ * - 점수 = 리뷰(리뷰 수 로그 × 보정 평균 별점) + 최근 주문량(감쇠) + 조회수(감쇠), 각 항목은 log1p로 완만하게
+ * - 감쇠: 반감기(popularity.half-life-days, 기본 7일) 지수 감쇠, 주문은 최근 30일만 집계
+ * - 리뷰/주문 이벤트는 해당 상품만 즉시 재계산 (커밋 후 별도 트랜잭션)
+ * - 조회수는 메모리에 모았다가 일괄 재계산 때 반영, 일괄 재계산은 주문량도 OrderItem에서 다시 집계
+ * - 바뀐 점수는 PopularityChangedEvent로 발행 (검색 색인의 인기순 정렬 키 갱신)
+ */
+@Service
+@Log4j2
+@Transactional
+@RequiredArgsConstructor
+public class PopularityServiceImpl implements PopularityService {
+
+    static final double REVIEW_WEIGHT = 1.0;
+    static final double ORDER_WEIGHT = 2.0;
+    static final double VIEW_WEIGHT = 0.5;
+
+    // 베이지안 평균 별점 사전값 (리뷰가 적은 상품의 극단적인 평균 완화)
+    static final double PRIOR_RATING = 3.5;
+    static final double PRIOR_COUNT = 5;
+
+    private static final int ORDER_WINDOW_DAYS = 30;
+    private static final double SCORE_EPSILON = 1e-9;
+
+    private final ProductRepository productRepository;
+    private final ProductRatingRepository productRatingRepository;
+    private final ProductPopularityRepository productPopularityRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${popularity.half-life-days:7}")
+    private double halfLifeDays;
+
+    // 아직 반영되지 않은 조회수 (상품 ID → 조회수)
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordView(Long productId) {
+        pendingViews.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refreshScore(Long productId) {
+        ProductRating rating = productRatingRepository.findById(productId).orElse(null);
+        ProductPopularity popularity = productPopularityRepository.findById(productId).orElse(null);
+        double score = score(rating,
+                popularity != null ? popularity.getOrderScore() : 0,
+                popularity != null ? popularity.getViewScore() : 0);
+        productRepository.updatePopularityScore(productId, score);
+        eventPublisher.publishEvent(new PopularityChangedEvent(Map.of(productId, score)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void addOrderVolume(Map<Long, Integer> quantities) {
+        Map<Long, Double> scores = new HashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            // 다음 일괄 재계산 전까지는 감쇠 없이 누적 (재계산 주기 동안의 감쇠는 무시할 수준)
+            ProductPopularity popularity = lockOrCreate(productId);
+            popularity.addOrders(quantity);
+
+            ProductRating rating = productRatingRepository.findById(productId).orElse(null);
+            double score = score(rating, popularity.getOrderScore(), popularity.getViewScore());
+            productRepository.updatePopularityScore(productId, score);
+            scores.put(productId, score);
+        });
+        eventPublisher.publishEvent(new PopularityChangedEvent(scores));
+    }
+
+    @Override
+    public int recalculateAll() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, Double> orderScores = recentOrderScores(now);
+        Map<Long, Long> views = drainPendingViews();
+        restoreViewsOnRollback(views);
+        Map<Long, ProductRating> ratings = productRatingRepository.findAll().stream()
+                .collect(Collectors.toMap(ProductRating::getProductId, Function.identity()));
+        Map<Long, ProductPopularity> popularities = productPopularityRepository.findAll().stream()
+                .collect(Collectors.toMap(ProductPopularity::getProductId, Function.identity()));
+
+        Map<Long, Double> changedScores = new HashMap<>();
+        List<ProductPopularity> created = new ArrayList<>();
+        Set<Long> productIds = new HashSet<>();
+        for (Object[] row : productRepository.findAllPopularityScores()) {
+            Long productId = (Long) row[0];
+            Double current = (Double) row[1];
+            productIds.add(productId);
+
+            ProductPopularity popularity = popularities.get(productId);
+            double viewScore = views.getOrDefault(productId, 0L);
+            if (popularity != null) {
+                viewScore += popularity.getViewScore() * decay(popularity.getDecayedAt(), now);
+            }
+            double orderScore = orderScores.getOrDefault(productId, 0.0);
+
+            if (popularity != null) {
+                popularity.reset(orderScore, viewScore, now);
+            } else if (orderScore > 0 || viewScore > 0) {
+                ProductPopularity newPopularity = new ProductPopularity(productId);
+                newPopularity.reset(orderScore, viewScore, now);
+                created.add(newPopularity);
+            }
+
+            double score = score(ratings.get(productId), orderScore, viewScore);
+            if (current == null || Math.abs(current - score) > SCORE_EPSILON) {
+                changedScores.put(productId, score);
+            }
+        }
+        productRepository.updatePopularityScores(changedScores);
+        productPopularityRepository.saveAll(created);
+        if (!changedScores.isEmpty()) {
+            eventPublisher.publishEvent(new PopularityChangedEvent(changedScores));
+        }
+
+        // 삭제된 상품의 입력값 정리
+        List<Long> orphans = popularities.keySet().stream()
+                .filter(productId -> !productIds.contains(productId))
+                .toList();
+        if (!orphans.isEmpty()) {
+            productPopularityRepository.deleteAllByIdInBatch(orphans);
+        }
+
+        log.info("인기 점수 재계산 완료 - 상품 수: {}, 변경: {}, 소요: {}ms",
+                productIds.size(), changedScores.size(), System.currentTimeMillis() - start);
+        return changedScores.size();
+    }
+
+    /**
+     * 인기 점수
+     * @param rating 별점 집계 (리뷰 없으면 null)
+     * @param orderScore 감쇠 적용 주문 수량
+     * @param viewScore 감쇠 적용 조회수
+     */
+    static double score(ProductRating rating, double orderScore, double viewScore) {
+        double reviewScore = 0;
+        if (rating != null && rating.getReviewCount() > 0) {
+            double adjustedRating = (rating.getRatingSum() + PRIOR_RATING * PRIOR_COUNT)
+                    / (rating.getReviewCount() + PRIOR_COUNT);
+            reviewScore = Math.log1p(rating.getReviewCount()) * adjustedRating / 5.0;
+        }
+        return REVIEW_WEIGHT * reviewScore
+                + ORDER_WEIGHT * Math.log1p(Math.max(orderScore, 0))
+                + VIEW_WEIGHT * Math.log1p(Math.max(viewScore, 0));
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * 입력값 행 잠금 조회, 없으면 생성 후 다시 잠금 조회 (첫 주문)
+     * - 생성은 upsert라 동시에 첫 주문이 반영돼도 중복 키 오류 없이 같은 행을 차례로 잠금
+     */
+    private ProductPopularity lockOrCreate(Long productId) {
+        Optional<ProductPopularity> popularity = productPopularityRepository.findByIdForUpdate(productId);
+        if (popularity.isPresent()) {
+            return popularity.get();
+        }
+        productPopularityRepository.insertIfAbsent(productId);
+        return productPopularityRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new IllegalStateException("인기 점수 입력값 생성 실패 - 상품 ID: " + productId));
+    }
+
+    /**
+     * 최근 주문 수량 (주문일 기준 감쇠 적용 합계)
+     */
+    private Map<Long, Double> recentOrderScores(LocalDateTime now) {
+        Map<Long, Double> orderScores = new HashMap<>();
+        List<Object[]> rows = orderItemRepository.findRecentOrderVolumes(
+                now.minusDays(ORDER_WINDOW_DAYS), OrderStatus.CANCELLED, PaymentStatus.DONE);
+        for (Object[] row : rows) {
+            Long productId = (Long) row[0];
+            int quantity = ((Number) row[1]).intValue();
+            LocalDateTime orderDate = (LocalDateTime) row[2];
+            orderScores.merge(productId, quantity * decay(orderDate, now), Double::sum);
+        }
+        return orderScores;
+    }
+
+    private Map<Long, Long> drainPendingViews() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long productId : new ArrayList<>(pendingViews.keySet())) {
+            LongAdder adder = pendingViews.remove(productId);
+            if (adder != null) {
+                drained.put(productId, adder.sum());
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 꺼낸 조회수는 재계산 트랜잭션이 커밋되지 않으면 다시 합침 (다음 재계산 때 반영)
+     */
+    private void restoreViewsOnRollback(Map<Long, Long> views) {
+        if (views.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    views.forEach((productId, count) ->
+                            pendingViews.computeIfAbsent(productId, id -> new LongAdder()).add(count));
+                    log.warn("인기 점수 재계산 롤백 - 조회수 {}개 상품 복구", views.size());
+                }
+            }
+        });
+    }
+
+    /**
+     * from → to 경과 시간에 대한 감쇠 계수 (반감기마다 절반)
+     */
+    private double decay(LocalDateTime from, LocalDateTime to) {
+        if (from == null || !from.isBefore(to) || halfLifeDays <= 0) {
+            return 1.0;
+        }
+        double elapsedDays = Duration.between(from, to).toSeconds() / 86400.0;
+        return Math.pow(0.5, elapsedDays / halfLifeDays);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.dto.ProductImportResultDTO;
+import com.example.webshopping.importer.ProductImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ProductImportService {
+
+    /**
+     * 상품 대량 등록 (CSV / JSONL)
+     * - 파일을 한 행씩 읽어 일정 건수마다 별도 트랜잭션으로 저장 (파일 크기와 무관하게 메모리 일정)
+     * - 잘못된 행은 건너뛰고 줄 번호와 사유를 결과에 담음
+     * @param email 등록 판매자 이메일
+     */
+    ProductImportResultDTO importProducts(InputStream in, ProductImportFormat format, String email) throws IOException;
+}
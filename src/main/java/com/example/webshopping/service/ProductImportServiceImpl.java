@@ -0,0 +1,251 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.constant.ProductType;
+import com.example.webshopping.dto.ProductImportErrorDTO;
+import com.example.webshopping.dto.ProductImportResultDTO;
+import com.example.webshopping.dto.ProductImportRowDTO;
+import com.example.webshopping.dto.ProductOptionDTO;
+import com.example.webshopping.entity.*;
+import com.example.webshopping.event.ProductsImportedEvent;
+import com.example.webshopping.importer.ProductImportFormat;
+import com.example.webshopping.importer.ProductImportReader;
+import com.example.webshopping.repository.CategoryRepository;
+import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 대량 등록 서비스 구현
+ * - 카테고리는 시작 시 한 번 코드 → 엔티티 맵으로 적재해 행마다 조회하지 않음
+ * - 검증을 통과한 행을 CHUNK_SIZE건씩 모아 청크마다 트랜잭션 하나로 저장
+ *   (상품/이미지/옵션 ID는 pooled 시퀀스라 hibernate.jdbc.batch_size 단위 INSERT 배치로 나감)
+ * - 청크 저장 후 영속성 컨텍스트를 비워 OSIV 환경에서도 엔티티가 쌓이지 않음
+ * - 청크 저장이 실패하면 해당 청크만 한 행씩 다시 저장해 실패한 행을 찾아냄
+ * - 상품마다 변경 이벤트를 보내지 않고 끝난 뒤 ProductsImportedEvent 한 번만 발행
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ProductImportServiceImpl implements ProductImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_ERRORS = 1000;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final MembersRepository membersRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public ProductImportResultDTO importProducts(InputStream in, ProductImportFormat format, String email) throws IOException {
+        long start = System.currentTimeMillis();
+
+        Members member = membersRepository.findByEmail(email);
+        if (member == null) {
+            throw new EntityNotFoundException("회원을 찾을 수 없습니다.");
+        }
+        Map<String, Category> categories = categoryRepository.findAll().stream()
+                .filter(category -> category.getCode() != null)
+                .collect(Collectors.toMap(Category::getCode, Function.identity(), (first, second) -> first));
+
+        ImportProgress progress = new ImportProgress();
+        List<ProductImportReader.Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (ProductImportReader reader = ProductImportReader.open(in, format)) {
+            ProductImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                progress.totalRows++;
+                String error = row.isValid() ? validate(row.data(), categories) : row.error();
+                if (error != null) {
+                    progress.fail(row.lineNumber(), error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    saveChunk(chunk, categories, member, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, categories, member, progress);
+        }
+
+        long elapsedMs = System.currentTimeMillis() - start;
+        log.info("상품 대량 등록 완료 - 전체: {}건, 성공: {}건, 실패: {}건, 소요: {}ms",
+                progress.totalRows, progress.importedCount, progress.failedCount, elapsedMs);
+
+        // 검색/필터/자동완성 색인은 여기서 한 번에 다시 구성 (소요 시간에는 포함하지 않음)
+        if (progress.importedCount > 0) {
+            eventPublisher.publishEvent(new ProductsImportedEvent(progress.importedCount));
+        }
+
+        return ProductImportResultDTO.builder()
+                .totalRows(progress.totalRows)
+                .importedCount(progress.importedCount)
+                .failedCount(progress.failedCount)
+                .elapsedMs(elapsedMs)
+                .errors(progress.errors)
+                .build();
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * 청크 저장 (실패하면 한 행씩 다시 저장)
+     */
+    private void saveChunk(List<ProductImportReader.Row> chunk, Map<String, Category> categories,
+                           Members member, ImportProgress progress) {
+        try {
+            save(chunk.stream().map(row -> toProduct(row.data(), categories, member)).toList());
+            progress.importedCount += chunk.size();
+            return;
+        } catch (RuntimeException e) {
+            log.warn("상품 대량 등록 청크 저장 실패 - 한 행씩 재시도 ({}~{}행): {}",
+                    chunk.get(0).lineNumber(), chunk.get(chunk.size() - 1).lineNumber(), e.getMessage());
+        }
+
+        // 실패한 트랜잭션에서 ID가 채워진 엔티티는 재사용하지 않고 새로 만듦
+        for (ProductImportReader.Row row : chunk) {
+            try {
+                save(List.of(toProduct(row.data(), categories, member)));
+                progress.importedCount++;
+            } catch (RuntimeException e) {
+                progress.fail(row.lineNumber(), "저장 실패: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+    }
+
+    private void save(List<Product> products) {
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.saveAll(products);
+            productRepository.flush();
+            entityManager.clear();
+        });
+    }
+
+    /**
+     * 행 검증 (오류 메시지, 정상이면 null)
+     * - 저장 중 실패하면 청크 전체를 다시 저장해야 하므로 DB 제약에 걸릴 값은 미리 거름
+     */
+    private static String validate(ProductImportRowDTO row, Map<String, Category> categories) {
+        if (row.getCategoryCode() == null || row.getCategoryCode().isBlank()) {
+            return "카테고리 코드가 없습니다.";
+        }
+        if (!categories.containsKey(row.getCategoryCode())) {
+            return "존재하지 않는 카테고리 코드입니다: " + row.getCategoryCode();
+        }
+        if (row.getProductName() == null || row.getProductName().isBlank()) {
+            return "상품명이 없습니다.";
+        }
+        if (row.getProductName().length() > 255) {
+            return "상품명은 255자를 넘을 수 없습니다.";
+        }
+        if (row.getDescription() != null && row.getDescription().length() > 1000) {
+            return "상품 설명은 1000자를 넘을 수 없습니다.";
+        }
+        if (row.getPrice() == null || row.getPrice() < 0) {
+            return "가격은 0 이상이어야 합니다.";
+        }
+        if (row.getStockQuantity() != null && row.getStockQuantity() < 0) {
+            return "재고는 0 이상이어야 합니다.";
+        }
+        if (row.getDiscountRate() != null && (row.getDiscountRate() < 0 || row.getDiscountRate() > 100)) {
+            return "할인율은 0~100 사이여야 합니다.";
+        }
+        if (row.getProductType() != null && !isProductType(row.getProductType())) {
+            return "알 수 없는 상품 타입입니다: " + row.getProductType();
+        }
+        if (row.getOptions() != null) {
+            for (ProductOptionDTO option : row.getOptions()) {
+                if (option.getOptionType() == null || option.getOptionType().isBlank()
+                        || option.getOptionValue() == null || option.getOptionValue().isBlank()) {
+                    return "옵션 타입과 값은 필수입니다.";
+                }
+                if (option.getStockQuantity() != null && option.getStockQuantity() < 0) {
+                    return "옵션 재고는 0 이상이어야 합니다.";
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isProductType(String value) {
+        try {
+            ProductType.valueOf(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static Product toProduct(ProductImportRowDTO row, Map<String, Category> categories, Members member) {
+        Product product = Product.builder()
+                .productName(row.getProductName())
+                .price(row.getPrice())
+                .stockQuantity(row.getStockQuantity() != null ? row.getStockQuantity() : 0)
+                .description(row.getDescription())
+                .discountRate(row.getDiscountRate())
+                .productType(row.getProductType() != null ? ProductType.valueOf(row.getProductType()) : null)
+                .category(categories.get(row.getCategoryCode()))
+                .members(member)
+                .build();
+
+        List<String> imageUrls = row.getImageUrls() != null ? row.getImageUrls() : List.of();
+        for (int i = 0; i < imageUrls.size(); i++) {
+            product.addImage(ProductImage.builder()
+                    .imageUrl(imageUrls.get(i))
+                    .repImgYn(i == 0 ? "Y" : "N")
+                    .imageOrder(i)
+                    .build());
+        }
+
+        List<ProductOptionDTO> options = row.getOptions() != null ? row.getOptions() : List.of();
+        for (int i = 0; i < options.size(); i++) {
+            ProductOptionDTO option = options.get(i);
+            product.addOption(ProductOption.builder()
+                    .optionType(option.getOptionType())
+                    .optionValue(option.getOptionValue())
+                    .stockQuantity(option.getStockQuantity() != null ? option.getStockQuantity() : 0)
+                    .additionalPrice(option.getAdditionalPrice() != null ? option.getAdditionalPrice() : 0)
+                    .displayOrder(option.getDisplayOrder() != null ? option.getDisplayOrder() : i)
+                    .isActive(true)
+                    .build());
+        }
+        return product;
+    }
+
+    /**
+     * 진행 상황 집계 (실패 행은 MAX_ERRORS건까지만 보관)
+     */
+    private static final class ImportProgress {
+        private long totalRows;
+        private long importedCount;
+        private long failedCount;
+        private final List<ProductImportErrorDTO> errors = new ArrayList<>();
+
+        private void fail(long lineNumber, String message) {
+            failedCount++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new ProductImportErrorDTO(lineNumber, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.entity.ProductRating;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProductRatingService {
+
+    /**
+     * 리뷰 작성 반영 (호출한 트랜잭션에서 갱신)
+     */
+    void reviewCreated(Long productId, int rating);
+
+    /**
+     * 리뷰 별점 수정 반영
+     */
+    void reviewUpdated(Long productId, int oldRating, int newRating);
+
+    /**
+     * 리뷰 삭제 반영
+     */
+    void reviewDeleted(Long productId, int rating);
+
+    /**
+     * 상품 별점 집계 조회 (리뷰 없으면 0건 집계)
+     */
+    ProductRating getRating(Long productId);
+
+    /**
+     * 여러 상품 별점 집계 조회 (상품 ID → 집계, 리뷰 없는 상품은 제외)
+     */
+    Map<Long, ProductRating> getRatings(Collection<Long> productIds);
+
+    /**
+     * 리뷰 테이블로 전체 집계 재구성
+     * @return 집계가 있는 상품 수
+     */
+    int rebuildAll();
+}
@@ -0,0 +1,103 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.entity.ProductRating;
+import com.example.webshopping.repository.ProductRatingRepository;
+import com.example.webshopping.repository.ReviewRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Log4j2
+public class ProductRatingServiceImpl implements ProductRatingService {
+
+    // 리뷰가 없어진 상품 집계 삭제 시 한 번에 지우는 ID 수 (IN 절 크기 제한)
+    static final int DELETE_CHUNK_SIZE = 500;
+
+    private final ProductRatingRepository productRatingRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Override
+    public void reviewCreated(Long productId, int rating) {
+        lockOrCreate(productId).addRating(rating);
+    }
+
+    @Override
+    public void reviewUpdated(Long productId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        lockOrCreate(productId).changeRating(oldRating, newRating);
+    }
+
+    @Override
+    public void reviewDeleted(Long productId, int rating) {
+        lockOrCreate(productId).removeRating(rating);
+    }
+
+    @Override
+    public ProductRating getRating(Long productId) {
+        return productRatingRepository.findById(productId)
+                .orElseGet(() -> new ProductRating(productId));
+    }
+
+    @Override
+    public Map<Long, ProductRating> getRatings(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRatingRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(ProductRating::getProductId, Function.identity()));
+    }
+
+    @Override
+    public int rebuildAll() {
+        long start = System.currentTimeMillis();
+
+        Map<Long, ProductRating> rebuilt = new HashMap<>();
+        for (Object[] row : reviewRepository.countGroupByProductAndRating()) {
+            Long productId = (Long) row[0];
+            int rating = ((Number) row[1]).intValue();
+            long count = ((Number) row[2]).longValue();
+
+            rebuilt.computeIfAbsent(productId, ProductRating::new).addRatings(rating, count);
+        }
+
+        // 기존 행은 값만 교체 (merge), 리뷰가 없어진 상품은 나눠서 삭제
+        productRatingRepository.saveAll(rebuilt.values());
+        List<Long> orphans = productRatingRepository.findAllProductIds().stream()
+                .filter(productId -> !rebuilt.containsKey(productId))
+                .toList();
+        for (int from = 0; from < orphans.size(); from += DELETE_CHUNK_SIZE) {
+            productRatingRepository.deleteAllByIdInBatch(
+                    orphans.subList(from, Math.min(from + DELETE_CHUNK_SIZE, orphans.size())));
+        }
+
+        log.info("별점 집계 재구성 완료 - 상품 수: {}, 삭제: {}, 소요: {}ms",
+                rebuilt.size(), orphans.size(), System.currentTimeMillis() - start);
+        return rebuilt.size();
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * 집계 행 잠금 조회, 없으면 생성 후 다시 잠금 조회 (첫 리뷰)
+     * - 생성은 upsert라 동시에 첫 리뷰가 들어와도 중복 키 오류 없이 같은 행을 차례로 잠금
+     */
+    private ProductRating lockOrCreate(Long productId) {
+        Optional<ProductRating> rating = productRatingRepository.findByIdForUpdate(productId);
+        if (rating.isPresent()) {
+            return rating.get();
+        }
+        productRatingRepository.insertIfAbsent(productId);
+        return productRatingRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new IllegalStateException("별점 집계 생성 실패 - 상품 ID: " + productId));
+    }
+}
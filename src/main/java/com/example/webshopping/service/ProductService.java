@@ -1,6 +1,7 @@
 package com.example.webshopping.service;
 
 import com.example.webshopping.dto.ProductDTO;
+import com.example.webshopping.dto.ProductSliceDTO;
 import com.example.webshopping.entity.Product;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -22,4 +23,20 @@ public interface ProductService {
     List<Product> getAllProducts();
 
     void delete(Long id);
+
+    /*카테고리별 상품 목록 (키셋 페이지네이션, 무한 스크롤)
+     * cursor: 이전 응답의 nextCursor (첫 페이지면 null)
+     * */
+    ProductSliceDTO getCategorySlice(Long categoryId, Integer minPrice, Integer maxPrice, String sortBy,
+                                     String cursor, int size, boolean withTotal);
+
+    /*상품 검색 결과 (키셋 페이지네이션, 무한 스크롤)
+     * */
+    ProductSliceDTO searchSlice(String keyword, Long categoryId, Integer minPrice, Integer maxPrice, String sortBy,
+                                String cursor, int size, boolean withTotal);
+
+    /*ID 순서대로 상품 조회 (이미지/카테고리 Fetch Join, 없는 ID는 제외)
+     * 검색 색인/키셋 조회로 정렬한 ID 목록을 그 순서 그대로 로딩할 때 사용
+     * */
+    List<Product> getProductsInOrder(List<Long> ids);
 }
@@ -1,22 +1,34 @@
 package com.example.webshopping.service;
 
+import com.example.webshopping.cache.CategorySubtreeCache;
 import com.example.webshopping.dto.CategoryDTO;
+import com.example.webshopping.dto.ProductCursor;
 import com.example.webshopping.dto.ProductDTO;
 import com.example.webshopping.dto.ProductOptionDTO;
+import com.example.webshopping.dto.ProductSliceDTO;
 import com.example.webshopping.entity.*;
+import com.example.webshopping.event.ProductChangedEvent;
 import com.example.webshopping.repository.*;
+import com.example.webshopping.search.ProductFacetIndex;
+import com.example.webshopping.search.ProductSearchIndex;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Log4j2
@@ -32,6 +44,13 @@ public class ProductServiceImpl implements ProductService {
     private final MembersRepository membersRepository;
     private final ProductDetailRepository productDetailRepository;
     private final CartItemRepository cartItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final CategorySubtreeCache categorySubtreeCache;
+
+    // 키셋 첫 페이지용 시작 키 (모든 상품보다 앞선 값)
+    private static final LocalDateTime MAX_CREATED_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
 
 
@@ -101,6 +120,9 @@ public class ProductServiceImpl implements ProductService {
             log.info("상품 상세 정보 저장 완료 - Product ID: {}", savedProduct.getId());
         }
         
+        // ✅ 검색 색인 갱신 (커밋 후 반영)
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct.getId()));
+
         log.info("상품 등록 완료 - ID: {}, 타입: {}, 옵션 수: {}", 
                 savedProduct.getId(), 
                 savedProduct.getProductType(),
@@ -131,6 +153,8 @@ public class ProductServiceImpl implements ProductService {
         //저장
         productRepository.save(product);
 
+        //검색 색인 갱신 (커밋 후 반영)
+        eventPublisher.publishEvent(ProductChangedEvent.saved(id));
     }
 
     private void handleImageUpdate(Product product, MultipartFile mainImageFile, List<MultipartFile> detailImageFiles,
@@ -230,7 +254,143 @@ public class ProductServiceImpl implements ProductService {
         
         // 상품 삭제
         productRepository.delete(product);
+
+        // 검색 색인에서 제거 (커밋 후 반영)
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
         
         log.info("상품 삭제 완료 - Product ID: {}, 상품명: {}", id, product.getProductName());
     }
+
+    @Override
+    public ProductSliceDTO getCategorySlice(Long categoryId, Integer minPrice, Integer maxPrice, String sortBy,
+                                            String cursor, int size, boolean withTotal) {
+        ProductCursor after = decodeCursor(cursor, sortBy);
+        List<Long> categoryIds = categorySubtreeCache.getSubtreeIds(categoryId);
+
+        // 재고 있는 상품 구간 → 품절 상품 구간 순으로 이어서 조회 (다음 페이지 확인용 1건 추가)
+        List<ProductCursor> keys = new ArrayList<>();
+        if (after == null || after.isInStock()) {
+            keys.addAll(findKeysAfter(categoryIds, minPrice, maxPrice, sortBy, true, after, size + 1));
+        }
+        if (keys.size() <= size) {
+            ProductCursor outOfStockAfter = (after != null && !after.isInStock()) ? after : null;
+            keys.addAll(findKeysAfter(categoryIds, minPrice, maxPrice, sortBy, false, outOfStockAfter, size + 1 - keys.size()));
+        }
+
+        boolean hasNext = keys.size() > size;
+        List<ProductCursor> pageKeys = hasNext ? keys.subList(0, size) : keys;
+        List<Product> products = getProductsInOrder(pageKeys.stream().map(ProductCursor::getId).collect(Collectors.toList()));
+
+        // 다음 커서는 조회 시점의 정렬 키로 생성 (상품을 다시 읽는 사이 재고/가격이 바뀌어도 구간이 어긋나지 않도록)
+        String nextCursor = hasNext ? pageKeys.get(pageKeys.size() - 1).encode() : null;
+
+        return ProductSliceDTO.builder()
+                .items(products.stream().map(this::toListItem).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .approximateTotal(withTotal
+                        ? (long) productFacetIndex.facets(null, categoryId, minPrice, maxPrice, false, false).getTotalCount()
+                        : null)
+                .build();
+    }
+
+    @Override
+    public ProductSliceDTO searchSlice(String keyword, Long categoryId, Integer minPrice, Integer maxPrice, String sortBy,
+                                       String cursor, int size, boolean withTotal) {
+        ProductSearchIndex.SearchSlice slice = productSearchIndex.searchAfter(
+                keyword, categoryId, minPrice, maxPrice, sortBy, decodeCursor(cursor, sortBy), size);
+
+        List<Long> ids = slice.hits().stream().map(ProductCursor::getId).collect(Collectors.toList());
+        String nextCursor = slice.hasNext() ? slice.hits().get(slice.hits().size() - 1).encode() : null;
+
+        return ProductSliceDTO.builder()
+                .items(getProductsInOrder(ids).stream().map(this::toListItem).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .approximateTotal(withTotal ? (long) slice.total() : null)
+                .build();
+    }
+
+    @Override
+    public List<Product> getProductsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Product> productMap = productRepository.findAllWithImagesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return ids.stream()
+                .map(productMap::get)
+                .filter(product -> product != null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 커서 해석 (정렬 기준이 다른 커서는 거부)
+     */
+    private ProductCursor decodeCursor(String cursor, String sortBy) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        ProductCursor decoded = ProductCursor.decode(cursor);
+        if (!sortBy.equals(decoded.getSortBy())) {
+            throw new IllegalArgumentException("정렬 기준이 커서와 다릅니다.");
+        }
+        return decoded;
+    }
+
+    /**
+     * 재고 구간 하나에서 커서 다음 상품의 정렬 키 조회
+     */
+    private List<ProductCursor> findKeysAfter(List<Long> categoryIds, Integer minPrice, Integer maxPrice, String sortBy,
+                                              boolean inStock, ProductCursor after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        Long id = after != null ? after.getId() : Long.MAX_VALUE;
+
+        List<Object[]> rows = switch (sortBy) {
+            case "price_asc" -> productRepository.findKeysByCategoryPriceAscAfter(categoryIds, minPrice, maxPrice,
+                    inStock, after != null ? parseCursorValue(after, Integer::valueOf) : Integer.MIN_VALUE, id, page);
+            case "price_desc" -> productRepository.findKeysByCategoryPriceDescAfter(categoryIds, minPrice, maxPrice,
+                    inStock, after != null ? parseCursorValue(after, Integer::valueOf) : Integer.MAX_VALUE, id, page);
+            // 값이 빈 인기순 커서 = 인기 점수가 아직 없는(NULL) 상품 구간
+            case "popular" -> productRepository.findKeysByCategoryPopularAfter(categoryIds, minPrice, maxPrice, inStock,
+                    after == null ? Double.MAX_VALUE : after.getValue() == null ? null : parseCursorValue(after, Double::valueOf),
+                    id, page);
+            default -> productRepository.findKeysByCategoryLatestAfter(categoryIds, minPrice, maxPrice,
+                    inStock, after != null ? parseCursorValue(after, LocalDateTime::parse) : MAX_CREATED_DATE, id, page);
+        };
+
+        // 인기 점수가 아직 없는 상품은 빈 값으로 인코딩 (0점으로 쓰면 다음 조회 조건에서 NULL 행이 빠짐)
+        return rows.stream()
+                .map(row -> new ProductCursor(sortBy, inStock, row[1] != null ? String.valueOf(row[1]) : null, (Long) row[0]))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 커서의 정렬 값 해석 (형식 오류만 잘못된 커서로 처리, 조회 중 DB 오류는 그대로 전파)
+     */
+    private static <T> T parseCursorValue(ProductCursor cursor, Function<String, T> parser) {
+        if (cursor.getValue() == null) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        try {
+            return parser.apply(cursor.getValue());
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private ProductDTO toListItem(Product product) {
+        return ProductDTO.builder()
+                .id(product.getId())
+                .productName(product.getProductName())
+                .price(product.getPrice())
+                .stockQuantity(product.getStockQuantity())
+                .discountRate(product.getDiscountRate())
+                .repImageUrl(product.getRepImageUrl())
+                .categoryId(product.getCategory() != null ? product.getCategory().getId() : null)
+                .categoryName(product.getCategory() != null ? product.getCategory().getName() : null)
+                .createdAt(product.getCreatedDate())
+                .build();
+    }
 }
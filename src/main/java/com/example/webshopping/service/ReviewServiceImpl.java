@@ -1,16 +1,19 @@
 package com.example.webshopping.service;
 
+import com.example.webshopping.cache.MemberCache;
+import com.example.webshopping.cache.MemberCache.CachedMember;
 import com.example.webshopping.dto.ReviewDTO;
 import com.example.webshopping.entity.Members;
 import com.example.webshopping.entity.Product;
 import com.example.webshopping.entity.Review;
-import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.event.ReviewChangedEvent;
 import com.example.webshopping.repository.ProductRepository;
 import com.example.webshopping.repository.ReviewRepository;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -25,16 +28,15 @@ public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
-    private final MembersRepository membersRepository;
+    private final MemberCache memberCache;
     private final FileService fileService;
+    private final ProductRatingService productRatingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void createReview(ReviewDTO reviewDTO, MultipartFile imageFile, String email) {
         // 회원 조회
-        Members member = membersRepository.findByEmail(email);
-        if (member == null) {
-            throw new EntityNotFoundException("회원을 찾을 수 없습니다.");
-        }
+        Members member = memberCache.getReference(email);
 
         // 상품 조회
         Product product = productRepository.findById(reviewDTO.getProductId())
@@ -61,8 +63,10 @@ public class ReviewServiceImpl implements ReviewService {
                 .build();
 
         reviewRepository.save(review);
+        productRatingService.reviewCreated(product.getId(), review.getRating());
+        eventPublisher.publishEvent(new ReviewChangedEvent(product.getId()));
         log.info("리뷰 작성 완료 - Product: {}, Member: {}, Rating: {}", 
-                product.getId(), member.getEmail(), reviewDTO.getRating());
+                product.getId(), email, reviewDTO.getRating());
     }
 
     @Override
@@ -77,6 +81,7 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         // 리뷰 수정
+        int oldRating = review.getRating();
         review.setRating(reviewDTO.getRating());
         review.setContent(reviewDTO.getContent());
 
@@ -87,6 +92,8 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         reviewRepository.save(review);
+        productRatingService.reviewUpdated(review.getProduct().getId(), oldRating, review.getRating());
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getProduct().getId()));
         log.info("리뷰 수정 완료 - Review ID: {}", reviewId);
     }
 
@@ -102,6 +109,8 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         reviewRepository.delete(review);
+        productRatingService.reviewDeleted(review.getProduct().getId(), review.getRating());
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getProduct().getId()));
         log.info("리뷰 삭제 완료 - Review ID: {}", reviewId);
     }
 
@@ -124,10 +133,7 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     public List<ReviewDTO> getMyReviews(String email) {
-        Members member = membersRepository.findByEmail(email);
-        if (member == null) {
-            throw new EntityNotFoundException("회원을 찾을 수 없습니다.");
-        }
+        Members member = memberCache.getReference(email);
 
         List<Review> reviews = reviewRepository.findByMember_IdOrderByCreatedAtDesc(member.getId());
 
@@ -138,24 +144,23 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     public Double getAverageRating(Long productId) {
-        Double avg = reviewRepository.getAverageRatingByProductId(productId);
-        return avg != null ? Math.round(avg * 10) / 10.0 : 0.0; // 소수점 첫째자리
+        return productRatingService.getRating(productId).getAverageRating(); // 소수점 첫째자리
     }
 
     @Override
     public Long getReviewCount(Long productId) {
-        return reviewRepository.countByProduct_Id(productId);
+        return productRatingService.getRating(productId).getReviewCount();
     }
 
     @Override
     public boolean canWriteReview(Long productId, String email) {
-        Members member = membersRepository.findByEmail(email);
+        CachedMember member = memberCache.find(email);
         if (member == null) {
             return false;
         }
 
         // 이미 리뷰 작성했으면 false
-        if (reviewRepository.existsByProduct_IdAndMember_Id(productId, member.getId())) {
+        if (reviewRepository.existsByProduct_IdAndMember_Id(productId, member.id())) {
             return false;
         }
 
@@ -5,11 +5,13 @@ import com.example.webshopping.constant.SellerStatus;
 import com.example.webshopping.dto.SellerDTO;
 import com.example.webshopping.entity.Members;
 import com.example.webshopping.entity.Seller;
+import com.example.webshopping.event.MemberChangedEvent;
 import com.example.webshopping.repository.MembersRepository;
 import com.example.webshopping.repository.SellerRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class SellerServiceImpl implements SellerService {
 
     private final SellerRepository sellerRepository;
     private final MembersRepository membersRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Long submitApplication(String email, SellerDTO dto) {
@@ -130,6 +133,7 @@ public class SellerServiceImpl implements SellerService {
         membersRepository.save(member);
 
         sellerRepository.save(seller);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getEmail()));
 
         log.info("판매자 신청 승인 - 신청ID: {}, 회원: {}", sellerId, member.getEmail());
     }
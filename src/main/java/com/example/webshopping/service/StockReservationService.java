@@ -0,0 +1,45 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.service.InventoryService.Sku;
+
+import java.util.Map;
+
+/**
+ * 결제 대기 재고 홀드 서비스
+ * - 결제용 주문 생성 시 예약한 재고를 토스 orderId 기준으로 일정 시간(reservation.ttl-seconds) 보관
+ * - 결제 승인 시 차감 확정, 시간이 지나면 예약 해제 후 주문을 결제 만료로 처리
+ */
+public interface StockReservationService {
+
+    /**
+     * 현재 트랜잭션 커밋 후 홀드 등록, 롤백 시 예약 해제 (재고는 호출 전에 예약되어 있어야 함)
+     * @param orderId 토스 orderId
+     * @param id 주문 ID (만료 처리용)
+     * @param quantities SKU별 예약 수량
+     */
+    void holdAfterTransaction(String orderId, Long id, Map<Sku, Integer> quantities);
+
+    /**
+     * 결제 승인 - 홀드를 커밋 시 차감 확정, 롤백 시 다시 홀드 상태로
+     * @return 유효한 홀드가 없으면 false (만료되었거나 재시작으로 사라진 경우)
+     */
+    boolean confirm(String orderId);
+
+    /**
+     * 홀드 해제 (결제 전 주문 취소)
+     */
+    void release(String orderId);
+
+    /**
+     * 만료된 홀드 해제 및 해당 주문 결제 만료 처리
+     * @return 만료된 홀드 수
+     */
+    int expireDue();
+
+    /**
+     * 재시작 시 결제 대기 주문 복원 (유효 시간이 남은 주문은 다시 홀드, 지난 주문은 만료 처리)
+     */
+    void restorePending();
+
+    int getHoldCount();
+}
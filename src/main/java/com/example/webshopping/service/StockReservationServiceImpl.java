@@ -0,0 +1,257 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.constant.PaymentStatus;
+import com.example.webshopping.entity.Order;
+import com.example.webshopping.repository.OrderRepository;
+import com.example.webshopping.service.InventoryService.Sku;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 대기 재고 홀드 서비스 구현
+ * - 홀드는 토스 orderId → Hold 맵과 만료 시각 순 DelayQueue에 함께 보관
+ * - 만료 처리는 DelayQueue에서 기한이 지난 홀드만 꺼내므로 주문 테이블을 주기적으로 조회하지 않음
+ * - 결제 승인/만료/취소가 겹쳐도 한 번만 처리되도록 홀드 상태를 CAS로 전이 (HELD → CLAIMED / EXPIRED / RELEASED)
+ * - 만료된 홀드의 재고는 주문 만료 UPDATE가 커밋된 뒤에 해제 (롤백되면 HELD로 되돌림)
+ * - 승인 트랜잭션이 롤백되면 CLAIMED → HELD로 되돌리고 큐에 다시 넣음 (기한이 지났으면 다음 주기에 만료)
+ * - 홀드는 메모리에만 있으므로 재시작 시 결제 대기 주문에서 복원
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private static final int HELD = 0;
+    private static final int CLAIMED = 1;
+    private static final int EXPIRED = 2;
+    private static final int RELEASED = 3;
+
+    private static final List<PaymentStatus> UNPAID = List.of(PaymentStatus.READY, PaymentStatus.IN_PROGRESS);
+
+    private final InventoryService inventoryService;
+    private final OrderRepository orderRepository;
+
+    @Value("${reservation.ttl-seconds:900}")
+    private long ttlSeconds;
+
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final DelayQueue<Hold> expiryQueue = new DelayQueue<>();
+
+    @Override
+    public void holdAfterTransaction(String orderId, Long id, Map<Sku, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            hold(orderId, id, quantities, Duration.ofSeconds(ttlSeconds));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    hold(orderId, id, quantities, Duration.ofSeconds(ttlSeconds));
+                } else {
+                    quantities.forEach(inventoryService::release);
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean confirm(String orderId) {
+        Hold hold = holds.get(orderId);
+        if (hold == null || !hold.state.compareAndSet(HELD, CLAIMED)) {
+            return false;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commit(hold);
+            return true;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    commit(hold);
+                } else if (hold.state.compareAndSet(CLAIMED, HELD)) {
+                    expiryQueue.offer(hold);
+                }
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public void release(String orderId) {
+        Hold hold = holds.get(orderId);
+        if (hold == null || !hold.state.compareAndSet(HELD, RELEASED)) {
+            return;
+        }
+        holds.remove(orderId, hold);
+        hold.quantities.forEach(inventoryService::release);
+        log.info("재고 홀드 해제 - orderId: {}", orderId);
+    }
+
+    @Override
+    @Transactional
+    public int expireDue() {
+        List<Hold> expired = new ArrayList<>();
+        Hold hold;
+        while ((hold = expiryQueue.poll()) != null) {
+            // 승인 중이거나 이미 처리된 홀드는 건너뜀 (승인 롤백 시 다시 큐에 들어옴)
+            // EXPIRED로 바꾼 뒤에는 승인(confirm)이 실패하므로 주문 만료 UPDATE 커밋 전에도 결제되지 않음
+            if (hold.state.compareAndSet(HELD, EXPIRED)) {
+                expired.add(hold);
+            }
+        }
+
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        List<Long> expiredIds = expired.stream().map(expiredHold -> expiredHold.id).toList();
+        int updated = orderRepository.expirePendingPayments(expiredIds, OrderStatus.PENDING, UNPAID,
+                OrderStatus.CANCELLED, PaymentStatus.EXPIRED, LocalDateTime.now());
+        releaseAfterTransaction(expired);
+        log.info("결제 대기 만료 - 홀드 해제: {}건, 주문 만료 처리: {}건", expiredIds.size(), updated);
+        return expiredIds.size();
+    }
+
+    @Override
+    @Transactional
+    public void restorePending() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusSeconds(ttlSeconds);
+
+        int expired = orderRepository.expirePendingPaymentsBefore(cutoff, OrderStatus.PENDING, UNPAID,
+                OrderStatus.CANCELLED, PaymentStatus.EXPIRED, now);
+
+        List<Long> outOfStockIds = new ArrayList<>();
+        int restored = 0;
+        for (Order order : orderRepository.findPendingPaymentOrdersSince(OrderStatus.PENDING, UNPAID, cutoff)) {
+            if (holds.containsKey(order.getOrderId())) {
+                continue;
+            }
+            Map<Sku, Integer> quantities = InventoryService.quantitiesOf(order);
+            if (!reserveAll(quantities)) {
+                outOfStockIds.add(order.getId());
+                continue;
+            }
+            hold(order.getOrderId(), order.getId(), quantities,
+                    Duration.between(now, order.getOrderDate().plusSeconds(ttlSeconds)));
+            restored++;
+        }
+
+        if (!outOfStockIds.isEmpty()) {
+            expired += orderRepository.expirePendingPayments(outOfStockIds, OrderStatus.PENDING, UNPAID,
+                    OrderStatus.CANCELLED, PaymentStatus.EXPIRED, now);
+        }
+        log.info("결제 대기 홀드 복원 - 복원: {}건, 만료 처리: {}건", restored, expired);
+    }
+
+    @Override
+    public int getHoldCount() {
+        return holds.size();
+    }
+
+    // ========== Helper Methods ==========
+
+    private void hold(String orderId, Long id, Map<Sku, Integer> quantities, Duration ttl) {
+        Hold hold = new Hold(orderId, id, Map.copyOf(quantities), System.nanoTime() + ttl.toNanos());
+        Hold previous = holds.put(orderId, hold);
+        if (previous != null && previous.state.compareAndSet(HELD, RELEASED)) {
+            previous.quantities.forEach(inventoryService::release);
+        }
+        expiryQueue.offer(hold);
+    }
+
+    /**
+     * 주문 만료 UPDATE 커밋 후 만료된 홀드의 재고 해제
+     * - 롤백되면 다시 HELD로 되돌려 큐에 넣음 (다음 주기에 다시 만료)
+     */
+    private void releaseAfterTransaction(List<Hold> expired) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            expired.forEach(this::releaseExpired);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    expired.forEach(StockReservationServiceImpl.this::releaseExpired);
+                    return;
+                }
+                for (Hold hold : expired) {
+                    if (hold.state.compareAndSet(EXPIRED, HELD)) {
+                        expiryQueue.offer(hold);
+                    }
+                }
+            }
+        });
+    }
+
+    private void releaseExpired(Hold hold) {
+        holds.remove(hold.orderId, hold);
+        hold.quantities.forEach(inventoryService::release);
+    }
+
+    private void commit(Hold hold) {
+        holds.remove(hold.orderId, hold);
+        hold.quantities.forEach(inventoryService::commit);
+    }
+
+    /**
+     * 전부 예약하거나 하나도 예약하지 않음
+     */
+    private boolean reserveAll(Map<Sku, Integer> quantities) {
+        Map<Sku, Integer> reserved = new HashMap<>();
+        for (Map.Entry<Sku, Integer> entry : quantities.entrySet()) {
+            if (!inventoryService.reserve(entry.getKey(), entry.getValue())) {
+                reserved.forEach(inventoryService::release);
+                return false;
+            }
+            reserved.put(entry.getKey(), entry.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * 재고 홀드 (만료 시각 기준으로 DelayQueue에서 정렬)
+     */
+    private static final class Hold implements Delayed {
+        private final String orderId;
+        private final Long id;
+        private final Map<Sku, Integer> quantities;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(HELD);
+
+        private Hold(String orderId, Long id, Map<Sku, Integer> quantities, long deadlineNanos) {
+            this.orderId = orderId;
+            this.id = id;
+            this.quantities = quantities;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineNanos, ((Hold) other).deadlineNanos);
+        }
+    }
+}
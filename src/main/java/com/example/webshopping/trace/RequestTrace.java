@@ -0,0 +1,112 @@
+package com.example.webshopping.trace;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 1건의 성능 기록 (요청 처리 스레드에 묶어 두고 Hibernate 리스너/인터셉터가 채움)
+ * - SQL 문장 수, JDBC 실행 시간, 엔티티 타입별 로딩 수, 지연 로딩 초기화 수, 화면 렌더링 시간
+ * - 요청 밖(스케줄 작업, 기동 시 작업)에서는 current()가 null이라 기록하지 않음
+ */
+public class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Integer> entityLoads = new TreeMap<>();
+    private int statements;
+    private long jdbcNanos;
+    private int lazyLoads;
+    private long renderStartNanos;
+    private long renderNanos;
+    private String handler = "-";
+
+    public static RequestTrace start() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void statement() {
+        statements++;
+    }
+
+    void jdbc(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void entityLoaded(String entityName) {
+        entityLoads.merge(entityName, 1, Integer::sum);
+    }
+
+    void lazyLoaded() {
+        lazyLoads++;
+    }
+
+    void handler(String handler) {
+        this.handler = handler;
+    }
+
+    void renderStarted() {
+        renderStartNanos = System.nanoTime();
+    }
+
+    void renderFinished() {
+        if (renderStartNanos > 0) {
+            renderNanos = System.nanoTime() - renderStartNanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getLazyLoads() {
+        return lazyLoads;
+    }
+
+    public Map<String, Integer> getEntityLoads() {
+        return entityLoads;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    /**
+     * 로그 한 줄 (key=value, 예: handler=MainController#main sql=3 jdbc_ms=1.2 entities=Product:20 lazy=0 render_ms=4.1 total_ms=9.8)
+     */
+    public String summary() {
+        String entities = entityLoads.isEmpty() ? "-" : entityLoads.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+        return "handler=%s sql=%d jdbc_ms=%.1f entities=%s lazy=%d render_ms=%.1f total_ms=%.1f".formatted(
+                handler, statements, millis(jdbcNanos), entities, lazyLoads, millis(renderNanos), millis(elapsedNanos()));
+    }
+
+    /**
+     * Server-Timing 헤더 값 (브라우저 개발자 도구 Network > Timing 탭에 표시)
+     * - 응답을 내보내기 시작하는 시점까지의 값 (스트리밍 응답은 그 이후 분량이 빠짐)
+     */
+    public String serverTiming() {
+        return "db;dur=%.1f;desc=\"sql %d, lazy %d\", render;dur=%.1f, total;dur=%.1f".formatted(
+                millis(jdbcNanos), statements, lazyLoads, millis(renderNanos), millis(elapsedNanos()));
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
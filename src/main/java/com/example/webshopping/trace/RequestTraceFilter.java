@@ -0,0 +1,69 @@
+package com.example.webshopping.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 요청별 성능 추적 필터
+ * - 요청마다 RequestTrace를 시작하고, 끝나면 구조화된 로그 한 줄 출력
+ *   예) trace GET / pattern=/ status=200 handler=MainController#main sql=0 jdbc_ms=0.0 entities=- lazy=0 render_ms=5.2 total_ms=7.9
+ * - 관리자(ROLE_ADMIN) 요청은 Server-Timing 헤더 추가 (응답 버퍼를 늘려 화면 렌더링까지 끝난 값이 담기도록 함)
+ * - 보안 필터 다음에 실행되어 로그인 사용자를 알 수 있음 (세션 인증이라 보안 필터에서는 DB 조회 없음)
+ * - 정적 리소스, 액추에이터 요청은 제외
+ */
+@Component
+@Log4j2
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private static final String ADMIN_ROLE = "ROLE_ADMIN";
+    private static final int ADMIN_BUFFER_SIZE = 256 * 1024;
+    private static final Set<String> EXCLUDED_PREFIXES = Set.of("/css/", "/js/", "/images/", "/img/", "/actuator/", "/favicon");
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return EXCLUDED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.start();
+        ServerTimingResponseWrapper timingResponse = null;
+        if (isAdmin()) {
+            response.setBufferSize(Math.max(response.getBufferSize(), ADMIN_BUFFER_SIZE));
+            timingResponse = new ServerTimingResponseWrapper(response, trace);
+        }
+
+        try {
+            filterChain.doFilter(request, timingResponse != null ? timingResponse : response);
+        } finally {
+            if (timingResponse != null) {
+                timingResponse.writeHeader();
+            }
+            log.info("trace {} {} pattern={} status={} {}", request.getMethod(), request.getRequestURI(),
+                    request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), response.getStatus(), trace.summary());
+            RequestTrace.clear();
+        }
+    }
+
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_ROLE.equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.webshopping.trace;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 추적용 Hibernate 설정 (세션 팩토리 생성 전에 속성 추가)
+ * - StatementInspector: 문장 수 (기존 inspector 설정이 있으면 감싸서 유지)
+ * - 세션 이벤트 리스너: JDBC 실행 시간
+ * - 이벤트 리스너(Integrator로 등록): 엔티티 로딩 / 지연 로딩
+ */
+@Component
+public class RequestTraceHibernateCustomizer implements HibernatePropertiesCustomizer {
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        StatementInspector configured = instantiate(hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR));
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new TraceStatementInspector(configured));
+        hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, TraceSessionEventListener.class.getName());
+        hibernateProperties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(new TraceIntegrator()));
+    }
+
+    private static StatementInspector instantiate(Object setting) {
+        try {
+            if (setting instanceof StatementInspector inspector) {
+                return inspector;
+            }
+            if (setting instanceof Class<?> type) {
+                return (StatementInspector) type.getDeclaredConstructor().newInstance();
+            }
+            if (setting instanceof String className && !className.isBlank()) {
+                return (StatementInspector) Class.forName(className).getDeclaredConstructor().newInstance();
+            }
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("StatementInspector 생성 실패: " + setting, e);
+        }
+    }
+
+    private static class TraceIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            TraceLoadEventListener listener = new TraceLoadEventListener();
+            EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_LOAD, listener);
+            registry.appendListeners(EventType.INIT_COLLECTION, listener);
+            registry.appendListeners(EventType.LOAD, listener);
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.webshopping.trace;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 요청 추적 - 처리한 컨트롤러 메서드와 화면 렌더링 시간 기록
+ * - postHandle(컨트롤러 반환 후, 렌더링 전) ~ afterCompletion(렌더링 후) = 렌더링 시간
+ */
+public class RequestTraceInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && handler instanceof HandlerMethod method) {
+            trace.handler(method.getBeanType().getSimpleName() + "#" + method.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && modelAndView != null) {
+            trace.renderStarted();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.renderFinished();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.webshopping.trace;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * 응답이 커밋되기 직전에 Server-Timing 헤더를 붙이는 응답 래퍼
+ * - 응답 본문은 버퍼링하지 않음: 버퍼가 차거나 flush/리다이렉트/오류 응답으로 커밋되는 순간의 값을 헤더로 씀
+ * - 스트리밍 응답(CSV 내보내기 등)도 그대로 흘려보내고, 헤더에는 첫 flush까지의 값만 담김
+ */
+class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    static final String HEADER = "Server-Timing";
+
+    private final RequestTrace trace;
+    private boolean headerWritten;
+    private PrintWriter writer;
+    private ServletOutputStream outputStream;
+
+    ServerTimingResponseWrapper(HttpServletResponse response, RequestTrace trace) {
+        super(response);
+        this.trace = trace;
+    }
+
+    /**
+     * 아직 커밋 전이면 현재까지의 측정값으로 헤더 추가 (한 번만)
+     */
+    void writeHeader() {
+        if (!headerWritten && !isCommitted()) {
+            setHeader(HEADER, trace.serverTiming());
+            headerWritten = true;
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeHeader();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        writeHeader();
+        super.sendRedirect(location);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        writeHeader();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        writeHeader();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            Writer target = super.getWriter();
+            writer = new PrintWriter(new Writer() {
+                @Override
+                public void write(char[] cbuf, int off, int len) throws IOException {
+                    target.write(cbuf, off, len);
+                }
+
+                @Override
+                public void write(String str, int off, int len) throws IOException {
+                    target.write(str, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    writeHeader();
+                    target.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writeHeader();
+                    target.close();
+                }
+            });
+        }
+        return writer;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            ServletOutputStream target = super.getOutputStream();
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    target.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    target.write(b, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    writeHeader();
+                    target.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writeHeader();
+                    target.close();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return target.isReady();
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                    target.setWriteListener(listener);
+                }
+            };
+        }
+        return outputStream;
+    }
+}
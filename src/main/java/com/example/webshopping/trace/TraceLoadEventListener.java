@@ -0,0 +1,39 @@
+package com.example.webshopping.trace;
+
+import org.hibernate.event.spi.*;
+
+/**
+ * 요청별 엔티티 로딩/지연 로딩 기록 (Hibernate 이벤트 리스너, 기본 리스너 뒤에 추가)
+ * - 엔티티 로딩: 조회 결과로 만들어진 엔티티 수 (타입별, fetch join/배치 조회 포함)
+ * - 지연 로딩: 지연 컬렉션 초기화 + 프록시 초기화 횟수 (배치 조회로 함께 채워진 나머지는 제외)
+ */
+public class TraceLoadEventListener implements PostLoadEventListener, InitializeCollectionEventListener, LoadEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.entityLoaded(simpleName(event.getPersister().getEntityName()));
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.lazyLoaded();
+        }
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && loadType == IMMEDIATE_LOAD) {
+            trace.lazyLoaded();
+        }
+    }
+
+    private static String simpleName(String entityName) {
+        return entityName.substring(entityName.lastIndexOf('.') + 1);
+    }
+}
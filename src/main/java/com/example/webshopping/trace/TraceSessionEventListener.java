@@ -0,0 +1,40 @@
+package com.example.webshopping.trace;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 요청별 JDBC 실행 시간 기록 (세션마다 새로 생성되는 Hibernate 세션 이벤트 리스너)
+ * - 문장 실행(조회/단건 변경)과 배치 실행 시간을 합산, 결과 읽기/커넥션 획득 시간은 제외
+ */
+public class TraceSessionEventListener extends BaseSessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && start > 0) {
+            trace.jdbc(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.webshopping.trace;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청별 SQL 문장 수 기록 (Hibernate StatementInspector)
+ * - 설정에 이미 다른 inspector가 있으면(테스트의 문장 기록 등) 그 inspector를 먼저 호출해 함께 동작
+ */
+public class TraceStatementInspector implements StatementInspector {
+
+    private final StatementInspector delegate;
+
+    public TraceStatementInspector(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        String inspected = delegate != null ? delegate.inspect(sql) : sql;
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.statement();
+        }
+        return inspected;
+    }
+}
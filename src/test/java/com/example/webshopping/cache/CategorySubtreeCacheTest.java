@@ -0,0 +1,90 @@
+package com.example.webshopping.cache;
+
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.event.CategoryChangedEvent;
+import com.example.webshopping.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * CategorySubtreeCache 단위 테스트
+ * - 하위 트리 ID 구성 / 비활성 카테고리 제외 / 변경 이벤트 재구성 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CategorySubtreeCacheTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private CategorySubtreeCache categorySubtreeCache;
+
+    private List<Category> categories;
+
+    @BeforeEach
+    void setUp() {
+        Category outdoor = category(1L, null, true);
+        Category hiking = category(2L, outdoor, true);
+        Category shoes = category(3L, hiking, true);
+        Category boots = category(4L, shoes, true);
+        Category camping = category(5L, outdoor, false);
+        Category tent = category(6L, camping, true);
+
+        categories = new ArrayList<>(List.of(outdoor, hiking, shoes, boots, camping, tent));
+        given(categoryRepository.findAll()).willReturn(categories);
+        categorySubtreeCache.rebuild();
+    }
+
+    @Test
+    @DisplayName("하위 트리 조회 - 깊이 제한 없이 모든 하위 카테고리 포함")
+    void 하위트리_조회() {
+        // when & then
+        assertThat(categorySubtreeCache.getSubtreeIds(2L)).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(categorySubtreeCache.getSubtreeIds(4L)).containsExactly(4L);
+        assertThat(categorySubtreeCache.getSubtreeIds(99L)).containsExactly(99L);
+    }
+
+    @Test
+    @DisplayName("비활성 카테고리 - 하위 트리까지 제외, 직접 조회 시 자기 자신 포함")
+    void 비활성_카테고리_제외() {
+        // when & then
+        assertThat(categorySubtreeCache.getSubtreeIds(1L)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(categorySubtreeCache.getSubtreeIds(5L)).containsExactlyInAnyOrder(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 이벤트 - 전체 재구성")
+    void 변경_이벤트_재구성() {
+        // given
+        categories.add(category(7L, categories.get(2), true));
+
+        // when
+        categorySubtreeCache.onCategoryChanged(new CategoryChangedEvent(7L));
+
+        // then
+        assertThat(categorySubtreeCache.getSubtreeIds(2L)).containsExactlyInAnyOrder(2L, 3L, 4L, 7L);
+        then(categoryRepository).should(times(2)).findAll();
+    }
+
+    // ========== Helper Methods ==========
+
+    private Category category(Long id, Category parent, boolean active) {
+        return Category.builder()
+                .id(id)
+                .name("카테고리" + id)
+                .parent(parent)
+                .isActive(active)
+                .build();
+    }
+}
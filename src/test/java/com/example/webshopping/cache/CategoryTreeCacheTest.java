@@ -0,0 +1,111 @@
+package com.example.webshopping.cache;
+
+import com.example.webshopping.dto.CategoryDTO;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.event.CategoryChangedEvent;
+import com.example.webshopping.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * CategoryTreeCache 단위 테스트
+ * - 계층 구성 / 정렬 / 비활성 제외 / 스냅샷 교체 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeCacheTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private CategoryTreeCache categoryTreeCache;
+
+    private List<Category> categories;
+    private Category outdoor;
+
+    @BeforeEach
+    void setUp() {
+        outdoor = category(1L, "아웃도어", null, 2, true);
+        Category fashion = category(2L, "패션", null, 1, true);
+        Category hidden = category(3L, "숨김", null, 0, false);
+        Category camping = category(4L, "캠핑", outdoor, 2, true);
+        Category hiking = category(5L, "등산", outdoor, 1, true);
+        Category boots = category(6L, "등산화", hiking, 1, true);
+        Category closed = category(7L, "종료", hiking, 2, false);
+
+        categories = new ArrayList<>(List.of(outdoor, fashion, hidden, camping, hiking, boots, closed));
+        given(categoryRepository.findAll()).willReturn(categories);
+        categoryTreeCache.rebuild();
+    }
+
+    @Test
+    @DisplayName("계층 구성 - 활성 카테고리만 표시 순서대로")
+    void 계층_구성() {
+        // when
+        List<CategoryDTO> hierarchy = categoryTreeCache.getHierarchy();
+
+        // then
+        assertThat(hierarchy).extracting("name").containsExactly("패션", "아웃도어");
+        CategoryDTO outdoorDTO = hierarchy.get(1);
+        assertThat(outdoorDTO.getChildren()).extracting("name").containsExactly("등산", "캠핑");
+        CategoryDTO hikingDTO = outdoorDTO.getChildren().get(0);
+        assertThat(hikingDTO.getParentName()).isEqualTo("아웃도어");
+        assertThat(hikingDTO.getChildren()).extracting("name").containsExactly("등산화");
+        assertThat(categoryTreeCache.getLargeCategories()).extracting("name").containsExactly("패션", "아웃도어");
+    }
+
+    @Test
+    @DisplayName("반복 조회 - DB 조회 없이 같은 스냅샷, 수정 불가")
+    void 스냅샷_재사용() {
+        // when
+        List<CategoryDTO> first = categoryTreeCache.getHierarchy();
+        List<CategoryDTO> second = categoryTreeCache.getHierarchy();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.get(0).getChildren().add(new CategoryDTO()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        then(categoryRepository).should(times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 이벤트 - 새 스냅샷으로 교체")
+    void 변경_이벤트_교체() {
+        // given
+        List<CategoryDTO> before = categoryTreeCache.getHierarchy();
+        categories.add(category(8L, "낚시", outdoor, 3, true));
+
+        // when
+        categoryTreeCache.onCategoryChanged(new CategoryChangedEvent(8L));
+
+        // then
+        assertThat(categoryTreeCache.getHierarchy()).isNotSameAs(before);
+        assertThat(categoryTreeCache.getHierarchy().get(1).getChildren())
+                .extracting("name").containsExactly("등산", "캠핑", "낚시");
+        assertThat(before.get(1).getChildren()).hasSize(2);
+    }
+
+    // ========== Helper Methods ==========
+
+    private Category category(Long id, String name, Category parent, int displayOrder, boolean active) {
+        return Category.builder()
+                .id(id)
+                .name(name)
+                .parent(parent)
+                .depth(parent != null ? parent.getDepth() + 1 : 1)
+                .displayOrder(displayOrder)
+                .isActive(active)
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.webshopping.cache;
+
+import com.example.webshopping.cache.MemberCache.CachedMember;
+import com.example.webshopping.constant.Role;
+import com.example.webshopping.entity.Members;
+import com.example.webshopping.event.MemberChangedEvent;
+import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.security.MemberPrincipal;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * MemberCache 단위 테스트
+ * - 이메일 조회 캐시 / 최대 크기 제한(LRU) / 변경 이벤트 무효화 / 조회 중 제거된 값 미적재
+ * - 로그인 인증 정보의 회원 ID/권한 사용 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberCacheTest {
+
+    @Mock
+    private MembersRepository membersRepository;
+
+    @InjectMocks
+    private MemberCache memberCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(memberCache, "maxSize", 2);
+    }
+
+    @Test
+    @DisplayName("같은 이메일 재조회 - 처음 한 번만 DB 조회")
+    void 재조회_캐시_적중() {
+        // given
+        given(membersRepository.findByEmail("user@test.com")).willReturn(member(1L, "user@test.com", "홍길동", Role.ROLE_USER));
+
+        // when
+        CachedMember first = memberCache.find("user@test.com");
+        CachedMember second = memberCache.find("user@test.com");
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(second.id()).isEqualTo(1L);
+        assertThat(second.name()).isEqualTo("홍길동");
+        verify(membersRepository, times(1)).findByEmail("user@test.com");
+    }
+
+    @Test
+    @DisplayName("없는 회원 - find는 null, getReference는 예외, 캐시하지 않음")
+    void 없는_회원() {
+        // when & then
+        assertThat(memberCache.find("none@test.com")).isNull();
+        assertThatThrownBy(() -> memberCache.getReference("none@test.com"))
+                .isInstanceOf(EntityNotFoundException.class);
+        verify(membersRepository, times(2)).findByEmail("none@test.com");
+        verify(membersRepository, never()).getReferenceById(anyLong());
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 - 가장 오래 사용하지 않은 회원부터 제거")
+    void 최대크기_LRU_제거() {
+        // given
+        given(membersRepository.findByEmail(anyString())).willAnswer(invocation -> {
+            String email = invocation.getArgument(0);
+            return member((long) email.charAt(0), email, "회원", Role.ROLE_USER);
+        });
+        memberCache.find("a@test.com");
+        memberCache.find("b@test.com");
+        memberCache.find("a@test.com");
+
+        // when
+        memberCache.find("c@test.com");
+        memberCache.find("a@test.com");
+        memberCache.find("b@test.com");
+
+        // then
+        verify(membersRepository, times(1)).findByEmail("a@test.com");
+        verify(membersRepository, times(2)).findByEmail("b@test.com");
+    }
+
+    @Test
+    @DisplayName("회원 변경 이벤트 - 해당 회원만 제거, 다음 조회에 변경된 정보 반영")
+    void 변경_이벤트_무효화() {
+        // given
+        given(membersRepository.findByEmail("user@test.com")).willReturn(
+                member(1L, "user@test.com", "홍길동", Role.ROLE_USER),
+                member(1L, "user@test.com", "김철수", Role.ROLE_USER));
+        memberCache.find("user@test.com");
+
+        // when
+        memberCache.onMemberChanged(new MemberChangedEvent("user@test.com"));
+
+        // then
+        assertThat(memberCache.find("user@test.com").name()).isEqualTo("김철수");
+        verify(membersRepository, times(2)).findByEmail("user@test.com");
+    }
+
+    @Test
+    @DisplayName("조회 중 제거 - 제거 전에 읽은 값은 적재하지 않고 다음 조회에서 다시 읽음")
+    void 조회중_제거_미적재() {
+        // given: DB 조회와 변경 이벤트가 겹침
+        given(membersRepository.findByEmail("user@test.com")).willAnswer(invocation -> {
+            memberCache.onMemberChanged(new MemberChangedEvent("user@test.com"));
+            return member(1L, "user@test.com", "홍길동", Role.ROLE_USER);
+        }).willReturn(member(1L, "user@test.com", "김철수", Role.ROLE_USER));
+
+        // when
+        CachedMember stale = memberCache.find("user@test.com");
+        CachedMember reloaded = memberCache.find("user@test.com");
+
+        // then
+        assertThat(stale.name()).isEqualTo("홍길동");
+        assertThat(reloaded.name()).isEqualTo("김철수");
+        verify(membersRepository, times(2)).findByEmail("user@test.com");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안 조회 - 커밋 전에 제거되면 커밋 후에도 적재하지 않음")
+    void 트랜잭션_조회중_제거_미적재() {
+        // given
+        given(membersRepository.findByEmail("user@test.com")).willReturn(member(1L, "user@test.com", "홍길동", Role.ROLE_USER));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            memberCache.find("user@test.com");
+
+            // when
+            memberCache.evict("user@test.com");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        memberCache.find("user@test.com");
+
+        // then
+        verify(membersRepository, times(2)).findByEmail("user@test.com");
+    }
+
+    @Test
+    @DisplayName("로그인 인증 정보 - 회원 ID를 조회 없이 사용")
+    void 인증정보_회원ID() {
+        // given
+        MemberPrincipal principal = new MemberPrincipal(member(7L, "seller@test.com", "판매자", Role.ROLE_SELLER));
+
+        // when
+        Long memberId = memberCache.findId(principal);
+
+        // then
+        assertThat(memberId).isEqualTo(7L);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_SELLER");
+        verifyNoInteractions(membersRepository);
+    }
+
+    @Test
+    @DisplayName("권한 확인 - 세션 인증 정보의 권한만 사용")
+    void 인증정보_권한() {
+        // given
+        MemberPrincipal seller = new MemberPrincipal(member(7L, "seller@test.com", "판매자", Role.ROLE_SELLER));
+
+        // when & then
+        assertThat(MemberPrincipal.hasRole(seller, Role.ROLE_SELLER)).isTrue();
+        assertThat(MemberPrincipal.hasRole(seller, Role.ROLE_ADMIN)).isFalse();
+        assertThat(MemberPrincipal.hasRole(User.withUsername("admin@test.com").password("x").roles("ADMIN").build(),
+                Role.ROLE_ADMIN)).isTrue();
+        assertThat(MemberPrincipal.hasRole(null, Role.ROLE_ADMIN)).isFalse();
+        verifyNoInteractions(membersRepository);
+    }
+
+    private Members member(Long id, String email, String name, Role role) {
+        return Members.builder().id(id).email(email).name(name).password("encoded").role(role).build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.webshopping.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 액추에이터 접근 제어 테스트
+ * - 헬스 체크는 공개, Prometheus 수집은 허용 IP(기본 127.0.0.1, ::1) 또는 관리자만
+ */
+@SpringBootTest(properties = {
+        "file.upload-dir=build/test-upload",
+        "toss.payments.secret-key=test_sk",
+        "toss.payments.client-key=test_ck",
+        "spring.datasource.url=jdbc:h2:mem:actuator-security;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("헬스 체크 - 외부 IP 비로그인 요청도 허용")
+    void 헬스체크_공개() throws Exception {
+        mockMvc.perform(get("/actuator/health").with(remoteAddr("203.0.113.10")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Prometheus - 허용 IP에서는 로그인 없이 수집 가능")
+    void 프로메테우스_허용IP() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddr("127.0.0.1")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Prometheus - 외부 IP는 비로그인/일반 회원 차단, 관리자만 허용")
+    void 프로메테우스_외부IP() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddr("203.0.113.10")))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/members/login"));
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddr("203.0.113.10"))
+                        .with(user("user@test.com").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddr("203.0.113.10"))
+                        .with(user("admin@test.com").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
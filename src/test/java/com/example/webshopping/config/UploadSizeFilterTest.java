@@ -0,0 +1,85 @@
+package com.example.webshopping.config;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 업로드 크기 제한 필터 테스트
+ * - 대량 등록 경로만 컨테이너 한도까지 허용, 나머지 multipart 요청은 작은 한도로 거절
+ */
+class UploadSizeFilterTest {
+
+    private final UploadSizeFilter filter = new UploadSizeFilter();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "maxRequestSize", DataSize.ofMegabytes(10));
+    }
+
+    @Test
+    @DisplayName("일반 multipart 요청 - 한도 이하는 통과, 초과는 413")
+    void 일반_업로드_한도() throws ServletException, IOException {
+        // when
+        MockHttpServletResponse small = doFilter(multipart("/product/new", DataSize.ofMegabytes(5).toBytes()));
+        MockHttpServletResponse large = doFilter(multipart("/product/new", DataSize.ofMegabytes(50).toBytes()));
+
+        // then
+        assertThat(small.getStatus()).isEqualTo(200);
+        assertThat(large.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    @DisplayName("크기를 알 수 없는 multipart 요청 - 411")
+    void 크기_없는_업로드() throws ServletException, IOException {
+        // when
+        MockHttpServletResponse response = doFilter(multipart("/review/new", -1));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(411);
+    }
+
+    @Test
+    @DisplayName("대량 등록 경로와 multipart가 아닌 요청은 검사하지 않음")
+    void 검사_제외() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest form = new MockHttpServletRequest("POST", "/members/new");
+        form.setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+
+        // when
+        MockHttpServletResponse importResponse = doFilter(multipart("/product/import", DataSize.ofMegabytes(50).toBytes()));
+        MockHttpServletResponse formResponse = doFilter(form);
+
+        // then
+        assertThat(importResponse.getStatus()).isEqualTo(200);
+        assertThat(formResponse.getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest multipart(String uri, long contentLength) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri) {
+            @Override
+            public long getContentLengthLong() {
+                return contentLength;
+            }
+        };
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=test");
+        return request;
+    }
+}
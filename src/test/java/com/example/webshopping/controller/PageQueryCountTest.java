@@ -0,0 +1,109 @@
+package com.example.webshopping.controller;
+
+import com.example.webshopping.support.CatalogFixture;
+import com.example.webshopping.support.CatalogFixture.Catalog;
+import com.example.webshopping.support.QueryCountInspector;
+import com.example.webshopping.support.QueryCounter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주요 페이지 SQL 문장 수 회귀 테스트 (H2, 화면 렌더링까지 포함)
+ * - 규모만 다른 두 카탈로그(상품/주문/장바구니/리뷰 25건 vs 60건, 목록 한 페이지 20건보다 많게)에서 같은 페이지를 요청
+ * - 문장 수가 데이터 규모에 따라 늘어나면(N+1) 실패, 페이지별 상한을 넘어도 실패
+ */
+@SpringBootTest(properties = {
+        QueryCountInspector.PROPERTY,
+        "file.upload-dir=build/test-upload",
+        "toss.payments.secret-key=test_sk",
+        "toss.payments.client-key=test_ck",
+        "spring.datasource.url=jdbc:h2:mem:page-query-count;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureMockMvc
+@Import(CatalogFixture.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PageQueryCountTest {
+
+    private static final int SMALL = 25;
+    private static final int LARGE = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CatalogFixture catalogFixture;
+
+    private Catalog small;
+    private Catalog large;
+
+    @BeforeAll
+    void setUp() {
+        small = catalogFixture.seed("small", SMALL);
+        large = catalogFixture.seed("large", LARGE);
+    }
+
+    /**
+     * 페이지별 상한 = 현재 문장 수 (줄어들면 상한도 낮춤)
+     * - 메인: 스냅샷 사용 (DB 조회 없음)
+     * - 상품 상세: 상품(+상세) / 옵션 / 리뷰 / 이미지 / 리뷰 작성자(배치) / 별점 집계 2 / 카테고리, 로그인 시 회원/리뷰 작성 여부 추가
+     * - 판매자 주문 관리: 회원 / 주문 ID 페이지 / 개수 / 상태별 건수 / 주문 / 주문 상품
+     */
+    static Stream<Arguments> pages() {
+        return Stream.of(
+                page("메인", 0, catalog -> get("/")),
+                page("카테고리 상품 목록", 4, catalog -> get("/product/list").param("categoryId", catalog.categoryId().toString())
+                        .with(user(catalog.buyerEmail()).roles("USER"))),
+                page("상품 상세", 8, catalog -> get("/product/detail/" + catalog.productId())),
+                page("상품 상세 (로그인)", 12, catalog -> get("/product/detail/" + catalog.productId())
+                        .with(user(catalog.buyerEmail()).roles("USER"))),
+                page("장바구니", 6, catalog -> get("/cart").with(user(catalog.buyerEmail()).roles("USER"))),
+                page("주문 내역", 3, catalog -> get("/order/list").with(user(catalog.buyerEmail()).roles("USER"))),
+                page("마이페이지", 4, catalog -> get("/members/mypage").with(user(catalog.buyerEmail()).roles("USER"))),
+                page("판매자 상품 관리", 3, catalog -> get("/admin/product/list").with(user(catalog.sellerEmail()).roles("SELLER"))),
+                page("판매자 주문 관리", 6, catalog -> get("/admin/orders").with(user(catalog.sellerEmail()).roles("SELLER"))),
+                // 전체 카테고리 대상 화면이라 규모 비교는 의미 없고 상한만 검증
+                page("카테고리 관리", 1, catalog -> get("/category/manage").with(user("admin@test.com").roles("ADMIN")))
+        );
+    }
+
+    @ParameterizedTest(name = "{0} (상한 {1}개)")
+    @MethodSource("pages")
+    @DisplayName("페이지 SQL 문장 수 - 데이터 규모와 무관하고 상한 이하")
+    void 페이지_쿼리수(String name, int max, Function<Catalog, RequestBuilder> request) throws Exception {
+        List<String> smallStatements = QueryCounter.assertAtMost(max, () -> perform(request.apply(small)));
+        List<String> largeStatements = QueryCounter.assertAtMost(max, () -> perform(request.apply(large)));
+
+        QueryCounter.assertSameCount(smallStatements, largeStatements);
+    }
+
+    private void perform(RequestBuilder request) throws Exception {
+        mockMvc.perform(request).andExpect(status().isOk());
+    }
+
+    private static Arguments page(String name, int max, Function<Catalog, RequestBuilder> request) {
+        return Arguments.of(name, max, request);
+    }
+}
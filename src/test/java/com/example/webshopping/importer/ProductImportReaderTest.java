@@ -0,0 +1,103 @@
+package com.example.webshopping.importer;
+
+import com.example.webshopping.importer.ProductImportReader.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ProductImportReader 단위 테스트
+ * - CSV 따옴표/줄바꿈/옵션 파싱, 헤더 검증 / JSONL 파싱과 오류 행 검증
+ */
+class ProductImportReaderTest {
+
+    @Test
+    @DisplayName("CSV - 따옴표 안의 쉼표/줄바꿈과 이미지/옵션 목록 파싱, 줄 번호는 행 시작 기준")
+    void CSV_파싱() throws IOException {
+        // given
+        String csv = """
+                productName,categoryCode,price,stockQuantity,description,imageUrls,options
+                "러닝화, 경량",SPORTS_RUN_SHOES,89000,10,"첫 줄
+                둘째 줄 ""강조""\",/img/a.jpg|/img/b.jpg,사이즈:250:3|사이즈:260:5:1000
+
+                백팩,BAG_BACKPACK,abc,,,,
+                모자,CAP,15000
+                """;
+
+        // when
+        List<Row> rows = readAll(csv, ProductImportFormat.CSV);
+
+        // then
+        assertThat(rows).hasSize(3);
+
+        Row first = rows.get(0);
+        assertThat(first.lineNumber()).isEqualTo(2);
+        assertThat(first.data().getProductName()).isEqualTo("러닝화, 경량");
+        assertThat(first.data().getDescription()).isEqualTo("첫 줄\n둘째 줄 \"강조\"");
+        assertThat(first.data().getImageUrls()).containsExactly("/img/a.jpg", "/img/b.jpg");
+        assertThat(first.data().getOptions()).hasSize(2);
+        assertThat(first.data().getOptions().get(1).getOptionValue()).isEqualTo("260");
+        assertThat(first.data().getOptions().get(1).getAdditionalPrice()).isEqualTo(1000);
+
+        assertThat(rows.get(1).lineNumber()).isEqualTo(5);
+        assertThat(rows.get(1).isValid()).isFalse();
+        assertThat(rows.get(1).error()).contains("price");
+
+        assertThat(rows.get(2).lineNumber()).isEqualTo(6);
+        assertThat(rows.get(2).data().getPrice()).isEqualTo(15000);
+        assertThat(rows.get(2).data().getStockQuantity()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV - 필수 컬럼이 없으면 파일 전체 거부")
+    void CSV_헤더검증() {
+        // given
+        String csv = "productName,price\n러닝화,89000\n";
+
+        // when & then
+        assertThatThrownBy(() -> readAll(csv, ProductImportFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("categorycode");
+    }
+
+    @Test
+    @DisplayName("JSONL - 한 줄씩 파싱, 깨진 줄은 오류 행으로 반환하고 계속 진행")
+    void JSONL_파싱() throws IOException {
+        // given
+        String jsonl = """
+                {"categoryCode":"SPORTS_RUN_SHOES","productName":"러닝화","price":89000,"unknown":1,"options":[{"optionType":"사이즈","optionValue":"250","stockQuantity":3}]}
+                {"categoryCode":"BAG",
+                                
+                {"categoryCode":"CAP","productName":"모자","price":15000}
+                """;
+
+        // when
+        List<Row> rows = readAll(jsonl, ProductImportFormat.JSONL);
+
+        // then
+        assertThat(rows).extracting(Row::lineNumber).containsExactly(1L, 2L, 4L);
+        assertThat(rows.get(0).data().getOptions().get(0).getStockQuantity()).isEqualTo(3);
+        assertThat(rows.get(1).error()).startsWith("JSON 형식 오류");
+        assertThat(rows.get(2).data().getProductName()).isEqualTo("모자");
+    }
+
+    private static List<Row> readAll(String content, ProductImportFormat format) throws IOException {
+        InputStream in = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        List<Row> rows = new ArrayList<>();
+        try (ProductImportReader reader = ProductImportReader.open(in, format)) {
+            Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.webshopping.metrics;
+
+import com.example.webshopping.repository.CategoryRepository;
+import com.example.webshopping.service.CategoryService;
+import com.example.webshopping.service.CategoryServiceImpl;
+import com.example.webshopping.service.FileService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * InvocationMetricsAspect 단위 테스트
+ * - 서비스/파일 호출 타이머 태그(메서드, 결과, 호출 화면)와 업로드 크기 카운터 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class InvocationMetricsAspectTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @TempDir
+    Path uploadDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/category/edit/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/category/edit/{id}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("서비스 호출 - 성공/실패를 호출 화면 태그와 함께 기록")
+    void 서비스_호출_기록() {
+        // given
+        CategoryService categoryService = proxy(new CategoryServiceImpl(categoryRepository, null));
+        given(categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of());
+        given(categoryRepository.findById(anyLong())).willReturn(Optional.empty());
+
+        // when
+        categoryService.getAllCategoriesWithHierarchy();
+        categoryService.getAllCategoriesWithHierarchy();
+        Throwable thrown = catchThrowable(() -> categoryService.getCategoryById(7L));
+
+        // then
+        assertThat(thrown).isInstanceOf(EntityNotFoundException.class);
+        Timer success = meterRegistry.get("webshop.service.invocations")
+                .tags("class", "CategoryServiceImpl", "method", "getAllCategoriesWithHierarchy",
+                        "outcome", "SUCCESS", "page", "/category/edit/{id}")
+                .timer();
+        Timer error = meterRegistry.get("webshop.service.invocations")
+                .tags("method", "getCategoryById", "outcome", "ERROR", "exception", "EntityNotFoundException")
+                .timer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(error.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파일 저장 - 시간과 업로드 크기를 기록, 요청 밖 호출은 page=none")
+    void 파일_저장_기록() {
+        // given
+        RequestContextHolder.resetRequestAttributes();
+        FileService target = new FileService();
+        ReflectionTestUtils.setField(target, "uploadDir", uploadDir.toString());
+        FileService fileService = proxy(target);
+
+        // when
+        String url = fileService.uploadFile(new MockMultipartFile("file", "tent.jpg", "image/jpeg", new byte[1500]));
+
+        // then
+        assertThat(url).startsWith("/images/product/");
+        assertThat(meterRegistry.get("webshop.file.operations")
+                .tags("method", "uploadFile", "outcome", "SUCCESS", "page", CallerPage.NONE)
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("webshop.file.bytes").tags("method", "uploadFile")
+                .counter().count()).isEqualTo(1500);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new InvocationMetricsAspect(meterRegistry));
+        return (T) factory.getProxy();
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.webshopping.repository;
+
+import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.dto.OrderItemDTO;
+import com.example.webshopping.dto.OrderResponseDTO;
+import com.example.webshopping.entity.Members;
+import com.example.webshopping.entity.Order;
+import com.example.webshopping.entity.OrderItem;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.entity.ProductImage;
+import com.example.webshopping.entity.ProductOption;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * OrderRepository 통합 테스트
+ * - 판매자 주문 검색 쿼리 (ID 페이징, 중복 없음, 필터/정렬) / 주문 DTO 프로젝션 조회 검증
+ * - 주문 상품 판매자 ID 기록/보정 검증
+ */
+@DataJpaTest
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MembersRepository membersRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Members seller;
+    private Order confirmed;
+    private Order delivered;
+    private Order otherSeller;
+    private Order mixed;
+
+    @BeforeEach
+    void setUp() {
+        seller = membersRepository.save(Members.builder().email("seller@test.com").name("판매자").password("1234").build());
+        Members otherSellerMember = membersRepository.save(Members.builder().email("other@test.com").name("다른 판매자").password("1234").build());
+        Members buyer = membersRepository.save(Members.builder().email("buyer@test.com").name("구매자").password("1234").build());
+
+        Product shoes = productRepository.save(Product.builder().productName("등산화").price(100000).stockQuantity(10).members(seller).build());
+        Product tent = productRepository.save(Product.builder().productName("텐트").price(200000).stockQuantity(10).members(otherSellerMember).build());
+
+        LocalDateTime now = LocalDateTime.now();
+        // 같은 판매자 상품이 두 줄 들어 있어도 주문은 한 번만 나와야 함
+        confirmed = order(buyer, OrderStatus.CONFIRMED, now.minusDays(3), shoes, shoes);
+        delivered = order(buyer, OrderStatus.DELIVERED, now.minusDays(2), shoes);
+        otherSeller = order(buyer, OrderStatus.SHIPPED, now.minusDays(1), tent);
+        mixed = order(buyer, OrderStatus.PENDING, now, shoes, tent);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("판매자 주문 ID 검색 - 최신순 페이징, 판매자 상품이 여러 줄이어도 중복 없음, 상태/검색어 필터")
+    void 판매자주문_검색_페이징() {
+        // when
+        Page<Long> firstPage = orderRepository.searchOrderIdsLatest(seller.getId(), null, null, null, null, PageRequest.of(0, 1));
+        Page<Long> all = orderRepository.searchOrderIdsLatest(seller.getId(), null, null, null, null, PageRequest.of(0, 10));
+        Page<Long> confirmedOnly = orderRepository.searchOrderIdsLatest(
+                seller.getId(), null, OrderStatus.CONFIRMED, null, null, PageRequest.of(0, 10));
+        Page<Long> byAmount = orderRepository.searchOrderIdsByAmountDesc(
+                seller.getId(), "등산화", null, null, null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent()).containsExactly(mixed.getId());
+        assertThat(all.getContent()).containsExactly(mixed.getId(), delivered.getId(), confirmed.getId());
+        assertThat(confirmedOnly.getContent()).containsExactly(confirmed.getId());
+        assertThat(byAmount.getContent()).containsExactly(mixed.getId(), confirmed.getId(), delivered.getId());
+    }
+
+    @Test
+    @DisplayName("주문 DTO 조회 - 주문 컬럼과 주문 상품(상품명/옵션 없음/대표 이미지)을 엔티티 없이 조회")
+    void 주문DTO_조회() {
+        // given
+        Product shoes = productRepository.findById(confirmed.getOrderItems().get(0).getProduct().getId()).orElseThrow();
+        entityManager.persist(ProductImage.builder().product(shoes).imageUrl("/img/detail.jpg").repImgYn("N").imageOrder(1).build());
+        entityManager.persist(ProductImage.builder().product(shoes).imageUrl("/img/rep.jpg").repImgYn("Y").imageOrder(0).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<OrderResponseDTO> orders = orderRepository.findOrderDTOsByIdIn(List.of(confirmed.getId(), otherSeller.getId()));
+        List<OrderItemDTO> items = orderItemRepository.findItemDTOsByOrderIdIn(List.of(confirmed.getId(), otherSeller.getId()));
+
+        // then
+        assertThat(orders).extracting(OrderResponseDTO::getOrderId, OrderResponseDTO::getOrderStatusDescription)
+                .containsExactlyInAnyOrder(tuple(confirmed.getId(), OrderStatus.CONFIRMED.getDescription()),
+                        tuple(otherSeller.getId(), OrderStatus.SHIPPED.getDescription()));
+        assertThat(items).extracting(OrderItemDTO::getOrderId, OrderItemDTO::getProductName, OrderItemDTO::getImageUrl)
+                .containsExactly(tuple(confirmed.getId(), "등산화", "/img/rep.jpg"),
+                        tuple(confirmed.getId(), "등산화", "/img/rep.jpg"),
+                        tuple(otherSeller.getId(), "텐트", null));
+        assertThat(items).extracting(OrderItemDTO::getProductOptionId).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("주문 DTO 조회 - 옵션 상품은 옵션 ID/종류/값과 옵션 추가 금액까지 조회")
+    void 주문DTO_옵션_추가금액() {
+        // given
+        Members buyer = membersRepository.findByEmail("buyer@test.com");
+        Product shoes = Product.builder().productName("트레킹화").price(90000).stockQuantity(10).members(seller).build();
+        ProductOption size = ProductOption.builder()
+                .optionType("사이즈").optionValue("280")
+                .additionalPrice(5000).stockQuantity(10).displayOrder(0).isActive(true)
+                .build();
+        shoes.addOption(size);
+        productRepository.save(shoes);
+
+        Order order = Order.createOrder(buyer, "홍길동", "010-0000-0000", "서울시", null);
+        order.addOrderItem(OrderItem.createOrderItem(shoes, size, 2));
+        order.calculateTotalPrice();
+        orderRepository.save(order);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<OrderItemDTO> items = orderItemRepository.findItemDTOsByOrderIdIn(List.of(order.getId()));
+
+        // then
+        assertThat(items).singleElement().satisfies(item -> {
+            assertThat(item.getProductOptionId()).isEqualTo(size.getId());
+            assertThat(item.getOptionType()).isEqualTo("사이즈");
+            assertThat(item.getOptionValue()).isEqualTo("280");
+            assertThat(item.getAdditionalPrice()).isEqualTo(5000);
+            assertThat(item.getQuantity()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("판매자 ID 보정 - 비어 있는 주문 상품만 골라 상품 등록자 ID로 채움")
+    void 판매자ID_보정() {
+        // given
+        entityManager.createQuery("UPDATE OrderItem oi SET oi.sellerId = null WHERE oi.order.id = :orderId")
+                .setParameter("orderId", confirmed.getId())
+                .executeUpdate();
+
+        // when
+        List<Long> ids = orderItemRepository.findIdsWithoutSeller(PageRequest.of(0, 10));
+        int filled = orderItemRepository.fillSellerIds(ids);
+        List<Long> remaining = orderItemRepository.findIdsWithoutSeller(PageRequest.of(0, 10));
+
+        // then
+        assertThat(ids).hasSize(2);
+        assertThat(filled).isEqualTo(2);
+        assertThat(remaining).isEmpty();
+        assertThat(orderRepository.searchOrderIdsLatest(seller.getId(), null, null, null, null, PageRequest.of(0, 10))
+                .getContent())
+                .containsExactly(mixed.getId(), delivered.getId(), confirmed.getId());
+    }
+
+    private Order order(Members buyer, OrderStatus status, LocalDateTime orderDate, Product... products) {
+        Order order = Order.createOrder(buyer, "홍길동", "010-0000-0000", "서울시", null);
+        for (Product product : products) {
+            order.addOrderItem(OrderItem.createOrderItem(product, null, 1));
+        }
+        order.calculateTotalPrice();
+        orderRepository.save(order);
+
+        // @PrePersist가 상태/주문일을 덮어쓰므로 저장 후 지정
+        order.setOrderStatus(status);
+        order.setOrderDate(orderDate);
+        return order;
+    }
+}
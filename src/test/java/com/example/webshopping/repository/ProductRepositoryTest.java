@@ -4,6 +4,9 @@ import com.example.webshopping.constant.ProductType;
 import com.example.webshopping.entity.Category;
 import com.example.webshopping.entity.Members;
 import com.example.webshopping.entity.Product;
+import com.example.webshopping.entity.ProductImage;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,7 +16,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -33,6 +38,9 @@ class ProductRepositoryTest {
     @Autowired
     private MembersRepository membersRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Category category1;
     private Category category2;
     private Members member;
@@ -102,7 +110,7 @@ class ProductRepositoryTest {
 
         // when
         Page<Product> result = productRepository.findByCategoryWithPriceFilter(
-                category1.getId(), null, null, pageable
+                List.of(category1.getId()), null, null, pageable
         );
 
         // then
@@ -122,7 +130,7 @@ class ProductRepositoryTest {
 
         // when
         Page<Product> result = productRepository.findByCategoryWithPriceFilter(
-                category1.getId(), minPrice, maxPrice, pageable
+                List.of(category1.getId()), minPrice, maxPrice, pageable
         );
 
         // then
@@ -132,20 +140,33 @@ class ProductRepositoryTest {
     }
 
     @Test
-    @DisplayName("키워드 검색 - 상품명 LIKE 검색")
-    void 키워드검색() {
+    @DisplayName("카테고리별 상품 조회 - 하위 카테고리 ID 목록으로 IN 조회")
+    void 하위카테고리_포함_조회() {
         // given
-        String keyword = "등산";
-        Pageable pageable = PageRequest.of(0, 20);
+        Category child = categoryRepository.save(Category.builder()
+                .name("등산용품")
+                .depth(2)
+                .parent(category1)
+                .isActive(true)
+                .build());
+        productRepository.save(Product.builder()
+                .productName("등산스틱")
+                .price(50000)
+                .stockQuantity(10)
+                .category(child)
+                .members(member)
+                .productType(ProductType.ETC)
+                .build());
 
         // when
-        Page<Product> result = productRepository.searchWithPriceFilter(
-                keyword, null, null, null, pageable
+        Page<Product> result = productRepository.findByCategoryWithPriceFilter(
+                List.of(category1.getId(), child.getId()), null, 100000, PageRequest.of(0, 20)
         );
 
         // then
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getProductName()).contains("등산");
+        assertThat(result.getContent())
+                .extracting("productName")
+                .containsExactlyInAnyOrder("등산화", "등산스틱");
     }
 
     @Test
@@ -156,7 +177,7 @@ class ProductRepositoryTest {
 
         // when
         Page<Product> result = productRepository.findByCategoryOrderByPriceAsc(
-                category1.getId(), null, null, pageable
+                List.of(category1.getId()), null, null, pageable
         );
 
         // then
@@ -196,7 +217,7 @@ class ProductRepositoryTest {
 
         // when
         Page<Product> result = productRepository.findByCategoryWithPriceFilter(
-                category1.getId(), null, null, pageable
+                List.of(category1.getId()), null, null, pageable
         );
 
         // then
@@ -206,25 +227,166 @@ class ProductRepositoryTest {
     }
 
     @Test
-    @DisplayName("복합 검색 - 키워드 + 카테고리 + 가격대")
-    void 복합검색() {
+    @DisplayName("복합 조회 - 카테고리 + 가격대 + 가격 높은순 키셋")
+    void 복합조회() {
         // given
-        String keyword = "등산";
         Long categoryId = category1.getId();
         Integer minPrice = 50000;
-        Integer maxPrice = 150000;
-        Pageable pageable = PageRequest.of(0, 20);
+        Integer maxPrice = 120000;
 
         // when
-        Page<Product> result = productRepository.searchWithPriceFilter(
-                keyword, categoryId, minPrice, maxPrice, pageable
+        List<Object[]> result = productRepository.findKeysByCategoryPriceDescAfter(
+                List.of(categoryId), minPrice, maxPrice, true, Integer.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 20)
         );
 
         // then
-        assertThat(result.getContent()).hasSize(1);
-        Product product = result.getContent().get(0);
-        assertThat(product.getProductName()).contains(keyword);
+        assertThat(result).hasSize(1);
+        Product product = productRepository.findById((Long) result.get(0)[0]).orElseThrow();
+        assertThat(product.getProductName()).isEqualTo("등산화");
         assertThat(product.getCategory().getId()).isEqualTo(categoryId);
         assertThat(product.getPrice()).isBetween(minPrice, maxPrice);
     }
+
+    @Test
+    @DisplayName("키셋 페이지네이션 - 가격 낮은순, 커서 다음 상품부터 조회")
+    void 키셋_페이지네이션() {
+        // given
+        PageRequest limit = PageRequest.of(0, 1);
+
+        // when
+        List<Object[]> first = productRepository.findKeysByCategoryPriceAscAfter(
+                List.of(category1.getId()), null, null, true, Integer.MIN_VALUE, Long.MAX_VALUE, limit);
+        Product firstProduct = productRepository.findById((Long) first.get(0)[0]).orElseThrow();
+        List<Object[]> second = productRepository.findKeysByCategoryPriceAscAfter(
+                List.of(category1.getId()), null, null, true, (Integer) first.get(0)[1], (Long) first.get(0)[0], limit);
+        Product secondProduct = productRepository.findById((Long) second.get(0)[0]).orElseThrow();
+        List<Object[]> third = productRepository.findKeysByCategoryPriceAscAfter(
+                List.of(category1.getId()), null, null, true, (Integer) second.get(0)[1], (Long) second.get(0)[0], limit);
+        List<Object[]> outOfStock = productRepository.findKeysByCategoryPriceAscAfter(
+                List.of(category1.getId()), null, null, false, Integer.MIN_VALUE, Long.MAX_VALUE, limit);
+
+        // then
+        assertThat(firstProduct.getProductName()).isEqualTo("등산화");
+        assertThat(first.get(0)[1]).isEqualTo(firstProduct.getPrice());
+        assertThat(secondProduct.getProductName()).isEqualTo("배낭");
+        assertThat(third).isEmpty();
+        assertThat(outOfStock).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인기순 - 인기 점수 컬럼 정렬, 키셋 다음 상품 조회")
+    void 인기순_키셋() {
+        // given
+        List<Product> products = productRepository.findByMembers_IdOrderByCreatedDateDesc(member.getId());
+        Product boots = products.stream().filter(p -> p.getProductName().equals("등산화")).findFirst().orElseThrow();
+        Product backpack = products.stream().filter(p -> p.getProductName().equals("배낭")).findFirst().orElseThrow();
+        productRepository.updatePopularityScore(boots.getId(), 1.5);
+        productRepository.updatePopularityScore(backpack.getId(), 3.0);
+
+        // when
+        Page<Product> page = productRepository.findByCategoryOrderByPopular(
+                List.of(category1.getId()), null, null, PageRequest.of(0, 20));
+        List<Object[]> afterFirst = productRepository.findKeysByCategoryPopularAfter(
+                List.of(category1.getId()), null, null, true, 3.0, backpack.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getContent()).extracting("productName").containsExactly("배낭", "등산화");
+        assertThat(afterFirst).hasSize(1);
+        assertThat(afterFirst.get(0)).containsExactly(boots.getId(), 1.5);
+    }
+
+    @Test
+    @DisplayName("인기순 키셋 - 점수가 없는(NULL) 상품은 마지막, NULL 구간 커서는 ID로 이어서 조회")
+    void 인기순_키셋_점수없음() {
+        // given
+        List<Product> products = productRepository.findByMembers_IdOrderByCreatedDateDesc(member.getId());
+        Product boots = products.stream().filter(p -> p.getProductName().equals("등산화")).findFirst().orElseThrow();
+        Product backpack = products.stream().filter(p -> p.getProductName().equals("배낭")).findFirst().orElseThrow();
+        productRepository.updatePopularityScore(backpack.getId(), 3.0);
+        entityManager.createNativeQuery("UPDATE product SET popularity_score = NULL WHERE product_id = :id")
+                .setParameter("id", boots.getId())
+                .executeUpdate();
+        List<Long> categoryIds = List.of(category1.getId());
+        PageRequest limit = PageRequest.of(0, 10);
+
+        // when
+        List<Object[]> first = productRepository.findKeysByCategoryPopularAfter(
+                categoryIds, null, null, true, Double.MAX_VALUE, Long.MAX_VALUE, limit);
+        List<Object[]> afterScored = productRepository.findKeysByCategoryPopularAfter(
+                categoryIds, null, null, true, 3.0, backpack.getId(), limit);
+        List<Object[]> nullSection = productRepository.findKeysByCategoryPopularAfter(
+                categoryIds, null, null, true, null, Long.MAX_VALUE, limit);
+        List<Object[]> afterNull = productRepository.findKeysByCategoryPopularAfter(
+                categoryIds, null, null, true, null, boots.getId(), limit);
+
+        // then
+        assertThat(first).extracting(row -> row[0]).containsExactly(backpack.getId(), boots.getId());
+        assertThat(afterScored).hasSize(1);
+        assertThat(afterScored.get(0)).containsExactly(boots.getId(), null);
+        assertThat(nullSection).extracting(row -> row[0]).containsExactly(boots.getId());
+        assertThat(afterNull).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재고 조건부 일괄 차감 - 재고가 부족한 행만 실패, 나머지는 한 번의 배치로 반영")
+    void 재고_일괄차감() {
+        // given
+        List<Product> products = productRepository.findByMembers_IdOrderByCreatedDateDesc(member.getId());
+        Product boots = products.stream().filter(p -> p.getProductName().equals("등산화")).findFirst().orElseThrow();
+        Product backpack = products.stream().filter(p -> p.getProductName().equals("배낭")).findFirst().orElseThrow();
+        productRepository.flush();
+
+        // when
+        boolean[] applied = productRepository.decreaseStocks(List.of(
+                new StockDelta(boots.getId(), 5),
+                new StockDelta(backpack.getId(), 31),
+                new StockDelta(-1L, 1)));
+
+        // then
+        assertThat(applied).containsExactly(true, false, false);
+        assertThat(productRepository.findStockQuantityById(boots.getId())).contains(45);
+        assertThat(productRepository.findStockQuantityById(backpack.getId())).contains(30);
+    }
+
+    @Test
+    @DisplayName("인기 점수 일괄 갱신 - 한 번의 배치로 지정한 상품만 UPDATE")
+    void 인기점수_일괄갱신() {
+        // given
+        List<Product> products = productRepository.findByMembers_IdOrderByCreatedDateDesc(member.getId());
+        Product boots = products.stream().filter(p -> p.getProductName().equals("등산화")).findFirst().orElseThrow();
+        Product backpack = products.stream().filter(p -> p.getProductName().equals("배낭")).findFirst().orElseThrow();
+        productRepository.flush();
+
+        // when
+        productRepository.updatePopularityScores(Map.of(boots.getId(), 2.5));
+
+        // then
+        Map<Long, Double> scores = new HashMap<>();
+        productRepository.findAllPopularityScores().forEach(row -> scores.put((Long) row[0], (Double) row[1]));
+        assertThat(scores).containsEntry(boots.getId(), 2.5);
+        assertThat(scores.get(backpack.getId())).isNotEqualTo(2.5);
+    }
+
+    @Test
+    @DisplayName("목록 조회 Fetch Join - 이미지가 여러 장이어도 상품 중복 없음, 페이지 전체 건수는 별도 COUNT 쿼리")
+    void 목록조회_페치조인() {
+        // given
+        Product boots = productRepository.findByMembers_IdOrderByCreatedDateDesc(member.getId()).stream()
+                .filter(p -> p.getProductName().equals("등산화")).findFirst().orElseThrow();
+        boots.addImage(ProductImage.builder().imageUrl("/images/1.jpg").repImgYn("Y").imageOrder(0).build());
+        boots.addImage(ProductImage.builder().imageUrl("/images/2.jpg").repImgYn("N").imageOrder(1).build());
+        productRepository.saveAndFlush(boots);
+        entityManager.clear();
+
+        // when
+        List<Product> sellerProducts = productRepository.findByMembers_IdOrderByCreatedDateDesc(member.getId());
+        Page<Product> firstPage = productRepository.findByCategoryWithPriceFilter(
+                List.of(category1.getId(), category2.getId()), null, null, PageRequest.of(0, 2));
+
+        // then
+        assertThat(sellerProducts).extracting("productName").containsExactlyInAnyOrder("등산화", "배낭", "텐트");
+        assertThat(sellerProducts).allSatisfy(product -> assertThat(Hibernate.isInitialized(product.getImages())).isTrue());
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+    }
 }
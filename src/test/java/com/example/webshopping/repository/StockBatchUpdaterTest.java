@@ -0,0 +1,85 @@
+package com.example.webshopping.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * StockBatchUpdater 단위 테스트
+ * - 드라이버가 행별 건수를 알려주지 않을 때(SUCCESS_NO_INFO) 잠근 재고로 반영 여부 판단 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class StockBatchUpdaterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Test
+    @DisplayName("SUCCESS_NO_INFO - 성공으로 간주하지 않고 배치 전 잠근 재고가 차감량 이상인 행만 반영으로 판단")
+    void 건수없는_배치결과() throws Exception {
+        // given: 1번 재고 10, 2번 재고 1, 3번은 없는 상품
+        given(resultSet.getLong(1)).willReturn(1L, 2L);
+        given(resultSet.getInt(2)).willReturn(10, 1);
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).given(jdbcTemplate).query(
+                eq("SELECT product_id, stock_quantity FROM product WHERE product_id IN (?,?,?,?) FOR UPDATE"),
+                any(RowCallbackHandler.class), any(Object[].class));
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{
+                Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        StockBatchUpdater updater = new StockBatchUpdater(
+                jdbcTemplate, new TransactionTemplate(transactionManager), "product", "product_id");
+
+        // when
+        boolean[] applied = updater.apply(List.of(
+                new StockDelta(1L, 3),
+                new StockDelta(2L, 2),
+                new StockDelta(3L, 1),
+                new StockDelta(2L, -5)));
+
+        // then
+        assertThat(applied).containsExactly(true, false, false, true);
+        then(transactionManager).should().commit(any());
+    }
+
+    @Test
+    @DisplayName("행별 건수가 있으면 건수로 판단")
+    void 건수있는_배치결과() {
+        // given
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{1, 0});
+        StockBatchUpdater updater = new StockBatchUpdater(
+                jdbcTemplate, new TransactionTemplate(transactionManager), "product_option", "product_option_id");
+
+        // when
+        boolean[] applied = updater.apply(List.of(new StockDelta(1L, 3), new StockDelta(2L, 2)));
+
+        // then
+        assertThat(applied).containsExactly(true, false);
+        then(jdbcTemplate).should().query(
+                eq("SELECT product_option_id, stock_quantity FROM product_option WHERE product_option_id IN (?,?) FOR UPDATE"),
+                any(RowCallbackHandler.class), any(Object[].class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.webshopping.search;
+
+import com.example.webshopping.dto.ProductFacetDTO;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ProductFacetIndex 단위 테스트
+ * - 패싯 건수 / 필터 조합 / 증분 갱신 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductFacetIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductFacetIndex productFacetIndex;
+
+    private Category outdoor;
+    private Category hiking;
+    private Category camping;
+
+    @BeforeEach
+    void setUp() {
+        outdoor = Category.builder().id(1L).name("아웃도어").build();
+        hiking = Category.builder().id(2L).name("등산").parent(outdoor).build();
+        camping = Category.builder().id(3L).name("캠핑").parent(outdoor).build();
+
+        given(productRepository.findAllForSearchIndex()).willReturn(List.of(
+                product(10L, 150000, 10, 0, hiking),
+                product(11L, 90000, 0, 20, hiking),
+                product(12L, 200000, 5, 10, camping),
+                product(13L, 30000, 3, 0, camping)
+        ));
+        productFacetIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("필터 없음 - 카테고리(상위 포함) / 가격대 / 할인 / 재고 건수")
+    void 전체_패싯() {
+        // when
+        ProductFacetDTO facets = productFacetIndex.facets(null, null, null, null, false, false);
+
+        // then
+        assertThat(facets.getTotalCount()).isEqualTo(4);
+        assertThat(facets.categoryCount(1L)).isEqualTo(4);
+        assertThat(facets.categoryCount(2L)).isEqualTo(2);
+        assertThat(facets.categoryCount(3L)).isEqualTo(2);
+        // 가격대는 양 끝 포함 (150,000 / 200,000원은 인접 구간에 함께 집계)
+        assertThat(facets.getPriceBucketCounts()).containsExactly(1, 1, 1, 2, 1);
+        assertThat(facets.getDiscountedCount()).isEqualTo(2);
+        assertThat(facets.getInStockCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("필터 조합 - 각 패싯은 자기 자신을 제외한 필터만 적용")
+    void 필터_조합() {
+        // when
+        ProductFacetDTO facets = productFacetIndex.facets(null, 2L, 100000, null, false, true);
+
+        // then
+        assertThat(facets.getTotalCount()).isEqualTo(1);
+        // 카테고리 건수: 가격 >= 100,000 + 재고 있음
+        assertThat(facets.categoryCount(1L)).isEqualTo(2);
+        assertThat(facets.categoryCount(2L)).isEqualTo(1);
+        assertThat(facets.categoryCount(3L)).isEqualTo(1);
+        // 가격대 건수: 등산 + 재고 있음
+        assertThat(facets.getPriceBucketCounts()).containsExactly(0, 0, 1, 1, 0);
+        // 재고 건수: 등산 + 가격 >= 100,000
+        assertThat(facets.getInStockCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 결과 상품으로 제한")
+    void 후보_상품_제한() {
+        // when
+        ProductFacetDTO facets = productFacetIndex.facets(List.of(11L, 12L, 99L), null, null, null, true, false);
+
+        // then
+        assertThat(facets.getTotalCount()).isEqualTo(2);
+        assertThat(facets.categoryCount(2L)).isEqualTo(1);
+        assertThat(facets.categoryCount(3L)).isEqualTo(1);
+        assertThat(facets.getInStockCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 수정/삭제 이벤트 반영")
+    void 증분_갱신() {
+        // given
+        given(productRepository.findForSearchIndex(10L)).willReturn(Optional.of(product(10L, 40000, 0, 30, camping)));
+
+        // when
+        productFacetIndex.onProductChanged(ProductChangedEvent.saved(10L));
+        productFacetIndex.onProductChanged(ProductChangedEvent.deleted(13L));
+
+        // then
+        ProductFacetDTO facets = productFacetIndex.facets(null, null, null, null, false, false);
+        assertThat(productFacetIndex.size()).isEqualTo(3);
+        assertThat(facets.categoryCount(2L)).isEqualTo(1);
+        assertThat(facets.categoryCount(3L)).isEqualTo(2);
+        assertThat(facets.getPriceBucketCounts()).containsExactly(1, 1, 0, 1, 1);
+        assertThat(facets.getDiscountedCount()).isEqualTo(3);
+        assertThat(facets.getInStockCount()).isEqualTo(1);
+    }
+
+    private Product product(Long id, int price, int stock, int discountRate, Category category) {
+        return Product.builder()
+                .id(id)
+                .price(price)
+                .stockQuantity(stock)
+                .discountRate(discountRate)
+                .category(category)
+                .build();
+    }
+}
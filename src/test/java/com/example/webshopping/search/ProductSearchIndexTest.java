@@ -0,0 +1,196 @@
+package com.example.webshopping.search;
+
+import com.example.webshopping.dto.ProductCursor;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.event.PopularityChangedEvent;
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.repository.ProductRepository;
+import com.example.webshopping.search.analyzer.KoreanNGramAnalyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ProductSearchIndex 단위 테스트
+ * - 색인 / 검색 / 증분 갱신 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex productSearchIndex;
+
+    private Category outdoor;
+    private Category hiking;
+    private Category camping;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(productRepository, new KoreanNGramAnalyzer());
+
+        outdoor = Category.builder().id(1L).name("아웃도어").build();
+        hiking = Category.builder().id(2L).name("등산").parent(outdoor).build();
+        camping = Category.builder().id(3L).name("캠핑").parent(outdoor).build();
+
+        given(productRepository.findAllForSearchIndex()).willReturn(List.of(
+                product(10L, "고어텍스 등산화", 150000, 10, hiking, 1, 1.0),
+                product(11L, "경량 등산 배낭", 90000, 0, hiking, 2, 9.0),
+                product(12L, "텐트 4인용", 200000, 5, camping, 3, 5.0)
+        ));
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("상품명 접두어 검색 - 재고 있는 상품 먼저")
+    void 접두어_검색() {
+        // when
+        Page<Long> result = productSearchIndex.search("등산", null, null, null, "latest", PageRequest.of(0, 20));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("한글 복합어 중간 검색 - n-gram")
+    void 복합어_중간_검색() {
+        // when
+        Page<Long> result = productSearchIndex.search("산화", null, null, null, "latest", PageRequest.of(0, 20));
+        Page<Long> spaced = productSearchIndex.search("등산배낭", null, null, null, "latest", PageRequest.of(0, 20));
+
+        // then
+        assertThat(result.getContent()).containsExactly(10L);
+        assertThat(spaced.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리 경로 검색 - 상위 카테고리로 필터링")
+    void 카테고리_경로_검색() {
+        // when
+        Page<Long> byName = productSearchIndex.search("캠핑", null, null, null, "latest", PageRequest.of(0, 20));
+        Page<Long> byParent = productSearchIndex.search("텐트", outdoor.getId(), null, null, "latest", PageRequest.of(0, 20));
+        Page<Long> otherCategory = productSearchIndex.search("텐트", hiking.getId(), null, null, "latest", PageRequest.of(0, 20));
+
+        // then
+        assertThat(byName.getContent()).containsExactly(12L);
+        assertThat(byParent.getContent()).containsExactly(12L);
+        assertThat(otherCategory.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("복합 검색 - 여러 토큰 AND + 가격 필터 + 정렬")
+    void 복합_검색() {
+        // when
+        Page<Long> andResult = productSearchIndex.search("등산 배낭", null, null, null, "latest", PageRequest.of(0, 20));
+        Page<Long> priceResult = productSearchIndex.search("아웃도어", null, 100000, 200000, "price_desc", PageRequest.of(0, 20));
+
+        // then
+        assertThat(andResult.getContent()).containsExactly(11L);
+        assertThat(priceResult.getContent()).containsExactly(12L, 10L);
+    }
+
+    @Test
+    @DisplayName("증분 색인 - 수정/삭제 이벤트 반영")
+    void 증분_색인() {
+        // given
+        Product renamed = product(10L, "방수 트레킹화", 150000, 10, hiking, 1, 1.0);
+        given(productRepository.findForSearchIndex(10L)).willReturn(Optional.of(renamed));
+
+        // when
+        productSearchIndex.onProductChanged(ProductChangedEvent.saved(10L));
+        productSearchIndex.onProductChanged(ProductChangedEvent.deleted(12L));
+
+        // then
+        assertThat(productSearchIndex.search("고어텍스", null, null, null, "latest", PageRequest.of(0, 20))).isEmpty();
+        assertThat(productSearchIndex.search("트레킹", null, null, null, "latest", PageRequest.of(0, 20)).getContent())
+                .containsExactly(10L);
+        assertThat(productSearchIndex.search("텐트", null, null, null, "latest", PageRequest.of(0, 20))).isEmpty();
+        assertThat(productSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("페이징 - 전체 건수와 현재 페이지 ID")
+    void 페이징() {
+        // when
+        Page<Long> result = productSearchIndex.search("아웃도어", null, null, null, "price_asc", PageRequest.of(1, 2));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        assertThat(result.getContent()).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("키셋 검색 - 커서 다음 상품부터, 재고 구간 넘어가기")
+    void 키셋_검색() {
+        // when
+        ProductSearchIndex.SearchSlice first = productSearchIndex.searchAfter("아웃도어", null, null, null, "price_asc", null, 2);
+        ProductSearchIndex.SearchSlice second = productSearchIndex.searchAfter("아웃도어", null, null, null, "price_asc",
+                ProductCursor.decode(first.hits().get(1).encode()), 2);
+
+        // then
+        assertThat(first.hits()).extracting(ProductCursor::getId).containsExactly(10L, 12L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.total()).isEqualTo(3);
+        assertThat(second.hits()).extracting(ProductCursor::getId).containsExactly(11L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("인기순 검색 - 재고 있는 상품 먼저, 인기 점수 높은 순 + 키셋 커서")
+    void 인기순_검색() {
+        // when
+        Page<Long> page = productSearchIndex.search("아웃도어", null, null, null, "popular", PageRequest.of(0, 20));
+        ProductSearchIndex.SearchSlice first = productSearchIndex.searchAfter("아웃도어", null, null, null, "popular", null, 1);
+        ProductSearchIndex.SearchSlice second = productSearchIndex.searchAfter("아웃도어", null, null, null, "popular",
+                ProductCursor.decode(first.hits().get(0).encode()), 2);
+
+        // then
+        assertThat(page.getContent()).containsExactly(12L, 10L, 11L);
+        assertThat(first.hits()).extracting(ProductCursor::getValue).containsExactly("5.0");
+        assertThat(second.hits()).extracting(ProductCursor::getId).containsExactly(10L, 11L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("인기 점수 변경 이벤트 - 재색인 없이 인기순 정렬 키 갱신")
+    void 인기_점수_변경() {
+        // when
+        productSearchIndex.onPopularityChanged(new PopularityChangedEvent(Map.of(10L, 7.0, 99L, 3.0)));
+
+        // then
+        assertThat(productSearchIndex.search("아웃도어", null, null, null, "popular", PageRequest.of(0, 20)).getContent())
+                .containsExactly(10L, 12L, 11L);
+        assertThat(productSearchIndex.size()).isEqualTo(3);
+        then(productRepository).should(never()).findForSearchIndex(anyLong());
+    }
+
+    private Product product(Long id, String name, int price, int stock, Category category, int daysAgo,
+                            double popularityScore) {
+        return Product.builder()
+                .id(id)
+                .productName(name)
+                .price(price)
+                .stockQuantity(stock)
+                .category(category)
+                .createdDate(LocalDateTime.now().minusDays(daysAgo))
+                .popularityScore(popularityScore)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.webshopping.search;
+
+import com.example.webshopping.dto.SuggestionDTO;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ProductSuggestIndex 단위 테스트
+ * - 접두어 자동완성 / 인기 순 정렬 / 증분 갱신 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductSuggestIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductSuggestIndex productSuggestIndex;
+
+    private Category outdoor;
+    private Category hiking;
+
+    @BeforeEach
+    void setUp() {
+        outdoor = Category.builder().id(1L).name("아웃도어").build();
+        hiking = Category.builder().id(2L).name("등산").parent(outdoor).build();
+
+        given(productRepository.findAllForSearchIndex()).willReturn(List.of(
+                product(10L, "고어텍스 등산화", 1.5),
+                product(11L, "경량 등산 배낭", 0.0),
+                product(12L, "등산 스틱", 3.2),
+                product(13L, "Gore-Tex Jacket", 0.0)
+        ));
+        productSuggestIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("접두어 자동완성 - 단어 시작 위치 일치, 인기 점수 순")
+    void 접두어_자동완성() {
+        // when
+        List<SuggestionDTO> result = productSuggestIndex.suggest("등산", 10);
+
+        // then
+        assertThat(result).extracting(SuggestionDTO::getType, SuggestionDTO::getText).containsExactly(
+                tuple("CATEGORY", "등산"),
+                tuple("PRODUCT", "등산 스틱"),
+                tuple("PRODUCT", "고어텍스 등산화"),
+                tuple("PRODUCT", "경량 등산 배낭"));
+    }
+
+    @Test
+    @DisplayName("대소문자 / 공백 정규화, 개수 제한")
+    void 정규화_개수_제한() {
+        // when
+        List<SuggestionDTO> upper = productSuggestIndex.suggest("  GORE-tex   ja", 10);
+        List<SuggestionDTO> limited = productSuggestIndex.suggest("등산", 1);
+
+        // then
+        assertThat(upper).extracting(SuggestionDTO::getId).containsExactly(13L);
+        assertThat(limited).extracting(SuggestionDTO::getText).containsExactly("등산", "등산 스틱");
+        assertThat(productSuggestIndex.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 수정/삭제 이벤트 반영")
+    void 증분_갱신() {
+        // given
+        given(productRepository.findForSearchIndex(10L)).willReturn(Optional.of(product(10L, "방수 트레킹화", 1.5)));
+
+        // when
+        productSuggestIndex.onProductChanged(ProductChangedEvent.saved(10L));
+        productSuggestIndex.onProductChanged(ProductChangedEvent.deleted(12L));
+
+        // then
+        assertThat(productSuggestIndex.suggest("고어", 10)).isEmpty();
+        assertThat(productSuggestIndex.suggest("트레", 10)).extracting(SuggestionDTO::getId).containsExactly(10L);
+        assertThat(productSuggestIndex.suggest("등산", 10)).extracting(SuggestionDTO::getText)
+                .containsExactly("등산", "경량 등산 배낭");
+    }
+
+    @Test
+    @DisplayName("최대 깊이보다 긴 접두어")
+    void 긴_접두어() {
+        // when
+        List<SuggestionDTO> result = productSuggestIndex.suggest("gore-tex jack", 10);
+        List<SuggestionDTO> mismatch = productSuggestIndex.suggest("gore-tex jeans", 10);
+
+        // then
+        assertThat(result).extracting(SuggestionDTO::getId).containsExactly(13L);
+        assertThat(mismatch).isEmpty();
+    }
+
+    private Product product(Long id, String name, double popularityScore) {
+        return Product.builder()
+                .id(id)
+                .productName(name)
+                .popularityScore(popularityScore)
+                .category(hiking)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.webshopping.search.analyzer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * KoreanNGramAnalyzer 단위 테스트
+ */
+class KoreanNGramAnalyzerTest {
+
+    private final KoreanNGramAnalyzer analyzer = new KoreanNGramAnalyzer();
+
+    @Test
+    @DisplayName("한글 색인 - 2-gram + 3-gram")
+    void 한글_색인() {
+        // when
+        List<String> tokens = analyzer.analyze("방수자켓");
+
+        // then
+        assertThat(tokens).containsExactly("방수", "수자", "자켓", "방수자", "수자켓");
+    }
+
+    @Test
+    @DisplayName("한글 검색어 - 2-gram, 한 글자는 그대로")
+    void 한글_검색어() {
+        // when & then
+        assertThat(analyzer.analyzeQuery("등산화")).containsExactly("등산", "산화");
+        assertThat(analyzer.analyzeQuery("옷")).containsExactly("옷");
+    }
+
+    @Test
+    @DisplayName("영문/숫자 - 소문자 변환, 문자 종류 경계에서 분리")
+    void 영문_숫자() {
+        // when
+        List<String> tokens = analyzer.analyze("Gore-Tex 4인용 텐트");
+
+        // then
+        assertThat(tokens).containsExactly("gore", "tex", "4", "인용", "텐트");
+    }
+
+    @Test
+    @DisplayName("불용어 제거 - 단어 단위")
+    void 불용어_제거() {
+        // when
+        List<String> tokens = analyzer.analyzeQuery("The 등산 및 캠핑 for men");
+
+        // then
+        assertThat(tokens).containsExactly("등산", "캠핑", "men");
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.dto.CategoryDTO;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.repository.CategoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * CategoryService 단위 테스트
+ * - 카테고리 관리 화면 계층 구성 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CategoryServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CategoryServiceImpl categoryService;
+
+    @Test
+    @DisplayName("계층 구성 - 활성 카테고리를 한 번에 조회해 표시 순서대로 부모 아래에 배치")
+    void 계층_구성() {
+        // given
+        Category outdoor = category(1L, "아웃도어", null, 1);
+        Category camping = category(2L, "캠핑", null, 2);
+        Category shoes = category(3L, "등산화", outdoor, 1);
+        Category bags = category(4L, "배낭", outdoor, 2);
+        Category winterShoes = category(5L, "동계 등산화", shoes, 1);
+        Category orphan = category(6L, "비활성 부모의 하위", category(7L, "비활성", null, 3), 1);
+        given(categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc())
+                .willReturn(List.of(outdoor, shoes, winterShoes, camping, bags, orphan));
+
+        // when
+        List<CategoryDTO> tree = categoryService.getAllCategoriesWithHierarchy();
+
+        // then
+        assertThat(tree).extracting("name").containsExactly("아웃도어", "캠핑");
+        assertThat(tree.get(0).getChildren()).extracting("name").containsExactly("등산화", "배낭");
+        assertThat(tree.get(0).getChildren().get(0).getChildren()).extracting("name").containsExactly("동계 등산화");
+        assertThat(tree.get(1).getChildren()).isEmpty();
+        then(categoryRepository).should(times(1)).findByIsActiveTrueOrderByDisplayOrderAsc();
+        then(categoryRepository).should(never()).findByParent_IdAndIsActiveTrueOrderByDisplayOrderAsc(anyLong());
+    }
+
+    private Category category(Long id, String name, Category parent, int displayOrder) {
+        return Category.builder()
+                .id(id)
+                .name(name)
+                .parent(parent)
+                .depth(parent == null ? 1 : parent.getDepth() + 1)
+                .displayOrder(displayOrder)
+                .isActive(true)
+                .build();
+    }
+}
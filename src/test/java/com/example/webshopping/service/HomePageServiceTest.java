@@ -0,0 +1,136 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.dto.HomePageDTO;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.entity.ProductImage;
+import com.example.webshopping.entity.ProductRating;
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.event.ReviewChangedEvent;
+import com.example.webshopping.repository.CategoryRepository;
+import com.example.webshopping.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * HomePageService 단위 테스트
+ * - 섹션 스냅샷 구성 / 스냅샷 재사용 / 변경 이벤트 후 재구성 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class HomePageServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductRatingService productRatingService;
+
+    @InjectMocks
+    private HomePageServiceImpl homePageService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(homePageService, "refreshIntervalMs", 60000L);
+        given(categoryRepository.findAll()).willReturn(List.of(Category.builder().id(1L).name("아웃도어").build()));
+        given(productRepository.findTodayDealIds(any())).willReturn(List.of(11L));
+        given(productRepository.findPopularProductIds(any())).willReturn(List.of(12L, 11L));
+        given(productRepository.findNewProductIds(any())).willReturn(List.of(12L, 11L));
+        given(productRepository.findAllWithImagesByIdIn(anyCollection())).willReturn(List.of(
+                product(11L, "등산화", 100000, 30),
+                product(12L, "텐트", 200000, 0)
+        ));
+        ProductRating rating = new ProductRating(11L);
+        rating.addRatings(5, 1);
+        rating.addRatings(4, 3);
+        given(productRatingService.getRatings(anyCollection())).willReturn(Map.of(11L, rating));
+    }
+
+    @Test
+    @DisplayName("스냅샷 구성 - 섹션 순서 유지, 할인가/대표 이미지/별점 포함")
+    void 스냅샷_구성() {
+        // when
+        HomePageDTO homePage = homePageService.getHomePage();
+
+        // then
+        assertThat(homePage.getCategories()).extracting("name").containsExactly("아웃도어");
+        assertThat(homePage.getTodayDeals()).extracting("productName").containsExactly("등산화");
+        assertThat(homePage.getPopularProducts()).extracting("id").containsExactly(12L, 11L);
+
+        var boots = homePage.getTodayDeals().get(0);
+        assertThat(boots.getDiscountPrice()).isEqualTo(70000);
+        assertThat(boots.getRepImageUrl()).isEqualTo("/images/11.jpg");
+        assertThat(boots.getAverageRating()).isEqualTo(4.3);
+        assertThat(boots.getReviewCount()).isEqualTo(4L);
+        assertThat(homePage.getNewProducts().get(0).getReviewCount()).isZero();
+        assertThatThrownBy(() -> homePage.getNewProducts().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("반복 조회는 스냅샷 재사용, 변경 이벤트 후 스케줄러가 재구성")
+    void 이벤트_후_재구성() {
+        // given
+        HomePageDTO first = homePageService.getHomePage();
+
+        // when
+        homePageService.refreshIfStale();
+        HomePageDTO unchanged = homePageService.getHomePage();
+        homePageService.onReviewChanged(new ReviewChangedEvent(11L));
+        homePageService.refreshIfStale();
+        HomePageDTO refreshed = homePageService.getHomePage();
+
+        // then
+        assertThat(unchanged).isSameAs(first);
+        assertThat(refreshed).isNotSameAs(first);
+        then(productRepository).should(times(2)).findAllWithImagesByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("주문으로 품절된 상품 - 재고 변경 이벤트 후 재구성 시 오늘의 딜에서 빠짐")
+    void 품절_후_오늘의딜_제외() {
+        // given
+        given(productRepository.findTodayDealIds(any())).willReturn(List.of(11L), List.of());
+        HomePageDTO before = homePageService.getHomePage();
+
+        // when
+        homePageService.onProductChanged(ProductChangedEvent.stockChanged(11L));
+        homePageService.refreshIfStale();
+        HomePageDTO after = homePageService.getHomePage();
+
+        // then
+        assertThat(before.getTodayDeals()).extracting("id").containsExactly(11L);
+        assertThat(after.getTodayDeals()).isEmpty();
+    }
+
+    // ========== Helper Methods ==========
+
+    private Product product(Long id, String name, int price, int discountRate) {
+        Product product = Product.builder()
+                .id(id)
+                .productName(name)
+                .price(price)
+                .discountRate(discountRate)
+                .stockQuantity(10)
+                .images(new ArrayList<>())
+                .build();
+        product.getImages().add(ProductImage.builder().imageUrl("/images/" + id + ".jpg").repImgYn("Y").build());
+        return product;
+    }
+}
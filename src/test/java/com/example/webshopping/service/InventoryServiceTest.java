@@ -0,0 +1,237 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.event.ProductChangedEvent;
+import com.example.webshopping.repository.ProductOptionRepository;
+import com.example.webshopping.repository.ProductRepository;
+import com.example.webshopping.repository.StockDelta;
+import com.example.webshopping.service.InventoryService.Sku;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * InventoryService 단위 테스트
+ * - 동시 예약 시 초과 판매 없음 / 예약 해제 / 조건부 UPDATE 배치 반영 검증
+ * - 반영 후 품절/재입고된 상품만 변경 이벤트 발행 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class InventoryServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private InventoryServiceImpl inventoryService;
+
+    @Test
+    @DisplayName("동시 예약 - 재고 수량만큼만 성공")
+    void 동시예약_초과판매없음() throws InterruptedException {
+        // given
+        Sku sku = new Sku(1L, null);
+        given(productRepository.findStockQuantityById(1L)).willReturn(Optional.of(100));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (inventoryService.reserve(sku, 1)) {
+                    succeeded.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(100);
+        assertThat(inventoryService.getAvailable(sku)).isZero();
+        then(productRepository).should(times(1)).findStockQuantityById(1L);
+    }
+
+    @Test
+    @DisplayName("예약 해제 시 가용 재고 복구, 부족하면 예약 실패")
+    void 예약해제() {
+        // given
+        Sku sku = new Sku(1L, 10L);
+        given(productOptionRepository.findStockQuantityById(10L)).willReturn(Optional.of(3));
+
+        // when
+        boolean first = inventoryService.reserve(sku, 2);
+        boolean second = inventoryService.reserve(sku, 2);
+        inventoryService.release(sku, 2);
+        boolean third = inventoryService.reserve(sku, 3);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(third).isTrue();
+        assertThat(inventoryService.getAvailable(sku)).isZero();
+    }
+
+    @Test
+    @DisplayName("확정된 차감량은 SKU별로 합산해 일괄 차감, 실패한 행은 대기열에 남겨 재입고 후 반영")
+    @SuppressWarnings("unchecked")
+    void 배치반영() {
+        // given
+        Sku shoes = new Sku(1L, null);
+        Sku bag = new Sku(2L, null);
+        inventoryService.load(shoes, 10);
+        inventoryService.load(bag, 5);
+
+        inventoryService.reserve(shoes, 2);
+        inventoryService.commit(shoes, 2);
+        inventoryService.reserve(shoes, 3);
+        inventoryService.commit(shoes, 3);
+        inventoryService.reserve(bag, 1);
+        inventoryService.commit(bag, 1);
+
+        // 배낭(2번)은 DB 재고가 부족해 갱신되지 않다가 재입고 후 반영되는 상황
+        Set<Long> outOfStock = new HashSet<>(Set.of(2L));
+        List<StockDelta> captured = new ArrayList<>();
+        given(productRepository.decreaseStocks(anyList())).willAnswer(invocation -> {
+            List<StockDelta> batch = invocation.getArgument(0, List.class);
+            captured.addAll(batch);
+            boolean[] applied = new boolean[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                applied[i] = !outOfStock.contains(batch.get(i).id());
+            }
+            return applied;
+        });
+        given(productRepository.findStockQuantityById(2L)).willReturn(Optional.of(0));
+
+        // when
+        int flushed = inventoryService.flush();
+        int retryAvailable = inventoryService.getAvailable(bag);
+        outOfStock.clear();
+        int retried = inventoryService.flush();
+        int flushedAgain = inventoryService.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        assertThat(retried).isEqualTo(1);
+        assertThat(flushedAgain).isZero();
+        assertThat(captured).containsExactlyInAnyOrder(new StockDelta(1L, 5), new StockDelta(2L, 1), new StockDelta(2L, 1));
+        assertThat(inventoryService.getAvailable(shoes)).isEqualTo(5);
+        assertThat(retryAvailable).isEqualTo(-1); // DB 재고 0 - 미반영 차감 1, 추가 판매 불가
+        assertThat(inventoryService.reserve(bag, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제된 상품의 차감량은 반영할 행이 없으므로 재시도하지 않음")
+    void 배치반영_삭제된상품() {
+        // given
+        Sku shoes = new Sku(1L, null);
+        inventoryService.load(shoes, 10);
+        inventoryService.reserve(shoes, 2);
+        inventoryService.commit(shoes, 2);
+
+        given(productRepository.decreaseStocks(anyList())).willReturn(new boolean[]{false});
+        given(productRepository.findStockQuantityById(1L)).willReturn(Optional.empty());
+
+        // when
+        int flushed = inventoryService.flush();
+        int flushedAgain = inventoryService.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(flushedAgain).isZero();
+        then(productRepository).should(times(1)).decreaseStocks(anyList());
+    }
+
+    @Test
+    @DisplayName("재고 반영 후 품절/재입고된 상품만 변경 이벤트 발행, 재고 이벤트로는 카운터를 다시 적재하지 않음")
+    void 배치반영_품절_재입고_이벤트() {
+        // given
+        Sku soldOut = new Sku(1L, null);
+        Sku restocked = new Sku(2L, null);
+        Sku stillInStock = new Sku(3L, null);
+        inventoryService.load(soldOut, 2);
+        inventoryService.load(restocked, 0);
+        inventoryService.load(stillInStock, 5);
+
+        inventoryService.reserve(soldOut, 2);
+        inventoryService.commit(soldOut, 2);
+        inventoryService.restock(restocked, 3);
+        inventoryService.reserve(stillInStock, 1);
+        inventoryService.commit(stillInStock, 1);
+
+        given(productRepository.decreaseStocks(anyList())).willReturn(new boolean[]{true, true, true});
+        given(productRepository.findStockQuantitiesByIdIn(anyCollection())).willReturn(List.of(
+                new Object[]{1L, 0}, new Object[]{2L, 3}, new Object[]{3L, 4}));
+
+        // when
+        inventoryService.flush();
+        inventoryService.onProductChanged(ProductChangedEvent.stockChanged(1L));
+
+        // then
+        then(eventPublisher).should().publishEvent(argThat((ProductChangedEvent event) ->
+                event.getProductId().equals(1L) && event.isStockOnly()));
+        then(eventPublisher).should().publishEvent(argThat((ProductChangedEvent event) ->
+                event.getProductId().equals(2L) && event.isStockOnly()));
+        then(eventPublisher).shouldHaveNoMoreInteractions();
+        assertThat(inventoryService.getAvailable(soldOut)).isZero();
+        then(productRepository).should(never()).findStockQuantityById(anyLong());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 동기화 중 카운터 폐기 - 품절 이벤트는 미뤘다가 트랜잭션 밖의 다음 반영에서 발행")
+    void 카운터폐기_트랜잭션중_이벤트_지연() {
+        // given
+        Sku shoes = new Sku(1L, null);
+        inventoryService.load(shoes, 2);
+        inventoryService.reserve(shoes, 2);
+        inventoryService.commit(shoes, 2);
+        given(productRepository.decreaseStocks(anyList())).willReturn(new boolean[]{true});
+        given(productRepository.findStockQuantitiesByIdIn(anyCollection())).willReturn(List.<Object[]>of(new Object[]{1L, 0}));
+        given(productRepository.findStockQuantityById(1L)).willReturn(Optional.of(0));
+
+        // when: 판매자 수정 커밋 후 리스너에서 카운터 폐기
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            inventoryService.invalidate(1L);
+            then(eventPublisher).shouldHaveNoInteractions();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        int flushed = inventoryService.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        then(productRepository).should(times(1)).decreaseStocks(anyList());
+        then(eventPublisher).should(times(1)).publishEvent(argThat((ProductChangedEvent event) ->
+                event.getProductId().equals(1L) && event.isStockOnly()));
+        assertThat(inventoryService.getAvailable(shoes)).isZero();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.constant.PaymentMethod;
+import com.example.webshopping.dto.OrderExportRowDTO;
+import com.example.webshopping.entity.Members;
+import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.repository.OrderItemRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * OrderExportService 단위 테스트
+ * - CSV 행 구성과 이스케이프 / 스트림 종료와 주기적인 출력 flush 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceTest {
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private MembersRepository membersRepository;
+
+    @InjectMocks
+    private OrderExportServiceImpl orderExportService;
+
+    @Test
+    @DisplayName("주문 상품 1건당 1행, 쉼표/따옴표/줄바꿈은 따옴표로 감싸고 수식 시작 문자는 무력화")
+    void CSV_행구성() throws IOException {
+        // given
+        OrderExportRowDTO row = OrderExportRowDTO.builder()
+                .orderId(7L)
+                .orderDate(LocalDateTime.of(2026, 3, 1, 14, 30))
+                .orderStatus(OrderStatus.CONFIRMED)
+                .paymentMethod(PaymentMethod.CARD)
+                .memberName("홍길동")
+                .recipientName("=HYPERLINK(\"x\")")
+                .recipientPhone("010-1234-5678")
+                .deliveryAddress("서울시 강남구, 101호")
+                .deliveryMessage("문 앞에\n놓아주세요")
+                .productId(11L)
+                .productName("러닝화")
+                .optionType("사이즈")
+                .optionValue("260")
+                .quantity(2)
+                .orderPrice(89000)
+                .build();
+
+        AtomicBoolean closed = new AtomicBoolean();
+        given(membersRepository.findByEmail("seller@test.com")).willReturn(Members.builder().id(3L).build());
+        given(orderItemRepository.streamSellerOrderRows(3L, null, null, null))
+                .willReturn(Stream.of(row).onClose(() -> closed.set(true)));
+        StringWriter writer = new StringWriter();
+
+        // when
+        long rows = orderExportService.exportMyProductOrders("seller@test.com", null, null, null, writer);
+
+        // then
+        String[] lines = writer.toString().split("\r\n");
+        assertThat(rows).isEqualTo(1);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("주문번호,주문일시,주문상태");
+        assertThat(lines[1]).isEqualTo("7,2026-03-01 14:30:00,주문 확정,,카드,홍길동,"
+                + "\"'=HYPERLINK(\"\"x\"\")\",010-1234-5678,\"서울시 강남구, 101호\",\"문 앞에\n놓아주세요\","
+                + "11,러닝화,사이즈: 260,2,89000,178000");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("탭/CR로 시작하는 값도 수식 시작 문자로 보고 무력화")
+    void CSV_탭_CR_수식_무력화() throws IOException {
+        // given
+        OrderExportRowDTO row = OrderExportRowDTO.builder()
+                .orderId(8L)
+                .memberName("\t=1+1")
+                .recipientName("\r=cmd|'/c calc'!A1")
+                .productId(11L)
+                .productName("러닝화")
+                .quantity(1)
+                .orderPrice(1000)
+                .build();
+        given(membersRepository.findByEmail("seller@test.com")).willReturn(Members.builder().id(3L).build());
+        given(orderItemRepository.streamSellerOrderRows(3L, null, null, null)).willReturn(Stream.of(row));
+        StringWriter writer = new StringWriter();
+
+        // when
+        orderExportService.exportMyProductOrders("seller@test.com", null, null, null, writer);
+
+        // then
+        String[] lines = writer.toString().split("\r\n");
+        assertThat(lines[1]).isEqualTo("8,,,,,'\t=1+1,\"'\r=cmd|'/c calc'!A1\",,,,11,러닝화,,1,1000,1000");
+    }
+
+    @Test
+    @DisplayName("일정 행마다 출력 버퍼를 내보냄")
+    void 대량내보내기_flush() throws IOException {
+        // given
+        int count = OrderExportServiceImpl.FLUSH_INTERVAL * 3 + 10;
+        given(membersRepository.findByEmail("seller@test.com")).willReturn(Members.builder().id(3L).build());
+        given(orderItemRepository.streamSellerOrderRows(anyLong(), any(), any(), any()))
+                .willReturn(IntStream.range(0, count).mapToObj(i -> OrderExportRowDTO.builder()
+                        .orderId((long) i).orderStatus(OrderStatus.DELIVERED)
+                        .productId(1L).productName("모자").quantity(1).orderPrice(15000).build()));
+        Writer writer = spy(new StringWriter());
+
+        // when
+        long rows = orderExportService.exportMyProductOrders("seller@test.com", OrderStatus.DELIVERED,
+                null, null, writer);
+
+        // then
+        assertThat(rows).isEqualTo(count);
+        then(writer).should(times(4)).flush();
+    }
+}
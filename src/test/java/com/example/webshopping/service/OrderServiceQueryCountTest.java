@@ -0,0 +1,98 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.cache.MemberCache;
+import com.example.webshopping.dto.OrderResponseDTO;
+import com.example.webshopping.entity.*;
+import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.repository.OrderRepository;
+import com.example.webshopping.support.QueryCountInspector;
+import com.example.webshopping.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * OrderService 조회 쿼리 수 테스트 (H2)
+ * - 주문 내역 조회 문장 수가 주문/주문 상품/이미지 수와 무관하게 고정인지 검증 (N+1 회귀 방지)
+ */
+@DataJpaTest(properties = QueryCountInspector.PROPERTY)
+@Import({OrderServiceImpl.class, MemberCache.class})
+class OrderServiceQueryCountTest {
+
+    @MockitoBean
+    private PaymentService paymentService;
+
+    @MockitoBean
+    private InventoryService inventoryService;
+
+    @MockitoBean
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MembersRepository membersRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest(name = "주문 {0}건")
+    @ValueSource(ints = {1, 5, 20})
+    @DisplayName("내 주문 목록 - 회원 1회(캐시 적재) + 주문 1회 + 주문 상품 1회")
+    void 내주문목록_쿼리수_고정(int orderCount) throws Exception {
+        // given
+        Members buyer = membersRepository.save(Members.builder().email("buyer@test.com").name("구매자").password("1234").build());
+        List<Product> products = List.of(product("등산화"), product("텐트"), product("배낭"));
+        for (int i = 0; i < orderCount; i++) {
+            Order order = Order.createOrder(buyer, "홍길동", "010-0000-0000", "서울시", null);
+            for (Product product : products) {
+                ProductOption option = product.getOptions().get(0);
+                order.addOrderItem(OrderItem.createOrderItem(product, option, 1));
+            }
+            order.calculateTotalPrice();
+            orderRepository.save(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<OrderResponseDTO> orders = new ArrayList<>();
+        List<String> statements = QueryCounter.record(() -> orders.addAll(orderService.getMyOrders("buyer@test.com")));
+
+        // then
+        assertThat(orders).hasSize(orderCount);
+        assertThat(orders).allSatisfy(order -> assertThat(order.getItems())
+                .hasSize(3)
+                .allSatisfy(item -> {
+                    assertThat(item.getImageUrl()).isEqualTo("/img/" + item.getProductName() + ".jpg");
+                    assertThat(item.getOptionValue()).isEqualTo("FREE");
+                }));
+        assertThat(statements).hasSize(3);
+    }
+
+    private Product product(String name) {
+        Product product = Product.builder().productName(name).price(50000).stockQuantity(100).build();
+        product.addImage(ProductImage.builder().imageUrl("/img/" + name + ".jpg").repImgYn("Y").imageOrder(0).build());
+        product.addImage(ProductImage.builder().imageUrl("/img/" + name + "-detail.jpg").repImgYn("N").imageOrder(1).build());
+        product.addOption(ProductOption.builder()
+                .optionType("사이즈").optionValue("FREE")
+                .additionalPrice(0).stockQuantity(100).displayOrder(0).isActive(true)
+                .build());
+        entityManager.persist(product);
+        return product;
+    }
+}
@@ -1,22 +1,41 @@
 package com.example.webshopping.service;
 
+import com.example.webshopping.cache.MemberCache;
 import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.dto.OrderItemDTO;
+import com.example.webshopping.dto.OrderRequestDTO;
+import com.example.webshopping.dto.OrderResponseDTO;
+import com.example.webshopping.dto.PaymentRequestDTO;
+import com.example.webshopping.dto.PaymentResponseDTO;
 import com.example.webshopping.entity.*;
 import com.example.webshopping.repository.*;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
 
 /**
  * OrderService 단위 테스트
- * - 주문 생성 및 재고 차감 로직 검증
+ * - 주문 생성 및 재고 예약/복구 로직 검증
  */
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -28,20 +47,32 @@ class OrderServiceTest {
     private ProductRepository productRepository;
 
     @Mock
-    private MembersRepository membersRepository;
+    private MemberCache memberCache;
 
     @Mock
     private CartRepository cartRepository;
 
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
     @Mock
     private ProductOptionRepository productOptionRepository;
 
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private PaymentService paymentService;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
     @Test
-    @DisplayName("재고 차감 로직 검증 - OrderItem.createOrderItem() 테스트")
-    void 재고차감_성공() {
+    @DisplayName("주문 상품 생성 - 재고는 InventoryService에서 차감하므로 엔티티 재고는 그대로")
+    void 주문상품_생성() {
         // given
         Product product = Product.builder()
                 .id(1L)
@@ -54,14 +85,14 @@ class OrderServiceTest {
         OrderItem orderItem = OrderItem.createOrderItem(product, null, 5);
 
         // then
-        assertThat(product.getStockQuantity()).isEqualTo(45); // 50 - 5 = 45
+        assertThat(product.getStockQuantity()).isEqualTo(50);
         assertThat(orderItem.getQuantity()).isEqualTo(5);
         assertThat(orderItem.getOrderPrice()).isEqualTo(100000);
     }
 
     @Test
-    @DisplayName("재고 차감 - 옵션이 있는 경우")
-    void 재고차감_옵션있음() {
+    @DisplayName("주문 상품 생성 - 옵션이 있는 경우 옵션 추가금 반영")
+    void 주문상품_생성_옵션있음() {
         // given
         Product product = Product.builder()
                 .id(1L)
@@ -82,71 +113,123 @@ class OrderServiceTest {
         OrderItem orderItem = OrderItem.createOrderItem(product, option, 3);
 
         // then
-        assertThat(option.getStockQuantity()).isEqualTo(17); // 20 - 3 = 17
-        assertThat(product.getStockQuantity()).isEqualTo(50); // 상품 재고는 그대로
+        assertThat(option.getStockQuantity()).isEqualTo(20);
         assertThat(orderItem.getOrderPrice()).isEqualTo(105000); // 100000 + 5000
     }
 
     @Test
-    @DisplayName("재고 복구 로직 검증 - OrderItem.cancel() 테스트")
-    void 재고복구_성공() {
+    @DisplayName("주문 생성 시 재고 부족 - 앞서 예약한 재고 해제 후 예외")
+    void 주문생성_재고부족_예약해제() {
         // given
-        Product product = Product.builder()
-                .id(1L)
-                .productName("등산화")
-                .stockQuantity(45) // 차감된 상태
-                .build();
+        Members member = Members.builder().id(1L).email("user@test.com").build();
+        Product shoes = Product.builder().id(1L).productName("등산화").price(100000).build();
+        Product bag = Product.builder().id(2L).productName("배낭").price(50000).build();
 
-        OrderItem orderItem = OrderItem.builder()
-                .id(1L)
-                .product(product)
-                .productOption(null)
-                .quantity(5)
-                .orderPrice(100000)
-                .build();
+        Cart cart = Cart.builder().id(1L).members(member).cartItems(new ArrayList<>()).build();
+        cart.getCartItems().add(CartItem.builder().product(shoes).quantity(2).build());
+        cart.getCartItems().add(CartItem.builder().product(bag).quantity(1).build());
+
+        InventoryService.Sku shoesSku = new InventoryService.Sku(1L, null);
+        InventoryService.Sku bagSku = new InventoryService.Sku(2L, null);
+
+        given(memberCache.getReference("user@test.com")).willReturn(member);
+        given(cartRepository.findByMembers_Id(1L)).willReturn(Optional.of(cart));
+        given(inventoryService.reserve(shoesSku, 2)).willReturn(true);
+        given(inventoryService.reserve(bagSku, 1)).willReturn(false);
+        given(inventoryService.getAvailable(bagSku)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder("user@test.com", new OrderRequestDTO()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("배낭의 재고가 부족합니다");
+        verify(inventoryService).release(shoesSku, 2);
+        verify(inventoryService, never()).commitAfterTransaction(any());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("결제용 주문 생성 - 주문 상품에 판매자 ID/옵션 추가금 반영 후 재고 홀드")
+    void 결제용주문_판매자ID() {
+        // given
+        Members member = Members.builder().id(1L).email("user@test.com").build();
+        Members seller = Members.builder().id(7L).email("seller@test.com").build();
+        Product shoes = Product.builder().id(1L).productName("등산화").price(100000).members(seller).build();
+        ProductOption size = ProductOption.builder().id(10L).optionType("사이즈").optionValue("270").additionalPrice(5000).build();
+
+        Cart cart = Cart.builder().id(1L).members(member).cartItems(new ArrayList<>()).build();
+        cart.getCartItems().add(CartItem.builder().product(shoes).productOption(size).quantity(2).build());
+
+        given(memberCache.getReference("user@test.com")).willReturn(member);
+        given(cartRepository.findByMembers_Id(1L)).willReturn(Optional.of(cart));
+        given(inventoryService.reserve(any(), anyInt())).willReturn(true);
 
         // when
-        orderItem.cancel();
+        orderService.createOrderForPayment("user@test.com", new OrderRequestDTO());
 
         // then
-        assertThat(product.getStockQuantity()).isEqualTo(50); // 45 + 5 = 50 (복구)
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(saved.capture());
+        assertThat(saved.getValue().getOrderItems()).singleElement().satisfies(item -> {
+            assertThat(item.getSellerId()).isEqualTo(7L);
+            assertThat(item.getOrderPrice()).isEqualTo(105000);
+        });
+        verify(stockReservationService).holdAfterTransaction(eq(saved.getValue().getOrderId()), any(),
+                eq(Map.of(new InventoryService.Sku(1L, 10L), 2)));
     }
 
     @Test
-    @DisplayName("재고 복구 - 옵션이 있는 경우")
-    void 재고복구_옵션있음() {
+    @DisplayName("결제 승인 - 홀드가 만료 처리 중이거나 없으면 결제 API를 호출하지 않고 실패")
+    void 결제승인_홀드없음_실패() {
         // given
-        Product product = Product.builder()
-                .id(1L)
-                .productName("등산화")
-                .stockQuantity(50)
-                .build();
+        Order order = Order.createOrder(Members.builder().id(1L).build(), "홍길동", "010-0000-0000", "서울시", null);
+        order.setOrderId("toss-1");
+        order.setTotalPrice(100000);
+        PaymentRequestDTO request = PaymentRequestDTO.builder().paymentKey("pk-1").orderId("toss-1").amount(100000).build();
 
-        ProductOption option = ProductOption.builder()
-                .id(1L)
-                .optionType("사이즈")
-                .optionValue("270")
-                .stockQuantity(17) // 차감된 상태
-                .build();
+        given(orderRepository.findByOrderId("toss-1")).willReturn(Optional.of(order));
+        given(stockReservationService.confirm("toss-1")).willReturn(false);
 
-        OrderItem orderItem = OrderItem.builder()
-                .id(1L)
-                .product(product)
-                .productOption(option)
-                .quantity(3)
-                .orderPrice(105000)
-                .build();
+        // when & then
+        assertThatThrownBy(() -> orderService.confirmOrderPayment(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("만료");
+        then(paymentService).shouldHaveNoInteractions();
+        then(inventoryService).shouldHaveNoInteractions();
+    }
 
-        // when
-        orderItem.cancel();
+    @Test
+    @DisplayName("결제 승인 후 주문 처리 실패로 롤백 - 승인된 결제 취소")
+    void 결제승인후_롤백_결제취소() {
+        // given
+        Members member = Members.builder().id(1L).email("user@test.com").build();
+        Order order = Order.createOrder(member, "홍길동", "010-0000-0000", "서울시", null);
+        order.setOrderId("toss-1");
+        order.setTotalPrice(100000);
+        PaymentRequestDTO request = PaymentRequestDTO.builder().paymentKey("pk-1").orderId("toss-1").amount(100000).build();
+
+        given(orderRepository.findByOrderId("toss-1")).willReturn(Optional.of(order));
+        given(stockReservationService.confirm("toss-1")).willReturn(true);
+        given(paymentService.confirmPayment(request)).willReturn(PaymentResponseDTO.builder()
+                .paymentKey("pk-1").method("CARD").totalAmount(100000).build());
+        given(cartRepository.findByMembers_Id(1L)).willReturn(Optional.empty());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            assertThatThrownBy(() -> orderService.confirmOrderPayment(request))
+                    .isInstanceOf(EntityNotFoundException.class);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
 
         // then
-        assertThat(option.getStockQuantity()).isEqualTo(20); // 17 + 3 = 20 (복구)
-        assertThat(product.getStockQuantity()).isEqualTo(50); // 상품 재고는 그대로
+        verify(paymentService).cancelPayment(eq("pk-1"), anyString());
     }
 
     @Test
-    @DisplayName("Order.cancel() 호출 시 상태 변경 및 재고 복구")
+    @DisplayName("Order.cancel() 호출 시 상태 변경 (재고는 변경하지 않음)")
     void 주문취소_성공() {
         // given
         Product product = Product.builder()
@@ -177,7 +260,40 @@ class OrderServiceTest {
 
         // then
         assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
-        assertThat(product.getStockQuantity()).isEqualTo(50); // 복구됨
+        assertThat(product.getStockQuantity()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("주문 취소 시 재고 복구 - 일반 주문은 재고 복구, 결제 전 주문은 홀드 해제")
+    void 주문취소_재고복구() {
+        // given
+        Product product = Product.builder().id(1L).productName("등산화").build();
+        Order directOrder = Order.builder()
+                .id(1L)
+                .orderStatus(OrderStatus.PENDING)
+                .orderItems(new ArrayList<>())
+                .build();
+        directOrder.addOrderItem(OrderItem.builder().product(product).quantity(5).orderPrice(100000).build());
+
+        Order unpaidOrder = Order.builder()
+                .id(2L)
+                .orderId("toss-order-id")
+                .orderStatus(OrderStatus.PENDING)
+                .orderItems(new ArrayList<>())
+                .build();
+        unpaidOrder.addOrderItem(OrderItem.builder().product(product).quantity(3).orderPrice(100000).build());
+
+        given(orderRepository.findById(1L)).willReturn(Optional.of(directOrder));
+        given(orderRepository.findById(2L)).willReturn(Optional.of(unpaidOrder));
+
+        // when
+        orderService.cancelOrder(1L);
+        orderService.cancelOrder(2L);
+
+        // then
+        verify(inventoryService).restockAfterTransaction(Map.of(new InventoryService.Sku(1L, null), 5));
+        verify(inventoryService, times(1)).restockAfterTransaction(any());
+        verify(stockReservationService).release("toss-order-id");
     }
 
     @Test
@@ -292,4 +408,33 @@ class OrderServiceTest {
         // then
         assertThat(order.getTotalPrice()).isEqualTo(210000); // (80000*2) + (50000*1)
     }
+
+    @Test
+    @DisplayName("판매자 주문 관리 검색 - 정렬별 ID 페이지 후 주문/주문 상품을 한 번씩만 조회하고 ID 순서 유지")
+    void 판매자_주문관리_검색() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2);
+        OrderResponseDTO newer = OrderResponseDTO.builder().orderId(2L).orderStatus(OrderStatus.SHIPPED).build();
+        OrderResponseDTO older = OrderResponseDTO.builder().orderId(1L).orderStatus(OrderStatus.CONFIRMED).build();
+
+        given(orderRepository.searchOrderIdsByAmountDesc(3L, "등산화", OrderStatus.SHIPPED, null, null, pageable))
+                .willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 5));
+        given(orderRepository.findOrderDTOsByIdIn(List.of(2L, 1L))).willReturn(List.of(older, newer));
+        given(orderItemRepository.findItemDTOsByOrderIdIn(Set.of(1L, 2L))).willReturn(List.of(
+                OrderItemDTO.builder().orderId(1L).orderItemId(10L).productName("등산화").quantity(2).orderPrice(100000).build(),
+                OrderItemDTO.builder().orderId(2L).orderItemId(11L).productName("등산화").quantity(1).orderPrice(100000).build()));
+
+        // when
+        Page<OrderResponseDTO> page = orderService.searchSellerOrders(
+                3L, "등산화", OrderStatus.SHIPPED, null, null, "amount_desc", pageable);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(OrderResponseDTO::getOrderId).containsExactly(2L, 1L);
+        assertThat(page.getContent().get(0).getItems()).extracting(OrderItemDTO::getOrderItemId).containsExactly(11L);
+        assertThat(page.getContent().get(1).getItems()).extracting(OrderItemDTO::getOrderItemId).containsExactly(10L);
+        then(orderRepository).should(never()).searchOrderIdsLatest(any(), any(), any(), any(), any(), any());
+        then(orderRepository).should(never()).findAllById(anyIterable());
+        then(orderItemRepository).should(times(1)).findItemDTOsByOrderIdIn(anyCollection());
+    }
 }
@@ -0,0 +1,170 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.entity.ProductPopularity;
+import com.example.webshopping.entity.ProductRating;
+import com.example.webshopping.event.PopularityChangedEvent;
+import com.example.webshopping.repository.OrderItemRepository;
+import com.example.webshopping.repository.ProductPopularityRepository;
+import com.example.webshopping.repository.ProductRatingRepository;
+import com.example.webshopping.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * PopularityService 단위 테스트
+ * - 점수 계산 / 주문 증분 반영 / 일괄 재계산(감쇠, 조회수, 변경분만 UPDATE) 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class PopularityServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductRatingRepository productRatingRepository;
+
+    @Mock
+    private ProductPopularityRepository productPopularityRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PopularityServiceImpl popularityService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(popularityService, "halfLifeDays", 7.0);
+    }
+
+    @Test
+    @DisplayName("점수 계산 - 리뷰 수/별점/주문량/조회수가 많을수록 높음, 리뷰 적은 상품의 만점 완화")
+    void 점수_계산() {
+        // given
+        ProductRating fewPerfect = rating(5, 1);
+        ProductRating manyGood = rating(4, 40);
+
+        // when & then
+        assertThat(PopularityServiceImpl.score(null, 0, 0)).isZero();
+        assertThat(PopularityServiceImpl.score(manyGood, 0, 0))
+                .isGreaterThan(PopularityServiceImpl.score(fewPerfect, 0, 0));
+        assertThat(PopularityServiceImpl.score(null, 10, 0))
+                .isGreaterThan(PopularityServiceImpl.score(null, 0, 10));
+        assertThat(PopularityServiceImpl.score(manyGood, 5, 100))
+                .isGreaterThan(PopularityServiceImpl.score(manyGood, 5, 0));
+    }
+
+    @Test
+    @DisplayName("주문 증분 반영 - 첫 주문은 입력값 행 upsert 후 잠금 조회, 주문 수량 누적 후 점수 UPDATE")
+    void 주문_증분_반영() {
+        // given
+        ProductPopularity created = new ProductPopularity(1L);
+        given(productPopularityRepository.findByIdForUpdate(1L)).willReturn(Optional.empty(), Optional.of(created));
+        given(productRatingRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        popularityService.addOrderVolume(Map.of(1L, 3));
+
+        // then
+        then(productPopularityRepository).should().insertIfAbsent(1L);
+        then(productPopularityRepository).should(never()).save(any());
+        assertThat(created.getOrderScore()).isEqualTo(3);
+        then(productRepository).should().updatePopularityScore(1L, PopularityServiceImpl.score(null, 3, 0));
+    }
+
+    @Test
+    @DisplayName("일괄 재계산 - 주문일 감쇠, 조회수 반영, 점수가 바뀐 상품만 한 번의 배치로 UPDATE + 변경 이벤트")
+    @SuppressWarnings("unchecked")
+    void 일괄_재계산() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(orderItemRepository.findRecentOrderVolumes(any(), any(), any())).willReturn(List.<Object[]>of(
+                new Object[]{1L, 4, now.minusDays(7)}   // 반감기 1회 → 2
+        ));
+        given(productRatingRepository.findAll()).willReturn(List.of());
+        given(productPopularityRepository.findAll()).willReturn(List.of());
+        given(productRepository.findAllPopularityScores()).willReturn(List.of(
+                new Object[]{1L, 0.0},
+                new Object[]{2L, 0.0},
+                new Object[]{3L, 0.0}
+        ));
+        popularityService.recordView(2L);
+        popularityService.recordView(2L);
+
+        // when
+        int updated = popularityService.recalculateAll();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        ArgumentCaptor<Map<Long, Double>> captor = ArgumentCaptor.forClass(Map.class);
+        then(productRepository).should().updatePopularityScores(captor.capture());
+        Map<Long, Double> scores = captor.getValue();
+        assertThat(scores).containsOnlyKeys(1L, 2L);
+        assertThat(scores.get(1L)).isCloseTo(PopularityServiceImpl.score(null, 2, 0), within(1e-3));
+        assertThat(scores.get(2L)).isEqualTo(PopularityServiceImpl.score(null, 0, 2));
+        then(productRepository).should(never()).updatePopularityScore(anyLong(), anyDouble());
+        ArgumentCaptor<PopularityChangedEvent> eventCaptor = ArgumentCaptor.forClass(PopularityChangedEvent.class);
+        then(eventPublisher).should().publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getScores()).isEqualTo(scores);
+    }
+
+    @Test
+    @DisplayName("일괄 재계산 롤백 - 꺼낸 조회수를 다시 합쳐 다음 재계산에 반영")
+    @SuppressWarnings("unchecked")
+    void 일괄_재계산_롤백_조회수_복구() {
+        // given
+        given(orderItemRepository.findRecentOrderVolumes(any(), any(), any())).willReturn(List.of());
+        given(productRatingRepository.findAll()).willReturn(List.of());
+        given(productPopularityRepository.findAll()).willReturn(List.of());
+        given(productRepository.findAllPopularityScores()).willReturn(List.<Object[]>of(new Object[]{2L, 0.0}));
+        popularityService.recordView(2L);
+        popularityService.recordView(2L);
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            popularityService.recalculateAll();
+            popularityService.recordView(2L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        popularityService.recalculateAll();
+
+        // then
+        ArgumentCaptor<Map<Long, Double>> captor = ArgumentCaptor.forClass(Map.class);
+        then(productRepository).should(times(2)).updatePopularityScores(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsEntry(2L, PopularityServiceImpl.score(null, 0, 3));
+    }
+
+    // ========== Helper Methods ==========
+
+    private ProductRating rating(int star, long count) {
+        ProductRating rating = new ProductRating(1L);
+        rating.addRatings(star, count);
+        return rating;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.dto.ProductImportResultDTO;
+import com.example.webshopping.entity.Category;
+import com.example.webshopping.entity.Members;
+import com.example.webshopping.entity.Product;
+import com.example.webshopping.event.ProductsImportedEvent;
+import com.example.webshopping.importer.ProductImportFormat;
+import com.example.webshopping.repository.CategoryRepository;
+import com.example.webshopping.repository.MembersRepository;
+import com.example.webshopping.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ProductImportService 단위 테스트
+ * - 행 검증 오류 수집 / 엔티티 변환 / 청크 실패 시 한 행씩 재시도 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    private static final String HEADER = "categoryCode,productName,price,stockQuantity,productType,imageUrls,options\n";
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private MembersRepository membersRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProductImportServiceImpl productImportService;
+
+    private final Category runningShoes = Category.builder().id(1L).name("러닝화").code("SPORTS_RUN_SHOES").build();
+
+    @BeforeEach
+    void setUp() {
+        productImportService = new ProductImportServiceImpl(productRepository, categoryRepository, membersRepository,
+                new TransactionTemplate(transactionManager), entityManager, eventPublisher);
+        given(membersRepository.findByEmail("seller@test.com")).willReturn(Members.builder().id(1L).email("seller@test.com").build());
+        given(categoryRepository.findAll()).willReturn(List.of(runningShoes));
+    }
+
+    @Test
+    @DisplayName("정상 행만 저장하고 잘못된 행은 줄 번호와 사유를 결과에 담음")
+    @SuppressWarnings("unchecked")
+    void 대량등록_검증오류() throws IOException {
+        // given
+        String csv = HEADER
+                + "SPORTS_RUN_SHOES,러닝화,89000,10,SHOES,/img/a.jpg|/img/b.jpg,사이즈:250:3|사이즈:260:5\n"
+                + "UNKNOWN,모자,15000,5,CAP,,\n"
+                + "SPORTS_RUN_SHOES,,15000,5,,,\n"
+                + "SPORTS_RUN_SHOES,트레일화,-1,5,,,\n"
+                + "SPORTS_RUN_SHOES,샌들,30000,5,SANDAL,,\n";
+        List<Product> saved = new ArrayList<>();
+        given(productRepository.saveAll(anyList())).willAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0, List.class));
+            return invocation.getArgument(0);
+        });
+
+        // when
+        ProductImportResultDTO result = import_(csv);
+
+        // then
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting("lineNumber").containsExactly(3L, 4L, 5L, 6L);
+        assertThat(result.getErrors().get(0).getMessage()).contains("UNKNOWN");
+
+        Product product = saved.get(0);
+        assertThat(product.getCategory()).isSameAs(runningShoes);
+        assertThat(product.getRepImageUrl()).isEqualTo("/img/a.jpg");
+        assertThat(product.getDetailImageUrls()).containsExactly("/img/b.jpg");
+        assertThat(product.getOptions()).extracting("optionValue").containsExactly("250", "260");
+        assertThat(product.getOptions()).allSatisfy(option -> assertThat(option.getProduct()).isSameAs(product));
+
+        then(entityManager).should().clear();
+        then(eventPublisher).should().publishEvent(any(ProductsImportedEvent.class));
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패하면 한 행씩 다시 저장해 실패한 행만 제외")
+    @SuppressWarnings("unchecked")
+    void 대량등록_청크실패_재시도() throws IOException {
+        // given
+        String csv = HEADER
+                + "SPORTS_RUN_SHOES,러닝화,89000,10,,,\n"
+                + "SPORTS_RUN_SHOES,트레일화,99000,10,,,\n"
+                + "SPORTS_RUN_SHOES,워킹화,79000,10,,,\n";
+        List<String> saved = new ArrayList<>();
+        given(productRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0, List.class);
+            if (products.size() > 1 || products.get(0).getProductName().equals("트레일화")) {
+                throw new DataIntegrityViolationException("중복 상품");
+            }
+            products.forEach(product -> saved.add(product.getProductName()));
+            return products;
+        });
+
+        // when
+        ProductImportResultDTO result = import_(csv);
+
+        // then
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting("lineNumber").containsExactly(3L);
+        assertThat(saved).containsExactly("러닝화", "워킹화");
+        then(transactionManager).should(times(2)).commit(any());
+        then(transactionManager).should(times(2)).rollback(any());
+    }
+
+    private ProductImportResultDTO import_(String csv) throws IOException {
+        return productImportService.importProducts(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ProductImportFormat.CSV, "seller@test.com");
+    }
+}
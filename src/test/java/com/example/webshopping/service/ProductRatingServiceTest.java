@@ -0,0 +1,115 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.entity.ProductRating;
+import com.example.webshopping.repository.ProductRatingRepository;
+import com.example.webshopping.repository.ReviewRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ProductRatingService 단위 테스트
+ * - 리뷰 작성/수정/삭제 증분 갱신 / 전체 재구성 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductRatingServiceTest {
+
+    @Mock
+    private ProductRatingRepository productRatingRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @InjectMocks
+    private ProductRatingServiceImpl productRatingService;
+
+    @Test
+    @DisplayName("첫 리뷰 작성 - 집계 행 upsert 후 잠금 조회해서 반영")
+    void 첫리뷰_작성() {
+        // given
+        ProductRating created = new ProductRating(1L);
+        given(productRatingRepository.findByIdForUpdate(1L)).willReturn(Optional.empty(), Optional.of(created));
+
+        // when
+        productRatingService.reviewCreated(1L, 4);
+
+        // then
+        then(productRatingRepository).should().insertIfAbsent(1L);
+        then(productRatingRepository).should(never()).save(any());
+        assertThat(created.getReviewCount()).isEqualTo(1);
+        assertThat(created.getRatingSum()).isEqualTo(4);
+        assertThat(created.getStarCount(4)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리뷰 수정/삭제 - 합계, 개수, 별점 분포 갱신")
+    void 리뷰_수정_삭제() {
+        // given
+        ProductRating rating = new ProductRating(1L);
+        rating.addRatings(5, 2);
+        rating.addRatings(3, 1);
+        given(productRatingRepository.findByIdForUpdate(1L)).willReturn(Optional.of(rating));
+
+        // when
+        productRatingService.reviewUpdated(1L, 3, 1);
+        productRatingService.reviewDeleted(1L, 5);
+
+        // then
+        assertThat(rating.getReviewCount()).isEqualTo(2);
+        assertThat(rating.getRatingSum()).isEqualTo(6);
+        assertThat(rating.getStarCount(3)).isZero();
+        assertThat(rating.getStarCount(1)).isEqualTo(1);
+        assertThat(rating.getStarCount(5)).isEqualTo(1);
+        assertThat(rating.getAverageRating()).isEqualTo(3.0);
+        then(productRatingRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("전체 재구성 - 리뷰 테이블 기준으로 교체, 리뷰 없는 상품만 골라 나눠서 삭제")
+    @SuppressWarnings("unchecked")
+    void 전체_재구성() {
+        // given
+        given(reviewRepository.countGroupByProductAndRating()).willReturn(List.of(
+                new Object[]{1L, 5, 3L},
+                new Object[]{1L, 2, 1L},
+                new Object[]{2L, 4, 2L}
+        ));
+        List<Long> existing = new ArrayList<>(List.of(1L, 2L));
+        for (long productId = 100; productId < 100 + ProductRatingServiceImpl.DELETE_CHUNK_SIZE + 1; productId++) {
+            existing.add(productId);
+        }
+        given(productRatingRepository.findAllProductIds()).willReturn(existing);
+
+        // when
+        int count = productRatingService.rebuildAll();
+
+        // then
+        assertThat(count).isEqualTo(2);
+        ArgumentCaptor<Iterable<ProductRating>> captor = ArgumentCaptor.forClass(Iterable.class);
+        then(productRatingRepository).should().saveAll(captor.capture());
+        List<ProductRating> saved = new ArrayList<>();
+        captor.getValue().forEach(saved::add);
+        ProductRating first = saved.stream().filter(r -> r.getProductId().equals(1L)).findFirst().orElseThrow();
+        assertThat(first.getReviewCount()).isEqualTo(4);
+        assertThat(first.getAverageRating()).isEqualTo(4.3);
+
+        ArgumentCaptor<Iterable<Long>> deleted = ArgumentCaptor.forClass(Iterable.class);
+        then(productRatingRepository).should(times(2)).deleteAllByIdInBatch(deleted.capture());
+        List<Long> deletedIds = new ArrayList<>();
+        deleted.getAllValues().forEach(chunk -> chunk.forEach(deletedIds::add));
+        assertThat(deleted.getAllValues().get(0)).hasSize(ProductRatingServiceImpl.DELETE_CHUNK_SIZE);
+        assertThat(deletedIds).hasSize(ProductRatingServiceImpl.DELETE_CHUNK_SIZE + 1).doesNotContain(1L, 2L);
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.webshopping.service;
 
+import com.example.webshopping.cache.CategorySubtreeCache;
+import com.example.webshopping.dto.ProductCursor;
 import com.example.webshopping.dto.ProductDTO;
+import com.example.webshopping.dto.ProductSliceDTO;
 import com.example.webshopping.entity.Category;
 import com.example.webshopping.entity.Members;
 import com.example.webshopping.entity.Product;
@@ -15,6 +18,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +47,12 @@ class ProductServiceTest {
     @Mock
     private FileService fileService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CategorySubtreeCache categorySubtreeCache;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -198,4 +209,95 @@ class ProductServiceTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("상품을 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("카테고리 목록 다음 커서 - 상품을 다시 읽은 값이 아닌 조회 시점의 정렬 키로 생성")
+    void 카테고리목록_다음커서_정렬키() {
+        // given
+        given(categorySubtreeCache.getSubtreeIds(1L)).willReturn(List.of(1L));
+        given(productRepository.findKeysByCategoryPriceAscAfter(eq(List.of(1L)), isNull(), isNull(), eq(true),
+                eq(Integer.MIN_VALUE), eq(Long.MAX_VALUE), any())).willReturn(List.<Object[]>of(
+                new Object[]{3L, 5000},
+                new Object[]{2L, 7000},
+                new Object[]{1L, 9000}));
+        // 키 조회 이후 2번 상품이 품절되고 가격이 바뀐 상태로 로딩됨
+        given(productRepository.findAllWithImagesByIdIn(List.of(3L, 2L))).willReturn(List.of(
+                listProduct(2L, 8000, 0),
+                listProduct(3L, 5000, 10)));
+
+        // when
+        ProductSliceDTO slice = productService.getCategorySlice(1L, null, null, "price_asc", null, 2, false);
+
+        // then
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(slice.getItems()).extracting("id").containsExactly(3L, 2L);
+        ProductCursor next = ProductCursor.decode(slice.getNextCursor());
+        assertThat(next.isInStock()).isTrue();
+        assertThat(next.getValue()).isEqualTo("7000");
+        assertThat(next.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 커서 - 형식 오류만 잘못된 커서, 조회 중 DB 오류는 그대로 전파")
+    void 카테고리목록_커서_오류구분() {
+        // given
+        given(categorySubtreeCache.getSubtreeIds(1L)).willReturn(List.of(1L));
+        String malformed = new ProductCursor("price_asc", true, "abc", 2L).encode();
+        String valid = new ProductCursor("price_asc", true, "7000", 2L).encode();
+        given(productRepository.findKeysByCategoryPriceAscAfter(any(), any(), any(), anyBoolean(), anyInt(), anyLong(), any()))
+                .willThrow(new DataAccessResourceFailureException("연결 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> productService.getCategorySlice(1L, null, null, "price_asc", malformed, 2, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> productService.getCategorySlice(1L, null, null, "price_asc", valid, 2, false))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    @DisplayName("카테고리 인기순 커서 - 인기 점수 왕복, 점수 없는 상품은 빈 값 커서로 이어서 조회")
+    void 카테고리목록_인기순_커서() {
+        // given
+        given(categorySubtreeCache.getSubtreeIds(1L)).willReturn(List.of(1L));
+        given(productRepository.findKeysByCategoryPopularAfter(eq(List.of(1L)), isNull(), isNull(), eq(true),
+                eq(Double.MAX_VALUE), eq(Long.MAX_VALUE), any())).willReturn(List.<Object[]>of(
+                new Object[]{3L, 2.5},
+                new Object[]{2L, null},
+                new Object[]{1L, null}));
+        given(productRepository.findKeysByCategoryPopularAfter(eq(List.of(1L)), isNull(), isNull(), eq(true),
+                isNull(), eq(2L), any())).willReturn(List.<Object[]>of(
+                new Object[]{1L, null}));
+        given(productRepository.findAllWithImagesByIdIn(List.of(3L, 2L))).willReturn(List.of(
+                listProduct(3L, 5000, 10),
+                listProduct(2L, 7000, 10)));
+        given(productRepository.findAllWithImagesByIdIn(List.of(1L))).willReturn(List.of(
+                listProduct(1L, 9000, 10)));
+        String scored = new ProductCursor("popular", true, "2.5", 3L).encode();
+
+        // when
+        ProductSliceDTO first = productService.getCategorySlice(1L, null, null, "popular", null, 2, false);
+        ProductSliceDTO second = productService.getCategorySlice(1L, null, null, "popular", first.getNextCursor(), 2, false);
+        ProductCursor decoded = ProductCursor.decode(scored);
+
+        // then
+        assertThat(first.getItems()).extracting("id").containsExactly(3L, 2L);
+        ProductCursor next = ProductCursor.decode(first.getNextCursor());
+        assertThat(next.getValue()).isNull();
+        assertThat(next.getId()).isEqualTo(2L);
+        assertThat(second.getItems()).extracting("id").containsExactly(1L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(decoded.getValue()).isEqualTo("2.5");
+        assertThat(decoded.getSortBy()).isEqualTo("popular");
+    }
+
+    private Product listProduct(Long id, int price, int stockQuantity) {
+        return Product.builder()
+                .id(id)
+                .productName("상품" + id)
+                .price(price)
+                .stockQuantity(stockQuantity)
+                .images(new ArrayList<>())
+                .build();
+    }
 }
@@ -0,0 +1,144 @@
+package com.example.webshopping.service;
+
+import com.example.webshopping.constant.OrderStatus;
+import com.example.webshopping.constant.PaymentStatus;
+import com.example.webshopping.repository.OrderRepository;
+import com.example.webshopping.service.InventoryService.Sku;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * StockReservationService 단위 테스트
+ * - 홀드 확정 / 만료 시 예약 해제 및 주문 만료 처리 / 해제된 홀드는 만료 대상 아님 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceTest {
+
+    private final Sku shoes = new Sku(1L, null);
+    private final Sku bagOption = new Sku(2L, 20L);
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private StockReservationServiceImpl stockReservationService;
+
+    @Test
+    @DisplayName("결제 승인 - 홀드한 재고를 차감 확정하고 만료 대상에서 제외")
+    void 결제승인_확정() {
+        // given
+        ReflectionTestUtils.setField(stockReservationService, "ttlSeconds", 0L);
+        stockReservationService.holdAfterTransaction("toss-1", 1L, Map.of(shoes, 2, bagOption, 1));
+
+        // when
+        boolean confirmed = stockReservationService.confirm("toss-1");
+        boolean confirmedAgain = stockReservationService.confirm("toss-1");
+        int expired = stockReservationService.expireDue();
+
+        // then
+        assertThat(confirmed).isTrue();
+        assertThat(confirmedAgain).isFalse();
+        assertThat(expired).isZero();
+        assertThat(stockReservationService.getHoldCount()).isZero();
+        then(inventoryService).should().commit(shoes, 2);
+        then(inventoryService).should().commit(bagOption, 1);
+        then(inventoryService).should(never()).release(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("기한이 지난 홀드만 해제하고 해당 주문을 결제 만료 처리")
+    void 만료처리() {
+        // given
+        ReflectionTestUtils.setField(stockReservationService, "ttlSeconds", 0L);
+        stockReservationService.holdAfterTransaction("toss-1", 1L, Map.of(shoes, 2));
+        ReflectionTestUtils.setField(stockReservationService, "ttlSeconds", 900L);
+        stockReservationService.holdAfterTransaction("toss-2", 2L, Map.of(shoes, 1));
+
+        given(orderRepository.expirePendingPayments(eq(List.of(1L)), eq(OrderStatus.PENDING), anyCollection(),
+                eq(OrderStatus.CANCELLED), eq(PaymentStatus.EXPIRED), any())).willReturn(1);
+
+        // when
+        int expired = stockReservationService.expireDue();
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(stockReservationService.getHoldCount()).isEqualTo(1);
+        assertThat(stockReservationService.confirm("toss-1")).isFalse();
+        then(inventoryService).should().release(shoes, 2);
+        then(inventoryService).should(never()).release(shoes, 1);
+    }
+
+    @Test
+    @DisplayName("결제 전 취소로 해제된 홀드는 만료 처리하지 않음")
+    void 취소_홀드해제() {
+        // given
+        ReflectionTestUtils.setField(stockReservationService, "ttlSeconds", 0L);
+        stockReservationService.holdAfterTransaction("toss-1", 1L, Map.of(shoes, 2));
+
+        // when
+        stockReservationService.release("toss-1");
+        stockReservationService.release("toss-1");
+        int expired = stockReservationService.expireDue();
+
+        // then
+        assertThat(expired).isZero();
+        then(inventoryService).should(times(1)).release(shoes, 2);
+        then(orderRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("만료 트랜잭션 - 커밋 후에 재고 해제, 만료 처리 중인 홀드는 결제 승인 불가, 롤백되면 다시 홀드")
+    void 만료_커밋후_해제() {
+        // given
+        ReflectionTestUtils.setField(stockReservationService, "ttlSeconds", 0L);
+        stockReservationService.holdAfterTransaction("toss-1", 1L, Map.of(shoes, 2));
+
+        // when - 롤백
+        List<TransactionSynchronization> rolledBack = expireInTransaction();
+        rolledBack.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        then(inventoryService).should(never()).release(any(), anyInt());
+        assertThat(stockReservationService.getHoldCount()).isEqualTo(1);
+
+        // when - 커밋 (만료 처리 중 승인 시도)
+        List<TransactionSynchronization> committed = expireInTransaction();
+        boolean confirmedWhileExpiring = stockReservationService.confirm("toss-1");
+        committed.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(confirmedWhileExpiring).isFalse();
+        assertThat(stockReservationService.getHoldCount()).isZero();
+        then(inventoryService).should(times(1)).release(shoes, 2);
+        then(inventoryService).should(never()).commit(any(), anyInt());
+    }
+
+    private List<TransactionSynchronization> expireInTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(stockReservationService.expireDue()).isEqualTo(1);
+            // 해제는 커밋 전에는 일어나지 않음
+            then(inventoryService).should(never()).release(any(), anyInt());
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
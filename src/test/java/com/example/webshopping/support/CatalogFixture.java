@@ -0,0 +1,102 @@
+package com.example.webshopping.support;
+
+import com.example.webshopping.constant.Role;
+import com.example.webshopping.entity.*;
+import com.example.webshopping.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쿼리 수 테스트용 데이터 구성 (저장소를 통해 저장, 커밋까지 완료)
+ * - 규모(size)만 다른 카탈로그를 이름 접두어로 구분해 같은 DB에 여러 벌 둘 수 있음
+ * - 규모 하나 = 대분류 1 + 소분류 1, 판매자 1, 구매자 1, 상품 size개(이미지 2장, 옵션 2개)
+ *   + 장바구니 상품 size개, 주문 size건(주문 상품 2개), 상품별 리뷰 1건 + 첫 상품 리뷰 size건
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class CatalogFixture {
+
+    private final CategoryRepository categoryRepository;
+    private final MembersRepository membersRepository;
+    private final ProductRepository productRepository;
+    private final CartRepository cartRepository;
+    private final OrderRepository orderRepository;
+    private final ReviewRepository reviewRepository;
+
+    /**
+     * 구성된 카탈로그 식별자
+     */
+    public record Catalog(Long categoryId, Long productId, String sellerEmail, String buyerEmail) {
+    }
+
+    @Transactional
+    public Catalog seed(String prefix, int size) {
+        Category large = categoryRepository.save(Category.builder()
+                .name(prefix + " 대분류").code(prefix.toUpperCase()).depth(1).displayOrder(0).isActive(true).build());
+        Category small = categoryRepository.save(Category.builder()
+                .name(prefix + " 소분류").code(prefix.toUpperCase() + "_SUB").depth(2).parent(large)
+                .displayOrder(0).isActive(true).build());
+
+        Members seller = membersRepository.save(member(prefix + "-seller@test.com", "판매자", Role.ROLE_SELLER));
+        Members buyer = membersRepository.save(member(prefix + "-buyer@test.com", "구매자", Role.ROLE_USER));
+        // 리뷰는 상품당 회원 1건이므로 첫 상품 리뷰용 회원을 따로 둠
+        List<Members> reviewers = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            reviewers.add(membersRepository.save(member(prefix + "-reviewer" + i + "@test.com", "리뷰어" + i, Role.ROLE_USER)));
+        }
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Product product = Product.builder()
+                    .productName(prefix + " 상품 " + i).price(10000 + i * 100).stockQuantity(100)
+                    .discountRate(i % 3 == 0 ? 10 : 0).category(small).members(seller)
+                    .build();
+            product.addImage(ProductImage.builder().imageUrl("/img/" + prefix + i + ".jpg").repImgYn("Y").imageOrder(0).build());
+            product.addImage(ProductImage.builder().imageUrl("/img/" + prefix + i + "-1.jpg").repImgYn("N").imageOrder(1).build());
+            for (String optionValue : new String[]{"S", "M"}) {
+                product.addOption(ProductOption.builder()
+                        .optionType("사이즈").optionValue(optionValue)
+                        .additionalPrice(0).stockQuantity(50).displayOrder(0).isActive(true)
+                        .build());
+            }
+            products.add(productRepository.save(product));
+        }
+
+        Cart cart = Cart.createCart(buyer);
+        for (Product product : products) {
+            cart.addCartItem(CartItem.createCartItem(cart, product, product.getOptions().get(0), 1));
+        }
+        cartRepository.save(cart);
+
+        for (int i = 0; i < size; i++) {
+            Order order = Order.createOrder(buyer, "홍길동", "010-0000-0000", "서울시", null);
+            Product first = products.get(i);
+            Product second = products.get((i + 1) % size);
+            order.addOrderItem(OrderItem.createOrderItem(first, first.getOptions().get(0), 1));
+            order.addOrderItem(OrderItem.createOrderItem(second, second.getOptions().get(1), 2));
+            order.calculateTotalPrice();
+            orderRepository.save(order);
+        }
+
+        for (Product product : products) {
+            reviewRepository.save(review(product, buyer));
+        }
+        for (Members reviewer : reviewers) {
+            reviewRepository.save(review(products.get(0), reviewer));
+        }
+
+        return new Catalog(small.getId(), products.get(0).getId(), seller.getEmail(), buyer.getEmail());
+    }
+
+    private Members member(String email, String name, Role role) {
+        return Members.builder().email(email).name(name).password("1234").role(role).build();
+    }
+
+    private Review review(Product product, Members member) {
+        return Review.builder().product(product).member(member).rating(4).content("좋아요").build();
+    }
+}
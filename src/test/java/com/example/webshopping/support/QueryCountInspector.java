@@ -0,0 +1,40 @@
+package com.example.webshopping.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실행되는 SQL 문장을 스레드별로 기록하는 Hibernate StatementInspector (테스트용)
+ * - PROPERTY를 테스트 설정에 추가하면 세션 팩토리에 등록됨
+ * - 기록은 QueryCounter.start() 이후 같은 스레드에서 실행된 문장만 (스케줄 작업 등 다른 스레드는 제외)
+ * - MockMvc 요청은 테스트 스레드에서 처리되므로 컨트롤러 호출 전체가 기록됨
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                    + "com.example.webshopping.support.QueryCountInspector";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements != null ? statements : List.of();
+    }
+}
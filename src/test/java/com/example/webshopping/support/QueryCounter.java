@@ -0,0 +1,56 @@
+package com.example.webshopping.support;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SQL 문장 수 측정/검증 도우미 (QueryCountInspector.PROPERTY를 등록한 테스트에서 사용)
+ * - record: 작업 중 실행된 문장 목록
+ * - assertAtMost: 문장 수 상한 검증 (실패 시 실행된 SQL 전체를 메시지에 출력)
+ * - assertSameCount: 데이터 규모만 다른 두 기록의 문장 수가 같은지 검증 (N+1 회귀 방지)
+ */
+public final class QueryCounter {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private QueryCounter() {
+    }
+
+    public static List<String> record(Action action) throws Exception {
+        QueryCountInspector.start();
+        try {
+            action.run();
+        } catch (Exception | Error e) {
+            QueryCountInspector.stop();
+            throw e;
+        }
+        return QueryCountInspector.stop();
+    }
+
+    public static List<String> assertAtMost(int max, Action action) throws Exception {
+        List<String> statements = record(action);
+        assertThat(statements.size())
+                .withFailMessage(() -> "SQL 문장 수 %d개 (상한 %d개)%n%s".formatted(statements.size(), max, format(statements)))
+                .isLessThanOrEqualTo(max);
+        return statements;
+    }
+
+    public static void assertSameCount(List<String> small, List<String> large) {
+        assertThat(large.size())
+                .withFailMessage(() -> "데이터가 늘어나자 SQL 문장 수가 %d개 → %d개로 변함%n%s".formatted(
+                        small.size(), large.size(), format(large)))
+                .isEqualTo(small.size());
+    }
+
+    private static String format(List<String> statements) {
+        return IntStream.range(0, statements.size())
+                .mapToObj(i -> "  " + (i + 1) + ". " + statements.get(i))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.webshopping.trace;
+
+import com.example.webshopping.support.CatalogFixture;
+import com.example.webshopping.support.CatalogFixture.Catalog;
+import com.example.webshopping.support.QueryCountInspector;
+import com.example.webshopping.support.QueryCounter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 요청 추적 필터 테스트 (H2, 화면 렌더링까지 포함)
+ * - 관리자 요청에만 Server-Timing 헤더 추가
+ * - 헤더의 SQL 문장 수가 테스트용 문장 기록(QueryCountInspector)과 일치 (두 inspector가 함께 동작)
+ */
+@SpringBootTest(properties = {
+        QueryCountInspector.PROPERTY,
+        "file.upload-dir=build/test-upload",
+        "toss.payments.secret-key=test_sk",
+        "toss.payments.client-key=test_ck",
+        "spring.datasource.url=jdbc:h2:mem:page-query-count;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureMockMvc
+@Import(CatalogFixture.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RequestTraceFilterTest {
+
+    private static final Pattern SQL_COUNT = Pattern.compile("db;dur=[0-9.]+;desc=\"sql (\\d+), lazy (\\d+)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CatalogFixture catalogFixture;
+
+    private Catalog catalog;
+
+    @BeforeAll
+    void setUp() {
+        catalog = catalogFixture.seed("trace", 3);
+    }
+
+    @Test
+    @DisplayName("관리자 요청 - Server-Timing 헤더에 DB/렌더링/전체 시간, SQL 문장 수는 실제 실행 수와 같음")
+    void 관리자_서버타이밍_헤더() throws Exception {
+        // when
+        List<MvcResult> results = new ArrayList<>();
+        List<String> statements = QueryCounter.record(() -> results.add(mockMvc.perform(
+                get("/product/detail/" + catalog.productId()).with(user("admin@test.com").roles("ADMIN"))).andReturn()));
+
+        // then
+        String serverTiming = results.get(0).getResponse().getHeader("Server-Timing");
+        assertThat(serverTiming).contains("render;dur=", "total;dur=");
+        Matcher matcher = SQL_COUNT.matcher(serverTiming);
+        assertThat(matcher.find()).isTrue();
+        assertThat(Integer.parseInt(matcher.group(1))).isEqualTo(statements.size()).isPositive();
+    }
+
+    @Test
+    @DisplayName("일반 회원/비로그인 요청 - Server-Timing 헤더 없음")
+    void 일반_요청_헤더_없음() throws Exception {
+        // when
+        MvcResult anonymous = mockMvc.perform(get("/product/detail/" + catalog.productId())).andReturn();
+        MvcResult member = mockMvc.perform(get("/product/detail/" + catalog.productId())
+                .with(user(catalog.buyerEmail()).roles("USER"))).andReturn();
+
+        // then
+        assertThat(anonymous.getResponse().getHeader("Server-Timing")).isNull();
+        assertThat(member.getResponse().getHeader("Server-Timing")).isNull();
+    }
+}